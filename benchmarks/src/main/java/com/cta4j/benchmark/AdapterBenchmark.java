@@ -0,0 +1,398 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.benchmark;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import com.cta4j.bus.model.adapters.BusTypeAdapter;
+import com.cta4j.bus.model.adapters.RouteTypeAdapter;
+import com.cta4j.bus.model.adapters.StopTypeAdapter;
+import com.cta4j.follow.model.Schedule;
+import com.cta4j.train.model.Train;
+import com.cta4j.train.model.adapters.TrainTypeAdapter;
+import com.cta4j.utils.CodecRegistry;
+import com.cta4j.utils.JsonStreamUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the codecs of every model type, in both directions: the Gson type adapters of {@link Bus},
+ * {@link Train}, {@link Route}, and {@link Stop}, and the Jackson codec of {@link Schedule}. Each read benchmark
+ * parses a whole response the way the application does, and each write benchmark serializes the parsed elements back
+ * to JSON. The fixtures are synthetic responses with the shape and field values of real ones, in three sizes:
+ * {@code small} is a single element, or a handful for the catalog endpoints; {@code typical} is what a busy stop,
+ * station, or run returns; and {@code worst} is the largest response the application can ask for, such as predictions
+ * for ten stops on every route.
+ *
+ * <p>Usage, from this module after {@code mvn install} of the application: {@code mvn -q package && mkdir -p results
+ * && java -jar target/benchmarks.jar AdapterBenchmark -prof gc -rf json -rff results/$(git rev-parse --short
+ * HEAD).json}. The {@code gc} profiler reports the bytes allocated per operation ({@code gc.alloc.rate.norm})
+ * alongside the throughput, and the result files of two commits can be compared with {@link BenchmarkComparison}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdapterBenchmark {
+    /**
+     * An {@link ObjectMapper} configured like the one Spring Boot writes responses with, which writes
+     * {@link Schedule}s.
+     */
+    private static final ObjectMapper MAPPER;
+
+    /**
+     * The shared {@link ObjectReader} of {@link Schedule}s of the application.
+     */
+    private static final ObjectReader SCHEDULE_READER;
+
+    static {
+        MAPPER = JsonMapper.builder()
+                           .findAndAddModules()
+                           .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                           .build();
+
+        CodecRegistry codecs = new CodecRegistry();
+
+        SCHEDULE_READER = codecs.getReader(Schedule.class);
+    } //static
+
+    /**
+     * The size of the fixtures of this benchmark, which is {@code small}, {@code typical}, or {@code worst}.
+     */
+    @Param({"small", "typical", "worst"})
+    public String size;
+
+    /**
+     * The {@code getpredictions} response of this benchmark.
+     */
+    private byte[] predictionsBody;
+
+    /**
+     * The {@code ttarrivals} response of this benchmark.
+     */
+    private byte[] arrivalsBody;
+
+    /**
+     * The {@code getroutes} response of this benchmark.
+     */
+    private byte[] routesBody;
+
+    /**
+     * The {@code getstops} response of this benchmark.
+     */
+    private byte[] stopsBody;
+
+    /**
+     * The {@code ttfollow} response of this benchmark.
+     */
+    private byte[] followBody;
+
+    /**
+     * The {@link Bus}es of the {@code getpredictions} response of this benchmark.
+     */
+    private List<Bus> buses;
+
+    /**
+     * The {@link Train}s of the {@code ttarrivals} response of this benchmark.
+     */
+    private List<Train> trains;
+
+    /**
+     * The {@link Route}s of the {@code getroutes} response of this benchmark.
+     */
+    private List<Route> routes;
+
+    /**
+     * The {@link Stop}s of the {@code getstops} response of this benchmark.
+     */
+    private List<Stop> stops;
+
+    /**
+     * The {@link Schedule} of the {@code ttfollow} response of this benchmark.
+     */
+    private Schedule schedule;
+
+    /**
+     * Returns the fixture of the specified endpoint in the size of this benchmark.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @return the fixture of the specified endpoint in the size of this benchmark
+     * @throws IOException if an I/O error occurs or the fixture does not exist
+     */
+    private byte[] loadFixture(String endpoint) throws IOException {
+        String name = "fixtures/%s-%s.json".formatted(endpoint, this.size);
+
+        ClassLoader classLoader = AdapterBenchmark.class.getClassLoader();
+
+        try (InputStream inputStream = classLoader.getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new IOException("the fixture %s does not exist".formatted(name));
+            } //end if
+
+            return inputStream.readAllBytes();
+        } //end try
+    } //loadFixture
+
+    /**
+     * Loads the fixtures of this benchmark, and parses them once for the write benchmarks.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.predictionsBody = this.loadFixture("getpredictions");
+
+        this.arrivalsBody = this.loadFixture("ttarrivals");
+
+        this.routesBody = this.loadFixture("getroutes");
+
+        this.stopsBody = this.loadFixture("getstops");
+
+        this.followBody = this.loadFixture("ttfollow");
+
+        this.buses = this.readBuses();
+
+        this.trains = this.readTrains();
+
+        this.routes = this.readRoutes();
+
+        this.stops = this.readStops();
+
+        this.schedule = this.readSchedule();
+    } //setUp
+
+    /**
+     * Opens a {@link JsonReader} over the specified response, positioned at the array at the specified path.
+     *
+     * @param body the response to be used in the operation
+     * @param path the path of the array to be used in the operation
+     * @return a {@link JsonReader} over the specified response
+     * @throws IOException if an I/O error occurs or the array does not exist
+     */
+    private static JsonReader open(byte[] body, String... path) throws IOException {
+        JsonReader jsonReader = JsonStreamUtils.newReader(new ByteArrayInputStream(body));
+
+        if (!JsonStreamUtils.seek(jsonReader, path)) {
+            throw new IOException("the fixture has no member %s".formatted(String.join(".", path)));
+        } //end if
+
+        return jsonReader;
+    } //open
+
+    /**
+     * Parses the {@link Bus}es of the {@code getpredictions} response.
+     *
+     * @return the parsed {@link Bus}es
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public List<Bus> readBuses() throws IOException {
+        try (JsonReader jsonReader = AdapterBenchmark.open(this.predictionsBody, "bustime-response", "prd")) {
+            return JsonStreamUtils.readList(jsonReader, BusTypeAdapter::readBus);
+        } //end try
+    } //readBuses
+
+    /**
+     * Serializes the parsed {@link Bus}es into a JSON array.
+     *
+     * @return the serialized {@link Bus}es
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public String writeBuses() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+
+            for (Bus bus : this.buses) {
+                BusTypeAdapter.writeBus(jsonWriter, bus);
+            } //end for
+
+            jsonWriter.endArray();
+        } //end try
+
+        return writer.toString();
+    } //writeBuses
+
+    /**
+     * Parses the {@link Train}s of the {@code ttarrivals} response.
+     *
+     * @return the parsed {@link Train}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public List<Train> readTrains() throws IOException {
+        try (JsonReader jsonReader = AdapterBenchmark.open(this.arrivalsBody, "ctatt", "eta")) {
+            return JsonStreamUtils.readList(jsonReader, TrainTypeAdapter::readTrain);
+        } //end try
+    } //readTrains
+
+    /**
+     * Serializes the parsed {@link Train}s into a JSON array.
+     *
+     * @return the serialized {@link Train}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public String writeTrains() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+
+            for (Train train : this.trains) {
+                TrainTypeAdapter.writeTrain(jsonWriter, train);
+            } //end for
+
+            jsonWriter.endArray();
+        } //end try
+
+        return writer.toString();
+    } //writeTrains
+
+    /**
+     * Parses the {@link Route}s of the {@code getroutes} response.
+     *
+     * @return the parsed {@link Route}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public List<Route> readRoutes() throws IOException {
+        try (JsonReader jsonReader = AdapterBenchmark.open(this.routesBody, "bustime-response", "routes")) {
+            return JsonStreamUtils.readList(jsonReader, RouteTypeAdapter::readRoute);
+        } //end try
+    } //readRoutes
+
+    /**
+     * Serializes the parsed {@link Route}s into a JSON array.
+     *
+     * @return the serialized {@link Route}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public String writeRoutes() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+
+            for (Route route : this.routes) {
+                RouteTypeAdapter.writeRoute(jsonWriter, route);
+            } //end for
+
+            jsonWriter.endArray();
+        } //end try
+
+        return writer.toString();
+    } //writeRoutes
+
+    /**
+     * Parses the {@link Stop}s of the {@code getstops} response.
+     *
+     * @return the parsed {@link Stop}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public List<Stop> readStops() throws IOException {
+        try (JsonReader jsonReader = AdapterBenchmark.open(this.stopsBody, "bustime-response", "stops")) {
+            return JsonStreamUtils.readList(jsonReader, StopTypeAdapter::readStop);
+        } //end try
+    } //readStops
+
+    /**
+     * Serializes the parsed {@link Stop}s into a JSON array.
+     *
+     * @return the serialized {@link Stop}s
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public String writeStops() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+
+            for (Stop stop : this.stops) {
+                StopTypeAdapter.writeStop(jsonWriter, stop);
+            } //end for
+
+            jsonWriter.endArray();
+        } //end try
+
+        return writer.toString();
+    } //writeStops
+
+    /**
+     * Parses the {@link Schedule} of the {@code ttfollow} response using the shared {@link ObjectReader}, as the
+     * follow service does.
+     *
+     * @return the parsed {@link Schedule}
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Schedule readSchedule() throws IOException {
+        return SCHEDULE_READER.readValue(this.followBody);
+    } //readSchedule
+
+    /**
+     * Serializes the parsed {@link Schedule} the way a follow response is written.
+     *
+     * @return the serialized {@link Schedule}
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public byte[] writeSchedule() throws IOException {
+        return MAPPER.writeValueAsBytes(this.schedule);
+    } //writeSchedule
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A comparison of two JMH result files in JSON format, such as those written by {@link AdapterBenchmark} for two
+ * commits. For every benchmark and parameter combination in both files, the throughput and the bytes allocated per
+ * operation are printed with their relative change. The process exits with status {@code 1} if any throughput fell,
+ * or any allocation rose, by more than the threshold, so it can gate a build.
+ *
+ * <p>Usage: {@code java -cp target/benchmarks.jar com.cta4j.benchmark.BenchmarkComparison results/base.json
+ * results/head.json --threshold 10}
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class BenchmarkComparison {
+    /**
+     * The metric of the bytes allocated per operation, as reported by the {@code gc} profiler.
+     */
+    private static final String ALLOCATION_METRIC;
+
+    static {
+        ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    } //static
+
+    /**
+     * The result of one benchmark and parameter combination.
+     *
+     * @param score the primary score of this result
+     * @param unit the unit of the primary score of this result
+     * @param allocation the bytes allocated per operation of this result, or {@code NaN} if they were not measured
+     */
+    private record Result(double score, String unit, double allocation) {
+    }
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link BenchmarkComparison} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private BenchmarkComparison() throws InstantiationException {
+        throw new InstantiationException("instances of type BenchmarkComparison cannot be created");
+    } //BenchmarkComparison
+
+    /**
+     * Returns the name of the specified benchmark entry, which is its short benchmark name followed by its
+     * parameters.
+     *
+     * @param entry the benchmark entry to be used in the operation
+     * @return the name of the specified benchmark entry
+     */
+    private static String getName(JsonObject entry) {
+        String benchmark = entry.get("benchmark")
+                                .getAsString();
+
+        int classIndex = benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1);
+
+        StringBuilder name = new StringBuilder(benchmark.substring(classIndex + 1));
+
+        JsonElement params = entry.get("params");
+
+        if ((params != null) && params.isJsonObject()) {
+            Map<String, String> sorted = new TreeMap<>();
+
+            params.getAsJsonObject()
+                  .entrySet()
+                  .forEach(param -> sorted.put(param.getKey(), param.getValue()
+                                                                    .getAsString()));
+
+            sorted.forEach((key, value) -> name.append(" %s=%s".formatted(key, value)));
+        } //end if
+
+        return name.toString();
+    } //getName
+
+    /**
+     * Reads the results in the JMH result file at the specified {@link Path}, by name.
+     *
+     * @param path the {@link Path} to be used in the operation
+     * @return the results in the JMH result file at the specified {@link Path}, by name
+     * @throws IOException if an I/O error occurs
+     */
+    private static Map<String, Result> read(Path path) throws IOException {
+        JsonArray entries;
+
+        try (Reader reader = Files.newBufferedReader(path)) {
+            entries = JsonParser.parseReader(reader)
+                                .getAsJsonArray();
+        } //end try
+
+        Map<String, Result> results = new LinkedHashMap<>();
+
+        for (JsonElement element : entries) {
+            JsonObject entry = element.getAsJsonObject();
+
+            JsonObject primaryMetric = entry.getAsJsonObject("primaryMetric");
+
+            double score = primaryMetric.get("score")
+                                        .getAsDouble();
+
+            String unit = primaryMetric.get("scoreUnit")
+                                       .getAsString();
+
+            double allocation = Double.NaN;
+
+            JsonObject secondaryMetrics = entry.getAsJsonObject("secondaryMetrics");
+
+            if ((secondaryMetrics != null) && secondaryMetrics.has(ALLOCATION_METRIC)) {
+                allocation = secondaryMetrics.getAsJsonObject(ALLOCATION_METRIC)
+                                             .get("score")
+                                             .getAsDouble();
+            } //end if
+
+            String name = BenchmarkComparison.getName(entry);
+
+            results.put(name, new Result(score, unit, allocation));
+        } //end for
+
+        return results;
+    } //read
+
+    /**
+     * Returns the relative change from the specified baseline to the specified candidate, in percent.
+     *
+     * @param baseline the baseline to be used in the operation
+     * @param candidate the candidate to be used in the operation
+     * @return the relative change from the specified baseline to the specified candidate, in percent
+     */
+    private static double getChange(double baseline, double candidate) {
+        if (baseline == 0.0) {
+            return (candidate == 0.0) ? 0.0 : Double.POSITIVE_INFINITY;
+        } //end if
+
+        return ((candidate - baseline) / baseline) * 100.0;
+    } //getChange
+
+    /**
+     * Compares two JMH result files.
+     *
+     * @param args the baseline result file, the candidate result file, and optionally {@code --threshold} followed by
+     * the largest tolerated regression, in percent
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkComparison <baseline.json> <candidate.json> [--threshold percent]");
+
+            System.exit(2);
+        } //end if
+
+        double threshold = 10.0;
+
+        if ((args.length >= 4) && args[2].equals("--threshold")) {
+            threshold = Double.parseDouble(args[3]);
+        } //end if
+
+        Map<String, Result> baseline = BenchmarkComparison.read(Path.of(args[0]));
+
+        Map<String, Result> candidate = BenchmarkComparison.read(Path.of(args[1]));
+
+        String header = "%-48s %14s %14s %8s %12s %12s %8s".formatted("benchmark", "base", "head", "change",
+                                                                      "base B/op", "head B/op", "change");
+
+        System.out.println(header);
+
+        boolean regressed = false;
+
+        for (Map.Entry<String, Result> entry : baseline.entrySet()) {
+            String name = entry.getKey();
+
+            Result before = entry.getValue();
+
+            Result after = candidate.get(name);
+
+            if (after == null) {
+                continue;
+            } //end if
+
+            double scoreChange = BenchmarkComparison.getChange(before.score(), after.score());
+
+            double allocationChange = BenchmarkComparison.getChange(before.allocation(), after.allocation());
+
+            boolean higherIsBetter = !before.unit()
+                                            .endsWith("/op");
+
+            double scoreRegression = higherIsBetter ? -scoreChange : scoreChange;
+
+            boolean worse = (scoreRegression > threshold) || (allocationChange > threshold);
+
+            regressed |= worse;
+
+            String line = "%-48s %14.1f %14.1f %+7.1f%% %12.1f %12.1f %+7.1f%%%s".formatted(name, before.score(),
+                                                                                          after.score(), scoreChange,
+                                                                                          before.allocation(),
+                                                                                          after.allocation(),
+                                                                                          allocationChange,
+                                                                                          worse ? "  REGRESSED" : "");
+
+            System.out.println(line);
+        } //end for
+
+        if (regressed) {
+            System.exit(1);
+        } //end if
+    } //main
+}
\ No newline at end of file
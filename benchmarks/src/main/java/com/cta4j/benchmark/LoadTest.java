@@ -0,0 +1,614 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.benchmark;
+
+import com.cta4j.Application;
+import com.cta4j.replay.ReplayServer;
+import com.cta4j.replay.ReplaySettings;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An end-to-end load test of a single node of the CTA4j application. The application is started in this process
+ * against an embedded {@link ReplayServer} that plays back the {@code fixtures} of this module with a configurable
+ * latency distribution, and its {@code /api/bus} and {@code /api/train} endpoints are driven at a series of stepped
+ * arrival rates. Arrivals follow a Poisson process at each rate regardless of how quickly earlier requests finish, and
+ * latency is measured from each request's scheduled arrival, so queueing in a saturated node is counted.
+ *
+ * <p>Each stage reports its offered rate, the rate at which requests were answered successfully, its error rate, and
+ * percentiles of a latency {@link Histogram}, per endpoint and in total. The capacity of the node is the highest
+ * offered rate at which the answered rate kept up with the offered rate, the error rate stayed within its bound, and
+ * the 99th percentile latency stayed within its objective; the test stops at the first stage that misses. Results are
+ * written as JSON, and the interval histograms of every stage as an HdrHistogram log, for comparison across builds.
+ *
+ * <p>The quotas of the application are lifted for the test, as the node, not the CTA's limits, is what is measured.
+ * The application reads its API keys from {@code src/main/resources/api-key.properties}, so the test is run from the
+ * root of the repository, and any key works against the replay server.
+ *
+ * <p>Usage: {@code mvn -q -f benchmarks/pom.xml compile exec:java -Dexec.mainClass=com.cta4j.benchmark.LoadTest
+ * -Dexec.args="--rates 250,500,1000,2000 --stage-seconds 30 --latency-ms 50 --jitter-ms 100 --distribution
+ * exponential --out results/load-$(git rev-parse --short HEAD)"}
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class LoadTest {
+    /**
+     * The highest latency tracked by the histograms of the {@link LoadTest} class, in nanoseconds.
+     */
+    static final long HIGHEST_TRACKABLE_NANOS;
+
+    /**
+     * The percentiles reported by the {@link LoadTest} class.
+     */
+    private static final double[] PERCENTILES;
+
+    /**
+     * The names of the percentiles reported by the {@link LoadTest} class, as they appear in its results.
+     */
+    private static final String[] PERCENTILE_NAMES;
+
+    static {
+        HIGHEST_TRACKABLE_NANOS = Duration.ofMinutes(1)
+                                          .toNanos();
+
+        PERCENTILES = new double[] {50.0, 90.0, 99.0, 99.9};
+
+        PERCENTILE_NAMES = new String[] {"p50", "p90", "p99", "p99_9"};
+    } //static
+
+    /**
+     * An endpoint of the CTA4j application that is driven by a {@link LoadTest}.
+     *
+     * @param name the name of this endpoint
+     * @param path the path of this endpoint, followed by the name of the query parameter that is varied
+     * @param firstKey the first value of the query parameter of this endpoint
+     * @param recorder the {@link Recorder} of the latencies of this endpoint
+     * @param successes the number of successful responses of this endpoint in the current stage
+     * @param errors the number of failed requests of this endpoint in the current stage
+     */
+    record Endpoint(String name, String path, int firstKey, Recorder recorder, LongAdder successes,
+                    LongAdder errors) {
+        /**
+         * Constructs an instance of the {@link Endpoint} class.
+         *
+         * @param name the name to be used in the operation
+         * @param path the path, followed by the name of the query parameter that is varied, to be used in the
+         * operation
+         * @param firstKey the first value of the query parameter to be used in the operation
+         */
+        Endpoint(String name, String path, int firstKey) {
+            this(name, path, firstKey, new Recorder(HIGHEST_TRACKABLE_NANOS, 3), new LongAdder(), new LongAdder());
+        } //Endpoint
+    }
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link LoadTest} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private LoadTest() throws InstantiationException {
+        throw new InstantiationException("instances of type LoadTest cannot be created");
+    } //LoadTest
+
+    /**
+     * Returns the value of the specified option in the specified command line arguments.
+     *
+     * @param args the command line arguments to be used in the operation
+     * @param name the name of the option to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the value of the specified option in the specified command line arguments
+     */
+    static String getOption(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < (args.length - 1); i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            } //end if
+        } //end for
+
+        return defaultValue;
+    } //getOption
+
+    /**
+     * Throws an {@link IllegalStateException} if the working directory is not the root of the repository, where the
+     * CTA4j application reads its API keys from {@code src/main/resources/api-key.properties}.
+     *
+     * @throws IllegalStateException if the working directory is not the root of the repository
+     */
+    static void requireRepositoryRoot() {
+        if (Files.notExists(Path.of("src/main/resources/api-key.properties"))) {
+            String message = "src/main/resources/api-key.properties does not exist; run from the repository root";
+
+            throw new IllegalStateException(message);
+        } //end if
+    } //requireRepositoryRoot
+
+    /**
+     * Writes the fixtures of the specified size to a new directory of recordings for a {@link ReplayServer}.
+     *
+     * @param size the size of the fixtures to be used in the operation
+     * @return the directory of recordings
+     * @throws IOException if a fixture does not exist or an I/O error occurs
+     */
+    static Path writeRecordings(String size) throws IOException {
+        Path directory = Files.createTempDirectory("cta4j-load");
+
+        ClassLoader classLoader = LoadTest.class.getClassLoader();
+
+        for (String endpoint : List.of("getpredictions", "ttarrivals", "getroutes", "getstops")) {
+            String name = "fixtures/%s-%s.json".formatted(endpoint, size);
+
+            try (InputStream inputStream = classLoader.getResourceAsStream(name)) {
+                if (inputStream == null) {
+                    throw new IOException("the fixture %s does not exist".formatted(name));
+                } //end if
+
+                Path endpointDirectory = Files.createDirectories(directory.resolve(endpoint));
+
+                Files.copy(inputStream, endpointDirectory.resolve("0.json"));
+            } //end try
+        } //end for
+
+        return directory;
+    } //writeRecordings
+
+    /**
+     * Returns the command line arguments that start the CTA4j application on any free port, point it at the specified
+     * {@link ReplayServer}, and lift its quotas.
+     *
+     * @param replayServer the {@link ReplayServer} to be used in the operation
+     * @return the command line arguments that start the CTA4j application against the specified {@link ReplayServer}
+     */
+    static List<String> getApplicationArgs(ReplayServer replayServer) {
+        List<String> args = new ArrayList<>();
+
+        args.add("--server.port=0");
+
+        args.add("--cta4j.upstream.bus.base-url=%s".formatted(replayServer.getBusBaseUrl()));
+
+        args.add("--cta4j.upstream.train.base-url=%s".formatted(replayServer.getTrainBaseUrl()));
+
+        for (String quota : List.of("bus", "train")) {
+            String prefix = "--cta4j.upstream.quota.%s.".formatted(quota);
+
+            args.add(prefix + "daily-limit=1000000000");
+
+            args.add(prefix + "per-second=1000000");
+
+            args.add(prefix + "burst=1000000");
+        } //end for
+
+        return args;
+    } //getApplicationArgs
+
+    /**
+     * Drives the specified {@link Endpoint}s at the specified rate for the specified duration, and waits for every
+     * request to finish.
+     *
+     * @param client the {@link HttpClient} to be used in the operation
+     * @param baseUrl the base URL of the application to be used in the operation
+     * @param endpoints the {@link Endpoint}s to be used in the operation, the second of which receives the share
+     * @param share the fraction of requests sent to the second {@link Endpoint} to be used in the operation
+     * @param keys the number of distinct query parameter values to be used in the operation
+     * @param rate the offered rate, in requests per second, to be used in the operation
+     * @param duration the duration to be used in the operation
+     * @param timeout the request timeout to be used in the operation
+     * @return the elapsed time of the stage, in nanoseconds, from its first arrival to its last response
+     * @throws InterruptedException if the operation is interrupted
+     */
+    static long drive(HttpClient client, String baseUrl, List<Endpoint> endpoints, double share, int keys, int rate,
+                      Duration duration, Duration timeout) throws InterruptedException {
+        AtomicLong outstanding = new AtomicLong();
+
+        AtomicLong lastResponse = new AtomicLong();
+
+        HttpResponse.BodyHandler<Void> bodyHandler = HttpResponse.BodyHandlers.discarding();
+
+        double meanIntervalNanos = 1_000_000_000.0 / rate;
+
+        long start = System.nanoTime();
+
+        long end = start + duration.toNanos();
+
+        long arrival = start;
+
+        while (arrival < end) {
+            long delay = arrival - System.nanoTime();
+
+            if (delay > 0L) {
+                LockSupport.parkNanos(delay);
+            } //end if
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            Endpoint endpoint = endpoints.get((random.nextDouble() < share) ? 1 : 0);
+
+            int key = endpoint.firstKey() + random.nextInt(keys);
+
+            URI uri = URI.create("%s%s=%d".formatted(baseUrl, endpoint.path(), key));
+
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                                             .timeout(timeout)
+                                             .GET()
+                                             .build();
+
+            long scheduled = arrival;
+
+            outstanding.incrementAndGet();
+
+            client.sendAsync(request, bodyHandler)
+                  .whenComplete((response, throwable) -> {
+                      long now = System.nanoTime();
+
+                      long latency = Math.min(now - scheduled, HIGHEST_TRACKABLE_NANOS);
+
+                      endpoint.recorder()
+                              .recordValue(latency);
+
+                      if ((throwable == null) && (response.statusCode() < 400)) {
+                          endpoint.successes()
+                                  .increment();
+                      } else {
+                          endpoint.errors()
+                                  .increment();
+                      } //end if
+
+                      lastResponse.accumulateAndGet(now, Math::max);
+
+                      outstanding.decrementAndGet();
+                  });
+
+            arrival += (long) (-meanIntervalNanos * Math.log(1.0 - random.nextDouble()));
+        } //end while
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while ((outstanding.get() > 0L) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10L);
+        } //end while
+
+        return Math.max(end, lastResponse.get()) - start;
+    } //drive
+
+    /**
+     * Discards the latencies and counts that the specified {@link Endpoint}s have recorded so far, as after a warm-up.
+     *
+     * @param endpoints the {@link Endpoint}s to be used in the operation
+     */
+    static void reset(List<Endpoint> endpoints) {
+        for (Endpoint endpoint : endpoints) {
+            endpoint.recorder()
+                    .reset();
+
+            endpoint.successes()
+                    .reset();
+
+            endpoint.errors()
+                    .reset();
+        } //end for
+    } //reset
+
+    /**
+     * Returns a summary of the specified results, and prints it as a line of the results table.
+     *
+     * @param stage the offered rate of the stage, in requests per second, to be used in the operation
+     * @param name the name of the endpoint, or {@code all}, to be used in the operation
+     * @param histogram the latency {@link Histogram} to be used in the operation
+     * @param successes the number of successful responses to be used in the operation
+     * @param errors the number of failed requests to be used in the operation
+     * @param elapsedNanos the elapsed time of the stage, in nanoseconds, to be used in the operation
+     * @return a summary of the specified results
+     */
+    static JsonObject summarize(int stage, String name, Histogram histogram, long successes, long errors,
+                                long elapsedNanos) {
+        long requests = successes + errors;
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        double throughput = successes / seconds;
+
+        double errorRate = (requests == 0L) ? 0.0 : ((double) errors / requests);
+
+        JsonObject summary = new JsonObject();
+
+        summary.addProperty("offered", stage);
+
+        summary.addProperty("endpoint", name);
+
+        summary.addProperty("requests", requests);
+
+        summary.addProperty("throughput", throughput);
+
+        summary.addProperty("errorRate", errorRate);
+
+        String prefix = "%8d %-8s %9d %12.1f %8.2f%%".formatted(stage, name, requests, throughput,
+                                                                errorRate * 100.0);
+
+        StringBuilder line = new StringBuilder(prefix);
+
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            double millis = histogram.getValueAtPercentile(PERCENTILES[i]) / 1_000_000.0;
+
+            summary.addProperty(PERCENTILE_NAMES[i], millis);
+
+            line.append(" %9.1f".formatted(millis));
+        } //end for
+
+        double maxMillis = histogram.getMaxValue() / 1_000_000.0;
+
+        summary.addProperty("max", maxMillis);
+
+        line.append(" %9.1f".formatted(maxMillis));
+
+        System.out.println(line);
+
+        return summary;
+    } //summarize
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the fixtures cannot be read, the replay server cannot be started, or the results cannot
+     * be written
+     * @throws InterruptedException if the load test is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int[] rates = Arrays.stream(LoadTest.getOption(args, "--rates", "100,200,400,800,1600,3200")
+                                            .split(","))
+                            .map(String::strip)
+                            .mapToInt(Integer::parseInt)
+                            .toArray();
+
+        Duration stageDuration = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--stage-seconds",
+                                                                                      "30")));
+
+        Duration warmUpDuration = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--warm-up-seconds",
+                                                                                       "15")));
+
+        Duration timeout = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--timeout-seconds", "30")));
+
+        Duration latency = Duration.ofMillis(Long.parseLong(LoadTest.getOption(args, "--latency-ms", "50")));
+
+        Duration jitter = Duration.ofMillis(Long.parseLong(LoadTest.getOption(args, "--jitter-ms", "50")));
+
+        ReplaySettings.Distribution distribution = ReplaySettings.Distribution.valueOf(
+            LoadTest.getOption(args, "--distribution", "exponential")
+                    .toUpperCase()
+                    .replace('-', '_'));
+
+        double upstreamErrorRate = Double.parseDouble(LoadTest.getOption(args, "--upstream-error-rate", "0.0"));
+
+        String size = LoadTest.getOption(args, "--fixture", "typical");
+
+        double trainShare = Double.parseDouble(LoadTest.getOption(args, "--train-share", "0.5"));
+
+        int keys = Integer.parseInt(LoadTest.getOption(args, "--keys", "500"));
+
+        double sloMillis = Double.parseDouble(LoadTest.getOption(args, "--slo-ms", "500"));
+
+        double maxErrorRate = Double.parseDouble(LoadTest.getOption(args, "--max-error-rate", "0.01"));
+
+        int minCapacity = Integer.parseInt(LoadTest.getOption(args, "--min-capacity", "0"));
+
+        String out = LoadTest.getOption(args, "--out", null);
+
+        LoadTest.requireRepositoryRoot();
+
+        Path directory = LoadTest.writeRecordings(size);
+
+        ReplaySettings replaySettings = new ReplaySettings(directory, 0, 1.0, true, latency, jitter, distribution,
+                                                           upstreamErrorRate);
+
+        List<Endpoint> endpoints = List.of(new Endpoint("bus", "/api/bus?stop_id", 1_000),
+                                           new Endpoint("train", "/api/train?map_id", 40_000));
+
+        JsonArray stages = new JsonArray();
+
+        int capacity = 0;
+
+        String saturation = null;
+
+        HistogramLogWriter logWriter = null;
+
+        if (out != null) {
+            Path logPath = Path.of(out + ".hlog");
+
+            Files.createDirectories(logPath.toAbsolutePath()
+                                           .getParent());
+
+            logWriter = new HistogramLogWriter(logPath.toFile());
+
+            logWriter.outputLogFormatVersion();
+
+            logWriter.outputStartTime(System.currentTimeMillis());
+
+            logWriter.outputLegend();
+        } //end if
+
+        try (ReplayServer replayServer = ReplayServer.start(replaySettings)) {
+            String[] applicationArgs = LoadTest.getApplicationArgs(replayServer)
+                                               .toArray(String[]::new);
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(Application.class, applicationArgs)) {
+                Integer port = context.getEnvironment()
+                                      .getProperty("local.server.port", Integer.class);
+
+                String baseUrl = "http://127.0.0.1:%d".formatted(port);
+
+                HttpClient client = HttpClient.newBuilder()
+                                              .version(HttpClient.Version.HTTP_1_1)
+                                              .connectTimeout(timeout)
+                                              .build();
+
+                LoadTest.drive(client, baseUrl, endpoints, trainShare, keys, rates[0], warmUpDuration, timeout);
+
+                LoadTest.reset(endpoints);
+
+                String format = "%8s %-8s %9s %12s %9s %9s %9s %9s %9s %9s";
+
+                String header = format.formatted("offered", "api", "requests", "throughput/s", "errors", "p50 ms",
+                                                 "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+                System.out.println(header);
+
+                for (int rate : rates) {
+                    long elapsedNanos = LoadTest.drive(client, baseUrl, endpoints, trainShare, keys, rate,
+                                                       stageDuration, timeout);
+
+                    Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+                    long successes = 0L;
+
+                    long errors = 0L;
+
+                    for (Endpoint endpoint : endpoints) {
+                        Histogram histogram = endpoint.recorder()
+                                                      .getIntervalHistogram();
+
+                        histogram.setTag("%s-%d".formatted(endpoint.name(), rate));
+
+                        if (logWriter != null) {
+                            logWriter.outputIntervalHistogram(histogram);
+                        } //end if
+
+                        total.add(histogram);
+
+                        long endpointSuccesses = endpoint.successes()
+                                                         .sumThenReset();
+
+                        long endpointErrors = endpoint.errors()
+                                                      .sumThenReset();
+
+                        successes += endpointSuccesses;
+
+                        errors += endpointErrors;
+
+                        stages.add(LoadTest.summarize(rate, endpoint.name(), histogram, endpointSuccesses,
+                                                      endpointErrors, elapsedNanos));
+                    } //end for
+
+                    JsonObject summary = LoadTest.summarize(rate, "all", total, successes, errors, elapsedNanos);
+
+                    stages.add(summary);
+
+                    double throughput = summary.get("throughput")
+                                               .getAsDouble();
+
+                    double errorRate = summary.get("errorRate")
+                                              .getAsDouble();
+
+                    double p99 = summary.get("p99")
+                                        .getAsDouble();
+
+                    if (throughput < (rate * 0.95)) {
+                        saturation = "throughput %.1f/s fell behind %d/s".formatted(throughput, rate);
+                    } else if (errorRate > maxErrorRate) {
+                        saturation = "error rate %.2f%% exceeded %.2f%%".formatted(errorRate * 100.0,
+                                                                                   maxErrorRate * 100.0);
+                    } else if (p99 > sloMillis) {
+                        saturation = "p99 %.1f ms exceeded %.1f ms".formatted(p99, sloMillis);
+                    } //end if
+
+                    if (saturation != null) {
+                        saturation = "%d/s: %s".formatted(rate, saturation);
+
+                        break;
+                    } //end if
+
+                    capacity = rate;
+                } //end for
+            } //end try
+        } finally {
+            if (logWriter != null) {
+                logWriter.close();
+            } //end if
+        } //end try finally
+
+        System.out.printf("capacity: %d requests/s%n", capacity);
+
+        if (saturation != null) {
+            System.out.printf("saturated at %s%n", saturation);
+        } //end if
+
+        if (out != null) {
+            JsonObject result = new JsonObject();
+
+            result.addProperty("capacity", capacity);
+
+            result.addProperty("saturation", saturation);
+
+            result.addProperty("latencyMillis", latency.toMillis());
+
+            result.addProperty("jitterMillis", jitter.toMillis());
+
+            result.addProperty("distribution", distribution.name());
+
+            result.addProperty("fixture", size);
+
+            result.addProperty("trainShare", trainShare);
+
+            result.addProperty("keys", keys);
+
+            result.add("stages", stages);
+
+            Gson gson = new GsonBuilder().setPrettyPrinting()
+                                         .create();
+
+            try (Writer writer = Files.newBufferedWriter(Path.of(out + ".json"))) {
+                gson.toJson(result, writer);
+            } //end try
+        } //end if
+
+        if (capacity < minCapacity) {
+            System.exit(1);
+        } //end if
+    } //main
+}
\ No newline at end of file
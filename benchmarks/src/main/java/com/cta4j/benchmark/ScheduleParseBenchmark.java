@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.benchmark;
+
+import com.cta4j.follow.model.Schedule;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark that compares the streaming {@link Schedule} deserializer against the tree-based one it replaced, on a
+ * typical {@code ttfollow} response. The {@code legacy} benchmark also reproduces the rest of the old request path,
+ * which decoded the body into a {@link String} and built a new {@link ObjectMapper} for every response.
+ *
+ * <p>Usage, from this module after {@code mvn install} of the application: {@code mvn -q package && java -jar
+ * target/benchmarks.jar ScheduleParseBenchmark -prof gc -rf json}. The {@code gc} profiler reports the bytes allocated
+ * per operation ({@code gc.alloc.rate.norm}) alongside the throughput.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScheduleParseBenchmark {
+    /**
+     * The {@link ObjectMapper} shared by the tree-based benchmarks.
+     */
+    private static final ObjectMapper MAPPER;
+
+    /**
+     * The {@link ObjectReader} of {@link Schedule}s shared by the streaming benchmark.
+     */
+    private static final ObjectReader SCHEDULE_READER;
+
+    /**
+     * The tree-based deserializer of the baselines.
+     */
+    private static final TreeScheduleDeserializer TREE_DESERIALIZER;
+
+    static {
+        MAPPER = new ObjectMapper();
+
+        SCHEDULE_READER = MAPPER.readerFor(Schedule.class);
+
+        TREE_DESERIALIZER = new TreeScheduleDeserializer();
+    } //static
+
+    /**
+     * The response body of this benchmark.
+     */
+    private byte[] responseBody;
+
+    /**
+     * Loads the response body of this benchmark.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ClassLoader classLoader = ScheduleParseBenchmark.class.getClassLoader();
+
+        try (InputStream inputStream = classLoader.getResourceAsStream("fixtures/ttfollow-typical.json")) {
+            if (inputStream == null) {
+                throw new IOException("the fixture fixtures/ttfollow-typical.json does not exist");
+            } //end if
+
+            this.responseBody = inputStream.readAllBytes();
+        } //end try
+    } //setUp
+
+    /**
+     * Parses the specified {@link JsonParser}'s content using the tree-based deserializer.
+     *
+     * @param mapper the {@link ObjectMapper} that created the specified {@link JsonParser}
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @return the parsed {@link Schedule}
+     */
+    private static Schedule parseTree(ObjectMapper mapper, JsonParser jsonParser) {
+        try (jsonParser) {
+            jsonParser.nextToken();
+
+            return TREE_DESERIALIZER.deserialize(jsonParser, mapper.getDeserializationContext());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //parseTree
+
+    /**
+     * Parses the response body the way the follow service did before the streaming deserializer: the body is decoded
+     * into a {@link String}, a new {@link ObjectMapper} is built, and the tree-based deserializer is used.
+     *
+     * @return the parsed {@link Schedule}
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Schedule legacy() throws IOException {
+        String body = new String(this.responseBody, StandardCharsets.UTF_8);
+
+        ObjectMapper mapper = new ObjectMapper();
+
+        JsonParser jsonParser = mapper.createParser(body);
+
+        return ScheduleParseBenchmark.parseTree(mapper, jsonParser);
+    } //legacy
+
+    /**
+     * Parses the response body using the tree-based deserializer and a shared {@link ObjectMapper}, which isolates
+     * the cost of building the tree.
+     *
+     * @return the parsed {@link Schedule}
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Schedule tree() throws IOException {
+        JsonParser jsonParser = MAPPER.createParser(this.responseBody);
+
+        return ScheduleParseBenchmark.parseTree(MAPPER, jsonParser);
+    } //tree
+
+    /**
+     * Parses the response body using the streaming deserializer and a shared {@link ObjectReader}, as the follow
+     * service now does.
+     *
+     * @return the parsed {@link Schedule}
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Schedule streaming() throws IOException {
+        return SCHEDULE_READER.readValue(this.responseBody);
+    } //streaming
+}
\ No newline at end of file
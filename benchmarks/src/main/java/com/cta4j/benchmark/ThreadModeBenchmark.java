@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.cta4j.benchmark;
+
+import com.cta4j.Application;
+import com.cta4j.replay.ReplayServer;
+import com.cta4j.replay.ReplaySettings;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A benchmark that compares the throughput and tail latency of a single node of the CTA4j application with
+ * {@code cta4j.virtual-threads.enabled} set to {@code false}, where Tomcat handles requests on its bounded pool of
+ * platform threads, and set to {@code true}, where each request is handled on its own virtual thread. The application
+ * is started in this process once for each mode, against the same embedded {@link ReplayServer}, and its
+ * {@code /api/bus} and {@code /api/train} endpoints are driven by the {@link LoadTest} harness at a fixed Poisson
+ * arrival rate. Latency is measured from each request's scheduled arrival, so queueing behind a saturated pool is
+ * counted.
+ *
+ * <p>The replay server answers after the configured latency, and requests are spread over many stops and stations by
+ * default, so most of them miss the application's caches and wait on the upstream, which is the case the thread
+ * mode affects. Each mode is warmed up before it is measured, and reports its throughput, error rate, and latency
+ * percentiles, including the 99th.
+ *
+ * <p>Usage, from the root of the repository: {@code mvn -q -f benchmarks/pom.xml compile exec:java
+ * -Dexec.args="--rate 1000 --stage-seconds 30 --latency-ms 250 --pool-size 200 --out results/thread-mode"}
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class ThreadModeBenchmark {
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link ThreadModeBenchmark} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private ThreadModeBenchmark() throws InstantiationException {
+        throw new InstantiationException("instances of type ThreadModeBenchmark cannot be created");
+    } //ThreadModeBenchmark
+
+    /**
+     * Starts the CTA4j application against the specified {@link ReplayServer} in the specified thread mode, drives
+     * it with the specified {@link LoadTest.Endpoint}s, and prints and returns a summary of the measured stage.
+     *
+     * @param replayServer the {@link ReplayServer} to be used in the operation
+     * @param virtualThreads whether requests are handled on virtual threads
+     * @param poolSize the size of Tomcat's pool of platform threads to be used in the operation
+     * @param client the {@link HttpClient} to be used in the operation
+     * @param endpoints the {@link LoadTest.Endpoint}s to be used in the operation
+     * @param share the fraction of requests sent to the second {@link LoadTest.Endpoint} to be used in the operation
+     * @param keys the number of distinct query parameter values to be used in the operation
+     * @param rate the offered rate, in requests per second, to be used in the operation
+     * @param warmUpDuration the duration of the warm-up to be used in the operation
+     * @param stageDuration the duration of the measured stage to be used in the operation
+     * @param timeout the request timeout to be used in the operation
+     * @return a summary of the measured stage
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private static JsonObject run(ReplayServer replayServer, boolean virtualThreads, int poolSize, HttpClient client,
+                                  List<LoadTest.Endpoint> endpoints, double share, int keys, int rate,
+                                  Duration warmUpDuration, Duration stageDuration, Duration timeout)
+        throws InterruptedException {
+        List<String> args = LoadTest.getApplicationArgs(replayServer);
+
+        args.add("--cta4j.virtual-threads.enabled=%b".formatted(virtualThreads));
+
+        args.add("--server.tomcat.threads.max=%d".formatted(poolSize));
+
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        String[] applicationArgs = args.toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(Application.class, applicationArgs)) {
+            Integer port = context.getEnvironment()
+                                  .getProperty("local.server.port", Integer.class);
+
+            String baseUrl = "http://127.0.0.1:%d".formatted(port);
+
+            LoadTest.drive(client, baseUrl, endpoints, share, keys, rate, warmUpDuration, timeout);
+
+            LoadTest.reset(endpoints);
+
+            long elapsedNanos = LoadTest.drive(client, baseUrl, endpoints, share, keys, rate, stageDuration, timeout);
+
+            Histogram total = new Histogram(LoadTest.HIGHEST_TRACKABLE_NANOS, 3);
+
+            long successes = 0L;
+
+            long errors = 0L;
+
+            for (LoadTest.Endpoint endpoint : endpoints) {
+                total.add(endpoint.recorder()
+                                  .getIntervalHistogram());
+
+                successes += endpoint.successes()
+                                     .sumThenReset();
+
+                errors += endpoint.errors()
+                                  .sumThenReset();
+            } //end for
+
+            return LoadTest.summarize(rate, mode, total, successes, errors, elapsedNanos);
+        } //end try
+    } //run
+
+    /**
+     * Runs the thread mode benchmark.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the fixtures cannot be read, the replay server cannot be started, or the results cannot
+     * be written
+     * @throws InterruptedException if the benchmark is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int rate = Integer.parseInt(LoadTest.getOption(args, "--rate", "1000"));
+
+        Duration stageDuration = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--stage-seconds",
+                                                                                      "30")));
+
+        Duration warmUpDuration = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--warm-up-seconds",
+                                                                                       "15")));
+
+        Duration timeout = Duration.ofSeconds(Long.parseLong(LoadTest.getOption(args, "--timeout-seconds", "30")));
+
+        Duration latency = Duration.ofMillis(Long.parseLong(LoadTest.getOption(args, "--latency-ms", "250")));
+
+        Duration jitter = Duration.ofMillis(Long.parseLong(LoadTest.getOption(args, "--jitter-ms", "0")));
+
+        ReplaySettings.Distribution distribution = ReplaySettings.Distribution.valueOf(
+            LoadTest.getOption(args, "--distribution", "uniform")
+                    .toUpperCase()
+                    .replace('-', '_'));
+
+        String size = LoadTest.getOption(args, "--fixture", "typical");
+
+        double trainShare = Double.parseDouble(LoadTest.getOption(args, "--train-share", "0.5"));
+
+        int keys = Integer.parseInt(LoadTest.getOption(args, "--keys", "100000"));
+
+        int poolSize = Integer.parseInt(LoadTest.getOption(args, "--pool-size", "200"));
+
+        String out = LoadTest.getOption(args, "--out", null);
+
+        LoadTest.requireRepositoryRoot();
+
+        Path directory = LoadTest.writeRecordings(size);
+
+        ReplaySettings replaySettings = new ReplaySettings(directory, 0, 1.0, true, latency, jitter, distribution,
+                                                           0.0);
+
+        List<LoadTest.Endpoint> endpoints = List.of(new LoadTest.Endpoint("bus", "/api/bus?stop_id", 1_000),
+                                                    new LoadTest.Endpoint("train", "/api/train?map_id", 40_000));
+
+        HttpClient client = HttpClient.newBuilder()
+                                      .version(HttpClient.Version.HTTP_1_1)
+                                      .connectTimeout(timeout)
+                                      .build();
+
+        String format = "%8s %-8s %9s %12s %9s %9s %9s %9s %9s %9s";
+
+        String header = format.formatted("offered", "mode", "requests", "throughput/s", "errors", "p50 ms", "p90 ms",
+                                         "p99 ms", "p99.9 ms", "max ms");
+
+        System.out.println(header);
+
+        JsonObject platform;
+
+        JsonObject virtual;
+
+        try (ReplayServer replayServer = ReplayServer.start(replaySettings)) {
+            platform = ThreadModeBenchmark.run(replayServer, false, poolSize, client, endpoints, trainShare, keys,
+                                               rate, warmUpDuration, stageDuration, timeout);
+
+            virtual = ThreadModeBenchmark.run(replayServer, true, poolSize, client, endpoints, trainShare, keys, rate,
+                                              warmUpDuration, stageDuration, timeout);
+        } //end try
+
+        for (String property : List.of("throughput", "p99")) {
+            double platformValue = platform.get(property)
+                                           .getAsDouble();
+
+            double virtualValue = virtual.get(property)
+                                         .getAsDouble();
+
+            System.out.printf("%s: platform %.1f, virtual %.1f (%+.1f%%)%n", property, platformValue, virtualValue,
+                              ((virtualValue / platformValue) - 1.0) * 100.0);
+        } //end for
+
+        if (out != null) {
+            JsonObject result = new JsonObject();
+
+            result.addProperty("rate", rate);
+
+            result.addProperty("poolSize", poolSize);
+
+            result.addProperty("latencyMillis", latency.toMillis());
+
+            result.addProperty("jitterMillis", jitter.toMillis());
+
+            result.addProperty("distribution", distribution.name());
+
+            result.addProperty("fixture", size);
+
+            result.addProperty("trainShare", trainShare);
+
+            result.addProperty("keys", keys);
+
+            result.add("platform", platform);
+
+            result.add("virtual", virtual);
+
+            Path path = Path.of(out + ".json");
+
+            Files.createDirectories(path.toAbsolutePath()
+                                        .getParent());
+
+            Gson gson = new GsonBuilder().setPrettyPrinting()
+                                         .create();
+
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                gson.toJson(result, writer);
+            } //end try
+        } //end if
+    } //main
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ package com.cta4j;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.SpringApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * An application of CTA4j.
@@ -34,6 +35,7 @@ import org.springframework.boot.SpringApplication;
  * @version December 12, 2021
  */
 @SpringBootApplication
+@EnableScheduling
 public class Application {
     /**
      * Runs an instance of the CTA4j application.
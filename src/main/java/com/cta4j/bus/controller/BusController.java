@@ -24,19 +24,32 @@
 
 package com.cta4j.bus.controller;
 
+import com.cta4j.bus.controller.service.BusService;
+import com.cta4j.bus.controller.service.CatalogService;
+import com.cta4j.bus.controller.service.PredictionStreamService;
 import com.cta4j.bus.model.Bus;
 import com.cta4j.bus.model.Route;
 import com.cta4j.bus.model.Stop;
 import com.cta4j.utils.Body;
 import com.cta4j.bus.utils.BusUtils;
+import com.cta4j.stream.Delta;
+import com.cta4j.utils.ETags;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A bus controller of the CTA4j application.
@@ -48,13 +61,52 @@ import java.util.Set;
 @RequestMapping("/api/bus")
 public final class BusController {
     /**
-     * Returns a JSON response containing information about routes.
+     * The {@link BusService} of this {@link BusController}.
+     */
+    private final BusService busService;
+
+    /**
+     * The {@link CatalogService} of this {@link BusController}.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * The {@link PredictionStreamService} of this {@link BusController}.
+     */
+    private final PredictionStreamService predictionStreamService;
+
+    /**
+     * Constructs an instance of the {@link BusController} class.
+     *
+     * @param busService the {@link BusService} to be used in the operation
+     * @param catalogService the {@link CatalogService} to be used in the operation
+     * @param predictionStreamService the {@link PredictionStreamService} to be used in the operation
+     * @throws NullPointerException if the specified {@link BusService}, {@link CatalogService}, or
+     * {@link PredictionStreamService} is {@code null}
+     */
+    public BusController(BusService busService, CatalogService catalogService,
+                         PredictionStreamService predictionStreamService) {
+        Objects.requireNonNull(busService, "the specified bus service is null");
+
+        Objects.requireNonNull(catalogService, "the specified catalog service is null");
+
+        Objects.requireNonNull(predictionStreamService, "the specified prediction stream service is null");
+
+        this.busService = busService;
+
+        this.catalogService = catalogService;
+
+        this.predictionStreamService = predictionStreamService;
+    } //BusController
+
+    /**
+     * Returns a JSON response containing information about routes. The routes are served from the bus catalog.
      *
      * @return a JSON response containing information about routes
      */
     @GetMapping("/route")
     public ResponseEntity<Body<Set<Route>>> read() {
-        Set<Route> routes = BusUtils.getRoutes();
+        Set<Route> routes = this.catalogService.getRoutes();
 
         Body<Set<Route>> body = Body.success(routes);
 
@@ -62,13 +114,14 @@ public final class BusController {
     } //getBuses
 
     /**
-     * Returns a JSON response containing information about directions.
+     * Returns a JSON response containing information about directions. The directions are served from the bus
+     * catalog.
      *
      * @return a JSON response containing information about directions
      */
     @GetMapping("/direction")
     public ResponseEntity<Body<Set<String>>> read(@RequestParam String route) {
-        Set<String> directions = BusUtils.getDirections(route);
+        Set<String> directions = this.catalogService.getDirections(route);
 
         Body<Set<String>> body = Body.success(directions);
 
@@ -76,13 +129,13 @@ public final class BusController {
     } //getBuses
 
     /**
-     * Returns a JSON response containing information about stops.
+     * Returns a JSON response containing information about stops. The stops are served from the bus catalog.
      *
      * @return a JSON response containing information about stops
      */
     @GetMapping("/stop")
     public ResponseEntity<Body<Set<Stop>>> read(@RequestParam String route, @RequestParam String direction) {
-        Set<Stop> stops = BusUtils.getStops(route, direction);
+        Set<Stop> stops = this.catalogService.getStops(route, direction);
 
         Body<Set<Stop>> body = Body.success(stops);
 
@@ -90,23 +143,130 @@ public final class BusController {
     } //getBuses
 
     /**
-     * Returns a JSON response containing information about buses using the specified stop ID and routes.
+     * Returns a JSON response containing the {@link Delta} from the client's snapshot of the predictions of the
+     * specified stop ID and routes to the current one. Each {@link Bus} is identified by its vehicle ID and stop ID
+     * separated by a colon. A reset is returned if the client's snapshot is unknown, as it is after a restart.
      *
      * @param stopId the stop ID to be used in the operation
      * @param routes the routes to be used in the operation
+     * @param since the sequence number of the client's snapshot, or {@code 0} if it has none
+     * @return a JSON response containing the {@link Delta} from the client's snapshot to the current one
+     */
+    private CompletableFuture<ResponseEntity<Body<?>>> readDelta(int stopId, String[] routes, long since) {
+        return this.busService.getFetchedBusesAsync(stopId, routes)
+                              .thenApply(fetched -> {
+                                  List<Bus> buses = BusUtils.getOrderedBuses(fetched.value());
+
+                                  Delta<Bus> delta = this.busService.getDelta(stopId, routes, buses, since);
+
+                                  Body<?> body;
+
+                                  if (fetched.stale()) {
+                                      body = Body.stale(delta, fetched.fetchedAt());
+                                  } else {
+                                      body = Body.success(delta);
+                                  } //end if
+
+                                  return ResponseEntity.ok()
+                                                       .cacheControl(CacheControl.noCache())
+                                                       .<Body<?>>body(body);
+                              })
+                              .exceptionally(throwable -> {
+                                  Body<?> body = Body.error("the bus predictions are temporarily unavailable");
+
+                                  return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+                              });
+    } //readDelta
+
+    /**
+     * Returns a JSON response containing information about buses using the specified stop ID and routes. The
+     * response is completed asynchronously, so the servlet thread is released while the upstream call is in flight.
+     * While the prediction endpoint is unhealthy, the last good predictions are returned along with their staleness,
+     * and if there are none, a service unavailable response is returned. Fresh responses carry an entity tag and may
+     * be cached for as long as the predictions are fresh upstream, and a matching {@code If-None-Match} header is
+     * answered with {@code 304 Not Modified}. In delta mode, which is requested by sending the sequence number of
+     * the client's snapshot, the changes since that snapshot are returned instead.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, or {@code null} if there is none
+     * @param since the sequence number of the client's snapshot in delta mode, {@code 0} if it has none, or
+     * {@code null} if delta mode is not requested
      * @return a JSON response containing information about buses using the specified stop ID and routes
      */
     @GetMapping
-    public ResponseEntity<Body<Set<Bus>>> read(@RequestParam("stop_id") int stopId,
-                                               @RequestParam(value = "route[]", required = false) String[] routes) {
+    public CompletableFuture<ResponseEntity<Body<?>>> read(@RequestParam("stop_id") int stopId,
+                                                           @RequestParam(value = "route[]", required = false)
+                                                           String[] routes,
+                                                           @RequestHeader(value = "If-None-Match", required = false)
+                                                           String ifNoneMatch,
+                                                           @RequestParam(value = "since", required = false)
+                                                           Long since) {
         if (routes == null) {
             routes = new String[0];
         } //end if
 
-        Set<Bus> buses = BusUtils.getBuses(stopId, routes);
+        if (since != null) {
+            return this.readDelta(stopId, routes, since);
+        } //end if
 
-        Body<Set<Bus>> body = Body.success(buses);
+        return this.busService.getFetchedBusesAsync(stopId, routes)
+                              .thenApply(fetched -> {
+                                  if (fetched.stale()) {
+                                      Body<?> body = Body.stale(fetched.value(), fetched.fetchedAt());
 
-        return new ResponseEntity<>(body, HttpStatus.OK);
+                                      return ResponseEntity.ok()
+                                                           .cacheControl(CacheControl.noCache())
+                                                           .<Body<?>>body(body);
+                                  } //end if
+
+                                  List<Bus> buses = BusUtils.getOrderedBuses(fetched.value());
+
+                                  String eTag = ETags.of(buses);
+
+                                  long maxAge = this.busService.getMaxAge(fetched)
+                                                               .toSeconds();
+
+                                  CacheControl cacheControl = CacheControl.maxAge(maxAge, TimeUnit.SECONDS)
+                                                                          .cachePublic();
+
+                                  if (ETags.matches(ifNoneMatch, eTag)) {
+                                      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                                           .eTag(eTag)
+                                                           .cacheControl(cacheControl)
+                                                           .<Body<?>>build();
+                                  } //end if
+
+                                  Body<?> body = Body.success(buses);
+
+                                  return ResponseEntity.ok()
+                                                       .eTag(eTag)
+                                                       .cacheControl(cacheControl)
+                                                       .<Body<?>>body(body);
+                              })
+                              .exceptionally(throwable -> {
+                                  Body<?> body = Body.error("the bus predictions are temporarily unavailable");
+
+                                  return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+                              });
     } //getBuses
+
+    /**
+     * Returns a stream of server-sent events containing the predictions of the specified stop ID and routes. An event
+     * named {@code predictions} carries the body {@code /api/bus} would return, and is sent when the stream opens and
+     * whenever the predictions change.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return a stream of server-sent events containing the predictions of the specified stop ID and routes
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam("stop_id") int stopId,
+                             @RequestParam(value = "route[]", required = false) String[] routes) {
+        if (routes == null) {
+            routes = new String[0];
+        } //end if
+
+        return this.predictionStreamService.open(stopId, routes);
+    } //stream
 }
\ No newline at end of file
@@ -0,0 +1,758 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.controller.service;
+
+import com.cta4j.bus.model.adapters.BusTypeAdapter;
+import com.cta4j.bus.model.adapters.RouteTypeAdapter;
+import com.cta4j.bus.model.adapters.StopTypeAdapter;
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import com.cta4j.history.HistoryRecorder;
+import com.cta4j.stream.Delta;
+import com.cta4j.stream.DeltaTracker;
+import com.cta4j.upstream.CacheSettings;
+import com.cta4j.upstream.CircuitBreaker;
+import com.cta4j.upstream.Fetched;
+import com.cta4j.upstream.Priority;
+import com.cta4j.upstream.Quota;
+import com.cta4j.upstream.RequestBatcher;
+import com.cta4j.upstream.RequestKey;
+import com.cta4j.upstream.SingleFlight;
+import com.cta4j.upstream.StaleWhileRevalidate;
+import com.cta4j.upstream.TtlCache;
+import com.cta4j.upstream.UpstreamGateway;
+import com.cta4j.upstream.UpstreamSettings;
+import com.cta4j.utils.JsonStreamUtils;
+import com.cta4j.utils.ParseMetrics;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A service of the CTA4j application used to fetch bus routes, directions, stops, and predictions from the Chicago
+ * Transit Authority through its {@link UpstreamGateway}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class BusService {
+    /**
+     * The {@link Logger} of the {@link BusService} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The bus API key of the {@link BusService} class.
+     */
+    private static final String BUS_API_KEY;
+
+    /**
+     * The maximum number of stop IDs in a single prediction request of the {@link BusService} class.
+     */
+    private static final int MAX_STOPS_PER_REQUEST;
+
+    /**
+     * The time zone of the timestamps of the bus API.
+     */
+    private static final ZoneId ZONE;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        BUS_API_KEY = BusService.getBusApiKey();
+
+        MAX_STOPS_PER_REQUEST = 10;
+
+        ZONE = ZoneId.of("America/Chicago");
+    } //static
+
+    private static String getBusApiKey() {
+        Properties properties = new Properties();
+
+        String pathString = "src/main/resources/api-key.properties";
+
+        Path path = Path.of(pathString);
+
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            String message = "Error in reading the API key file";
+
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log(message);
+
+            throw new IllegalStateException(message);
+        } //end try catch
+
+        String busApiKey = properties.getProperty("bus_key");
+
+        if (busApiKey == null) {
+            String message = "Error in reading the bus API key";
+
+            LOGGER.atError()
+                  .log(message);
+
+            throw new IllegalStateException(message);
+        } //end if
+
+        return busApiKey;
+    } //getBusApiKey
+
+    /**
+     * The {@link UpstreamGateway} of this {@link BusService}.
+     */
+    private final UpstreamGateway gateway;
+
+    /**
+     * The {@link HistoryRecorder} of this {@link BusService}.
+     */
+    private final HistoryRecorder recorder;
+
+    /**
+     * The base URL of the bus API of this {@link BusService}, which points at a replay server in place of the Chicago
+     * Transit Authority when one is configured.
+     */
+    private final String baseUrl;
+
+    /**
+     * The in-flight prediction requests of this {@link BusService}.
+     */
+    private final SingleFlight<RequestKey, Set<Bus>> predictionFlights;
+
+    /**
+     * The batcher of prediction requests of this {@link BusService}.
+     */
+    private final RequestBatcher<RequestKey, Set<Bus>> predictionBatcher;
+
+    /**
+     * The last good predictions of this {@link BusService}, served while the prediction endpoint is unhealthy.
+     */
+    private final StaleWhileRevalidate<RequestKey, Set<Bus>> lastGoodPredictions;
+
+    /**
+     * The cache of predictions of this {@link BusService}.
+     */
+    private final TtlCache<RequestKey, Set<Bus>> predictionCache;
+
+    /**
+     * The {@link DeltaTracker} of predictions of this {@link BusService}.
+     */
+    private final DeltaTracker<RequestKey, Bus> predictionDeltas;
+
+    /**
+     * Constructs an instance of the {@link BusService} class.
+     *
+     * @param gateway the {@link UpstreamGateway} to be used in the operation
+     * @param recorder the {@link HistoryRecorder} to be used in the operation
+     * @throws NullPointerException if the specified {@link UpstreamGateway} or {@link HistoryRecorder} is {@code null}
+     */
+    public BusService(UpstreamGateway gateway, HistoryRecorder recorder) {
+        Objects.requireNonNull(gateway, "the specified gateway is null");
+
+        Objects.requireNonNull(recorder, "the specified recorder is null");
+
+        this.gateway = gateway;
+
+        this.recorder = recorder;
+
+        UpstreamSettings settings = gateway.getSettings();
+
+        this.baseUrl = settings.busBaseUrl();
+
+        this.predictionFlights = new SingleFlight<>();
+
+        Duration window = Duration.ofMillis(5L);
+
+        this.predictionBatcher = new RequestBatcher<>(MAX_STOPS_PER_REQUEST, window, RequestKey::routes,
+                                                      this::fetchBuses, Set.of());
+
+        CircuitBreaker breaker = gateway.getCircuitBreaker("getpredictions");
+
+        this.lastGoodPredictions = new StaleWhileRevalidate<>(breaker, 4_096);
+
+        CacheSettings cacheSettings = settings.getCacheSettings("getpredictions");
+
+        this.predictionCache = new TtlCache<>("getpredictions", cacheSettings, BusService::getGeneratedAt);
+
+        this.predictionDeltas = new DeltaTracker<>(BusService::getIdentity, 16, 4_096);
+    } //BusService
+
+    /**
+     * Returns the catalog {@link HttpRequest} for the specified endpoint and query parameters.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param query the query parameters to be used in the operation, without the key and format
+     * @return the catalog {@link HttpRequest} for the specified endpoint and query parameters
+     * @throws IllegalArgumentException if the request could not be constructed
+     */
+    private HttpRequest getCatalogRequest(String endpoint, String query) {
+        String uriStringFormat = "%s/%s?key=%s%s&format=json";
+
+        String uriString = uriStringFormat.formatted(this.baseUrl, endpoint, BUS_API_KEY, query);
+
+        URI uri = URI.create(uriString);
+
+        return HttpRequest.newBuilder(uri)
+                          .GET()
+                          .build();
+    } //getCatalogRequest
+
+    /**
+     * Reads the elements of the specified member of the catalog response in the specified {@link InputStream}.
+     *
+     * @param inputStream the {@link InputStream} to be used in the operation
+     * @param member the name of the member of {@code bustime-response} that holds the elements
+     * @param elementReader the {@link JsonStreamUtils.ValueReader} of each element to be used in the operation
+     * @param <T> the type of the elements
+     * @return the elements of the specified member of the response, without {@code null}s
+     * @throws UncheckedIOException if the response is malformed or does not include the specified member
+     */
+    private static <T> Set<T> parseCatalog(InputStream inputStream, String member,
+                                           JsonStreamUtils.ValueReader<T> elementReader) {
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            if (!JsonStreamUtils.seek(jsonReader, "bustime-response", member)) {
+                String message = "the response from the API does not include the member \"%s\"".formatted(member);
+
+                throw new IOException(message);
+            } //end if
+
+            Set<T> elements = new HashSet<>(JsonStreamUtils.readList(jsonReader, elementReader));
+
+            elements.remove(null);
+
+            return elements;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new UncheckedIOException(new IOException("the response from the API is malformed", e));
+        } //end try catch
+    } //parseCatalog
+
+    /**
+     * Sends the specified catalog {@link HttpRequest} and reads the elements of the specified member of its response.
+     *
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param priority the {@link Priority} of the request
+     * @param member the name of the member of {@code bustime-response} that holds the elements
+     * @param elementReader the {@link JsonStreamUtils.ValueReader} of each element to be used in the operation
+     * @param <T> the type of the elements
+     * @return the elements of the specified member of the response, without {@code null}s
+     * @throws IOException if the request fails or the response does not include the specified member
+     * @throws InterruptedException if the request is interrupted
+     */
+    private <T> Set<T> fetchCatalog(HttpRequest request, Priority priority, String member,
+                                    JsonStreamUtils.ValueReader<T> elementReader)
+        throws IOException, InterruptedException {
+        return this.gateway.fetch(Quota.BUS, priority, request,
+                                  inputStream -> BusService.parseCatalog(inputStream, member, elementReader));
+    } //fetchCatalog
+
+    /**
+     * Reads the direction in a direction object using the specified {@link JsonReader}.
+     *
+     * @param jsonReader the {@link JsonReader} to be used in the operation
+     * @return the direction that was read, or {@code null} if the object does not include one
+     * @throws IOException if an I/O error occurs
+     */
+    private static String readDirection(JsonReader jsonReader) throws IOException {
+        String direction = null;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (name.equals("dir") && (jsonReader.peek() == JsonToken.STRING)) {
+                direction = jsonReader.nextString();
+            } else {
+                jsonReader.skipValue();
+            } //end if
+        } //end while
+
+        jsonReader.endObject();
+
+        return direction;
+    } //readDirection
+
+    /**
+     * Fetches every bus route with the specified {@link Priority}.
+     *
+     * @param priority the {@link Priority} to be used in the operation
+     * @return every bus route
+     * @throws IOException if the request fails or its response is malformed
+     * @throws InterruptedException if the request is interrupted
+     * @throws NullPointerException if the specified {@link Priority} is {@code null}
+     */
+    public Set<Route> fetchRoutes(Priority priority) throws IOException, InterruptedException {
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        HttpRequest request = this.getCatalogRequest("getroutes", "");
+
+        return this.fetchCatalog(request, priority, "routes", RouteTypeAdapter::readRoute);
+    } //fetchRoutes
+
+    /**
+     * Fetches the directions of the specified route with the specified {@link Priority}.
+     *
+     * @param route the route to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @return the directions of the specified route
+     * @throws IOException if the request fails or its response is malformed
+     * @throws InterruptedException if the request is interrupted
+     * @throws NullPointerException if the specified route or {@link Priority} is {@code null}
+     */
+    public Set<String> fetchDirections(String route, Priority priority)
+        throws IOException, InterruptedException {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        String query = "&rt=%s".formatted(route);
+
+        HttpRequest request = this.getCatalogRequest("getdirections", query);
+
+        return this.fetchCatalog(request, priority, "directions", BusService::readDirection);
+    } //fetchDirections
+
+    /**
+     * Fetches the stops of the specified route in the specified direction with the specified {@link Priority}.
+     *
+     * @param route the route to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @return the stops of the specified route in the specified direction
+     * @throws IOException if the request fails or its response is malformed
+     * @throws InterruptedException if the request is interrupted
+     * @throws NullPointerException if the specified route, direction, or {@link Priority} is {@code null}
+     */
+    public Set<Stop> fetchStops(String route, String direction, Priority priority)
+        throws IOException, InterruptedException {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        Objects.requireNonNull(direction, "the specified direction is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        String query = "&rt=%s&dir=%s".formatted(route, direction);
+
+        HttpRequest request = this.getCatalogRequest("getstops", query);
+
+        return this.fetchCatalog(request, priority, "stops", StopTypeAdapter::readStop);
+    } //fetchStops
+
+    /**
+     * Logs the specified failure of a catalog request.
+     *
+     * @param e the failure to be used in the operation
+     */
+    private static void logCatalogFailure(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end if
+
+        LOGGER.atError()
+              .withThrowable(e)
+              .log("Error in reading the bus catalog from the API");
+    } //logCatalogFailure
+
+    /**
+     * Returns the bus routes of the Chicago Transit Authority. An empty {@link Set} is returned if the routes could not
+     * be fetched.
+     *
+     * @return the bus routes of the Chicago Transit Authority
+     */
+    public Set<Route> getRoutes() {
+        try {
+            return this.fetchRoutes(Priority.INTERACTIVE);
+        } catch (IOException | InterruptedException | IllegalArgumentException e) {
+            BusService.logCatalogFailure(e);
+
+            return Set.of();
+        } //end try catch
+    } //getRoutes
+
+    /**
+     * Returns the directions of the specified bus route of the Chicago Transit Authority. An empty {@link Set} is
+     * returned if the directions could not be fetched.
+     *
+     * @param route the route to be used in the operation
+     * @return the directions of the specified bus route of the Chicago Transit Authority
+     * @throws NullPointerException if the specified route is {@code null}
+     */
+    public Set<String> getDirections(String route) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        try {
+            return this.fetchDirections(route, Priority.INTERACTIVE);
+        } catch (IOException | InterruptedException | IllegalArgumentException e) {
+            BusService.logCatalogFailure(e);
+
+            return Set.of();
+        } //end try catch
+    } //getDirections
+
+    /**
+     * Returns the {@link Stop}s of the specified bus route of the Chicago Transit Authority in the specified direction.
+     * An empty {@link Set} is returned if the stops could not be fetched.
+     *
+     * @param route the route to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @return the {@link Stop}s of the specified bus route of the Chicago Transit Authority in the specified direction
+     * @throws NullPointerException if the specified route or direction is {@code null}
+     */
+    public Set<Stop> getStops(String route, String direction) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        Objects.requireNonNull(direction, "the specified direction is null");
+
+        try {
+            return this.fetchStops(route, direction, Priority.INTERACTIVE);
+        } catch (IOException | InterruptedException | IllegalArgumentException e) {
+            BusService.logCatalogFailure(e);
+
+            return Set.of();
+        } //end try catch
+    } //getStops
+
+    /**
+     * Returns the prediction {@link HttpRequest} for the specified stop IDs and routes, or {@code null} if it could
+     * not be constructed.
+     *
+     * @param stopIds the stop IDs to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return the prediction {@link HttpRequest} for the specified stop IDs and routes, or {@code null} if it could
+     * not be constructed
+     */
+    private HttpRequest getBusesRequest(List<Integer> stopIds, String... routes) {
+        String stopId = stopIds.stream()
+                               .map(String::valueOf)
+                               .collect(Collectors.joining(","));
+
+        String uriString;
+
+        if (routes.length == 0) {
+            uriString = """
+                        %s/getpredictions\
+                        ?key=%s&stpid=%s&format=json""".formatted(this.baseUrl, BUS_API_KEY, stopId);
+        } else {
+            String routesString = Arrays.stream(routes)
+                                        .map(String::toLowerCase)
+                                        .map("rt=%s"::formatted)
+                                        .reduce("%s&%s"::formatted)
+                                        .get();
+
+            uriString = """
+                        %s/getpredictions\
+                        ?key=%s&stpid=%s&%s&format=json""".formatted(this.baseUrl, BUS_API_KEY, stopId, routesString);
+        } //end if
+
+        URI uri;
+
+        try {
+            uri = URI.create(uriString);
+        } catch (IllegalArgumentException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API URI");
+
+            return null;
+        }//end try catch
+
+        HttpRequest request;
+
+        try {
+            request = HttpRequest.newBuilder(uri)
+                                 .GET()
+                                 .build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API request");
+
+            return null;
+        } //end try catch
+
+        return request;
+    } //getBusesRequest
+
+    /**
+     * Parses the {@link Bus}es in the specified prediction response in a single streaming pass. The response is read
+     * straight from the specified {@link InputStream} and each prediction is bound as it is reached, without building
+     * an intermediate {@link String} or tree. The parsed {@link Bus}es are handed to the
+     * {@link HistoryRecorder}, and the parse is recorded in {@link ParseMetrics}.
+     *
+     * @param inputStream the {@link InputStream} of the prediction response to be used in the operation
+     * @return the {@link Bus}es in the specified prediction response
+     * @throws UncheckedIOException if an I/O error occurs or the response is malformed
+     */
+    private Set<Bus> parseBuses(InputStream inputStream) {
+        long startNanos = System.nanoTime();
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            if (!JsonStreamUtils.seek(jsonReader, "bustime-response", "prd")) {
+                LOGGER.atDebug()
+                      .log("The response from the API does not include any predictions");
+
+                ParseMetrics.recordSuccess("getpredictions", startNanos, 0);
+
+                return Set.of();
+            } //end if
+
+            List<Bus> buses = JsonStreamUtils.readList(jsonReader, BusTypeAdapter::readBus);
+
+            ParseMetrics.recordSuccess("getpredictions", startNanos, buses.size());
+
+            this.recorder.recordBuses(buses);
+
+            return new HashSet<>(buses);
+        } catch (IOException e) {
+            ParseMetrics.recordFailure("getpredictions", startNanos);
+
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | NumberFormatException e) {
+            ParseMetrics.recordFailure("getpredictions", startNanos);
+
+            throw new UncheckedIOException(new IOException("the response from the API is malformed", e));
+        } //end try catch
+    } //parseBuses
+
+    /**
+     * Groups the specified {@link Bus}es by the specified {@link RequestKey}s using their stop IDs.
+     *
+     * @param keys the {@link RequestKey}s to be used in the operation
+     * @param buses the {@link Bus}es to be used in the operation
+     * @return the unmodifiable {@link Set}s of the specified {@link Bus}es for the specified {@link RequestKey}s
+     */
+    private static Map<RequestKey, Set<Bus>> groupByStop(List<RequestKey> keys, Set<Bus> buses) {
+        Map<Integer, Set<Bus>> stopIdToBuses = new HashMap<>();
+
+        for (Bus bus : buses) {
+            Stop stop = bus.stop();
+
+            if ((stop == null) || (stop.id() == null)) {
+                continue;
+            } //end if
+
+            stopIdToBuses.computeIfAbsent(stop.id(), stopId -> new HashSet<>())
+                         .add(bus);
+        } //end for
+
+        Map<RequestKey, Set<Bus>> keyToBuses = new HashMap<>();
+
+        for (RequestKey key : keys) {
+            Set<Bus> stopBuses = stopIdToBuses.getOrDefault(key.id(), Set.of());
+
+            keyToBuses.put(key, Set.copyOf(stopBuses));
+        } //end for
+
+        return keyToBuses;
+    } //groupByStop
+
+    /**
+     * Fetches the {@link Bus}es for the specified {@link RequestKey}s from the Chicago Transit Authority using a single
+     * request. Every key must share the same routes, and the predictions in the response are handed back to each key
+     * by stop ID.
+     *
+     * @param keys the {@link RequestKey}s to be used in the operation
+     * @return a {@link CompletableFuture} of the unmodifiable {@link Set}s of {@link Bus}es for the specified
+     * {@link RequestKey}s, which completes exceptionally if the request fails
+     */
+    private CompletableFuture<Map<RequestKey, Set<Bus>>> fetchBuses(List<RequestKey> keys) {
+        List<Integer> stopIds = keys.stream()
+                                    .map(RequestKey::id)
+                                    .toList();
+
+        String[] routes = keys.get(0)
+                              .toRouteArray();
+
+        HttpRequest request = this.getBusesRequest(stopIds, routes);
+
+        if (request == null) {
+            IllegalStateException exception = new IllegalStateException("the prediction request could not be built");
+
+            return CompletableFuture.failedFuture(exception);
+        } //end if
+
+        return this.gateway.fetchAsync(Quota.BUS, Priority.INTERACTIVE, request, this::parseBuses)
+                           .thenApply(buses -> BusService.groupByStop(keys, buses))
+                           .whenComplete((keyToBuses, throwable) -> {
+                               if (throwable != null) {
+                                   LOGGER.atError()
+                                         .withThrowable(throwable)
+                                         .log("Error in sending the API request");
+                               } //end if
+                           });
+    } //fetchBuses
+
+    /**
+     * Returns the time at which the newest of the specified {@link Bus}es' predictions was generated, or {@code null}
+     * if none of them has a prediction time.
+     *
+     * @param buses the {@link Bus}es to be used in the operation
+     * @return the time at which the newest of the specified {@link Bus}es' predictions was generated
+     */
+    private static Instant getGeneratedAt(Set<Bus> buses) {
+        return buses.stream()
+                    .map(Bus::predictionTime)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .map(predictionTime -> predictionTime.atZone(ZONE)
+                                                         .toInstant())
+                    .orElse(null);
+    } //getGeneratedAt
+
+    /**
+     * Returns the {@link Bus}es using the specified stop ID and routes of the Chicago Transit Authority. If no routes
+     * are provided, all routes are returned.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return the {@link Bus}es using the specified stop ID and routes of the Chicago Transit Authority
+     * @throws NullPointerException if the specified array of routes or a route in the specified array is {@code null}
+     */
+    public Set<Bus> getBuses(int stopId, String... routes) {
+        return this.getBusesAsync(stopId, routes)
+                   .join();
+    } //getBuses
+
+    /**
+     * Asynchronously returns the {@link Bus}es using the specified stop ID and routes of the Chicago Transit Authority.
+     * If no routes are provided, all routes are returned. The calling thread is not blocked while the upstream request
+     * is in flight, and the response is parsed as it streams in on the upstream gateway's body executor. Concurrent
+     * calls for the same stop ID and routes share a single upstream request and a single parsed result, and calls for
+     * up to ten different stop IDs with the same routes made within a few milliseconds of each other are combined into
+     * one upstream request. Predictions are cached until the API is expected to have regenerated them. An empty
+     * {@link Set} is returned if the predictions could not be fetched and there are no last good predictions to fall
+     * back on.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Bus}es using the specified stop ID and routes of the Chicago
+     * Transit Authority
+     * @throws NullPointerException if the specified array of routes or a route in the specified array is {@code null}
+     */
+    public CompletableFuture<Set<Bus>> getBusesAsync(int stopId, String... routes) {
+        return this.getFetchedBusesAsync(stopId, routes)
+                   .thenApply(Fetched::value)
+                   .exceptionally(throwable -> Set.of());
+    } //getBusesAsync
+
+    /**
+     * Asynchronously returns the {@link Fetched} {@link Bus}es using the specified stop ID and routes of the Chicago
+     * Transit Authority, as {@link #getBusesAsync(int, String...)} does. While the prediction endpoint is unhealthy,
+     * the last good predictions for the same stop ID and routes are returned, marked as stale, instead of waiting on
+     * a doomed call.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Fetched} {@link Bus}es using the specified stop ID and routes
+     * of the Chicago Transit Authority, which completes exceptionally if they could not be fetched and there are no
+     * last good predictions
+     * @throws NullPointerException if the specified array of routes or a route in the specified array is {@code null}
+     */
+    public CompletableFuture<Fetched<Set<Bus>>> getFetchedBusesAsync(int stopId, String... routes) {
+        Objects.requireNonNull(routes, "the specified array of routes is null");
+
+        Arrays.stream(routes)
+              .forEach(routeName -> Objects.requireNonNull(routeName,
+                                                           "a route in the specified array is null"));
+
+        RequestKey key = RequestKey.of(stopId, routes);
+
+        Supplier<CompletableFuture<Set<Bus>>> batched = () -> this.predictionBatcher.submit(key);
+
+        Supplier<CompletableFuture<Set<Bus>>> fetcher = () -> this.predictionFlights.execute(key, batched);
+
+        return this.predictionCache.get(key, () -> this.lastGoodPredictions.get(key, fetcher));
+    } //getFetchedBusesAsync
+
+    /**
+     * Returns how much longer the specified {@link Fetched} {@link Bus}es are fresh, which is how long a client may
+     * cache them.
+     *
+     * @param fetched the {@link Fetched} {@link Bus}es to be used in the operation
+     * @return how much longer the specified {@link Fetched} {@link Bus}es are fresh
+     * @throws NullPointerException if the specified {@link Fetched} {@link Bus}es are {@code null}
+     */
+    public Duration getMaxAge(Fetched<Set<Bus>> fetched) {
+        return this.predictionCache.getRemainingTtl(fetched);
+    } //getMaxAge
+
+    /**
+     * Returns the identity of the specified {@link Bus} in a {@link Delta}, which is its vehicle ID and stop ID
+     * separated by a colon.
+     *
+     * @param bus the {@link Bus} to be used in the operation
+     * @return the identity of the specified {@link Bus} in a {@link Delta}
+     */
+    private static String getIdentity(Bus bus) {
+        Stop stop = bus.stop();
+
+        Integer stopId = (stop == null) ? null : stop.id();
+
+        return "%s:%s".formatted(bus.id(), stopId);
+    } //getIdentity
+
+    /**
+     * Records the specified predictions of the specified stop ID and routes, and returns the {@link Delta} from the
+     * snapshot with the specified sequence number to them. A reset is returned if the snapshot with the specified
+     * sequence number is unknown.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @param buses the {@link Bus}es to be used in the operation, in the order of a response
+     * @param since the sequence number of the client's snapshot, or {@code 0} if it has none
+     * @return the {@link Delta} from the snapshot with the specified sequence number to the specified predictions
+     * @throws NullPointerException if the specified array of routes, a route in it, or the specified {@link List} of
+     * {@link Bus}es is {@code null}
+     */
+    public Delta<Bus> getDelta(int stopId, String[] routes, List<Bus> buses, long since) {
+        RequestKey key = RequestKey.of(stopId, routes);
+
+        return this.predictionDeltas.update(key, buses, since);
+    } //getDelta
+}
\ No newline at end of file
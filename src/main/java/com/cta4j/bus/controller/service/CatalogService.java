@@ -0,0 +1,470 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.controller.service;
+
+import com.cta4j.bus.model.Catalog;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import com.cta4j.bus.utils.CatalogSnapshots;
+import com.cta4j.upstream.Priority;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A service of the CTA4j application that keeps a {@link Catalog} of every bus route, direction, and stop. The catalog
+ * is crawled in the background at {@link Priority#BACKGROUND}, one request at a time, so that the crawl is paced by
+ * the bus quota and never takes the budget reserved for interactive requests. Readers are served from memory.
+ *
+ * <p>Every crawled catalog is persisted to a snapshot file, which is memory-mapped when the service starts, so a
+ * restarted node serves the catalog from its first request. The next crawl is then due when the snapshot reaches the
+ * refresh interval, but no sooner than a random delay within the startup jitter, so that nodes restarted together do
+ * not all crawl at once.
+ *
+ * <p>Directions and stops that cannot be crawled are carried over from the previous catalog. If the previous catalog
+ * has none to carry over, they are left out rather than stored as empty, are fetched from the API when asked for, and
+ * only the missing parts are crawled again after the shorter retry interval.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class CatalogService {
+    /**
+     * The {@link Logger} of the {@link CatalogService} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(CatalogService.class);
+    } //static
+
+    /**
+     * The {@link BusService} of this {@link CatalogService}.
+     */
+    private final BusService busService;
+
+    /**
+     * The current {@link Catalog} of this {@link CatalogService}.
+     */
+    private final AtomicReference<Catalog> catalog;
+
+    /**
+     * The {@link Path} of the snapshot file of this {@link CatalogService}.
+     */
+    private final Path snapshotPath;
+
+    /**
+     * The refresh interval of this {@link CatalogService}.
+     */
+    private final Duration refreshInterval;
+
+    /**
+     * The retry interval of the missing parts of the {@link Catalog} of this {@link CatalogService}.
+     */
+    private final Duration retryInterval;
+
+    /**
+     * The time at which the next crawl of this {@link CatalogService} is due.
+     */
+    private volatile Instant nextRefresh;
+
+    /**
+     * Constructs an instance of the {@link CatalogService} class. If there is a valid snapshot file at the specified
+     * path, it is loaded as the initial {@link Catalog}.
+     *
+     * @param busService the {@link BusService} to be used in the operation
+     * @param snapshotPath the path of the snapshot file to be used in the operation
+     * @param refreshMillis the refresh interval, in milliseconds, to be used in the operation
+     * @param retryMillis the retry interval of the missing parts of the catalog, in milliseconds, to be used in the
+     * operation
+     * @param startupJitterMillis the largest delay, in milliseconds, of the first crawl after a snapshot is loaded
+     * @throws NullPointerException if the specified {@link BusService} or path is {@code null}
+     */
+    public CatalogService(BusService busService,
+                          @Value("${cta4j.bus.catalog.snapshot-path:data/bus-catalog.bin}") String snapshotPath,
+                          @Value("${cta4j.bus.catalog.refresh-millis:86400000}") long refreshMillis,
+                          @Value("${cta4j.bus.catalog.retry-millis:900000}") long retryMillis,
+                          @Value("${cta4j.bus.catalog.startup-jitter-millis:300000}") long startupJitterMillis) {
+        Objects.requireNonNull(busService, "the specified bus service is null");
+
+        Objects.requireNonNull(snapshotPath, "the specified snapshot path is null");
+
+        this.busService = busService;
+
+        this.snapshotPath = Path.of(snapshotPath);
+
+        this.refreshInterval = Duration.ofMillis(refreshMillis);
+
+        this.retryInterval = Duration.ofMillis(retryMillis);
+
+        Optional<Catalog> snapshot = CatalogSnapshots.read(this.snapshotPath);
+
+        Catalog initial = snapshot.orElseGet(Catalog::empty);
+
+        this.catalog = new AtomicReference<>(initial);
+
+        if (snapshot.isEmpty()) {
+            this.nextRefresh = Instant.EPOCH;
+
+            return;
+        } //end if
+
+        long jitterMillis = ThreadLocalRandom.current()
+                                             .nextLong(Math.max(startupJitterMillis, 0L) + 1L);
+
+        Instant due = initial.refreshedAt()
+                             .plus(this.refreshInterval);
+
+        if (!initial.isComplete()) {
+            due = Instant.EPOCH;
+        } //end if
+
+        Instant earliest = Instant.now()
+                                  .plusMillis(jitterMillis);
+
+        this.nextRefresh = due.isAfter(earliest) ? due : earliest;
+
+        String message = "Loaded the bus catalog snapshot crawled at %s, the next crawl is due at %s".formatted(
+            initial.refreshedAt(), this.nextRefresh);
+
+        LOGGER.atInfo()
+              .log(message);
+    } //CatalogService
+
+    /**
+     * Fetches the directions of the specified route, falling back to those in the specified previous {@link Catalog}
+     * if the request fails.
+     *
+     * @param route the route ID to be used in the operation
+     * @param previous the previous {@link Catalog} to be used in the operation
+     * @param failures the number of failed requests of the crawl
+     * @return the directions of the specified route, or {@code null} if the request fails and the previous
+     * {@link Catalog} does not have them
+     * @throws InterruptedException if the crawl is interrupted
+     */
+    private Set<String> crawlDirections(String route, Catalog previous, AtomicInteger failures)
+        throws InterruptedException {
+        try {
+            return this.busService.fetchDirections(route, Priority.BACKGROUND);
+        } catch (IOException | IllegalArgumentException e) {
+            failures.incrementAndGet();
+
+            String message = "Error in crawling the directions of route %s".formatted(route);
+
+            LOGGER.atDebug()
+                  .withThrowable(e)
+                  .log(message);
+
+            return previous.directions()
+                           .get(route);
+        } //end try catch
+    } //crawlDirections
+
+    /**
+     * Fetches the stops of the specified route in the specified direction, falling back to those in the specified
+     * previous {@link Catalog} if the request fails.
+     *
+     * @param route the route ID to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @param previous the previous {@link Catalog} to be used in the operation
+     * @param failures the number of failed requests of the crawl
+     * @return the stops of the specified route in the specified direction, or {@code null} if the request fails and
+     * the previous {@link Catalog} does not have them
+     * @throws InterruptedException if the crawl is interrupted
+     */
+    private Set<Stop> crawlStops(String route, String direction, Catalog previous, AtomicInteger failures)
+        throws InterruptedException {
+        try {
+            return this.busService.fetchStops(route, direction, Priority.BACKGROUND);
+        } catch (IOException | IllegalArgumentException e) {
+            failures.incrementAndGet();
+
+            String message = "Error in crawling the stops of route %s %s".formatted(route, direction);
+
+            LOGGER.atDebug()
+                  .withThrowable(e)
+                  .log(message);
+
+            return previous.stops()
+                           .getOrDefault(route, Map.of())
+                           .get(direction);
+        } //end try catch
+    } //crawlStops
+
+    /**
+     * Crawls the bus network, using the specified previous {@link Catalog} for any part that cannot be fetched. If
+     * only the missing parts are to be crawled, the routes and every part that is already in the previous
+     * {@link Catalog} are kept as they are, as is the time at which it was crawled.
+     *
+     * @param previous the previous {@link Catalog} to be used in the operation
+     * @param missingOnly whether only the missing parts of the previous {@link Catalog} are to be crawled
+     * @param failures the number of failed requests of the crawl
+     * @return the crawled {@link Catalog}
+     * @throws IOException if the routes cannot be fetched
+     * @throws InterruptedException if the crawl is interrupted
+     */
+    private Catalog crawl(Catalog previous, boolean missingOnly, AtomicInteger failures)
+        throws IOException, InterruptedException {
+        Set<Route> routes = missingOnly ? previous.routes() : this.busService.fetchRoutes(Priority.BACKGROUND);
+
+        Map<String, Set<String>> directions = new HashMap<>();
+
+        Map<String, Map<String, Set<Stop>>> stops = new HashMap<>();
+
+        for (Route route : routes) {
+            String routeId = route.id();
+
+            if (routeId == null) {
+                continue;
+            } //end if
+
+            Set<String> routeDirections = previous.directions()
+                                                  .get(routeId);
+
+            if (!missingOnly || (routeDirections == null)) {
+                routeDirections = this.crawlDirections(routeId, previous, failures);
+            } //end if
+
+            if (routeDirections == null) {
+                continue;
+            } //end if
+
+            directions.put(routeId, routeDirections);
+
+            Map<String, Set<Stop>> previousStops = previous.stops()
+                                                           .getOrDefault(routeId, Map.of());
+
+            Map<String, Set<Stop>> directionStops = new HashMap<>();
+
+            for (String direction : routeDirections) {
+                Set<Stop> routeStops = previousStops.get(direction);
+
+                if (!missingOnly || (routeStops == null)) {
+                    routeStops = this.crawlStops(routeId, direction, previous, failures);
+                } //end if
+
+                if (routeStops != null) {
+                    directionStops.put(direction, routeStops);
+                } //end if
+            } //end for
+
+            stops.put(routeId, directionStops);
+        } //end for
+
+        Instant refreshedAt = missingOnly ? previous.refreshedAt() : Instant.now();
+
+        return new Catalog(refreshedAt, routes, directions, stops);
+    } //crawl
+
+    /**
+     * Refreshes the {@link Catalog} of this {@link CatalogService} if a crawl is due. Until the refresh interval has
+     * passed, a crawl that is due because of missing parts only crawls those parts.
+     */
+    @Scheduled(fixedDelayString = "${cta4j.bus.catalog.check-millis:60000}")
+    public void refreshIfDue() {
+        Instant now = Instant.now();
+
+        if (now.isBefore(this.nextRefresh)) {
+            return;
+        } //end if
+
+        Catalog current = this.catalog.get();
+
+        Instant due = current.refreshedAt()
+                             .plus(this.refreshInterval);
+
+        boolean missingOnly = !current.isEmpty() && now.isBefore(due);
+
+        this.refresh(missingOnly);
+    } //refreshIfDue
+
+    /**
+     * Refreshes the {@link Catalog} of this {@link CatalogService} and persists it to the snapshot file. Directions
+     * and stops that cannot be fetched are carried over from the previous catalog, or left out if it has none, in
+     * which case their crawl is retried after the retry interval. If the routes cannot be fetched, the previous
+     * catalog continues to be served and the crawl is retried at the next check.
+     */
+    public void refresh() {
+        this.refresh(false);
+    } //refresh
+
+    /**
+     * Refreshes the {@link Catalog} of this {@link CatalogService}, or only its missing parts, and persists it to the
+     * snapshot file.
+     *
+     * @param missingOnly whether only the missing parts of the current {@link Catalog} are to be crawled
+     */
+    private void refresh(boolean missingOnly) {
+        long start = System.nanoTime();
+
+        Catalog previous = this.catalog.get();
+
+        AtomicInteger failures = new AtomicInteger();
+
+        Catalog refreshed;
+
+        try {
+            refreshed = this.crawl(previous, missingOnly, failures);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in crawling the bus routes, keeping the previous catalog");
+
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            return;
+        } //end try catch
+
+        this.catalog.set(refreshed);
+
+        Instant due = refreshed.refreshedAt()
+                               .plus(this.refreshInterval);
+
+        boolean complete = refreshed.isComplete();
+
+        if (!complete) {
+            Instant retry = Instant.now()
+                                   .plus(this.retryInterval);
+
+            due = retry.isBefore(due) ? retry : due;
+        } //end if
+
+        this.nextRefresh = due;
+
+        try {
+            CatalogSnapshots.write(refreshed, this.snapshotPath);
+        } catch (IOException e) {
+            String message = "Error in writing the bus catalog snapshot to %s".formatted(this.snapshotPath);
+
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log(message);
+        } //end try catch
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+        int stopCount = refreshed.stops()
+                                 .values()
+                                 .stream()
+                                 .flatMap(directionStops -> directionStops.values()
+                                                                          .stream())
+                                 .mapToInt(Set::size)
+                                 .sum();
+
+        int routeCount = refreshed.routes()
+                                  .size();
+
+        String message = "Crawled %s bus catalog with %d routes and %d stops in %d ms, %d requests failed%s";
+
+        String scope = missingOnly ? "the missing parts of the" : "the";
+
+        String retry = complete ? "" : ", the missing parts are retried at %s".formatted(due);
+
+        message = message.formatted(scope, routeCount, stopCount, elapsedMillis, failures.get(), retry);
+
+        LOGGER.atInfo()
+              .log(message);
+    } //refresh
+
+    /**
+     * Returns the current {@link Catalog} of this {@link CatalogService}.
+     *
+     * @return the current {@link Catalog} of this {@link CatalogService}
+     */
+    public Catalog getCatalog() {
+        return this.catalog.get();
+    } //getCatalog
+
+    /**
+     * Returns every bus route. Until the first crawl succeeds, the routes are fetched from the API.
+     *
+     * @return every bus route
+     */
+    public Set<Route> getRoutes() {
+        Catalog current = this.catalog.get();
+
+        if (current.isEmpty()) {
+            return this.busService.getRoutes();
+        } //end if
+
+        return current.routes();
+    } //getRoutes
+
+    /**
+     * Returns the directions of the specified route. Until the first crawl succeeds, or while the directions are
+     * missing from the catalog, the directions are fetched from the API.
+     *
+     * @param route the route ID to be used in the operation
+     * @return the directions of the specified route
+     * @throws NullPointerException if the specified route is {@code null}
+     */
+    public Set<String> getDirections(String route) {
+        Catalog current = this.catalog.get();
+
+        if (current.isEmpty() || current.isMissingDirections(route)) {
+            return this.busService.getDirections(route);
+        } //end if
+
+        return current.getDirections(route);
+    } //getDirections
+
+    /**
+     * Returns the stops of the specified route in the specified direction. Until the first crawl succeeds, or while
+     * the stops are missing from the catalog, the stops are fetched from the API.
+     *
+     * @param route the route ID to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @return the stops of the specified route in the specified direction
+     * @throws NullPointerException if the specified route or direction is {@code null}
+     */
+    public Set<Stop> getStops(String route, String direction) {
+        Catalog current = this.catalog.get();
+
+        if (current.isEmpty() || current.isMissingDirections(route) || current.isMissingStops(route, direction)) {
+            return this.busService.getStops(route, direction);
+        } //end if
+
+        return current.getStops(route, direction);
+    } //getStops
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.model;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the bus network of the Chicago Transit Authority, indexed by route and direction. A route
+ * whose directions, or a direction whose stops, could not be crawled has no entry at all, rather than an empty one, so
+ * that it is never mistaken for a route or direction without any.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param refreshedAt the time at which this catalog was crawled
+ * @param routes the {@link Route}s of this catalog
+ * @param directions the directions of this catalog, by route ID
+ * @param stops the {@link Stop}s of this catalog, by route ID and then direction
+ */
+public record Catalog(Instant refreshedAt, Set<Route> routes, Map<String, Set<String>> directions,
+                      Map<String, Map<String, Set<Stop>>> stops) {
+    /**
+     * Constructs an instance of the {@link Catalog} class.
+     *
+     * @param refreshedAt the time at which the catalog was crawled to be used in the operation
+     * @param routes the {@link Route}s of the catalog to be used in the operation
+     * @param directions the directions of the catalog, by route ID, to be used in the operation
+     * @param stops the {@link Stop}s of the catalog, by route ID and then direction, to be used in the operation
+     * @throws NullPointerException if any of the specified values, or any key or value within them, is {@code null}
+     */
+    public Catalog {
+        Objects.requireNonNull(refreshedAt, "the specified refreshed at time is null");
+
+        Objects.requireNonNull(routes, "the specified set of routes is null");
+
+        Objects.requireNonNull(directions, "the specified map of directions is null");
+
+        Objects.requireNonNull(stops, "the specified map of stops is null");
+
+        routes = Set.copyOf(routes);
+
+        Map<String, Set<String>> directionsCopy = new HashMap<>();
+
+        directions.forEach((route, routeDirections) -> directionsCopy.put(route, Set.copyOf(routeDirections)));
+
+        directions = Map.copyOf(directionsCopy);
+
+        Map<String, Map<String, Set<Stop>>> stopsCopy = new HashMap<>();
+
+        stops.forEach((route, directionStops) -> {
+            Map<String, Set<Stop>> directionStopsCopy = new HashMap<>();
+
+            directionStops.forEach((direction, routeStops) -> directionStopsCopy.put(direction,
+                                                                                      Set.copyOf(routeStops)));
+
+            stopsCopy.put(route, Map.copyOf(directionStopsCopy));
+        });
+
+        stops = Map.copyOf(stopsCopy);
+    } //Catalog
+
+    /**
+     * Returns an empty {@link Catalog}, crawled at the epoch.
+     *
+     * @return an empty {@link Catalog}
+     */
+    public static Catalog empty() {
+        return new Catalog(Instant.EPOCH, Set.of(), Map.of(), Map.of());
+    } //empty
+
+    /**
+     * Returns whether this catalog has no routes, which is the case until the first crawl succeeds.
+     *
+     * @return {@code true} if this catalog has no routes, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.routes.isEmpty();
+    } //isEmpty
+
+    /**
+     * Returns whether the directions of the specified route are missing from this catalog, which is the case when the
+     * route is in this catalog but its directions have never been crawled successfully.
+     *
+     * @param route the route ID to be used in the operation
+     * @return {@code true} if the directions of the specified route are missing from this catalog, otherwise
+     * {@code false}
+     * @throws NullPointerException if the specified route is {@code null}
+     */
+    public boolean isMissingDirections(String route) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        if (this.directions.containsKey(route)) {
+            return false;
+        } //end if
+
+        return this.routes.stream()
+                          .map(Route::id)
+                          .anyMatch(route::equals);
+    } //isMissingDirections
+
+    /**
+     * Returns whether the {@link Stop}s of the specified route in the specified direction are missing from this
+     * catalog, which is the case when the direction is in this catalog but its stops have never been crawled
+     * successfully.
+     *
+     * @param route the route ID to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @return {@code true} if the {@link Stop}s of the specified route in the specified direction are missing from
+     * this catalog, otherwise {@code false}
+     * @throws NullPointerException if the specified route or direction is {@code null}
+     */
+    public boolean isMissingStops(String route, String direction) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        Objects.requireNonNull(direction, "the specified direction is null");
+
+        if (!this.getDirections(route)
+                 .contains(direction)) {
+            return false;
+        } //end if
+
+        return !this.stops.getOrDefault(route, Map.of())
+                          .containsKey(direction);
+    } //isMissingStops
+
+    /**
+     * Returns whether this catalog is complete, which is the case when no route is missing its directions and no
+     * direction is missing its {@link Stop}s.
+     *
+     * @return {@code true} if this catalog is complete, otherwise {@code false}
+     */
+    public boolean isComplete() {
+        for (Route route : this.routes) {
+            String routeId = route.id();
+
+            if (routeId == null) {
+                continue;
+            } //end if
+
+            if (!this.directions.containsKey(routeId)) {
+                return false;
+            } //end if
+
+            Map<String, Set<Stop>> directionStops = this.stops.getOrDefault(routeId, Map.of());
+
+            for (String direction : this.directions.get(routeId)) {
+                if (!directionStops.containsKey(direction)) {
+                    return false;
+                } //end if
+            } //end for
+        } //end for
+
+        return true;
+    } //isComplete
+
+    /**
+     * Returns the directions of the specified route in this catalog.
+     *
+     * @param route the route ID to be used in the operation
+     * @return the directions of the specified route in this catalog
+     * @throws NullPointerException if the specified route is {@code null}
+     */
+    public Set<String> getDirections(String route) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        return this.directions.getOrDefault(route, Set.of());
+    } //getDirections
+
+    /**
+     * Returns the {@link Stop}s of the specified route in the specified direction in this catalog.
+     *
+     * @param route the route ID to be used in the operation
+     * @param direction the direction to be used in the operation
+     * @return the {@link Stop}s of the specified route in the specified direction in this catalog
+     * @throws NullPointerException if the specified route or direction is {@code null}
+     */
+    public Set<Stop> getStops(String route, String direction) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        Objects.requireNonNull(direction, "the specified direction is null");
+
+        return this.stops.getOrDefault(route, Map.of())
+                         .getOrDefault(direction, Set.of());
+    } //getStops
+}
\ No newline at end of file
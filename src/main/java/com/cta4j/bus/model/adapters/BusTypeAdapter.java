@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.util.Objects;
 import com.cta4j.bus.model.Type;
 import java.time.LocalDateTime;
+import com.cta4j.utils.ParseMetrics;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import java.time.format.DateTimeFormatter;
@@ -52,8 +53,16 @@ public final class BusTypeAdapter extends TypeAdapter<Bus> {
      */
     private static final Logger LOGGER;
 
+    /**
+     * The {@link DateTimeFormatter} of the timestamps in a prediction. It is built once, as formatters are immutable
+     * and thread-safe, and every prediction has two timestamps.
+     */
+    private static final DateTimeFormatter TIME_FORMATTER;
+
     static {
         LOGGER = LogManager.getLogger(BusTypeAdapter.class);
+
+        TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd HH:mm");
     } //static
 
     /**
@@ -212,6 +221,8 @@ public final class BusTypeAdapter extends TypeAdapter<Bus> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed ID");
+
+                        ParseMetrics.countMalformed("bus", "vid");
                     } //end try catch
                 } //case "vid"
                 case "stpid" -> {
@@ -223,6 +234,8 @@ public final class BusTypeAdapter extends TypeAdapter<Bus> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed stop ID");
+
+                        ParseMetrics.countMalformed("bus", "stpid");
                     } //end try catch
                 } //case "stp"
                 case "stpnm" -> stopName = jsonReader.nextString();
@@ -241,6 +254,8 @@ public final class BusTypeAdapter extends TypeAdapter<Bus> {
                             LOGGER.atError()
                                   .log(errorMessage);
 
+                            ParseMetrics.countMalformed("bus", "typ");
+
                             yield null;
                         } //default
                     };
@@ -248,55 +263,31 @@ public final class BusTypeAdapter extends TypeAdapter<Bus> {
                 case "tmstmp" -> {
                     String predictionTimeString = jsonReader.nextString();
 
-                    String formatterPattern = "yyyyMMdd HH:mm";
-
-                    DateTimeFormatter formatter;
-
                     try {
-                        formatter = DateTimeFormatter.ofPattern(formatterPattern);
-                    } catch (IllegalArgumentException e) {
-                        LOGGER.atError()
-                              .withThrowable(e)
-                              .log("the prediction time formatter pattern is malformed");
-
-                        continue;
-                    } //end try catch
-
-                    try {
-                        predictionTime = LocalDateTime.parse(predictionTimeString, formatter);
+                        predictionTime = LocalDateTime.parse(predictionTimeString, TIME_FORMATTER);
                     } catch (DateTimeParseException e) {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed prediction time");
+
+                        ParseMetrics.countMalformed("bus", "tmstmp");
                     } //end try catch
                 } //case "prdtm"
                 case "prdtm" -> {
                     String arrivalTimeString = jsonReader.nextString();
 
-                    String formatterPattern = "yyyyMMdd HH:mm";
-
-                    DateTimeFormatter formatter;
-
-                    try {
-                        formatter = DateTimeFormatter.ofPattern(formatterPattern);
-                    } catch (IllegalArgumentException e) {
-                        LOGGER.atError()
-                              .withThrowable(e)
-                              .log("the arrival time formatter pattern is malformed");
-
-                        continue;
-                    } //end try catch
-
                     try {
-                        typeTime = LocalDateTime.parse(arrivalTimeString, formatter);
+                        typeTime = LocalDateTime.parse(arrivalTimeString, TIME_FORMATTER);
                     } catch (DateTimeParseException e) {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed arrival time");
+
+                        ParseMetrics.countMalformed("bus", "prdtm");
                     } //end try catch
                 } //case "prdtm"
                 case "dly" -> delayed = jsonReader.nextBoolean();
-                default -> jsonReader.nextString();
+                default -> jsonReader.skipValue();
             } //end switch
         } //end while
 
@@ -0,0 +1,469 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.utils;
+
+import com.cta4j.bus.model.Catalog;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A set of utilities used by the CTA4j application to persist a bus {@link Catalog} to a compact binary snapshot file,
+ * and to read it back by memory-mapping the file.
+ *
+ * <p>The format, all big-endian, is the magic number {@code CTAC}, the format version, the crawl time in epoch
+ * milliseconds, a table of every distinct stop, and then each route with its directions, whose stops are indices into
+ * the table. A route whose directions, or a direction whose stops, are missing from the catalog has a count of
+ * {@code -1} in their place. Strings are a length followed by UTF-8 bytes, with a length of {@code -1} for
+ * {@code null}, and the file ends with the CRC-32 of everything before it. A file with another magic number or version, or a bad checksum, is
+ * ignored.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class CatalogSnapshots {
+    /**
+     * The {@link Logger} of the {@link CatalogSnapshots} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The magic number of a snapshot file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The format version written by the {@link CatalogSnapshots} class.
+     */
+    private static final int VERSION;
+
+    /**
+     * The stop ID written in place of a {@code null} one.
+     */
+    private static final int NULL_STOP_ID;
+
+    /**
+     * The count written in place of missing directions or stops.
+     */
+    private static final int MISSING_COUNT;
+
+    static {
+        LOGGER = LogManager.getLogger(CatalogSnapshots.class);
+
+        MAGIC = 0x43544143;
+
+        VERSION = 2;
+
+        NULL_STOP_ID = Integer.MIN_VALUE;
+
+        MISSING_COUNT = -1;
+    } //static
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link CatalogSnapshots} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private CatalogSnapshots() throws InstantiationException {
+        throw new InstantiationException("instances of type CatalogSnapshots cannot be created");
+    } //CatalogSnapshots
+
+    /**
+     * Writes the specified string using the specified {@link DataOutputStream}.
+     *
+     * @param outputStream the {@link DataOutputStream} to be used in the operation
+     * @param string the string to be used in the operation, which may be {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeString(DataOutputStream outputStream, String string) throws IOException {
+        if (string == null) {
+            outputStream.writeInt(-1);
+
+            return;
+        } //end if
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        outputStream.writeInt(bytes.length);
+
+        outputStream.write(bytes);
+    } //writeString
+
+    /**
+     * Reads a string from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the string that was read, which may be {@code null}
+     * @throws IOException if the length of the string is invalid
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+
+        if (length == -1) {
+            return null;
+        } else if ((length < -1) || (length > buffer.remaining())) {
+            throw new IOException("the snapshot contains a string of invalid length %d".formatted(length));
+        } //end if
+
+        byte[] bytes = new byte[length];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    } //readString
+
+    /**
+     * Reads a count from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the count that was read
+     * @throws IOException if the count is negative or larger than the rest of the buffer could hold
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+
+        if ((count < 0) || (count > buffer.remaining())) {
+            throw new IOException("the snapshot contains an invalid count %d".formatted(count));
+        } //end if
+
+        return count;
+    } //readCount
+
+    /**
+     * Reads a count that may be missing from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the count that was read, or {@code -1} if it is missing
+     * @throws IOException if the count is invalid or larger than the rest of the buffer could hold
+     */
+    private static int readOptionalCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+
+        if (count == MISSING_COUNT) {
+            return MISSING_COUNT;
+        } else if ((count < 0) || (count > buffer.remaining())) {
+            throw new IOException("the snapshot contains an invalid count %d".formatted(count));
+        } //end if
+
+        return count;
+    } //readOptionalCount
+
+    /**
+     * Returns the specified {@link Catalog} encoded in the snapshot format.
+     *
+     * @param catalog the {@link Catalog} to be used in the operation
+     * @return the specified {@link Catalog} encoded in the snapshot format
+     * @throws NullPointerException if the specified {@link Catalog} is {@code null}
+     */
+    public static byte[] encode(Catalog catalog) {
+        Objects.requireNonNull(catalog, "the specified catalog is null");
+
+        List<Stop> stopTable = new ArrayList<>();
+
+        Map<Stop, Integer> stopIndices = new HashMap<>();
+
+        for (Map<String, Set<Stop>> directionStops : catalog.stops()
+                                                            .values()) {
+            for (Set<Stop> stops : directionStops.values()) {
+                for (Stop stop : stops) {
+                    if (stopIndices.putIfAbsent(stop, stopTable.size()) == null) {
+                        stopTable.add(stop);
+                    } //end if
+                } //end for
+            } //end for
+        } //end for
+
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+
+        try (DataOutputStream outputStream = new DataOutputStream(byteStream)) {
+            outputStream.writeInt(MAGIC);
+
+            outputStream.writeInt(VERSION);
+
+            outputStream.writeLong(catalog.refreshedAt()
+                                          .toEpochMilli());
+
+            outputStream.writeInt(stopTable.size());
+
+            for (Stop stop : stopTable) {
+                Integer id = stop.id();
+
+                outputStream.writeInt((id == null) ? NULL_STOP_ID : id);
+
+                CatalogSnapshots.writeString(outputStream, stop.name());
+            } //end for
+
+            outputStream.writeInt(catalog.routes()
+                                         .size());
+
+            Map<String, Set<String>> routeDirections = catalog.directions();
+
+            for (Route route : catalog.routes()) {
+                CatalogSnapshots.writeString(outputStream, route.id());
+
+                CatalogSnapshots.writeString(outputStream, route.name());
+
+                Set<String> directions = (route.id() == null) ? Set.of() : routeDirections.get(route.id());
+
+                if (directions == null) {
+                    outputStream.writeInt(MISSING_COUNT);
+
+                    continue;
+                } //end if
+
+                outputStream.writeInt(directions.size());
+
+                Map<String, Set<Stop>> directionStops = catalog.stops()
+                                                               .getOrDefault(route.id(), Map.of());
+
+                for (String direction : directions) {
+                    CatalogSnapshots.writeString(outputStream, direction);
+
+                    Set<Stop> stops = directionStops.get(direction);
+
+                    if (stops == null) {
+                        outputStream.writeInt(MISSING_COUNT);
+
+                        continue;
+                    } //end if
+
+                    outputStream.writeInt(stops.size());
+
+                    for (Stop stop : stops) {
+                        outputStream.writeInt(stopIndices.get(stop));
+                    } //end for
+                } //end for
+            } //end for
+
+            CRC32 crc = new CRC32();
+
+            crc.update(byteStream.toByteArray());
+
+            outputStream.writeLong(crc.getValue());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } //end try catch
+
+        return byteStream.toByteArray();
+    } //encode
+
+    /**
+     * Returns the {@link Catalog} encoded in the specified {@link ByteBuffer}, which must hold a whole snapshot.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the {@link Catalog} encoded in the specified {@link ByteBuffer}
+     * @throws IOException if the snapshot has an unknown magic number or version, a bad checksum, or is truncated
+     * @throws NullPointerException if the specified {@link ByteBuffer} is {@code null}
+     */
+    public static Catalog decode(ByteBuffer buffer) throws IOException {
+        Objects.requireNonNull(buffer, "the specified buffer is null");
+
+        try {
+            int magic = buffer.getInt(0);
+
+            if (magic != MAGIC) {
+                throw new IOException("the snapshot has an unknown magic number %08x".formatted(magic));
+            } //end if
+
+            int version = buffer.getInt(Integer.BYTES);
+
+            if (version != VERSION) {
+                throw new IOException("the snapshot has an unsupported version %d".formatted(version));
+            } //end if
+
+            int bodyLength = buffer.limit() - Long.BYTES;
+
+            CRC32 crc = new CRC32();
+
+            crc.update(buffer.slice(0, bodyLength));
+
+            if (crc.getValue() != buffer.getLong(bodyLength)) {
+                throw new IOException("the snapshot has a bad checksum");
+            } //end if
+
+            ByteBuffer body = buffer.slice(0, bodyLength)
+                                    .position(2 * Integer.BYTES);
+
+            Instant refreshedAt = Instant.ofEpochMilli(body.getLong());
+
+            int stopCount = CatalogSnapshots.readCount(body);
+
+            Stop[] stopTable = new Stop[stopCount];
+
+            for (int i = 0; i < stopCount; i++) {
+                int id = body.getInt();
+
+                String name = CatalogSnapshots.readString(body);
+
+                stopTable[i] = new Stop((id == NULL_STOP_ID) ? null : id, name);
+            } //end for
+
+            int routeCount = CatalogSnapshots.readCount(body);
+
+            Set<Route> routes = new HashSet<>();
+
+            Map<String, Set<String>> directions = new HashMap<>();
+
+            Map<String, Map<String, Set<Stop>>> stops = new HashMap<>();
+
+            for (int i = 0; i < routeCount; i++) {
+                String routeId = CatalogSnapshots.readString(body);
+
+                String routeName = CatalogSnapshots.readString(body);
+
+                routes.add(new Route(routeId, routeName));
+
+                int directionCount = CatalogSnapshots.readOptionalCount(body);
+
+                if (directionCount == MISSING_COUNT) {
+                    continue;
+                } //end if
+
+                Set<String> routeDirections = new HashSet<>();
+
+                Map<String, Set<Stop>> directionStops = new HashMap<>();
+
+                for (int j = 0; j < directionCount; j++) {
+                    String direction = CatalogSnapshots.readString(body);
+
+                    int stopRefCount = CatalogSnapshots.readOptionalCount(body);
+
+                    routeDirections.add(direction);
+
+                    if (stopRefCount == MISSING_COUNT) {
+                        continue;
+                    } //end if
+
+                    Set<Stop> routeStops = new HashSet<>();
+
+                    for (int k = 0; k < stopRefCount; k++) {
+                        routeStops.add(stopTable[body.getInt()]);
+                    } //end for
+
+                    directionStops.put(direction, routeStops);
+                } //end for
+
+                if (routeId != null) {
+                    directions.put(routeId, routeDirections);
+
+                    stops.put(routeId, directionStops);
+                } //end if
+            } //end for
+
+            return new Catalog(refreshedAt, routes, directions, stops);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("the snapshot is truncated or corrupt", e);
+        } //end try catch
+    } //decode
+
+    /**
+     * Writes the specified {@link Catalog} to a snapshot file at the specified {@link Path}. The snapshot is written
+     * to a temporary file first and then moved into place, so readers never see a partial file.
+     *
+     * @param catalog the {@link Catalog} to be used in the operation
+     * @param path the {@link Path} to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified {@link Catalog} or {@link Path} is {@code null}
+     */
+    public static void write(Catalog catalog, Path path) throws IOException {
+        Objects.requireNonNull(catalog, "the specified catalog is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        byte[] bytes = CatalogSnapshots.encode(catalog);
+
+        Path absolutePath = path.toAbsolutePath();
+
+        Path directory = absolutePath.getParent();
+
+        Files.createDirectories(directory);
+
+        Path temporaryPath = Files.createTempFile(directory, absolutePath.getFileName()
+                                                                         .toString(), ".tmp");
+
+        try {
+            Files.write(temporaryPath, bytes);
+
+            Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        } //end try finally
+    } //write
+
+    /**
+     * Reads the {@link Catalog} in the snapshot file at the specified {@link Path} by memory-mapping it. Any problem
+     * with the file is logged, and an empty {@link Optional} is returned.
+     *
+     * @param path the {@link Path} to be used in the operation
+     * @return an {@link Optional} of the {@link Catalog} in the snapshot file at the specified {@link Path}
+     * @throws NullPointerException if the specified {@link Path} is {@code null}
+     */
+    public static Optional<Catalog> read(Path path) {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+
+            Catalog catalog = CatalogSnapshots.decode(buffer);
+
+            return Optional.of(catalog);
+        } catch (NoSuchFileException e) {
+            LOGGER.atInfo()
+                  .log("There is no bus catalog snapshot at %s".formatted(path));
+        } catch (IOException e) {
+            LOGGER.atWarn()
+                  .withThrowable(e)
+                  .log("Error in reading the bus catalog snapshot at %s, ignoring it".formatted(path));
+        } //end try catch
+
+        return Optional.empty();
+    } //read
+}
\ No newline at end of file
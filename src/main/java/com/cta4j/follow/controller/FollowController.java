@@ -24,15 +24,24 @@
 
 package com.cta4j.follow.controller;
 
-import com.cta4j.follow.controller.service.FollowService;
+import com.cta4j.follow.controller.service.FollowTracker;
+import com.cta4j.follow.model.Schedule;
+import com.cta4j.follow.model.Train;
 import com.cta4j.utils.Body;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A controller of the CTA4j application used to follow trains.
@@ -44,31 +53,124 @@ import java.util.Objects;
 @RequestMapping("/api/follow")
 public final class FollowController {
     /**
-     * The {@link FollowService} of this {@link FollowController}.
+     * The {@link Logger} of the {@link FollowController} class.
      */
-    private final FollowService service;
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(FollowController.class);
+    } //static
+
+    /**
+     * The {@link FollowTracker} of this {@link FollowController}.
+     */
+    private final FollowTracker tracker;
+
+    /**
+     * The maximum number of runs of a batch of this {@link FollowController}.
+     */
+    private final int maxBatchRuns;
+
+    /**
+     * The maximum number of runs of a batch of this {@link FollowController} that are fetched at once.
+     */
+    private final int batchParallelism;
+
+    /**
+     * The deadline of a batch of this {@link FollowController}.
+     */
+    private final Duration batchDeadline;
 
     /**
      * Constructs an instance of the {@link FollowController} class.
      *
-     * @param service the {@link FollowService} to be used in the operation
+     * @param tracker the {@link FollowTracker} to be used in the operation
+     * @param maxBatchRuns the maximum number of runs of a batch
+     * @param batchParallelism the maximum number of runs of a batch that are fetched at once
+     * @param batchDeadlineMillis the deadline of a batch, in milliseconds
+     * @throws NullPointerException if the specified {@link FollowTracker} is {@code null}
      */
-    public FollowController(FollowService service) {
-        Objects.requireNonNull(service, "the specified service is null");
+    public FollowController(FollowTracker tracker, @Value("${cta4j.follow.batch.max-runs:20}") int maxBatchRuns,
+                            @Value("${cta4j.follow.batch.parallelism:4}") int batchParallelism,
+                            @Value("${cta4j.follow.batch.deadline-millis:5000}") long batchDeadlineMillis) {
+        Objects.requireNonNull(tracker, "the specified tracker is null");
+
+        this.tracker = tracker;
+
+        this.maxBatchRuns = maxBatchRuns;
+
+        this.batchParallelism = batchParallelism;
 
-        this.service = service;
+        this.batchDeadline = Duration.ofMillis(batchDeadlineMillis);
     } //FollowController
 
     /**
-     * Returns a {@link ResponseEntity} containing the outcome of reading the {@link com.cta4j.follow.model.Schedule}
-     * associated with the specified run.
+     * Returns a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with the
+     * specified run. The {@link Schedule} is served from the runs the {@link FollowTracker} keeps up to date, so only
+     * the first request of a run waits for an upstream call. An empty {@link Schedule} is returned if that call fails.
      *
      * @param run the run to be used in the operation
-     * @return a {@link ResponseEntity} containing the outcome of reading the {@link com.cta4j.follow.model.Schedule}
-     * associated with the specified run
+     * @return a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with the
+     * specified run
+     */
+    private CompletableFuture<ResponseEntity<Body<?>>> read(int run) {
+        return this.tracker.getScheduleAsync(run)
+                           .exceptionally(throwable -> {
+                               LOGGER.atError()
+                                     .withThrowable(throwable)
+                                     .log();
+
+                               Set<Train> trains = Set.of();
+
+                               return new Schedule(trains);
+                           })
+                           .thenApply(schedule -> {
+                               Body<?> body = Body.success(schedule);
+
+                               return ResponseEntity.ok(body);
+                           });
+    } //read
+
+    /**
+     * Returns a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with each of
+     * the specified runs. A single run is answered with its {@link Schedule}. A batch of runs, as in
+     * {@code ?run=415&run=416}, is answered with a body for each run, keyed by run, which is an error body for a run
+     * that could not be fetched or did not arrive before the batch's deadline. The runs of a batch are fetched
+     * concurrently, a few at a time. A blank run, as in {@code ?run=} or {@code ?run=415&run=}, or a batch that is too
+     * large is answered with a {@code 400}.
+     *
+     * @param runs the runs to be used in the operation
+     * @return a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with each of
+     * the specified runs
      */
     @GetMapping
-    public ResponseEntity<Body<?>> read(@RequestParam int run) {
-        return this.service.getSchedule(run);
+    public CompletableFuture<ResponseEntity<Body<?>>> read(@RequestParam("run") List<Integer> runs) {
+        String message = null;
+
+        if (runs.contains(null)) {
+            message = "every run must be a number";
+        } else if (runs.size() > this.maxBatchRuns) {
+            message = "at most %d runs can be followed at once".formatted(this.maxBatchRuns);
+        } //end if
+
+        if (message != null) {
+            Body<?> body = Body.error(message);
+
+            ResponseEntity<Body<?>> responseEntity = ResponseEntity.badRequest()
+                                                                   .body(body);
+
+            return CompletableFuture.completedFuture(responseEntity);
+        } else if (runs.size() == 1) {
+            int run = runs.get(0);
+
+            return this.read(run);
+        } //end if
+
+        return this.tracker.getSchedulesAsync(runs, this.batchParallelism, this.batchDeadline)
+                           .thenApply(bodies -> {
+                               Body<?> body = Body.success(bodies);
+
+                               return ResponseEntity.ok(body);
+                           });
     } //read
 }
\ No newline at end of file
@@ -26,23 +26,26 @@ package com.cta4j.follow.controller.service;
 
 import com.cta4j.follow.model.Schedule;
 import com.cta4j.follow.model.Train;
-import com.cta4j.utils.Body;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.springframework.http.ResponseEntity;
+import com.cta4j.history.HistoryRecorder;
+import com.cta4j.upstream.Priority;
+import com.cta4j.upstream.Quota;
+import com.cta4j.upstream.UpstreamGateway;
+import com.cta4j.utils.CodecRegistry;
+import com.cta4j.utils.ParseMetrics;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A service of the CTA4j application used to follow trains.
@@ -52,19 +55,12 @@ import java.util.Set;
  */
 @Service
 public final class FollowService {
-    /**
-     * The {@link Logger} of the {@link FollowService} class.
-     */
-    private static final Logger LOGGER;
-
     /**
      * The {@link Properties} of the {@link FollowService} class.
      */
     private static final Properties PROPERTIES;
 
     static {
-        LOGGER = LogManager.getLogger(FollowService.class);
-
         PROPERTIES = new Properties();
 
         FollowService.loadProperties();
@@ -86,74 +82,133 @@ public final class FollowService {
     } //loadProperties
 
     /**
-     * Returns a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with the
-     * specified run.
+     * The {@link UpstreamGateway} of this {@link FollowService}.
+     */
+    private final UpstreamGateway gateway;
+
+    /**
+     * The shared {@link ObjectReader} of {@link Schedule}s of this {@link FollowService}.
+     */
+    private final ObjectReader scheduleReader;
+
+    /**
+     * The {@link HistoryRecorder} of this {@link FollowService}.
+     */
+    private final HistoryRecorder recorder;
+
+    /**
+     * The base URL of the train API of this {@link FollowService}.
+     */
+    private final String baseUrl;
+
+    /**
+     * Constructs an instance of the {@link FollowService} class.
+     *
+     * @param gateway the {@link UpstreamGateway} to be used in the operation
+     * @param codecs the {@link CodecRegistry} to be used in the operation
+     * @param recorder the {@link HistoryRecorder} to be used in the operation
+     * @throws NullPointerException if the specified {@link UpstreamGateway}, {@link CodecRegistry}, or
+     * {@link HistoryRecorder} is {@code null}
+     */
+    public FollowService(UpstreamGateway gateway, CodecRegistry codecs, HistoryRecorder recorder) {
+        Objects.requireNonNull(gateway, "the specified gateway is null");
+
+        Objects.requireNonNull(codecs, "the specified codec registry is null");
+
+        Objects.requireNonNull(recorder, "the specified recorder is null");
+
+        this.gateway = gateway;
+
+        this.scheduleReader = codecs.getReader(Schedule.class);
+
+        this.recorder = recorder;
+
+        this.baseUrl = gateway.getSettings()
+                              .trainBaseUrl();
+    } //FollowService
+
+    /**
+     * Returns the follow {@link HttpRequest} for the specified run, or {@code null} if the train API key is missing.
      *
      * @param run the run to be used in the operation
-     * @return a {@link ResponseEntity} containing the outcome of reading the {@link Schedule} associated with the
-     * specified run
+     * @return the follow {@link HttpRequest} for the specified run, or {@code null} if the train API key is missing
      */
-    public ResponseEntity<Body<?>> getSchedule(int run) {
+    private HttpRequest getScheduleRequest(int run) {
         String key = FollowService.PROPERTIES.getProperty("train_key");
 
         if (key == null) {
-            return ResponseEntity.internalServerError()
-                                 .build();
+            return null;
         } //end if
 
         String uriString = """
-        https://lapi.transitchicago.com/api/1.0/ttfollow.aspx\
-        ?key=%s&runnumber=%s&outputType=JSON""".formatted(key, run);
+        %s/ttfollow.aspx\
+        ?key=%s&runnumber=%s&outputType=JSON""".formatted(this.baseUrl, key, run);
 
         URI uri = URI.create(uriString);
 
-        HttpRequest request = HttpRequest.newBuilder(uri)
-                                         .GET()
-                                         .build();
-
-        HttpResponse.BodyHandler<String> bodyHandler = HttpResponse.BodyHandlers.ofString();
-
-        HttpClient client = HttpClient.newHttpClient();
+        return HttpRequest.newBuilder(uri)
+                          .GET()
+                          .build();
+    } //getScheduleRequest
 
-        HttpResponse<String> response;
+    /**
+     * Parses the {@link Schedule} in the specified follow response, which is read as it streams in. The
+     * {@link Train}s of the {@link Schedule} are handed to the {@link HistoryRecorder}, and the parse is recorded in
+     * {@link ParseMetrics}.
+     *
+     * @param responseBody the follow response to be used in the operation
+     * @return the {@link Schedule} in the specified follow response
+     * @throws UncheckedIOException if an I/O error occurs or the response is malformed
+     */
+    private Schedule parseSchedule(InputStream responseBody) {
+        long startNanos = System.nanoTime();
 
-        try {
-            response = client.send(request, bodyHandler);
-        } catch (IOException | InterruptedException e) {
-            FollowService.LOGGER.atError()
-                                .withThrowable(e)
-                                .log();
+        try (responseBody) {
+            Schedule schedule = this.scheduleReader.readValue(responseBody);
 
-            Set<Train> trains = Set.of();
+            Set<Train> trains = schedule.trains();
 
-            Schedule schedule = new Schedule(trains);
+            int records = (trains == null) ? 0 : trains.size();
 
-            Body<?> body = Body.success(schedule);
+            ParseMetrics.recordSuccess("ttfollow", startNanos, records);
 
-            return ResponseEntity.ok()
-                                 .body(body);
-        } //end try catch
+            if (trains != null) {
+                this.recorder.recordFollowTrains(trains);
+            } //end if
 
-        String responseBody = response.body();
+            return schedule;
+        } catch (IOException e) {
+            ParseMetrics.recordFailure("ttfollow", startNanos);
 
-        ObjectMapper mapper = new ObjectMapper();
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | NumberFormatException e) {
+            ParseMetrics.recordFailure("ttfollow", startNanos);
 
-        Schedule schedule;
+            throw new UncheckedIOException(new IOException("the response from the API is malformed", e));
+        } //end try catch
+    } //parseSchedule
 
-        try {
-            schedule = mapper.readValue(responseBody, Schedule.class);
-        } catch (JsonProcessingException e) {
-            FollowService.LOGGER.atError()
-                                .withThrowable(e)
-                                .log();
+    /**
+     * Asynchronously fetches the {@link Schedule} associated with the specified run at the specified
+     * {@link Priority}.
+     *
+     * @param run the run to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Schedule} associated with the specified run, which completes
+     * exceptionally if the train API key is missing, the upstream request fails, or the response cannot be parsed
+     * @throws NullPointerException if the specified {@link Priority} is {@code null}
+     */
+    public CompletableFuture<Schedule> fetchScheduleAsync(int run, Priority priority) {
+        Objects.requireNonNull(priority, "the specified priority is null");
 
-            Set<Train> trains = Set.of();
+        HttpRequest request = this.getScheduleRequest(run);
 
-            schedule = new Schedule(trains);
-        } //end try catch
+        if (request == null) {
+            IllegalStateException exception = new IllegalStateException("the train API key is missing");
 
-        Body<?> body = Body.success(schedule);
+            return CompletableFuture.failedFuture(exception);
+        } //end if
 
-        return ResponseEntity.ok(body);
-    } //getSchedule
+        return this.gateway.fetchAsync(Quota.TRAIN, priority, request, this::parseSchedule);
+    } //fetchScheduleAsync
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.follow.controller.service;
+
+import com.cta4j.stream.SharedPoller;
+import com.cta4j.upstream.Priority;
+import com.cta4j.utils.Body;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A service of the CTA4j application that streams the schedules of followed runs to their subscribers. Each run with
+ * at least one subscriber is polled once per interval no matter how many subscribers it has, and every change is
+ * serialized once and sent to all of them.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class FollowStreamService implements AutoCloseable {
+    /**
+     * The {@link FollowService} of this {@link FollowStreamService}.
+     */
+    private final FollowService followService;
+
+    /**
+     * The {@link ObjectMapper} of this {@link FollowStreamService}.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The {@link SharedPoller} of this {@link FollowStreamService}, keyed by run.
+     */
+    private final SharedPoller<Integer, String> poller;
+
+    /**
+     * Constructs an instance of the {@link FollowStreamService} class.
+     *
+     * @param followService the {@link FollowService} to be used in the operation
+     * @param objectMapper the {@link ObjectMapper} to be used in the operation
+     * @param pollMillis the interval between the polls of a run, in milliseconds
+     * @param threads the number of threads that run the polls and send the events
+     * @throws NullPointerException if the specified {@link FollowService} or {@link ObjectMapper} is {@code null}
+     */
+    public FollowStreamService(FollowService followService, ObjectMapper objectMapper,
+                               @Value("${cta4j.stream.poll-millis:10000}") long pollMillis,
+                               @Value("${cta4j.stream.threads:4}") int threads) {
+        Objects.requireNonNull(followService, "the specified follow service is null");
+
+        Objects.requireNonNull(objectMapper, "the specified object mapper is null");
+
+        this.followService = followService;
+
+        this.objectMapper = objectMapper;
+
+        Duration interval = Duration.ofMillis(pollMillis);
+
+        this.poller = new SharedPoller<>("ttfollow", this::poll, Body::withoutAge, this::serialize, interval,
+                                        threads);
+    } //FollowStreamService
+
+    /**
+     * Fetches the body of the schedule of the specified run. A failure is sent to the subscribers as an error body.
+     *
+     * @param run the run to be used in the operation
+     * @return a {@link CompletableFuture} of the body of the schedule of the specified run
+     */
+    private CompletableFuture<Body<?>> poll(Integer run) {
+        return this.followService.fetchScheduleAsync(run, Priority.INTERACTIVE)
+                                 .<Body<?>>thenApply(Body::success)
+                                 .exceptionally(throwable -> Body.error("the schedule is temporarily unavailable"));
+    } //poll
+
+    /**
+     * Returns the specified {@link Body} serialized as JSON.
+     *
+     * @param body the {@link Body} to be used in the operation
+     * @return the specified {@link Body} serialized as JSON
+     * @throws UncheckedIOException if the specified {@link Body} cannot be serialized
+     */
+    private String serialize(Body<?> body) {
+        try {
+            return this.objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //serialize
+
+    /**
+     * Subscribes the specified listener to the serialized schedule of the specified run.
+     *
+     * @param run the run to be used in the operation
+     * @param listener the listener to be used in the operation
+     * @return a {@link Runnable} that cancels the subscription
+     * @throws NullPointerException if the specified listener is {@code null}
+     */
+    public Runnable subscribe(int run, Consumer<String> listener) {
+        return this.poller.subscribe(run, listener);
+    } //subscribe
+
+    /**
+     * Stops every poll of this {@link FollowStreamService}.
+     */
+    @Override
+    public void close() {
+        this.poller.close();
+    } //close
+}
\ No newline at end of file
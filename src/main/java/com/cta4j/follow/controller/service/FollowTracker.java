@@ -0,0 +1,467 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.follow.controller.service;
+
+import com.cta4j.follow.model.Schedule;
+import com.cta4j.upstream.CircuitOpenException;
+import com.cta4j.upstream.Priority;
+import com.cta4j.upstream.QuotaExceededException;
+import com.cta4j.utils.Body;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A service of the CTA4j application that keeps a registry of the runs being followed. A run is registered the first
+ * time it is asked for, and every request renews its lease. Each registered run is polled once per interval in the
+ * background no matter how many clients follow it, and its requests are served the latest {@link Schedule} from
+ * memory. A run whose lease expires, because no client has asked for it within the lease window, is evicted. Refreshes
+ * run with the same parallelism as batch requests, a run is never refreshed twice at once, and a {@link Schedule} is
+ * only ever replaced by one that was requested after it.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class FollowTracker {
+    /**
+     * The {@link Logger} of the {@link FollowTracker} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(FollowTracker.class);
+    } //static
+
+    /**
+     * A run of a {@link FollowTracker}.
+     */
+    private static final class Tracked {
+        /**
+         * The first fetch of the {@link Schedule} of this run, which completes with the {@link Schedule} that is
+         * served until it is refreshed.
+         */
+        private final CompletableFuture<Schedule> first;
+
+        /**
+         * Whether a refresh of this run is in flight.
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * The latest {@link Schedule} of this run, or {@code null} if it has not been fetched.
+         */
+        private volatile Schedule schedule;
+
+        /**
+         * The sequence number of the fetch that returned the latest {@link Schedule} of this run.
+         */
+        private long scheduleSequence;
+
+        /**
+         * The time at which this run was last asked for, from {@link System#nanoTime()}.
+         */
+        private volatile long requestedAt;
+
+        /**
+         * Constructs an instance of the {@link Tracked} class.
+         *
+         * @param first the first fetch of the {@link Schedule} to be used in the operation
+         */
+        private Tracked(CompletableFuture<Schedule> first) {
+            this.first = first;
+
+            this.refreshing = new AtomicBoolean();
+
+            this.requestedAt = System.nanoTime();
+        } //Tracked
+
+        /**
+         * Replaces the latest {@link Schedule} of this run with the specified {@link Schedule}, unless the latest was
+         * returned by a fetch that was sent after the one with the specified sequence number.
+         *
+         * @param schedule the {@link Schedule} to be used in the operation
+         * @param sequence the sequence number of the fetch that returned the specified {@link Schedule}
+         */
+        private synchronized void update(Schedule schedule, long sequence) {
+            if (sequence <= this.scheduleSequence) {
+                return;
+            } //end if
+
+            this.schedule = schedule;
+
+            this.scheduleSequence = sequence;
+        } //update
+    } //Tracked
+
+    /**
+     * The {@link FollowService} of this {@link FollowTracker}.
+     */
+    private final FollowService followService;
+
+    /**
+     * The lease of a run of this {@link FollowTracker}, in nanoseconds.
+     */
+    private final long leaseNanos;
+
+    /**
+     * The maximum number of runs of this {@link FollowTracker}.
+     */
+    private final int maxRuns;
+
+    /**
+     * The maximum number of refreshes of this {@link FollowTracker} in flight at once.
+     */
+    private final int parallelism;
+
+    /**
+     * The sequence number of the last fetch of this {@link FollowTracker}.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * The runs of this {@link FollowTracker}.
+     */
+    private final Map<Integer, Tracked> runs;
+
+    /**
+     * Constructs an instance of the {@link FollowTracker} class.
+     *
+     * @param followService the {@link FollowService} to be used in the operation
+     * @param leaseMillis how long a run stays registered after it was last asked for, in milliseconds
+     * @param maxRuns the maximum number of runs to be registered, past which runs are fetched on each request
+     * @param parallelism the maximum number of refreshes in flight at once, shared with batch requests
+     * @throws NullPointerException if the specified {@link FollowService} is {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is less than one
+     */
+    public FollowTracker(FollowService followService, @Value("${cta4j.follow.lease-millis:120000}") long leaseMillis,
+                         @Value("${cta4j.follow.max-runs:1024}") int maxRuns,
+                         @Value("${cta4j.follow.batch.parallelism:4}") int parallelism) {
+        Objects.requireNonNull(followService, "the specified follow service is null");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the specified parallelism is less than one");
+        } //end if
+
+        this.followService = followService;
+
+        this.leaseNanos = Duration.ofMillis(leaseMillis)
+                                  .toNanos();
+
+        this.maxRuns = maxRuns;
+
+        this.parallelism = parallelism;
+
+        this.sequence = new AtomicLong();
+
+        this.runs = new ConcurrentHashMap<>();
+
+        Gauge.builder("cta4j.follow.runs", this.runs, Map::size)
+             .register(Metrics.globalRegistry);
+    } //FollowTracker
+
+    /**
+     * Asynchronously returns the latest {@link Schedule} of the specified run, and renews its lease. The first
+     * request of a run registers it and waits for its first fetch; a first fetch that fails is not registered, so the
+     * next request tries again.
+     *
+     * @param run the run to be used in the operation
+     * @return a {@link CompletableFuture} of the latest {@link Schedule} of the specified run
+     */
+    public CompletableFuture<Schedule> getScheduleAsync(int run) {
+        Tracked tracked = this.runs.get(run);
+
+        if ((tracked == null) && (this.runs.size() >= this.maxRuns)) {
+            return this.followService.fetchScheduleAsync(run, Priority.INTERACTIVE);
+        } else if (tracked == null) {
+            AtomicLong firstSequence = new AtomicLong();
+
+            tracked = this.runs.computeIfAbsent(run, key -> {
+                firstSequence.set(this.sequence.incrementAndGet());
+
+                CompletableFuture<Schedule> first = this.followService.fetchScheduleAsync(key,
+                                                                                          Priority.INTERACTIVE);
+
+                return new Tracked(first);
+            });
+
+            Tracked registered = tracked;
+
+            tracked.first.whenComplete((schedule, throwable) -> {
+                if (throwable != null) {
+                    this.runs.remove(run, registered);
+                } else if (firstSequence.get() > 0L) {
+                    registered.update(schedule, firstSequence.get());
+                } //end if
+            });
+        } //end if
+
+        tracked.requestedAt = System.nanoTime();
+
+        Schedule schedule = tracked.schedule;
+
+        if (schedule != null) {
+            return CompletableFuture.completedFuture(schedule);
+        } //end if
+
+        return tracked.first;
+    } //getScheduleAsync
+
+    /**
+     * Evicts the runs whose leases have expired, and refreshes the {@link Schedule} of every other registered run that
+     * is not already being refreshed, with at most the configured number of refreshes in flight at once. A run whose
+     * refresh fails keeps its previous {@link Schedule}.
+     */
+    @Scheduled(fixedDelayString = "${cta4j.follow.poll-millis:15000}")
+    public void refresh() {
+        long now = System.nanoTime();
+
+        this.runs.entrySet()
+                 .removeIf(entry -> (now - entry.getValue().requestedAt) > this.leaseNanos);
+
+        Queue<Map.Entry<Integer, Tracked>> pending = new ConcurrentLinkedQueue<>();
+
+        this.runs.forEach((run, tracked) -> {
+            if (tracked.first.isDone() && tracked.refreshing.compareAndSet(false, true)) {
+                pending.add(Map.entry(run, tracked));
+            } //end if
+        });
+
+        int workers = Math.min(this.parallelism, pending.size());
+
+        for (int i = 0; i < workers; i++) {
+            this.refreshNext(pending);
+        } //end for
+    } //refresh
+
+    /**
+     * Refreshes the next of the specified pending runs, and refreshes the one after it once it completes.
+     *
+     * @param pending the pending runs to be used in the operation
+     */
+    private void refreshNext(Queue<Map.Entry<Integer, Tracked>> pending) {
+        Map.Entry<Integer, Tracked> entry = pending.poll();
+
+        if (entry == null) {
+            return;
+        } //end if
+
+        int run = entry.getKey();
+
+        Tracked tracked = entry.getValue();
+
+        long refreshSequence = this.sequence.incrementAndGet();
+
+        CompletableFuture<Schedule> future;
+
+        try {
+            future = this.followService.fetchScheduleAsync(run, Priority.BACKGROUND);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        future.whenComplete((schedule, throwable) -> {
+            if (throwable == null) {
+                tracked.update(schedule, refreshSequence);
+            } else {
+                FollowTracker.logRefreshFailure(run, throwable);
+            } //end if
+
+            tracked.refreshing.set(false);
+
+            this.refreshNext(pending);
+        });
+    } //refreshNext
+
+    /**
+     * Logs the specified failure to refresh the specified run. A refresh that was turned away by the quota or an open
+     * circuit is only logged at the debug level, as the rejection itself is already reported by the upstream gateway.
+     *
+     * @param run the run to be used in the operation
+     * @param throwable the failure to be used in the operation
+     */
+    private static void logRefreshFailure(int run, Throwable throwable) {
+        Throwable cause = throwable;
+
+        if ((cause instanceof CompletionException) && (cause.getCause() != null)) {
+            cause = cause.getCause();
+        } //end if
+
+        String message = "Error in refreshing the schedule of run %d".formatted(run);
+
+        if ((cause instanceof QuotaExceededException) || (cause instanceof CircuitOpenException)) {
+            LOGGER.atDebug()
+                  .log("%s: %s".formatted(message, cause.getMessage()));
+        } else {
+            LOGGER.atError()
+                  .withThrowable(cause)
+                  .log(message);
+        } //end if
+    } //logRefreshFailure
+
+    /**
+     * Asynchronously returns the latest {@link Schedule} of each of the specified runs, as by
+     * {@link #getScheduleAsync(int)}, with at most the specified number of runs in flight at once. Each run is
+     * answered with a body of its own, which is an error body if its {@link Schedule} could not be fetched or did not
+     * arrive before the specified deadline; the result is completed by the deadline no matter how many runs are
+     * outstanding, and runs that have not been started by then are not.
+     *
+     * @param runs the runs to be used in the operation
+     * @param parallelism the maximum number of runs in flight at once
+     * @param deadline the deadline to be used in the operation
+     * @return a {@link CompletableFuture} of the body of each of the specified runs, in the order they were specified
+     * @throws NullPointerException if the specified {@link List} of runs, a run in it, or the specified deadline is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified parallelism is less than one
+     */
+    public CompletableFuture<Map<Integer, Body<?>>> getSchedulesAsync(List<Integer> runs, int parallelism,
+                                                                      Duration deadline) {
+        Objects.requireNonNull(runs, "the specified list of runs is null");
+
+        runs.forEach(run -> Objects.requireNonNull(run, "a run in the specified list is null"));
+
+        Objects.requireNonNull(deadline, "the specified deadline is null");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the specified parallelism is less than one");
+        } //end if
+
+        Set<Integer> distinctRuns = new LinkedHashSet<>(runs);
+
+        Queue<Integer> pending = new ConcurrentLinkedQueue<>(distinctRuns);
+
+        Map<Integer, Body<?>> results = new ConcurrentHashMap<>();
+
+        AtomicInteger remaining = new AtomicInteger(distinctRuns.size());
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        if (distinctRuns.isEmpty()) {
+            done.complete(null);
+        } //end if
+
+        int workers = Math.min(parallelism, distinctRuns.size());
+
+        for (int i = 0; i < workers; i++) {
+            this.startNext(pending, results, remaining, done);
+        } //end for
+
+        long deadlineMillis = deadline.toMillis();
+
+        return done.completeOnTimeout(null, deadlineMillis, TimeUnit.MILLISECONDS)
+                   .thenApply(ignored -> {
+                       Map<Integer, Body<?>> bodies = new LinkedHashMap<>();
+
+                       for (Integer run : distinctRuns) {
+                           Body<?> body = results.get(run);
+
+                           if (body == null) {
+                               body = Body.error("the schedule did not arrive before the deadline");
+                           } //end if
+
+                           bodies.put(run, body);
+                       } //end for
+
+                       return bodies;
+                   });
+    } //getSchedulesAsync
+
+    /**
+     * Starts the next of the specified pending runs of a batch, and starts the one after it once it completes. Nothing
+     * is started once the batch is done.
+     *
+     * @param pending the pending runs to be used in the operation
+     * @param results the results to be used in the operation
+     * @param remaining the number of runs that have not completed to be used in the operation
+     * @param done the {@link CompletableFuture} that completes when the batch is done
+     */
+    private void startNext(Queue<Integer> pending, Map<Integer, Body<?>> results, AtomicInteger remaining,
+                           CompletableFuture<Void> done) {
+        if (done.isDone()) {
+            return;
+        } //end if
+
+        Integer run = pending.poll();
+
+        if (run == null) {
+            return;
+        } //end if
+
+        this.getScheduleAsync(run)
+            .whenComplete((schedule, throwable) -> {
+                Body<?> body;
+
+                if (throwable == null) {
+                    body = Body.success(schedule);
+                } else {
+                    String message = "Error in fetching the schedule of run %d".formatted(run);
+
+                    LOGGER.atError()
+                          .withThrowable(throwable)
+                          .log(message);
+
+                    body = Body.error("the schedule is temporarily unavailable");
+                } //end if
+
+                results.put(run, body);
+
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                } else {
+                    this.startNext(pending, results, remaining, done);
+                } //end if
+            });
+    } //startNext
+
+    /**
+     * Returns the number of runs of this {@link FollowTracker}.
+     *
+     * @return the number of runs of this {@link FollowTracker}
+     */
+    public int size() {
+        return this.runs.size();
+    } //size
+}
\ No newline at end of file
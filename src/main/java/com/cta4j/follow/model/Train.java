@@ -24,6 +24,9 @@
 
 package com.cta4j.follow.model;
 
+import com.cta4j.follow.model.deserializer.TrainDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import java.time.LocalDateTime;
 
 /**
@@ -42,6 +45,7 @@ import java.time.LocalDateTime;
  * @param fault the fault flag of this {@link Train}
  * @param delayed the delayed flag of this {@link Train}
  */
+@JsonDeserialize(using = TrainDeserializer.class)
 public record Train(String route, int run, String station, String destination, LocalDateTime predictionTime,
     LocalDateTime arrivalTime, Boolean due, Boolean scheduled, Boolean fault, Boolean delayed) {
 }
\ No newline at end of file
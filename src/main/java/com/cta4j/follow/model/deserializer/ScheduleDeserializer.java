@@ -27,21 +27,20 @@ package com.cta4j.follow.model.deserializer;
 import com.cta4j.follow.model.Schedule;
 import com.cta4j.follow.model.Train;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 
 /**
- * A deserializer for the {@link Schedule} class.
+ * A deserializer for the {@link Schedule} class. The content is read token by token, so no tree of the response is
+ * built, and each train is read by {@link TrainDeserializer#readTrain(JsonParser)}.
  *
  * @author Logan Kulinski, rashes_lineage02@icloud.com
- * @version November 26, 2022
+ * @version October 17, 2026
  */
 public final class ScheduleDeserializer extends StdDeserializer<Schedule> {
     /**
@@ -61,323 +60,97 @@ public final class ScheduleDeserializer extends StdDeserializer<Schedule> {
     } //ScheduleDeserializer
 
     /**
-     * Returns a {@link Train}'s route using the specified {@link JsonParser} and {@link JsonNode}.
+     * Advances the specified {@link JsonParser}, which must be positioned at the start of an object, to the value of
+     * the field with the specified name. The values of the fields before it are skipped.
      *
      * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s route using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a route
-     */
-    private String getRoute(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode routeNode = jsonNode.get("rt");
-
-        if ((routeNode == null) || !routeNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"rt\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String[] routeParts = routeNode.asText()
-                                       .split("\s+");
-
-        if (routeParts.length == 0) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"rt\" is not valid in the specified content");
-        } //end if
-
-        return routeParts[0].toUpperCase();
-    } //getRoute
-
-    /**
-     * Returns a {@link Train}'s run using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s run using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a run
-     */
-    private int getRun(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode runNode = jsonNode.get("rn");
-
-        if ((runNode == null) || !runNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"rt\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String runString = runNode.asText();
-
-        int run;
-
-        try {
-            run = Integer.parseInt(runString);
-        } catch (NumberFormatException e) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"rt\" in the specified content is not a valid int", e);
-        } //end try catch
-
-        return run;
-    } //getRun
-
-    /**
-     * Returns a {@link Train}'s station using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s station using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a station
-     */
-    private String getStation(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode stationNode = jsonNode.get("staNm");
-
-        if ((stationNode == null) || !stationNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"staNm\" does not exist or is not a string in the specified content");
-        } //end if
-
-        return stationNode.asText();
-    } //getStation
-
-    /**
-     * Returns a {@link Train}'s destination using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s destination using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a destination
-     */
-    private String getDestination(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode destinationNode = jsonNode.get("destNm");
-
-        if ((destinationNode == null) || !destinationNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"destNm\" does not exist or is not a string in the specified content");
-        } //end if
-
-        return destinationNode.asText();
-    } //getDestination
-
-    /**
-     * Returns a {@link Train}'s prediction time using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s prediction time using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a prediction time
-     */
-    private LocalDateTime getPredictionTime(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode predictionTimeNode = jsonNode.get("prdt");
-
-        if ((predictionTimeNode == null) || !predictionTimeNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"prdt\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String predictionTimeString = predictionTimeNode.asText();
-
-        LocalDateTime predictionTime;
-
-        try {
-            predictionTime = LocalDateTime.parse(predictionTimeString);
-        } catch (DateTimeParseException e) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"prdt\" in the specified content is not a valid date", e);
-        } //end try catch
-
-        return predictionTime;
-    } //getPredictionTime
-
-    /**
-     * Returns a {@link Train}'s arrival time using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s arrival time using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to an arrival time
-     */
-    private LocalDateTime getArrivalTime(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode arrivalTimeNode = jsonNode.get("arrT");
-
-        if ((arrivalTimeNode == null) || !arrivalTimeNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"arrT\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String arrivalTimeString = arrivalTimeNode.asText();
-
-        LocalDateTime arrivalTime;
-
-        try {
-            arrivalTime = LocalDateTime.parse(arrivalTimeString);
-        } catch (DateTimeParseException e) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"arrT\" in the specified content is not a valid date", e);
-        } //end try catch
-
-        return arrivalTime;
-    } //getArrivalTime
-
-    /**
-     * Returns a {@link Train}'s due flag using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s due flag using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a due flag
-     */
-    private Boolean getDue(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode dueNode = jsonNode.get("isApp");
-
-        if ((dueNode == null) || !dueNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"isApp\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String dueString = dueNode.asText();
-
-        String trueString = "1";
-
-        return Objects.equals(dueString, trueString);
-    } //getDue
-
-    /**
-     * Returns a {@link Train}'s scheduled flag using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s scheduled flag using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a scheduled flag
-     */
-    private Boolean getScheduled(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode scheduledNode = jsonNode.get("isSch");
-
-        if ((scheduledNode == null) || !scheduledNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"isSch\" does not exist or is not a string in the specified content");
-        } //end if
-
-        String scheduledString = scheduledNode.asText();
-
-        String trueString = "1";
-
-        return Objects.equals(scheduledString, trueString);
-    } //getScheduled
-
-    /**
-     * Returns a {@link Train}'s fault flag using the specified {@link JsonParser} and {@link JsonNode}.
-     *
-     * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s fault flag using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a fault flag
+     * @param name the name of the field to be used in the operation
+     * @return the token of the field's value, or {@code null} if the object does not contain the field
+     * @throws IOException if an I/O error occurs
      */
-    private Boolean getFault(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode faultNode = jsonNode.get("isFlt");
+    private static JsonToken seek(JsonParser jsonParser, String name) throws IOException {
+        String fieldName;
 
-        if ((faultNode == null) || !faultNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"isFlt\" does not exist or is not a string in the specified content");
-        } //end if
+        while ((fieldName = jsonParser.nextFieldName()) != null) {
+            JsonToken token = jsonParser.nextToken();
 
-        String faultString = faultNode.asText();
+            if (Objects.equals(fieldName, name)) {
+                return token;
+            } //end if
 
-        String trueString = "1";
+            jsonParser.skipChildren();
+        } //end while
 
-        return Objects.equals(faultString, trueString);
-    } //getFault
+        return null;
+    } //seek
 
     /**
-     * Returns a {@link Train}'s delayed flag using the specified {@link JsonParser} and {@link JsonNode}.
+     * Skips the remaining fields of the object the specified {@link JsonParser} is in, leaving the parser at the end
+     * of that object.
      *
      * @param jsonParser the {@link JsonParser} to be used in the operation
-     * @param jsonNode the {@link JsonNode} to be used in the operation
-     * @return a {@link Train}'s delayed flag using the specified {@link JsonParser} and {@link JsonNode}
-     * @throws JsonMappingException if the specified {@link JsonNode} cannot be mapped to a delayed flag
+     * @throws IOException if an I/O error occurs
      */
-    private Boolean getDelayed(JsonParser jsonParser, JsonNode jsonNode) throws JsonMappingException {
-        JsonNode delayedNode = jsonNode.get("isDly");
-
-        if ((delayedNode == null) || !delayedNode.isTextual()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"isDly\" does not exist or is not a string in the specified content");
-        } //end if
+    private static void skipRemaining(JsonParser jsonParser) throws IOException {
+        while (jsonParser.nextFieldName() != null) {
+            jsonParser.nextToken();
 
-        String delayedString = delayedNode.asText();
-
-        String trueString = "1";
-
-        return Objects.equals(delayedString, trueString);
-    } //getDelayed
+            jsonParser.skipChildren();
+        } //end while
+    } //skipRemaining
 
     /**
-     * Returns a {@link Train} that is deserialized using the specified {@link JsonParser} and
+     * Returns a {@link Schedule} that is deserialized using the specified {@link JsonParser} and
      * {@link DeserializationContext}.
      *
      * @param jsonParser the {@link JsonParser} to be used in the operation
      * @param deserializationContext the {@link DeserializationContext} to be used in the operation
-     * @return a {@link Train} that is deserialized using the specified {@link JsonParser} and
+     * @return a {@link Schedule} that is deserialized using the specified {@link JsonParser} and
      * {@link DeserializationContext}
      * @throws IOException if an I/O error occurs
      */
     @Override
     public Schedule deserialize(JsonParser jsonParser,
         DeserializationContext deserializationContext) throws IOException {
-        JsonNode rootNode = jsonParser.getCodec()
-                                      .readTree(jsonParser);
-
-        JsonNode ctattNode = rootNode.get("ctatt");
+        if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(jsonParser, "the specified content is not an object");
+        } //end if
 
-        if ((ctattNode == null) || !ctattNode.isObject()) {
-            throw new JsonMappingException(jsonParser,
+        if (ScheduleDeserializer.seek(jsonParser, "ctatt") != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(jsonParser,
                 "the field \"ctatt\" does not exist or is not an object in the specified content");
         } //end if
 
-        JsonNode etasNode = ctattNode.get("eta");
-
-        if ((etasNode == null) || !etasNode.isArray()) {
-            throw new JsonMappingException(jsonParser,
+        if (ScheduleDeserializer.seek(jsonParser, "eta") != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(jsonParser,
                 "the field \"eta\" does not exist or is not an array in the specified content");
         } //end if
 
-        if (etasNode.isEmpty()) {
-            throw new JsonMappingException(jsonParser,
-                "the field \"eta\" does not contain any elements in the specified content");
-        } //end if
-
-        Comparator<Train> comparator = (train0, train1) -> {
-            LocalDateTime arrivalTime0 = train0.arrivalTime();
-
-            LocalDateTime arrivalTime1 = train1.arrivalTime();
-
-            return arrivalTime0.compareTo(arrivalTime1);
-        };
+        Comparator<Train> comparator = Comparator.comparing(Train::arrivalTime);
 
         Set<Train> trains = new TreeSet<>(comparator);
 
-        for (JsonNode etaNode : etasNode) {
-            String route = this.getRoute(jsonParser, etaNode);
-
-            int run = this.getRun(jsonParser, etaNode);
-
-            String station = this.getStation(jsonParser, etaNode);
-
-            String destination = this.getDestination(jsonParser, etaNode);
+        JsonToken token;
 
-            LocalDateTime predictionTime = this.getPredictionTime(jsonParser, etaNode);
+        while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(jsonParser,
+                    "an element of the field \"eta\" is not an object in the specified content");
+            } //end if
 
-            LocalDateTime arrivalTime = this.getArrivalTime(jsonParser, etaNode);
+            Train train = TrainDeserializer.readTrain(jsonParser);
 
-            Boolean due = this.getDue(jsonParser, etaNode);
-
-            Boolean scheduled = this.getScheduled(jsonParser, etaNode);
-
-            Boolean fault = this.getFault(jsonParser, etaNode);
+            trains.add(train);
+        } //end while
 
-            Boolean delayed = this.getDelayed(jsonParser, etaNode);
+        if (trains.isEmpty()) {
+            throw JsonMappingException.from(jsonParser,
+                "the field \"eta\" does not contain any elements in the specified content");
+        } //end if
 
-            Train train = new Train(route, run, station, destination, predictionTime, arrivalTime, due, scheduled,
-                fault, delayed);
+        ScheduleDeserializer.skipRemaining(jsonParser);
 
-            trains.add(train);
-        } //end for
+        ScheduleDeserializer.skipRemaining(jsonParser);
 
         return new Schedule(trains);
     } //deserialize
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.follow.model.deserializer;
+
+import com.cta4j.follow.model.Train;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * A deserializer for the {@link Train} class that reads a train's fields token by token, without building a tree.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class TrainDeserializer extends StdDeserializer<Train> {
+    /**
+     * Constructs an instance of the {@link TrainDeserializer} class.
+     *
+     * @param clazz the {@link Class} to be used in the operation
+     */
+    public TrainDeserializer(Class<?> clazz) {
+        super(clazz);
+    } //TrainDeserializer
+
+    /**
+     * Constructs an instance of the {@link TrainDeserializer} class.
+     */
+    public TrainDeserializer() {
+        this(null);
+    } //TrainDeserializer
+
+    /**
+     * Returns the specified value of a required field, throwing if it is missing.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @param value the value of the field to be used in the operation
+     * @param name the name of the field to be used in the operation
+     * @param <T> the type of the value
+     * @return the specified value
+     * @throws JsonMappingException if the specified value is {@code null}
+     */
+    private static <T> T require(JsonParser jsonParser, T value, String name) throws JsonMappingException {
+        if (value == null) {
+            String message = "the field \"%s\" does not exist or is not a string in the specified content".formatted(
+                name);
+
+            throw JsonMappingException.from(jsonParser, message);
+        } //end if
+
+        return value;
+    } //require
+
+    /**
+     * Returns the route in the specified text, which is its first word in upper case. The word is found with a
+     * character scan rather than a regular expression, as this runs once for every train.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @param text the text of the field "rt" to be used in the operation
+     * @return the route in the specified text
+     * @throws JsonMappingException if the specified text does not contain a word
+     */
+    private static String getRoute(JsonParser jsonParser, String text) throws JsonMappingException {
+        int length = text.length();
+
+        int start = 0;
+
+        while ((start < length) && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        } //end while
+
+        int end = start;
+
+        while ((end < length) && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        } //end while
+
+        if (start == end) {
+            throw JsonMappingException.from(jsonParser, "the field \"rt\" is not valid in the specified content");
+        } //end if
+
+        return text.substring(start, end)
+                   .toUpperCase();
+    } //getRoute
+
+    /**
+     * Returns the run in the specified text.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @param text the text of the field "rn" to be used in the operation
+     * @return the run in the specified text
+     * @throws JsonMappingException if the specified text is not a valid int
+     */
+    private static int getRun(JsonParser jsonParser, String text) throws JsonMappingException {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new JsonMappingException(jsonParser, "the field \"rn\" in the specified content is not a valid int",
+                                           e);
+        } //end try catch
+    } //getRun
+
+    /**
+     * Returns the time in the specified text.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @param text the text of the field to be used in the operation
+     * @param name the name of the field to be used in the operation
+     * @return the time in the specified text
+     * @throws JsonMappingException if the specified text is not a valid date
+     */
+    private static LocalDateTime getTime(JsonParser jsonParser, String text, String name)
+        throws JsonMappingException {
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            String message = "the field \"%s\" in the specified content is not a valid date".formatted(name);
+
+            throw new JsonMappingException(jsonParser, message, e);
+        } //end try catch
+    } //getTime
+
+    /**
+     * Reads a {@link Train} using the specified {@link JsonParser}, which must be positioned at the start of the
+     * train's object. When this method returns, the parser is positioned at the end of that object.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @return the {@link Train} that was read
+     * @throws IOException if an I/O error occurs or the train cannot be mapped
+     * @throws NullPointerException if the specified {@link JsonParser} is {@code null}
+     */
+    public static Train readTrain(JsonParser jsonParser) throws IOException {
+        Objects.requireNonNull(jsonParser, "the specified JsonParser is null");
+
+        if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(jsonParser, "a train is not an object in the specified content");
+        } //end if
+
+        String route = null;
+
+        Integer run = null;
+
+        String station = null;
+
+        String destination = null;
+
+        LocalDateTime predictionTime = null;
+
+        LocalDateTime arrivalTime = null;
+
+        Boolean due = null;
+
+        Boolean scheduled = null;
+
+        Boolean fault = null;
+
+        Boolean delayed = null;
+
+        String name;
+
+        while ((name = jsonParser.nextFieldName()) != null) {
+            JsonToken token = jsonParser.nextToken();
+
+            if (token != JsonToken.VALUE_STRING) {
+                jsonParser.skipChildren();
+
+                continue;
+            } //end if
+
+            String text = jsonParser.getText();
+
+            switch (name) {
+                case "rt" -> route = TrainDeserializer.getRoute(jsonParser, text);
+                case "rn" -> run = TrainDeserializer.getRun(jsonParser, text);
+                case "staNm" -> station = text;
+                case "destNm" -> destination = text;
+                case "prdt" -> predictionTime = TrainDeserializer.getTime(jsonParser, text, name);
+                case "arrT" -> arrivalTime = TrainDeserializer.getTime(jsonParser, text, name);
+                case "isApp" -> due = "1".equals(text);
+                case "isSch" -> scheduled = "1".equals(text);
+                case "isFlt" -> fault = "1".equals(text);
+                case "isDly" -> delayed = "1".equals(text);
+                default -> {
+                } //default
+            } //end switch
+        } //end while
+
+        route = TrainDeserializer.require(jsonParser, route, "rt");
+
+        run = TrainDeserializer.require(jsonParser, run, "rn");
+
+        station = TrainDeserializer.require(jsonParser, station, "staNm");
+
+        destination = TrainDeserializer.require(jsonParser, destination, "destNm");
+
+        predictionTime = TrainDeserializer.require(jsonParser, predictionTime, "prdt");
+
+        arrivalTime = TrainDeserializer.require(jsonParser, arrivalTime, "arrT");
+
+        due = TrainDeserializer.require(jsonParser, due, "isApp");
+
+        scheduled = TrainDeserializer.require(jsonParser, scheduled, "isSch");
+
+        fault = TrainDeserializer.require(jsonParser, fault, "isFlt");
+
+        delayed = TrainDeserializer.require(jsonParser, delayed, "isDly");
+
+        return new Train(route, run, station, destination, predictionTime, arrivalTime, due, scheduled, fault,
+                         delayed);
+    } //readTrain
+
+    /**
+     * Returns a {@link Train} that is deserialized using the specified {@link JsonParser} and
+     * {@link DeserializationContext}.
+     *
+     * @param jsonParser the {@link JsonParser} to be used in the operation
+     * @param deserializationContext the {@link DeserializationContext} to be used in the operation
+     * @return a {@link Train} that is deserialized using the specified {@link JsonParser} and
+     * {@link DeserializationContext}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public Train deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+        throws IOException {
+        return TrainDeserializer.readTrain(jsonParser);
+    } //deserialize
+}
\ No newline at end of file
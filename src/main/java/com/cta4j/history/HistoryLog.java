@@ -0,0 +1,418 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A segmented log of the history of the CTA4j application. Records are appended to the current segment, a file of a
+ * fixed size that is memory-mapped when it is started, so that an append is a copy into the page cache. A new segment
+ * is started once the current one is full or has been written to for longer than the roll-over interval, and segments
+ * are deleted once they are older than the retention. Instances of this class are not thread-safe, and are meant to be
+ * used by a single writer thread.
+ *
+ * <p>A segment, all big-endian, is the magic number {@code CTAH}, the format version, and the time the segment was
+ * started in epoch milliseconds, followed by records in the format of {@link HistoryRecords}. The rest of a new
+ * segment is zero-filled, so its records end at the first length of {@code 0}. The length of a record is written
+ * after the rest of it, so a reader of a segment that is being written never sees a partial record.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class HistoryLog implements AutoCloseable {
+    /**
+     * The magic number of a segment file.
+     */
+    private static final int MAGIC;
+
+    /**
+     * The format version written by the {@link HistoryLog} class.
+     */
+    private static final int VERSION;
+
+    /**
+     * The size of the header of a segment file, in bytes.
+     */
+    private static final int HEADER_BYTES;
+
+    /**
+     * The glob matching the names of segment files.
+     */
+    private static final String SEGMENT_GLOB;
+
+    static {
+        MAGIC = 0x43544148;
+
+        VERSION = 1;
+
+        HEADER_BYTES = (2 * Integer.BYTES) + Long.BYTES;
+
+        SEGMENT_GLOB = "history-*.seg";
+    } //static
+
+    /**
+     * The directory of the segment files of this {@link HistoryLog}.
+     */
+    private final Path directory;
+
+    /**
+     * The size of each segment file of this {@link HistoryLog}, in bytes.
+     */
+    private final int segmentBytes;
+
+    /**
+     * The longest a segment of this {@link HistoryLog} is written to before a new one is started.
+     */
+    private final Duration rollOver;
+
+    /**
+     * How long a segment of this {@link HistoryLog} is kept after it was started.
+     */
+    private final Duration retention;
+
+    /**
+     * The {@link MappedByteBuffer} of the current segment of this {@link HistoryLog}, or {@code null} if there is no
+     * current segment.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The time at which the current segment of this {@link HistoryLog} was started.
+     */
+    private Instant segmentStartedAt;
+
+    /**
+     * Constructs an instance of the {@link HistoryLog} class.
+     *
+     * @param directory the directory of the segment files to be used in the operation
+     * @param segmentBytes the size of each segment file, in bytes, to be used in the operation
+     * @param rollOver the longest a segment is written to before a new one is started to be used in the operation
+     * @param retention how long a segment is kept after it was started to be used in the operation
+     * @throws NullPointerException if the specified directory, roll-over interval, or retention is {@code null}
+     * @throws IllegalArgumentException if the specified segment size cannot hold a record of the largest size
+     */
+    public HistoryLog(Path directory, int segmentBytes, Duration rollOver, Duration retention) {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(rollOver, "the specified roll-over interval is null");
+
+        Objects.requireNonNull(retention, "the specified retention is null");
+
+        if (segmentBytes < (HEADER_BYTES + HistoryRecords.MAX_RECORD_BYTES + Integer.BYTES)) {
+            throw new IllegalArgumentException("the specified segment size cannot hold a record of the largest size");
+        } //end if
+
+        this.directory = directory;
+
+        this.segmentBytes = segmentBytes;
+
+        this.rollOver = rollOver;
+
+        this.retention = retention;
+    } //HistoryLog
+
+    /**
+     * Returns the {@link Path} of the segment started at the specified time in epoch milliseconds.
+     *
+     * @param directory the directory of the segment files to be used in the operation
+     * @param startedAtMillis the time the segment was started, in epoch milliseconds
+     * @return the {@link Path} of the segment started at the specified time
+     */
+    private static Path getSegmentPath(Path directory, long startedAtMillis) {
+        String name = "history-%013d.seg".formatted(startedAtMillis);
+
+        return directory.resolve(name);
+    } //getSegmentPath
+
+    /**
+     * Returns the time at which the segment at the specified {@link Path} was started, in epoch milliseconds, as
+     * given by its name, or {@code -1} if the name is malformed.
+     *
+     * @param path the {@link Path} to be used in the operation
+     * @return the time at which the segment at the specified {@link Path} was started, or {@code -1}
+     */
+    private static long getStartedAtMillis(Path path) {
+        String name = path.getFileName()
+                          .toString();
+
+        String digits = name.substring("history-".length(), name.length() - ".seg".length());
+
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return -1L;
+        } //end try catch
+    } //getStartedAtMillis
+
+    /**
+     * Starts a new segment of this {@link HistoryLog} at the specified time.
+     *
+     * @param now the current time to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void startSegment(Instant now) throws IOException {
+        Files.createDirectories(this.directory);
+
+        long startedAtMillis = now.toEpochMilli();
+
+        Path path = HistoryLog.getSegmentPath(this.directory, startedAtMillis);
+
+        while (Files.exists(path)) {
+            startedAtMillis++;
+
+            path = HistoryLog.getSegmentPath(this.directory, startedAtMillis);
+        } //end while
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0L, this.segmentBytes);
+        } //end try
+
+        this.segment.putInt(MAGIC);
+
+        this.segment.putInt(VERSION);
+
+        this.segment.putLong(startedAtMillis);
+
+        this.segmentStartedAt = Instant.ofEpochMilli(startedAtMillis);
+    } //startSegment
+
+    /**
+     * Finishes the current segment of this {@link HistoryLog}, if there is one, by writing it back to storage.
+     */
+    private void finishSegment() {
+        if (this.segment == null) {
+            return;
+        } //end if
+
+        this.segment.force();
+
+        this.segment = null;
+
+        this.segmentStartedAt = null;
+    } //finishSegment
+
+    /**
+     * Appends the specified record to this {@link HistoryLog}, starting a new segment first if the current one is
+     * full or due to roll over. The record is read from the position to the limit of the specified
+     * {@link ByteBuffer}, which is left unchanged.
+     *
+     * @param record the record to be used in the operation
+     * @param now the current time to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified record or time is {@code null}
+     * @throws IllegalArgumentException if the specified record is larger than the largest record size
+     */
+    public void append(ByteBuffer record, Instant now) throws IOException {
+        Objects.requireNonNull(record, "the specified record is null");
+
+        Objects.requireNonNull(now, "the specified time is null");
+
+        int recordBytes = record.remaining();
+
+        if (recordBytes > HistoryRecords.MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("the specified record is larger than the largest record size");
+        } //end if
+
+        this.maintain(now);
+
+        if ((this.segment != null) && (this.segment.remaining() < (recordBytes + Integer.BYTES))) {
+            this.finishSegment();
+        } //end if
+
+        if (this.segment == null) {
+            this.startSegment(now);
+        } //end if
+
+        int start = this.segment.position();
+
+        int length = record.getInt(record.position());
+
+        ByteBuffer rest = record.slice(record.position() + Integer.BYTES, recordBytes - Integer.BYTES);
+
+        this.segment.put(start + Integer.BYTES, rest, 0, rest.remaining());
+
+        this.segment.putInt(start, length);
+
+        this.segment.position(start + recordBytes);
+    } //append
+
+    /**
+     * Finishes the current segment of this {@link HistoryLog} if it is due to roll over, and deletes the segments
+     * that are older than the retention. This is called on every append, and should also be called periodically so
+     * that an idle log rolls over and expires its segments.
+     *
+     * @param now the current time to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified time is {@code null}
+     */
+    public void maintain(Instant now) throws IOException {
+        Objects.requireNonNull(now, "the specified time is null");
+
+        if (this.segmentStartedAt == null) {
+            return;
+        } //end if
+
+        Instant rollOverAt = this.segmentStartedAt.plus(this.rollOver);
+
+        if (now.isBefore(rollOverAt)) {
+            return;
+        } //end if
+
+        this.finishSegment();
+
+        this.purge(now);
+    } //maintain
+
+    /**
+     * Deletes the segments of this {@link HistoryLog} that were started longer than the retention before the
+     * specified time.
+     *
+     * @param now the current time to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified time is {@code null}
+     */
+    public void purge(Instant now) throws IOException {
+        Objects.requireNonNull(now, "the specified time is null");
+
+        long cutoffMillis = now.minus(this.retention)
+                               .toEpochMilli();
+
+        for (Path path : HistoryLog.getSegments(this.directory)) {
+            long startedAtMillis = HistoryLog.getStartedAtMillis(path);
+
+            if ((startedAtMillis >= 0L) && (startedAtMillis < cutoffMillis)) {
+                Files.deleteIfExists(path);
+            } //end if
+        } //end for
+    } //purge
+
+    /**
+     * Writes the current segment of this {@link HistoryLog} back to storage. Appended records are in the page cache
+     * as soon as they are appended, so this only matters if the machine, rather than the process, may stop.
+     */
+    public void flush() {
+        if (this.segment != null) {
+            this.segment.force();
+        } //end if
+    } //flush
+
+    /**
+     * Finishes the current segment of this {@link HistoryLog}.
+     */
+    @Override
+    public void close() {
+        this.finishSegment();
+    } //close
+
+    /**
+     * Returns the {@link Path}s of the segments in the specified directory, oldest first.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the {@link Path}s of the segments in the specified directory, oldest first
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified directory is {@code null}
+     */
+    public static List<Path> getSegments(Path directory) throws IOException {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        List<Path> segments = new ArrayList<>();
+
+        if (Files.notExists(directory)) {
+            return segments;
+        } //end if
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_GLOB)) {
+            stream.forEach(segments::add);
+        } //end try
+
+        segments.sort(null);
+
+        return segments;
+    } //getSegments
+
+    /**
+     * Returns the {@link Observation}s in the segment at the specified {@link Path}, in the order in which they were
+     * appended, by memory-mapping it.
+     *
+     * @param path the {@link Path} to be used in the operation
+     * @return the {@link Observation}s in the segment at the specified {@link Path}
+     * @throws IOException if an I/O error occurs, or the segment has an unknown magic number or version, or a record
+     * is corrupt
+     * @throws NullPointerException if the specified {@link Path} is {@code null}
+     */
+    public static List<Observation> read(Path path) throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        } //end try
+
+        List<Observation> observations = new ArrayList<>();
+
+        try {
+            int magic = buffer.getInt();
+
+            if (magic != MAGIC) {
+                throw new IOException("the segment has an unknown magic number %08x".formatted(magic));
+            } //end if
+
+            int version = buffer.getInt();
+
+            if (version != VERSION) {
+                throw new IOException("the segment has an unsupported version %d".formatted(version));
+            } //end if
+
+            buffer.getLong();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("the segment is truncated", e);
+        } //end try catch
+
+        Observation observation = HistoryRecords.decode(buffer);
+
+        while (observation != null) {
+            observations.add(observation);
+
+            observation = HistoryRecords.decode(buffer);
+        } //end while
+
+        return observations;
+    } //read
+}
\ No newline at end of file
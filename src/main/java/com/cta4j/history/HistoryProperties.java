@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The {@code cta4j.history} properties of the CTA4j application, as they are bound from its Spring
+ * {@link org.springframework.core.env.Environment}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param enabled whether observations are recorded
+ * @param directory the directory of the segment files of these properties
+ * @param segmentBytes the size of each segment file of these properties, in bytes
+ * @param rollOverMinutes the longest a segment is written to before a new one is started of these properties, in
+ * minutes
+ * @param retentionHours how long a segment is kept after it was started of these properties, in hours
+ * @param queueCapacity the largest number of batches waiting to be written of these properties
+ */
+@ConstructorBinding
+@ConfigurationProperties("cta4j.history")
+public record HistoryProperties(@DefaultValue("false") boolean enabled,
+                                @DefaultValue("data/history") String directory,
+                                @DefaultValue("67108864") int segmentBytes,
+                                @DefaultValue("60") long rollOverMinutes,
+                                @DefaultValue("168") long retentionHours,
+                                @DefaultValue("1024") int queueCapacity) {
+    /**
+     * Returns the {@link HistorySettings} of these properties.
+     *
+     * @return the {@link HistorySettings} of these properties
+     */
+    public HistorySettings toSettings() {
+        Path path = Path.of(this.directory.strip());
+
+        Duration rollOver = Duration.ofMinutes(this.rollOverMinutes);
+
+        Duration retention = Duration.ofHours(this.retentionHours);
+
+        return new HistorySettings(this.enabled, path, this.segmentBytes, rollOver, retention, this.queueCapacity);
+    } //toSettings
+}
\ No newline at end of file
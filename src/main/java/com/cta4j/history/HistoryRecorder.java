@@ -0,0 +1,346 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.train.model.Train;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A recorder of the history of the CTA4j application, which appends every parsed {@link Bus}, {@link Train}, and
+ * followed {@link com.cta4j.follow.model.Train} to a {@link HistoryLog}. Recording a batch of observations only offers
+ * it to a bounded queue, so it never blocks the caller; a single writer thread encodes and appends the batches. A
+ * batch that arrives while the queue is full is dropped, and its observations are counted in the
+ * {@code cta4j.history.dropped} counter.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class HistoryRecorder implements AutoCloseable {
+    /**
+     * The {@link Logger} of the {@link HistoryRecorder} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * How long the writer thread waits for a batch before it maintains the log, in milliseconds.
+     */
+    private static final long MAINTENANCE_MILLIS;
+
+    static {
+        LOGGER = LogManager.getLogger(HistoryRecorder.class);
+
+        MAINTENANCE_MILLIS = 1_000L;
+    } //static
+
+    /**
+     * A batch of observations of one {@link Observation.Kind}, all parsed at the same time.
+     *
+     * @param kind the {@link Observation.Kind} of this batch
+     * @param observedAt the time at which the observations of this batch were parsed
+     * @param values the observed values of this batch
+     */
+    private record Batch(Observation.Kind kind, Instant observedAt, Collection<?> values) {
+    }
+
+    /**
+     * The {@link HistorySettings} of this {@link HistoryRecorder}.
+     */
+    private final HistorySettings settings;
+
+    /**
+     * The queue of batches waiting to be written of this {@link HistoryRecorder}, or {@code null} if it is disabled.
+     */
+    private final BlockingQueue<Batch> queue;
+
+    /**
+     * The {@link HistoryLog} of this {@link HistoryRecorder}, which is only used by the writer thread.
+     */
+    private final HistoryLog log;
+
+    /**
+     * The writer thread of this {@link HistoryRecorder}, or {@code null} if it is disabled.
+     */
+    private final Thread writer;
+
+    /**
+     * The {@link Counter}s of the observations that were written, by {@link Observation.Kind}, of this
+     * {@link HistoryRecorder}.
+     */
+    private final Map<Observation.Kind, Counter> recorded;
+
+    /**
+     * The {@link Counter}s of the observations that were dropped because the queue was full, by
+     * {@link Observation.Kind}, of this {@link HistoryRecorder}.
+     */
+    private final Map<Observation.Kind, Counter> dropped;
+
+    /**
+     * The {@link Counter} of the observations that could not be written of this {@link HistoryRecorder}.
+     */
+    private final Counter failed;
+
+    /**
+     * Whether this {@link HistoryRecorder} has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs an instance of the {@link HistoryRecorder} class. If the specified {@link HistorySettings} are
+     * enabled, the writer thread is started.
+     *
+     * @param settings the {@link HistorySettings} to be used in the operation
+     * @throws NullPointerException if the specified {@link HistorySettings} is {@code null}
+     */
+    public HistoryRecorder(HistorySettings settings) {
+        Objects.requireNonNull(settings, "the specified settings is null");
+
+        this.settings = settings;
+
+        this.recorded = new EnumMap<>(Observation.Kind.class);
+
+        this.dropped = new EnumMap<>(Observation.Kind.class);
+
+        for (Observation.Kind kind : Observation.Kind.values()) {
+            String tag = kind.name()
+                             .toLowerCase();
+
+            this.recorded.put(kind, Metrics.counter("cta4j.history.recorded", "kind", tag));
+
+            this.dropped.put(kind, Metrics.counter("cta4j.history.dropped", "kind", tag));
+        } //end for
+
+        this.failed = Metrics.counter("cta4j.history.failed");
+
+        if (!settings.enabled()) {
+            this.queue = null;
+
+            this.log = null;
+
+            this.writer = null;
+
+            return;
+        } //end if
+
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+
+        this.log = new HistoryLog(settings.directory(), settings.segmentBytes(), settings.rollOver(),
+                                  settings.retention());
+
+        this.writer = new Thread(this::write, "cta4j-history");
+
+        this.writer.setDaemon(true);
+
+        this.writer.start();
+
+        Gauge.builder("cta4j.history.queue", this.queue, BlockingQueue::size)
+             .register(Metrics.globalRegistry);
+    } //HistoryRecorder
+
+    /**
+     * Returns the {@link HistorySettings} of this {@link HistoryRecorder}.
+     *
+     * @return the {@link HistorySettings} of this {@link HistoryRecorder}
+     */
+    public HistorySettings getSettings() {
+        return this.settings;
+    } //getSettings
+
+    /**
+     * Offers the specified values to the queue of this {@link HistoryRecorder} without blocking, dropping them if the
+     * queue is full or this {@link HistoryRecorder} is disabled or closed.
+     *
+     * @param kind the {@link Observation.Kind} to be used in the operation
+     * @param values the values to be used in the operation
+     */
+    private void offer(Observation.Kind kind, Collection<?> values) {
+        if ((this.queue == null) || this.closed || values.isEmpty()) {
+            return;
+        } //end if
+
+        Instant now = Instant.now();
+
+        Batch batch = new Batch(kind, now, values);
+
+        if (!this.queue.offer(batch)) {
+            this.dropped.get(kind)
+                        .increment(values.size());
+        } //end if
+    } //offer
+
+    /**
+     * Records the specified {@link Bus}es, which must not be modified afterwards.
+     *
+     * @param buses the {@link Bus}es to be used in the operation
+     * @throws NullPointerException if the specified {@link Collection} of {@link Bus}es is {@code null}
+     */
+    public void recordBuses(Collection<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified collection of buses is null");
+
+        this.offer(Observation.Kind.BUS, buses);
+    } //recordBuses
+
+    /**
+     * Records the specified {@link Train}s, which must not be modified afterwards.
+     *
+     * @param trains the {@link Train}s to be used in the operation
+     * @throws NullPointerException if the specified {@link Collection} of {@link Train}s is {@code null}
+     */
+    public void recordTrains(Collection<Train> trains) {
+        Objects.requireNonNull(trains, "the specified collection of trains is null");
+
+        this.offer(Observation.Kind.TRAIN, trains);
+    } //recordTrains
+
+    /**
+     * Records the specified followed {@link com.cta4j.follow.model.Train}s, which must not be modified afterwards.
+     *
+     * @param trains the followed {@link com.cta4j.follow.model.Train}s to be used in the operation
+     * @throws NullPointerException if the specified {@link Collection} of followed trains is {@code null}
+     */
+    public void recordFollowTrains(Collection<com.cta4j.follow.model.Train> trains) {
+        Objects.requireNonNull(trains, "the specified collection of followed trains is null");
+
+        this.offer(Observation.Kind.FOLLOW, trains);
+    } //recordFollowTrains
+
+    /**
+     * Encodes the specified {@link Batch} and appends its records to the {@link HistoryLog} of this
+     * {@link HistoryRecorder}.
+     *
+     * @param batch the {@link Batch} to be used in the operation
+     * @param buffer the scratch {@link ByteBuffer} to be used in the operation
+     */
+    private void append(Batch batch, ByteBuffer buffer) {
+        Observation.Kind kind = batch.kind();
+
+        int count = 0;
+
+        for (Object value : batch.values()) {
+            if (value == null) {
+                continue;
+            } //end if
+
+            Observation observation = new Observation(kind, batch.observedAt(), value);
+
+            buffer.clear();
+
+            try {
+                HistoryRecords.encode(buffer, observation);
+
+                buffer.flip();
+
+                this.log.append(buffer, batch.observedAt());
+
+                count++;
+            } catch (IOException | RuntimeException e) {
+                this.failed.increment();
+
+                LOGGER.atError()
+                      .withThrowable(e)
+                      .log("Error in appending an observation to the history");
+            } //end try catch
+        } //end for
+
+        this.recorded.get(kind)
+                     .increment(count);
+    } //append
+
+    /**
+     * Takes batches from the queue of this {@link HistoryRecorder} and appends them to its {@link HistoryLog} until
+     * it is closed and the queue has been drained.
+     */
+    private void write() {
+        ByteBuffer buffer = ByteBuffer.allocate(HistoryRecords.MAX_RECORD_BYTES);
+
+        while (!this.closed || !this.queue.isEmpty()) {
+            Batch batch;
+
+            try {
+                batch = this.queue.poll(MAINTENANCE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                batch = null;
+            } //end try catch
+
+            if (batch != null) {
+                this.append(batch, buffer);
+
+                continue;
+            } //end if
+
+            try {
+                this.log.maintain(Instant.now());
+            } catch (IOException e) {
+                LOGGER.atError()
+                      .withThrowable(e)
+                      .log("Error in maintaining the history");
+            } //end try catch
+        } //end while
+
+        this.log.close();
+    } //write
+
+    /**
+     * Closes this {@link HistoryRecorder}. The batches already in the queue are written, and the current segment is
+     * finished, before this method returns.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        } //end if
+
+        this.closed = true;
+
+        if (this.writer == null) {
+            return;
+        } //end if
+
+        try {
+            this.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+
+        LOGGER.atInfo()
+              .log("The history recorder has been shut down");
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,557 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import com.cta4j.bus.model.Type;
+import com.cta4j.train.model.Train;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * A set of utilities used by the CTA4j application to encode {@link Observation}s in the compact binary record format
+ * of the history, and to decode them again.
+ *
+ * <p>A record, all big-endian, is the length of the rest of the record, the ordinal of its {@link Observation.Kind},
+ * the time it was observed in epoch milliseconds, and then the fields of the observed value in declaration order.
+ * Integers use {@link Integer#MIN_VALUE} and doubles use {@code NaN} for {@code null}. Times are the Chicago wall-clock
+ * time in epoch seconds, with {@link Long#MIN_VALUE} for {@code null}. Enums are a byte ordinal, with {@code -1} for
+ * {@code null}. Strings are a {@code short} length followed by UTF-8 bytes, with a length of {@code -1} for
+ * {@code null} or for a string longer than {@link #MAX_STRING_BYTES} bytes. The booleans of a value are packed into a
+ * single byte, two bits each, where {@code 0} is {@code null}, {@code 1} is {@code false}, and {@code 2} is
+ * {@code true}. A length of {@code 0} marks the end of the records.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class HistoryRecords {
+    /**
+     * The longest string that is recorded, in bytes.
+     */
+    public static final int MAX_STRING_BYTES;
+
+    /**
+     * The largest size of an encoded record, in bytes.
+     */
+    public static final int MAX_RECORD_BYTES;
+
+    /**
+     * The value written in place of a {@code null} integer.
+     */
+    private static final int NULL_INT;
+
+    /**
+     * The value written in place of a {@code null} time.
+     */
+    private static final long NULL_TIME;
+
+    static {
+        MAX_STRING_BYTES = 4_096;
+
+        MAX_RECORD_BYTES = 32_768;
+
+        NULL_INT = Integer.MIN_VALUE;
+
+        NULL_TIME = Long.MIN_VALUE;
+    } //static
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link HistoryRecords} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private HistoryRecords() throws InstantiationException {
+        throw new InstantiationException("instances of type HistoryRecords cannot be created");
+    } //HistoryRecords
+
+    /**
+     * Writes the specified string to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param string the string to be used in the operation, which may be {@code null}
+     */
+    private static void putString(ByteBuffer buffer, String string) {
+        if (string == null) {
+            buffer.putShort((short) -1);
+
+            return;
+        } //end if
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_STRING_BYTES) {
+            buffer.putShort((short) -1);
+
+            return;
+        } //end if
+
+        buffer.putShort((short) bytes.length);
+
+        buffer.put(bytes);
+    } //putString
+
+    /**
+     * Reads a string from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the string that was read, which may be {@code null}
+     * @throws IOException if the length of the string is invalid
+     */
+    private static String getString(ByteBuffer buffer) throws IOException {
+        short length = buffer.getShort();
+
+        if (length == -1) {
+            return null;
+        } else if ((length < -1) || (length > buffer.remaining())) {
+            throw new IOException("the record contains a string of invalid length %d".formatted(length));
+        } //end if
+
+        byte[] bytes = new byte[length];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    } //getString
+
+    /**
+     * Writes the specified integer to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param value the integer to be used in the operation, which may be {@code null}
+     */
+    private static void putInt(ByteBuffer buffer, Integer value) {
+        buffer.putInt((value == null) ? NULL_INT : value);
+    } //putInt
+
+    /**
+     * Reads an integer from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the integer that was read, which may be {@code null}
+     */
+    private static Integer getInt(ByteBuffer buffer) {
+        int value = buffer.getInt();
+
+        return (value == NULL_INT) ? null : value;
+    } //getInt
+
+    /**
+     * Writes the specified double to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param value the double to be used in the operation, which may be {@code null}
+     */
+    private static void putDouble(ByteBuffer buffer, Double value) {
+        buffer.putDouble((value == null) ? Double.NaN : value);
+    } //putDouble
+
+    /**
+     * Reads a double from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the double that was read, which may be {@code null}
+     */
+    private static Double getDouble(ByteBuffer buffer) {
+        double value = buffer.getDouble();
+
+        return Double.isNaN(value) ? null : value;
+    } //getDouble
+
+    /**
+     * Writes the specified time to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param time the time to be used in the operation, which may be {@code null}
+     */
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong((time == null) ? NULL_TIME : time.toEpochSecond(ZoneOffset.UTC));
+    } //putTime
+
+    /**
+     * Reads a time from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the time that was read, which may be {@code null}
+     */
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+
+        return (epochSecond == NULL_TIME) ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    } //getTime
+
+    /**
+     * Writes the ordinal of the specified enum constant to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param constant the enum constant to be used in the operation, which may be {@code null}
+     */
+    private static void putOrdinal(ByteBuffer buffer, Enum<?> constant) {
+        buffer.put((constant == null) ? (byte) -1 : (byte) constant.ordinal());
+    } //putOrdinal
+
+    /**
+     * Reads an enum constant of the specified values from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param values the values of the enum to be used in the operation
+     * @param <E> the type of the enum
+     * @return the enum constant that was read, which may be {@code null}
+     * @throws IOException if the ordinal is out of range
+     */
+    private static <E extends Enum<E>> E getOrdinal(ByteBuffer buffer, E[] values) throws IOException {
+        byte ordinal = buffer.get();
+
+        if (ordinal == -1) {
+            return null;
+        } else if ((ordinal < -1) || (ordinal >= values.length)) {
+            throw new IOException("the record contains an invalid ordinal %d".formatted(ordinal));
+        } //end if
+
+        return values[ordinal];
+    } //getOrdinal
+
+    /**
+     * Returns the specified booleans packed into a single byte, two bits each.
+     *
+     * @param values the booleans to be used in the operation, any of which may be {@code null}
+     * @return the specified booleans packed into a single byte
+     */
+    private static byte packFlags(Boolean... values) {
+        int flags = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            Boolean value = values[i];
+
+            int bits = (value == null) ? 0 : (value ? 2 : 1);
+
+            flags |= bits << (2 * i);
+        } //end for
+
+        return (byte) flags;
+    } //packFlags
+
+    /**
+     * Returns the boolean at the specified index of the specified packed byte.
+     *
+     * @param flags the packed byte to be used in the operation
+     * @param index the index to be used in the operation
+     * @return the boolean at the specified index of the specified packed byte, which may be {@code null}
+     */
+    private static Boolean getFlag(byte flags, int index) {
+        int bits = (flags >> (2 * index)) & 0b11;
+
+        return switch (bits) {
+            case 1 -> false;
+            case 2 -> true;
+            default -> null;
+        };
+    } //getFlag
+
+    /**
+     * Writes the fields of the specified {@link Bus} to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param bus the {@link Bus} to be used in the operation
+     */
+    private static void putBus(ByteBuffer buffer, Bus bus) {
+        HistoryRecords.putInt(buffer, bus.id());
+
+        Stop stop = bus.stop();
+
+        HistoryRecords.putInt(buffer, (stop == null) ? null : stop.id());
+
+        HistoryRecords.putString(buffer, (stop == null) ? null : stop.name());
+
+        Route route = bus.route();
+
+        HistoryRecords.putString(buffer, (route == null) ? null : route.id());
+
+        HistoryRecords.putString(buffer, (route == null) ? null : route.name());
+
+        HistoryRecords.putString(buffer, bus.direction());
+
+        HistoryRecords.putString(buffer, bus.destination());
+
+        HistoryRecords.putOrdinal(buffer, bus.type());
+
+        HistoryRecords.putTime(buffer, bus.predictionTime());
+
+        HistoryRecords.putTime(buffer, bus.typeTime());
+
+        buffer.put(HistoryRecords.packFlags(bus.delayed()));
+    } //putBus
+
+    /**
+     * Reads the fields of a {@link Bus} from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the {@link Bus} that was read
+     * @throws IOException if a field is invalid
+     */
+    private static Bus getBus(ByteBuffer buffer) throws IOException {
+        Integer id = HistoryRecords.getInt(buffer);
+
+        Integer stopId = HistoryRecords.getInt(buffer);
+
+        String stopName = HistoryRecords.getString(buffer);
+
+        Stop stop = ((stopId == null) && (stopName == null)) ? null : new Stop(stopId, stopName);
+
+        String routeId = HistoryRecords.getString(buffer);
+
+        String routeName = HistoryRecords.getString(buffer);
+
+        Route route = ((routeId == null) && (routeName == null)) ? null : new Route(routeId, routeName);
+
+        String direction = HistoryRecords.getString(buffer);
+
+        String destination = HistoryRecords.getString(buffer);
+
+        Type type = HistoryRecords.getOrdinal(buffer, Type.values());
+
+        LocalDateTime predictionTime = HistoryRecords.getTime(buffer);
+
+        LocalDateTime typeTime = HistoryRecords.getTime(buffer);
+
+        Boolean delayed = HistoryRecords.getFlag(buffer.get(), 0);
+
+        return new Bus(id, stop, route, direction, destination, type, predictionTime, typeTime, delayed);
+    } //getBus
+
+    /**
+     * Writes the fields of the specified {@link Train} to the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param train the {@link Train} to be used in the operation
+     */
+    private static void putTrain(ByteBuffer buffer, Train train) {
+        HistoryRecords.putInt(buffer, train.run());
+
+        HistoryRecords.putOrdinal(buffer, train.route());
+
+        HistoryRecords.putString(buffer, train.destination());
+
+        HistoryRecords.putString(buffer, train.station());
+
+        HistoryRecords.putString(buffer, train.description());
+
+        HistoryRecords.putTime(buffer, train.predictionTime());
+
+        HistoryRecords.putTime(buffer, train.arrivalTime());
+
+        buffer.put(HistoryRecords.packFlags(train.due(), train.scheduled(), train.fault(), train.delayed()));
+
+        HistoryRecords.putDouble(buffer, train.latitude());
+
+        HistoryRecords.putDouble(buffer, train.longitude());
+
+        HistoryRecords.putInt(buffer, train.heading());
+    } //putTrain
+
+    /**
+     * Reads the fields of a {@link Train} from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the {@link Train} that was read
+     * @throws IOException if a field is invalid
+     */
+    private static Train getTrain(ByteBuffer buffer) throws IOException {
+        Integer run = HistoryRecords.getInt(buffer);
+
+        com.cta4j.train.model.Route route = HistoryRecords.getOrdinal(buffer,
+                                                                      com.cta4j.train.model.Route.values());
+
+        String destination = HistoryRecords.getString(buffer);
+
+        String station = HistoryRecords.getString(buffer);
+
+        String description = HistoryRecords.getString(buffer);
+
+        LocalDateTime predictionTime = HistoryRecords.getTime(buffer);
+
+        LocalDateTime arrivalTime = HistoryRecords.getTime(buffer);
+
+        byte flags = buffer.get();
+
+        Double latitude = HistoryRecords.getDouble(buffer);
+
+        Double longitude = HistoryRecords.getDouble(buffer);
+
+        Integer heading = HistoryRecords.getInt(buffer);
+
+        return new Train(run, route, destination, station, description, predictionTime, arrivalTime,
+                         HistoryRecords.getFlag(flags, 0), HistoryRecords.getFlag(flags, 1),
+                         HistoryRecords.getFlag(flags, 2), HistoryRecords.getFlag(flags, 3), latitude, longitude,
+                         heading);
+    } //getTrain
+
+    /**
+     * Writes the fields of the specified followed {@link com.cta4j.follow.model.Train} to the specified
+     * {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param train the followed {@link com.cta4j.follow.model.Train} to be used in the operation
+     */
+    private static void putFollowTrain(ByteBuffer buffer, com.cta4j.follow.model.Train train) {
+        HistoryRecords.putString(buffer, train.route());
+
+        buffer.putInt(train.run());
+
+        HistoryRecords.putString(buffer, train.station());
+
+        HistoryRecords.putString(buffer, train.destination());
+
+        HistoryRecords.putTime(buffer, train.predictionTime());
+
+        HistoryRecords.putTime(buffer, train.arrivalTime());
+
+        buffer.put(HistoryRecords.packFlags(train.due(), train.scheduled(), train.fault(), train.delayed()));
+    } //putFollowTrain
+
+    /**
+     * Reads the fields of a followed {@link com.cta4j.follow.model.Train} from the specified {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the followed {@link com.cta4j.follow.model.Train} that was read
+     * @throws IOException if a field is invalid
+     */
+    private static com.cta4j.follow.model.Train getFollowTrain(ByteBuffer buffer) throws IOException {
+        String route = HistoryRecords.getString(buffer);
+
+        int run = buffer.getInt();
+
+        String station = HistoryRecords.getString(buffer);
+
+        String destination = HistoryRecords.getString(buffer);
+
+        LocalDateTime predictionTime = HistoryRecords.getTime(buffer);
+
+        LocalDateTime arrivalTime = HistoryRecords.getTime(buffer);
+
+        byte flags = buffer.get();
+
+        return new com.cta4j.follow.model.Train(route, run, station, destination, predictionTime, arrivalTime,
+                                                HistoryRecords.getFlag(flags, 0), HistoryRecords.getFlag(flags, 1),
+                                                HistoryRecords.getFlag(flags, 2), HistoryRecords.getFlag(flags, 3));
+    } //getFollowTrain
+
+    /**
+     * Encodes the specified {@link Observation} at the position of the specified {@link ByteBuffer}, which must have
+     * at least {@link #MAX_RECORD_BYTES} bytes remaining. The position is advanced past the record.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @param observation the {@link Observation} to be used in the operation
+     * @throws NullPointerException if the specified {@link ByteBuffer} or {@link Observation} is {@code null}
+     * @throws ClassCastException if the value of the specified {@link Observation} does not match its kind
+     */
+    public static void encode(ByteBuffer buffer, Observation observation) {
+        Objects.requireNonNull(buffer, "the specified buffer is null");
+
+        Objects.requireNonNull(observation, "the specified observation is null");
+
+        int start = buffer.position();
+
+        buffer.putInt(0);
+
+        Observation.Kind kind = observation.kind();
+
+        buffer.put((byte) kind.ordinal());
+
+        buffer.putLong(observation.observedAt()
+                                  .toEpochMilli());
+
+        Object value = observation.value();
+
+        switch (kind) {
+            case BUS -> HistoryRecords.putBus(buffer, (Bus) value);
+            case TRAIN -> HistoryRecords.putTrain(buffer, (Train) value);
+            case FOLLOW -> HistoryRecords.putFollowTrain(buffer, (com.cta4j.follow.model.Train) value);
+        } //end switch
+
+        int length = buffer.position() - start - Integer.BYTES;
+
+        buffer.putInt(start, length);
+    } //encode
+
+    /**
+     * Decodes the {@link Observation} at the position of the specified {@link ByteBuffer}, or returns {@code null} if
+     * the end of the records has been reached. The position is advanced past the record.
+     *
+     * @param buffer the {@link ByteBuffer} to be used in the operation
+     * @return the {@link Observation} at the position of the specified {@link ByteBuffer}, or {@code null}
+     * @throws IOException if the record is truncated or corrupt
+     * @throws NullPointerException if the specified {@link ByteBuffer} is {@code null}
+     */
+    public static Observation decode(ByteBuffer buffer) throws IOException {
+        Objects.requireNonNull(buffer, "the specified buffer is null");
+
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        } //end if
+
+        int length = buffer.getInt();
+
+        if (length == 0) {
+            return null;
+        } else if ((length < 0) || (length > buffer.remaining())) {
+            throw new IOException("the record has an invalid length %d".formatted(length));
+        } //end if
+
+        int end = buffer.position() + length;
+
+        ByteBuffer body = buffer.slice(buffer.position(), length);
+
+        buffer.position(end);
+
+        try {
+            Observation.Kind kind = HistoryRecords.getOrdinal(body, Observation.Kind.values());
+
+            if (kind == null) {
+                throw new IOException("the record has no kind");
+            } //end if
+
+            Instant observedAt = Instant.ofEpochMilli(body.getLong());
+
+            Object value = switch (kind) {
+                case BUS -> HistoryRecords.getBus(body);
+                case TRAIN -> HistoryRecords.getTrain(body);
+                case FOLLOW -> HistoryRecords.getFollowTrain(body);
+            };
+
+            return new Observation(kind, observedAt, value);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("the record is truncated", e);
+        } //end try catch
+    } //decode
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of the CTA4j history recorder, which are bound from the {@link HistoryProperties} of the CTA4j
+ * application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param enabled whether observations are recorded
+ * @param directory the directory of the segment files of these settings
+ * @param segmentBytes the size of each segment file of these settings, in bytes
+ * @param rollOver the longest a segment is written to before a new one is started of these settings
+ * @param retention how long a segment is kept after it was started of these settings
+ * @param queueCapacity the largest number of batches waiting to be written of these settings
+ */
+public record HistorySettings(boolean enabled, Path directory, int segmentBytes, Duration rollOver,
+                              Duration retention, int queueCapacity) {
+    /**
+     * Constructs an instance of the {@link HistorySettings} class.
+     *
+     * @param enabled whether observations are recorded
+     * @param directory the directory of the segment files to be used in the operation
+     * @param segmentBytes the size of each segment file, in bytes, to be used in the operation
+     * @param rollOver the longest a segment is written to before a new one is started to be used in the operation
+     * @param retention how long a segment is kept after it was started to be used in the operation
+     * @param queueCapacity the largest number of batches waiting to be written to be used in the operation
+     * @throws NullPointerException if the specified directory, roll-over interval, or retention is {@code null}
+     * @throws IllegalArgumentException if the specified segment size is too small to hold a record, the specified
+     * roll-over interval or retention is not positive, or the specified queue capacity is not positive
+     */
+    public HistorySettings {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(rollOver, "the specified roll-over interval is null");
+
+        Objects.requireNonNull(retention, "the specified retention is null");
+
+        if (segmentBytes < 65_536) {
+            throw new IllegalArgumentException("the specified segment size is less than 64 KiB");
+        } //end if
+
+        if (rollOver.isNegative() || rollOver.isZero()) {
+            throw new IllegalArgumentException("the specified roll-over interval is not positive");
+        } //end if
+
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("the specified retention is not positive");
+        } //end if
+
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("the specified queue capacity is not positive");
+        } //end if
+    } //HistorySettings
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An observation of the CTA4j application, as it is recorded in the history.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param kind the {@link Kind} of this observation
+ * @param observedAt the time at which this observation was parsed
+ * @param value the observed value, whose type is given by the {@link Kind} of this observation
+ */
+public record Observation(Kind kind, Instant observedAt, Object value) {
+    /**
+     * A kind of {@link Observation}.
+     */
+    public enum Kind {
+        /**
+         * A {@link com.cta4j.bus.model.Bus} prediction.
+         */
+        BUS,
+
+        /**
+         * A {@link com.cta4j.train.model.Train} arrival or position.
+         */
+        TRAIN,
+
+        /**
+         * A {@link com.cta4j.follow.model.Train} of a followed run.
+         */
+        FOLLOW
+    }
+
+    /**
+     * Constructs an instance of the {@link Observation} class.
+     *
+     * @param kind the {@link Kind} to be used in the operation
+     * @param observedAt the time at which the observation was parsed to be used in the operation
+     * @param value the observed value to be used in the operation
+     * @throws NullPointerException if the specified {@link Kind}, time, or value is {@code null}
+     */
+    public Observation {
+        Objects.requireNonNull(kind, "the specified kind is null");
+
+        Objects.requireNonNull(observedAt, "the specified time is null");
+
+        Objects.requireNonNull(value, "the specified value is null");
+    } //Observation
+}
\ No newline at end of file
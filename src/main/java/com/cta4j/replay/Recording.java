@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.replay;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A recording of the payloads of one endpoint of the Chicago Transit Authority, played back by a
+ * {@link ReplayServer}. A recording is a directory of payload files, where the leading digits of the name of each file
+ * are the time at which it was recorded, in epoch milliseconds. A file whose name has no leading digits is recorded
+ * at time {@code 0}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class Recording {
+    /**
+     * A payload of a {@link Recording}.
+     *
+     * @param offsetMillis the time at which this frame was recorded, relative to the first frame of its recording
+     * @param body the body of this frame
+     */
+    private record Frame(long offsetMillis, byte[] body) {
+    }
+
+    /**
+     * The frames of this {@link Recording}, ordered by time.
+     */
+    private final List<Frame> frames;
+
+    /**
+     * Constructs an instance of the {@link Recording} class.
+     *
+     * @param frames the frames to be used in the operation, ordered by time
+     */
+    private Recording(List<Frame> frames) {
+        this.frames = List.copyOf(frames);
+    } //Recording
+
+    /**
+     * Returns the time at which the file at the specified {@link Path} was recorded, as given by its name.
+     *
+     * @param path the {@link Path} to be used in the operation
+     * @return the time at which the file at the specified {@link Path} was recorded
+     */
+    private static long getRecordedAtMillis(Path path) {
+        String name = path.getFileName()
+                          .toString();
+
+        int end = 0;
+
+        while ((end < name.length()) && Character.isDigit(name.charAt(end))) {
+            end++;
+        } //end while
+
+        if ((end == 0) || (end > 18)) {
+            return 0L;
+        } //end if
+
+        return Long.parseLong(name.substring(0, end));
+    } //getRecordedAtMillis
+
+    /**
+     * Loads the {@link Recording} in the specified directory, whose subdirectories are ignored.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the {@link Recording} in the specified directory
+     * @throws IOException if an I/O error occurs, or the directory has no payload files
+     * @throws NullPointerException if the specified directory is {@code null}
+     */
+    public static Recording load(Path directory) throws IOException {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        List<Path> paths = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            stream.forEach(paths::add);
+        } //end try
+
+        if (paths.isEmpty()) {
+            throw new IOException("the directory %s has no payload files".formatted(directory));
+        } //end if
+
+        Comparator<Path> comparator = Comparator.comparingLong(Recording::getRecordedAtMillis)
+                                                .thenComparing(Comparator.naturalOrder());
+
+        paths.sort(comparator);
+
+        long firstMillis = Recording.getRecordedAtMillis(paths.get(0));
+
+        List<Frame> frames = new ArrayList<>();
+
+        for (Path path : paths) {
+            long offsetMillis = Recording.getRecordedAtMillis(path) - firstMillis;
+
+            byte[] body = Files.readAllBytes(path);
+
+            frames.add(new Frame(offsetMillis, body));
+        } //end for
+
+        return new Recording(frames);
+    } //load
+
+    /**
+     * Returns the number of frames of this {@link Recording}.
+     *
+     * @return the number of frames of this {@link Recording}
+     */
+    public int size() {
+        return this.frames.size();
+    } //size
+
+    /**
+     * Returns the length of this {@link Recording}, from its first frame to its last, in milliseconds.
+     *
+     * @return the length of this {@link Recording}, in milliseconds
+     */
+    public long getLengthMillis() {
+        int lastIndex = this.frames.size() - 1;
+
+        return this.frames.get(lastIndex)
+                          .offsetMillis();
+    } //getLengthMillis
+
+    /**
+     * Returns the body of the frame that is current at the specified playback time, which is the last frame recorded
+     * at or before it. Past the end of this {@link Recording}, playback either stays on the last frame or, once the
+     * last frame has been current for the mean interval between frames, starts over from the first.
+     *
+     * @param elapsedMillis the playback time to be used in the operation, in milliseconds since playback started
+     * @param loop whether playback starts over once the end of this {@link Recording} is reached
+     * @return the body of the frame that is current at the specified playback time
+     */
+    public byte[] getBody(long elapsedMillis, boolean loop) {
+        long lengthMillis = this.getLengthMillis();
+
+        long playbackMillis = Math.max(0L, elapsedMillis);
+
+        if (loop && (lengthMillis > 0L)) {
+            long meanIntervalMillis = lengthMillis / (this.frames.size() - 1);
+
+            playbackMillis %= lengthMillis + meanIntervalMillis;
+        } //end if
+
+        int low = 0;
+
+        int high = this.frames.size() - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (this.frames.get(middle)
+                           .offsetMillis() <= playbackMillis) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            } //end if
+        } //end while
+
+        return this.frames.get(low)
+                          .body();
+    } //getBody
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.replay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The {@code cta4j.replay} properties of the CTA4j replay server, as they are bound from its Spring
+ * {@link org.springframework.core.env.Environment}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param directory the directory of the recorded payloads of these properties
+ * @param port the port of these properties, or {@code 0} to use any free port
+ * @param speed the playback speed of these properties, where {@code 1.0} is real time
+ * @param loop whether playback starts over once the end of a recording is reached
+ * @param latencyMillis the latency added to every response of these properties, in milliseconds
+ * @param jitterMillis the scale of the random latency added on top of the latency of these properties, in
+ * milliseconds
+ * @param jitterDistribution the {@link ReplaySettings.Distribution} of the random latency of these properties
+ * @param errorRate the fraction of requests that are answered with an error of these properties
+ */
+@ConstructorBinding
+@ConfigurationProperties("cta4j.replay")
+public record ReplayProperties(@DefaultValue("data/replay") String directory,
+                               @DefaultValue("8090") int port,
+                               @DefaultValue("1.0") double speed,
+                               @DefaultValue("true") boolean loop,
+                               @DefaultValue("0") long latencyMillis,
+                               @DefaultValue("0") long jitterMillis,
+                               @DefaultValue("uniform") ReplaySettings.Distribution jitterDistribution,
+                               @DefaultValue("0.0") double errorRate) {
+    /**
+     * Returns the {@link ReplaySettings} of these properties.
+     *
+     * @return the {@link ReplaySettings} of these properties
+     */
+    public ReplaySettings toSettings() {
+        Path path = Path.of(this.directory.strip());
+
+        Duration latency = Duration.ofMillis(this.latencyMillis);
+
+        Duration jitter = Duration.ofMillis(this.jitterMillis);
+
+        return new ReplaySettings(path, this.port, this.speed, this.loop, latency, jitter, this.jitterDistribution,
+                                  this.errorRate);
+    } //toSettings
+}
\ No newline at end of file
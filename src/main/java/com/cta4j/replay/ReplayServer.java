@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local stand-in for the Bus Tracker and Train Tracker APIs of the Chicago Transit Authority, which plays back
+ * recorded payloads so that the CTA4j application can be run and load-tested offline. The application is pointed at a
+ * replay server by setting {@code cta4j.upstream.bus.base-url} to its {@link #getBusBaseUrl() bus base URL} and
+ * {@code cta4j.upstream.train.base-url} to its {@link #getTrainBaseUrl() train base URL}, either as command line
+ * arguments, such as {@code --cta4j.upstream.bus.base-url=http://127.0.0.1:8090/bustime/api/v2}, or in a profile
+ * file.
+ *
+ * <p>Payloads are read from the directory of the {@link ReplaySettings} when the server starts. Each endpoint, such as
+ * {@code getpredictions}, {@code getroutes}, {@code getstops}, {@code ttarrivals}, or {@code ttfollow}, has a
+ * {@link Recording} in the subdirectory of the same name. A request is answered from a more specific recording when
+ * one of its query parameters has one, in a subdirectory named after the parameter and its value, such as
+ * {@code getpredictions/stpid=1828} or {@code ttfollow/runnumber=412}. Playback starts when the server starts and
+ * runs at the speed of the {@link ReplaySettings}. Every response is delayed by the latency plus a random latency drawn
+ * from the {@link ReplaySettings.Distribution distribution} of the jitter, and the given fraction of requests is
+ * answered with a {@code 503}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class ReplayServer implements AutoCloseable {
+    /**
+     * The {@link Logger} of the {@link ReplayServer} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The query parameters that never select a recording.
+     */
+    private static final Set<String> IGNORED_PARAMETERS;
+
+    static {
+        LOGGER = LogManager.getLogger(ReplayServer.class);
+
+        IGNORED_PARAMETERS = Set.of("key", "format", "outputtype");
+    } //static
+
+    /**
+     * The source of the application context that binds the {@link ReplayProperties} of a {@link ReplayServer} that is
+     * run on its own.
+     */
+    @EnableConfigurationProperties(ReplayProperties.class)
+    static final class Launcher {
+    }
+
+    /**
+     * The {@link ReplaySettings} of this {@link ReplayServer}.
+     */
+    private final ReplaySettings settings;
+
+    /**
+     * The {@link Recording}s of this {@link ReplayServer}, by endpoint or by endpoint and query parameter, such as
+     * {@code getpredictions} or {@code getpredictions/stpid=1828}.
+     */
+    private final Map<String, Recording> recordings;
+
+    /**
+     * The {@link ExecutorService} of this {@link ReplayServer}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The {@link HttpServer} of this {@link ReplayServer}.
+     */
+    private final HttpServer server;
+
+    /**
+     * The time at which playback of this {@link ReplayServer} started, as given by {@link System#nanoTime()}.
+     */
+    private final long startedAtNanos;
+
+    /**
+     * Constructs an instance of the {@link ReplayServer} class.
+     *
+     * @param settings the {@link ReplaySettings} to be used in the operation
+     * @param recordings the {@link Recording}s to be used in the operation
+     * @throws IOException if the server cannot be bound
+     */
+    private ReplayServer(ReplaySettings settings, Map<String, Recording> recordings) throws IOException {
+        this.settings = settings;
+
+        this.recordings = Map.copyOf(recordings);
+
+        this.executor = Executors.newCachedThreadPool(ReplayServer.newThreadFactory());
+
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", settings.port());
+
+        this.server = HttpServer.create(address, 4_096);
+
+        this.server.createContext("/", this::handle);
+
+        this.server.setExecutor(this.executor);
+
+        this.startedAtNanos = System.nanoTime();
+    } //ReplayServer
+
+    /**
+     * Returns a new {@link ThreadFactory} for the threads of a {@link ReplayServer}.
+     *
+     * @return a new {@link ThreadFactory} for the threads of a {@link ReplayServer}
+     */
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+
+        return runnable -> {
+            String name = "cta4j-replay-%d".formatted(count.incrementAndGet());
+
+            Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    } //newThreadFactory
+
+    /**
+     * Loads the {@link Recording}s in the specified directory, by endpoint or by endpoint and query parameter.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the {@link Recording}s in the specified directory
+     * @throws IOException if an I/O error occurs
+     */
+    private static Map<String, Recording> loadRecordings(Path directory) throws IOException {
+        Map<String, Recording> recordings = new HashMap<>();
+
+        try (DirectoryStream<Path> endpoints = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path endpoint : endpoints) {
+                String endpointName = endpoint.getFileName()
+                                              .toString()
+                                              .toLowerCase();
+
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(endpoint, Files::isRegularFile)) {
+                    if (files.iterator()
+                             .hasNext()) {
+                        recordings.put(endpointName, Recording.load(endpoint));
+                    } //end if
+                } //end try
+
+                try (DirectoryStream<Path> selectors = Files.newDirectoryStream(endpoint, Files::isDirectory)) {
+                    for (Path selector : selectors) {
+                        String selectorName = selector.getFileName()
+                                                      .toString()
+                                                      .toLowerCase();
+
+                        recordings.put(endpointName + "/" + selectorName, Recording.load(selector));
+                    } //end for
+                } //end try
+            } //end for
+        } //end try
+
+        return recordings;
+    } //loadRecordings
+
+    /**
+     * Starts a {@link ReplayServer} using the specified {@link ReplaySettings}.
+     *
+     * @param settings the {@link ReplaySettings} to be used in the operation
+     * @return the started {@link ReplayServer}
+     * @throws IOException if the recordings cannot be read or the server cannot be bound
+     * @throws NullPointerException if the specified {@link ReplaySettings} is {@code null}
+     */
+    public static ReplayServer start(ReplaySettings settings) throws IOException {
+        Objects.requireNonNull(settings, "the specified settings is null");
+
+        Map<String, Recording> recordings = ReplayServer.loadRecordings(settings.directory());
+
+        ReplayServer replayServer = new ReplayServer(settings, recordings);
+
+        replayServer.server.start();
+
+        String message = "The replay server is serving %d recordings from %s at http://127.0.0.1:%d".formatted(
+            recordings.size(), settings.directory(), replayServer.getPort());
+
+        LOGGER.atInfo()
+              .log(message);
+
+        return replayServer;
+    } //start
+
+    /**
+     * Returns the port of this {@link ReplayServer}.
+     *
+     * @return the port of this {@link ReplayServer}
+     */
+    public int getPort() {
+        return this.server.getAddress()
+                          .getPort();
+    } //getPort
+
+    /**
+     * Returns the base URL of the bus API of this {@link ReplayServer}.
+     *
+     * @return the base URL of the bus API of this {@link ReplayServer}
+     */
+    public String getBusBaseUrl() {
+        return "http://127.0.0.1:%d/bustime/api/v2".formatted(this.getPort());
+    } //getBusBaseUrl
+
+    /**
+     * Returns the base URL of the train API of this {@link ReplayServer}.
+     *
+     * @return the base URL of the train API of this {@link ReplayServer}
+     */
+    public String getTrainBaseUrl() {
+        return "http://127.0.0.1:%d/api/1.0".formatted(this.getPort());
+    } //getTrainBaseUrl
+
+    /**
+     * Returns the name of the endpoint of the specified {@link URI}, which is the last segment of its path without
+     * an extension.
+     *
+     * @param uri the {@link URI} to be used in the operation
+     * @return the name of the endpoint of the specified {@link URI}
+     */
+    private static String getEndpoint(URI uri) {
+        String path = String.valueOf(uri.getPath());
+
+        String endpoint = path.substring(path.lastIndexOf('/') + 1);
+
+        int extensionIndex = endpoint.lastIndexOf('.');
+
+        if (extensionIndex != -1) {
+            endpoint = endpoint.substring(0, extensionIndex);
+        } //end if
+
+        return endpoint.toLowerCase();
+    } //getEndpoint
+
+    /**
+     * Returns the {@link Recording} that answers the specified {@link URI}, or {@code null} if there is none. The
+     * recording of the first query parameter that has one is preferred over the recording of the endpoint.
+     *
+     * @param uri the {@link URI} to be used in the operation
+     * @return the {@link Recording} that answers the specified {@link URI}, or {@code null}
+     */
+    private Recording getRecording(URI uri) {
+        String endpoint = ReplayServer.getEndpoint(uri);
+
+        String query = uri.getRawQuery();
+
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int equalsIndex = parameter.indexOf('=');
+
+                String name = (equalsIndex == -1) ? parameter : parameter.substring(0, equalsIndex);
+
+                if (IGNORED_PARAMETERS.contains(name.toLowerCase())) {
+                    continue;
+                } //end if
+
+                Recording recording = this.recordings.get(endpoint + "/" + parameter.toLowerCase());
+
+                if (recording != null) {
+                    return recording;
+                } //end if
+            } //end for
+        } //end if
+
+        return this.recordings.get(endpoint);
+    } //getRecording
+
+    /**
+     * Returns a random latency, in milliseconds, drawn from the jitter distribution of this {@link ReplayServer}.
+     *
+     * @return a random latency, in milliseconds, drawn from the jitter distribution of this {@link ReplayServer}
+     */
+    private long getJitterMillis() {
+        long jitterMillis = this.settings.jitter()
+                                         .toMillis();
+
+        if (jitterMillis <= 0L) {
+            return 0L;
+        } //end if
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        double value = switch (this.settings.distribution()) {
+            case UNIFORM -> random.nextLong(jitterMillis + 1L);
+            case EXPONENTIAL -> -jitterMillis * Math.log(1.0 - random.nextDouble());
+            case LOG_NORMAL -> jitterMillis * Math.exp(random.nextGaussian());
+        };
+
+        return Math.round(value);
+    } //getJitterMillis
+
+    /**
+     * Sleeps for the latency of this {@link ReplayServer} plus a random latency drawn from its jitter distribution.
+     *
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    private void delay() throws InterruptedException {
+        long latencyMillis = this.settings.latency()
+                                          .toMillis();
+
+        latencyMillis += this.getJitterMillis();
+
+        if (latencyMillis > 0L) {
+            Thread.sleep(latencyMillis);
+        } //end if
+    } //delay
+
+    /**
+     * Sends the specified response using the specified {@link HttpExchange}.
+     *
+     * @param exchange the {@link HttpExchange} to be used in the operation
+     * @param status the status to be used in the operation
+     * @param body the body to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders()
+                .add("Content-Type", "application/json; charset=utf-8");
+
+        exchange.sendResponseHeaders(status, (body.length == 0) ? -1L : body.length);
+
+        if (body.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } //end try
+        } //end if
+    } //send
+
+    /**
+     * Answers the request of the specified {@link HttpExchange}.
+     *
+     * @param exchange the {@link HttpExchange} to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            this.delay();
+
+            double errorRate = this.settings.errorRate();
+
+            if ((errorRate > 0.0) && (ThreadLocalRandom.current()
+                                                       .nextDouble() < errorRate)) {
+                ReplayServer.send(exchange, 503, new byte[0]);
+
+                return;
+            } //end if
+
+            URI uri = exchange.getRequestURI();
+
+            Recording recording = this.getRecording(uri);
+
+            if (recording == null) {
+                String message = "{\"error\":\"no recording of %s\"}".formatted(ReplayServer.getEndpoint(uri));
+
+                ReplayServer.send(exchange, 404, message.getBytes(StandardCharsets.UTF_8));
+
+                return;
+            } //end if
+
+            long elapsedNanos = System.nanoTime() - this.startedAtNanos;
+
+            long elapsedMillis = (long) ((elapsedNanos / 1_000_000.0) * this.settings.speed());
+
+            byte[] body = recording.getBody(elapsedMillis, this.settings.loop());
+
+            ReplayServer.send(exchange, 200, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //handle
+
+    /**
+     * Stops this {@link ReplayServer}.
+     */
+    @Override
+    public void close() {
+        this.server.stop(0);
+
+        this.executor.shutdownNow();
+    } //close
+
+    /**
+     * Starts a {@link ReplayServer} using the {@link ReplayProperties} of the CTA4j application, and serves until the
+     * process is stopped. The properties are bound from a Spring {@link org.springframework.core.env.Environment}, so
+     * they can be set in profile files or as command line arguments, such as {@code --cta4j.replay.port=8091}. The
+     * command line arguments that point the CTA4j application at the server are printed once it is started.
+     *
+     * @param args the command line arguments to be used in the operation
+     * @throws IOException if the recordings cannot be read or the server cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        SpringApplication application = new SpringApplication(Launcher.class);
+
+        application.setWebApplicationType(WebApplicationType.NONE);
+
+        ReplaySettings settings;
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            settings = context.getBean(ReplayProperties.class)
+                              .toSettings();
+        } //end try
+
+        ReplayServer replayServer = ReplayServer.start(settings);
+
+        System.out.printf("--cta4j.upstream.bus.base-url=%s%n", replayServer.getBusBaseUrl());
+
+        System.out.printf("--cta4j.upstream.train.base-url=%s%n", replayServer.getTrainBaseUrl());
+    } //main
+}
\ No newline at end of file
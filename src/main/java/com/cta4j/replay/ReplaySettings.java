@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.replay;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of the CTA4j replay server, which are bound from the {@link ReplayProperties} of the CTA4j
+ * application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param directory the directory of the recorded payloads of these settings
+ * @param port the port of these settings, or {@code 0} to use any free port
+ * @param speed the playback speed of these settings, where {@code 1.0} is real time
+ * @param loop whether playback starts over once the end of a recording is reached
+ * @param latency the latency added to every response of these settings
+ * @param jitter the scale of the random latency added on top of the latency of these settings
+ * @param distribution the {@link Distribution} of the random latency of these settings
+ * @param errorRate the fraction of requests that are answered with an error of these settings
+ */
+public record ReplaySettings(Path directory, int port, double speed, boolean loop, Duration latency,
+                             Duration jitter, Distribution distribution, double errorRate) {
+    /**
+     * A distribution of the random latency that a replay server adds on top of its fixed latency.
+     */
+    public enum Distribution {
+        /**
+         * A latency drawn uniformly between zero and the jitter.
+         */
+        UNIFORM,
+
+        /**
+         * A latency drawn from an exponential distribution whose mean is the jitter, which has a long tail of slow
+         * responses.
+         */
+        EXPONENTIAL,
+
+        /**
+         * A latency drawn from a log-normal distribution whose median is the jitter, which has a heavier tail than an
+         * exponential distribution.
+         */
+        LOG_NORMAL
+    }
+
+    /**
+     * Constructs an instance of the {@link ReplaySettings} class.
+     *
+     * @param directory the directory of the recorded payloads to be used in the operation
+     * @param port the port to be used in the operation, or {@code 0} to use any free port
+     * @param speed the playback speed to be used in the operation
+     * @param loop whether playback starts over once the end of a recording is reached
+     * @param latency the latency added to every response to be used in the operation
+     * @param jitter the scale of the random latency added on top of the latency to be used in the operation
+     * @param distribution the {@link Distribution} of the random latency to be used in the operation
+     * @param errorRate the fraction of requests that are answered with an error to be used in the operation
+     * @throws NullPointerException if the specified directory, latency, jitter, or {@link Distribution} is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified port is out of range, the specified speed is not positive,
+     * the specified latency or jitter is negative, or the specified error rate is not between {@code 0} and {@code 1}
+     */
+    public ReplaySettings {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(latency, "the specified latency is null");
+
+        Objects.requireNonNull(jitter, "the specified jitter is null");
+
+        Objects.requireNonNull(distribution, "the specified distribution is null");
+
+        if ((port < 0) || (port > 65_535)) {
+            throw new IllegalArgumentException("the specified port is out of range");
+        } //end if
+
+        if (!(speed > 0.0)) {
+            throw new IllegalArgumentException("the specified speed is not positive");
+        } //end if
+
+        if (latency.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("the specified latency or jitter is negative");
+        } //end if
+
+        if (!((errorRate >= 0.0) && (errorRate <= 1.0))) {
+            throw new IllegalArgumentException("the specified error rate is not between 0 and 1");
+        } //end if
+    } //ReplaySettings
+}
\ No newline at end of file
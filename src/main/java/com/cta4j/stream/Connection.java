@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Counter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A WebSocket connection of a {@link SubscriptionHub}. Frames are sent by at most one thread at a time, and the
+ * frames waiting to be sent are bounded: a topic frame replaces the unsent frame of the same topic, so a slow consumer
+ * receives the latest value of each topic rather than every value, and a connection whose send has been blocked for
+ * longer than the send time limit is dropped.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class Connection {
+    /**
+     * The {@link Logger} of the {@link Connection} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The maximum number of unsent replies of a {@link Connection}.
+     */
+    private static final int MAX_REPLIES;
+
+    static {
+        LOGGER = LogManager.getLogger(Connection.class);
+
+        MAX_REPLIES = 64;
+    } //static
+
+    /**
+     * The {@link WebSocketSession} of this {@link Connection}.
+     */
+    private final WebSocketSession session;
+
+    /**
+     * The {@link Executor} of this {@link Connection}, which sends its frames.
+     */
+    private final Executor executor;
+
+    /**
+     * The send time limit of this {@link Connection}, in nanoseconds.
+     */
+    private final long sendTimeLimitNanos;
+
+    /**
+     * The {@link Counter} of the frames of this {@link Connection} that were replaced before they were sent.
+     */
+    private final Counter coalesced;
+
+    /**
+     * The {@link Counter} of the connections that were dropped for being too slow.
+     */
+    private final Counter dropped;
+
+    /**
+     * The topics of this {@link Connection}.
+     */
+    private final Set<String> topics;
+
+    /**
+     * The lock of this {@link Connection}, which guards its unsent frames.
+     */
+    private final Object lock;
+
+    /**
+     * The unsent topic frames of this {@link Connection}, by topic.
+     */
+    private final Map<String, TextMessage> pending;
+
+    /**
+     * The unsent replies of this {@link Connection}, which are sent before any topic frame.
+     */
+    private final Deque<TextMessage> replies;
+
+    /**
+     * Whether a thread is sending the frames of this {@link Connection}.
+     */
+    private boolean draining;
+
+    /**
+     * The time at which the current send of this {@link Connection} started, or {@code 0} if none is in progress.
+     */
+    private volatile long sendStartedAt;
+
+    /**
+     * Whether this {@link Connection} has been dropped.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Constructs an instance of the {@link Connection} class.
+     *
+     * @param session the {@link WebSocketSession} to be used in the operation
+     * @param executor the {@link Executor} to be used in the operation
+     * @param sendTimeLimit the send time limit to be used in the operation
+     * @param coalesced the {@link Counter} of replaced frames to be used in the operation
+     * @param dropped the {@link Counter} of dropped connections to be used in the operation
+     */
+    Connection(WebSocketSession session, Executor executor, Duration sendTimeLimit, Counter coalesced,
+               Counter dropped) {
+        this.session = session;
+
+        this.executor = executor;
+
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+
+        this.coalesced = coalesced;
+
+        this.dropped = dropped;
+
+        this.topics = ConcurrentHashMap.newKeySet();
+
+        this.lock = new Object();
+
+        this.pending = new LinkedHashMap<>();
+
+        this.replies = new ArrayDeque<>();
+
+        this.closed = new AtomicBoolean();
+    } //Connection
+
+    /**
+     * Returns the ID of this {@link Connection}, which is the ID of its {@link WebSocketSession}.
+     *
+     * @return the ID of this {@link Connection}
+     */
+    public String getId() {
+        return this.session.getId();
+    } //getId
+
+    /**
+     * Returns the topics of this {@link Connection}, which are maintained by its {@link SubscriptionHub}.
+     *
+     * @return the topics of this {@link Connection}
+     */
+    Set<String> getTopics() {
+        return this.topics;
+    } //getTopics
+
+    /**
+     * Returns whether the current send of this {@link Connection} has been blocked for longer than the send time
+     * limit.
+     *
+     * @return {@code true} if this {@link Connection} is too slow, otherwise {@code false}
+     */
+    private boolean isSlow() {
+        long startedAt = this.sendStartedAt;
+
+        if (startedAt == 0L) {
+            return false;
+        } //end if
+
+        long elapsed = System.nanoTime() - startedAt;
+
+        return elapsed > this.sendTimeLimitNanos;
+    } //isSlow
+
+    /**
+     * Queues the specified frame of the specified topic, replacing the unsent frame of the topic if there is one. The
+     * connection is dropped instead if it is too slow.
+     *
+     * @param topic the topic to be used in the operation
+     * @param frame the frame to be used in the operation
+     */
+    void offer(String topic, TextMessage frame) {
+        if (this.isSlow()) {
+            this.drop();
+
+            return;
+        } //end if
+
+        boolean start;
+
+        synchronized (this.lock) {
+            TextMessage previous = this.pending.put(topic, frame);
+
+            if (previous != null) {
+                this.coalesced.increment();
+            } //end if
+
+            start = !this.draining;
+
+            this.draining = true;
+        } //end synchronized
+
+        if (start) {
+            this.executor.execute(this::drain);
+        } //end if
+    } //offer
+
+    /**
+     * Queues the specified reply, which is sent before any topic frame. The connection is dropped instead if it has
+     * too many unsent replies.
+     *
+     * @param reply the reply to be used in the operation
+     * @throws NullPointerException if the specified reply is {@code null}
+     */
+    public void reply(TextMessage reply) {
+        Objects.requireNonNull(reply, "the specified reply is null");
+
+        boolean overflowed;
+
+        boolean start;
+
+        synchronized (this.lock) {
+            overflowed = this.replies.size() >= MAX_REPLIES;
+
+            if (!overflowed) {
+                this.replies.add(reply);
+            } //end if
+
+            start = !overflowed && !this.draining;
+
+            if (start) {
+                this.draining = true;
+            } //end if
+        } //end synchronized
+
+        if (overflowed) {
+            this.drop();
+        } else if (start) {
+            this.executor.execute(this::drain);
+        } //end if
+    } //reply
+
+    /**
+     * Returns the next unsent frame of this {@link Connection}, or {@code null} if there is none, in which case it is
+     * no longer draining.
+     *
+     * @return the next unsent frame of this {@link Connection}, or {@code null} if there is none
+     */
+    private TextMessage next() {
+        synchronized (this.lock) {
+            TextMessage reply = this.replies.poll();
+
+            if (reply != null) {
+                return reply;
+            } //end if
+
+            Iterator<TextMessage> iterator = this.pending.values()
+                                                         .iterator();
+
+            if (!iterator.hasNext()) {
+                this.draining = false;
+
+                return null;
+            } //end if
+
+            TextMessage frame = iterator.next();
+
+            iterator.remove();
+
+            return frame;
+        } //end synchronized
+    } //next
+
+    /**
+     * Sends the unsent frames of this {@link Connection} until there are none left.
+     */
+    private void drain() {
+        TextMessage frame;
+
+        while ((frame = this.next()) != null) {
+            if (!this.session.isOpen()) {
+                continue;
+            } //end if
+
+            this.sendStartedAt = System.nanoTime();
+
+            try {
+                this.session.sendMessage(frame);
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.atDebug()
+                      .withThrowable(e)
+                      .log("Error in sending a frame of the connection %s".formatted(this.getId()));
+
+                this.drop();
+            } finally {
+                this.sendStartedAt = 0L;
+            } //end try catch finally
+        } //end while
+    } //drain
+
+    /**
+     * Drops this {@link Connection}, which closes its {@link WebSocketSession}. The {@link SubscriptionHub} removes it
+     * once the session is closed.
+     */
+    void drop() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        } //end if
+
+        this.dropped.increment();
+
+        synchronized (this.lock) {
+            this.pending.clear();
+
+            this.replies.clear();
+        } //end synchronized
+
+        try {
+            this.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            LOGGER.atDebug()
+                  .withThrowable(e)
+                  .log("Error in closing the connection %s".formatted(this.getId()));
+        } //end try catch
+    } //drop
+}
\ No newline at end of file
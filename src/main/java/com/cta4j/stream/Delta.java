@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes between two snapshots of a result, such as the arrivals of a station. A client that holds the snapshot
+ * with the {@code since} sequence number applies the changes to it to get the snapshot with the {@code sequence}
+ * sequence number. A reset delta, which is sent when the client's snapshot is unknown, adds every element of the
+ * snapshot to an empty one.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param sequence the sequence number of the snapshot of this delta
+ * @param since the sequence number of the snapshot this delta applies to, or {@code 0} if it is a reset
+ * @param reset whether this delta replaces the client's snapshot rather than changing it
+ * @param added the elements of this delta that were added
+ * @param updated the elements of this delta that were changed, which replace the elements with the same identity
+ * @param removed the identities of the elements of this delta that were removed
+ * @param <T> the type of the elements of this delta
+ */
+public record Delta<T>(long sequence, long since, boolean reset, List<T> added, List<T> updated,
+                       List<String> removed) {
+    /**
+     * Constructs an instance of the {@link Delta} class.
+     *
+     * @param sequence the sequence number to be used in the operation
+     * @param since the sequence number of the snapshot the delta applies to to be used in the operation
+     * @param reset whether the delta replaces the client's snapshot to be used in the operation
+     * @param added the added elements to be used in the operation
+     * @param updated the changed elements to be used in the operation
+     * @param removed the identities of the removed elements to be used in the operation
+     * @throws NullPointerException if the specified {@link List} of added elements, changed elements, or removed
+     * identities is {@code null}
+     */
+    public Delta {
+        Objects.requireNonNull(added, "the specified list of added elements is null");
+
+        Objects.requireNonNull(updated, "the specified list of updated elements is null");
+
+        Objects.requireNonNull(removed, "the specified list of removed identities is null");
+
+        added = List.copyOf(added);
+
+        updated = List.copyOf(updated);
+
+        removed = List.copyOf(removed);
+    } //Delta
+
+}
\ No newline at end of file
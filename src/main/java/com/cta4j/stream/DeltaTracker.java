@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A tracker of the successive snapshots of keyed results, such as the arrivals of each station, that answers a
+ * client holding an earlier snapshot with the {@link Delta} to the latest one. Each distinct snapshot of a key gets a
+ * new sequence number, and the last few snapshots of each key are kept; a client whose snapshot is no longer kept, or
+ * was never issued by this tracker, is sent a reset. Sequence numbers start from the current time in microseconds, so
+ * the numbers issued after a restart never match the ones issued before it. Once the tracker holds the maximum number
+ * of keys, the least recently used key is evicted.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this tracker
+ * @param <T> the type of the elements of the snapshots of this tracker
+ */
+public final class DeltaTracker<K, T> {
+    /**
+     * A snapshot of a {@link DeltaTracker}.
+     *
+     * @param sequence the sequence number of this snapshot
+     * @param elements the elements of this snapshot, by identity
+     * @param <T> the type of the elements of this snapshot
+     */
+    private record Version<T>(long sequence, Map<String, T> elements) {
+    } //Version
+
+    /**
+     * The function of this {@link DeltaTracker} that returns the identity of an element.
+     */
+    private final Function<T, String> identity;
+
+    /**
+     * The number of snapshots of each key of this {@link DeltaTracker} that are kept.
+     */
+    private final int maxVersions;
+
+    /**
+     * The source of the sequence numbers of this {@link DeltaTracker}.
+     */
+    private final AtomicLong sequences;
+
+    /**
+     * The kept snapshots of this {@link DeltaTracker}, by key, in least recently used order.
+     */
+    private final Map<K, Deque<Version<T>>> histories;
+
+    /**
+     * Constructs an instance of the {@link DeltaTracker} class.
+     *
+     * @param identity the function that returns the identity of an element
+     * @param maxVersions the number of snapshots of each key to be kept
+     * @param maxKeys the maximum number of keys to be used in the operation
+     * @throws NullPointerException if the specified function is {@code null}
+     * @throws IllegalArgumentException if the specified number of snapshots or maximum number of keys is less than
+     * one
+     */
+    public DeltaTracker(Function<T, String> identity, int maxVersions, int maxKeys) {
+        Objects.requireNonNull(identity, "the specified identity function is null");
+
+        if (maxVersions < 1) {
+            throw new IllegalArgumentException("the specified number of snapshots is less than one");
+        } //end if
+
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("the specified maximum number of keys is less than one");
+        } //end if
+
+        this.identity = identity;
+
+        this.maxVersions = maxVersions;
+
+        long epochMicros = Instant.now()
+                                  .toEpochMilli() * 1_000L;
+
+        this.sequences = new AtomicLong(epochMicros);
+
+        this.histories = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Deque<Version<T>>> eldest) {
+                return this.size() > maxKeys;
+            } //removeEldestEntry
+        };
+    } //DeltaTracker
+
+    /**
+     * Records the specified snapshot of the specified key, and returns the {@link Delta} from the snapshot with the
+     * specified sequence number to it. The snapshot only gets a new sequence number if it differs from the previous
+     * snapshot of the key.
+     *
+     * @param key the key to be used in the operation
+     * @param elements the elements of the snapshot to be used in the operation, in the order they are to be sent
+     * @param since the sequence number of the client's snapshot, or {@code 0} if it has none
+     * @return the {@link Delta} from the snapshot with the specified sequence number to the specified snapshot
+     * @throws NullPointerException if the specified key or {@link Collection} of elements is {@code null}
+     */
+    public Delta<T> update(K key, Collection<T> elements, long since) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(elements, "the specified collection of elements is null");
+
+        Map<String, T> snapshot = new LinkedHashMap<>();
+
+        for (T element : elements) {
+            String id = this.identity.apply(element);
+
+            snapshot.put(id, element);
+        } //end for
+
+        Version<T> current;
+
+        Version<T> base = null;
+
+        synchronized (this.histories) {
+            Deque<Version<T>> history = this.histories.computeIfAbsent(key, k -> new ArrayDeque<>());
+
+            current = history.peekLast();
+
+            if ((current == null) || !current.elements()
+                                             .equals(snapshot)) {
+                current = new Version<>(this.sequences.incrementAndGet(), snapshot);
+
+                history.addLast(current);
+
+                if (history.size() > this.maxVersions) {
+                    history.removeFirst();
+                } //end if
+            } //end if
+
+            for (Version<T> version : history) {
+                if (version.sequence() == since) {
+                    base = version;
+
+                    break;
+                } //end if
+            } //end for
+        } //end synchronized
+
+        Map<String, T> currentElements = current.elements();
+
+        if (base == null) {
+            List<T> added = new ArrayList<>(currentElements.values());
+
+            return new Delta<>(current.sequence(), 0L, true, added, List.of(), List.of());
+        } //end if
+
+        Map<String, T> baseElements = base.elements();
+
+        List<T> added = new ArrayList<>();
+
+        List<T> updated = new ArrayList<>();
+
+        List<String> removed = new ArrayList<>();
+
+        currentElements.forEach((id, element) -> {
+            T previous = baseElements.get(id);
+
+            if (previous == null) {
+                added.add(element);
+            } else if (!previous.equals(element)) {
+                updated.add(element);
+            } //end if
+        });
+
+        for (String id : baseElements.keySet()) {
+            if (!currentElements.containsKey(id)) {
+                removed.add(id);
+            } //end if
+        } //end for
+
+        return new Delta<>(current.sequence(), since, false, added, updated, removed);
+    } //update
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.Objects;
+
+/**
+ * The WebSocket handler of the CTA4j application, which connects clients to the {@link SubscriptionHub}. A client
+ * sends messages such as {@code {"action": "subscribe", "topics": ["bus:1828", "train:40380"]}} or
+ * {@code {"action": "unsubscribe", "topics": ["bus:1828"]}}, and is sent a reply for each topic and a frame of type
+ * {@code update} whenever a topic changes.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Component
+public final class HubWebSocketHandler extends TextWebSocketHandler {
+    /**
+     * The name of the session attribute that holds the {@link Connection} of a session.
+     */
+    private static final String CONNECTION_ATTRIBUTE;
+
+    static {
+        CONNECTION_ATTRIBUTE = "cta4j.connection";
+    } //static
+
+    /**
+     * The {@link SubscriptionHub} of this {@link HubWebSocketHandler}.
+     */
+    private final SubscriptionHub hub;
+
+    /**
+     * The {@link ObjectMapper} of this {@link HubWebSocketHandler}.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs an instance of the {@link HubWebSocketHandler} class.
+     *
+     * @param hub the {@link SubscriptionHub} to be used in the operation
+     * @param objectMapper the {@link ObjectMapper} to be used in the operation
+     * @throws NullPointerException if the specified {@link SubscriptionHub} or {@link ObjectMapper} is {@code null}
+     */
+    public HubWebSocketHandler(SubscriptionHub hub, ObjectMapper objectMapper) {
+        Objects.requireNonNull(hub, "the specified hub is null");
+
+        Objects.requireNonNull(objectMapper, "the specified object mapper is null");
+
+        this.hub = hub;
+
+        this.objectMapper = objectMapper;
+    } //HubWebSocketHandler
+
+    /**
+     * Sends a reply of the specified type to the specified {@link Connection}.
+     *
+     * @param connection the {@link Connection} to be used in the operation
+     * @param type the type of the reply to be used in the operation
+     * @param field the name of the field of the reply to be used in the operation
+     * @param value the value of the field of the reply to be used in the operation
+     * @throws JsonProcessingException if the reply cannot be serialized
+     */
+    private void reply(Connection connection, String type, String field, String value)
+        throws JsonProcessingException {
+        ObjectNode node = this.objectMapper.createObjectNode()
+                                           .put("type", type)
+                                           .put(field, value);
+
+        String payload = this.objectMapper.writeValueAsString(node);
+
+        TextMessage reply = new TextMessage(payload);
+
+        connection.reply(reply);
+    } //reply
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        Connection connection = this.hub.connect(session);
+
+        session.getAttributes()
+               .put(CONNECTION_ATTRIBUTE, connection);
+    } //afterConnectionEstablished
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws JsonProcessingException {
+        Connection connection = (Connection) session.getAttributes()
+                                                    .get(CONNECTION_ATTRIBUTE);
+
+        JsonNode node;
+
+        try {
+            node = this.objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            this.reply(connection, "error", "message", "the message is not valid JSON");
+
+            return;
+        } //end try catch
+
+        String action = node.path("action")
+                            .asText();
+
+        JsonNode topics = node.path("topics");
+
+        if (!topics.isArray()) {
+            this.reply(connection, "error", "message", "the message does not include an array of topics");
+
+            return;
+        } //end if
+
+        for (JsonNode topic : topics) {
+            String name = topic.asText();
+
+            try {
+                switch (action) {
+                    case "subscribe" -> {
+                        this.hub.subscribe(connection, name);
+
+                        this.reply(connection, "subscribed", "topic", name);
+                    } //case "subscribe"
+                    case "unsubscribe" -> {
+                        this.hub.unsubscribe(connection, name);
+
+                        this.reply(connection, "unsubscribed", "topic", name);
+                    } //case "unsubscribe"
+                    default -> {
+                        String errorMessage = "the action \"%s\" is not supported".formatted(action);
+
+                        this.reply(connection, "error", "message", errorMessage);
+
+                        return;
+                    } //default
+                } //end switch
+            } catch (IllegalArgumentException e) {
+                this.reply(connection, "error", "message", e.getMessage());
+            } //end try catch
+        } //end for
+    } //handleTextMessage
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = (Connection) session.getAttributes()
+                                                    .remove(CONNECTION_ATTRIBUTE);
+
+        if (connection != null) {
+            this.hub.disconnect(connection);
+        } //end if
+    } //afterConnectionClosed
+}
\ No newline at end of file
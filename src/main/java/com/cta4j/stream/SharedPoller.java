@@ -0,0 +1,414 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A poller that shares one upstream poll between every subscriber of the same key. The first subscriber of a key
+ * starts its poll, and the last one to leave stops it, so upstream load scales with the number of distinct keys rather
+ * than the number of subscribers. A value is fanned out only when its payload differs from the previous payload of its
+ * key, and a new subscriber is sent the latest value right away. A fetched payload is only encoded into the value that
+ * is fanned out once it is known to have changed.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this poller
+ * @param <V> the type of the values of this poller
+ */
+public final class SharedPoller<K, V> implements AutoCloseable {
+    /**
+     * The {@link Logger} of the {@link SharedPoller} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(SharedPoller.class);
+    } //static
+
+    /**
+     * A fetched payload of a {@link SharedPoller}, as the part of it that is compared with the previous payload of its
+     * key and the value it is encoded into.
+     *
+     * @param identity the part of the payload that is compared with the previous payload of its key
+     * @param encoder the encoder of the value the payload is fanned out as
+     * @param <V> the type of the value
+     */
+    private record Polled<V>(Object identity, Supplier<V> encoder) {
+    } //Polled
+
+    /**
+     * The poll of a key of a {@link SharedPoller}.
+     */
+    private final class Poll {
+        /**
+         * The key of this poll.
+         */
+        private final K key;
+
+        /**
+         * The listeners of this poll.
+         */
+        private final Set<Consumer<V>> listeners;
+
+        /**
+         * Whether a fetch of this poll is in flight.
+         */
+        private final AtomicBoolean inFlight;
+
+        /**
+         * The latest value of this poll, or {@code null} if none has been fetched.
+         */
+        private volatile V latest;
+
+        /**
+         * The identity of the payload of the latest value of this poll, or {@code null} if none has been fetched.
+         */
+        private volatile Object latestIdentity;
+
+        /**
+         * The scheduled task of this poll, or {@code null} if it has not been started.
+         */
+        private ScheduledFuture<?> task;
+
+        /**
+         * Constructs an instance of the {@link Poll} class.
+         *
+         * @param key the key to be used in the operation
+         */
+        private Poll(K key) {
+            this.key = key;
+
+            this.listeners = new CopyOnWriteArraySet<>();
+
+            this.inFlight = new AtomicBoolean();
+        } //Poll
+
+        /**
+         * Fetches the payload of this poll, and encodes and fans it out if it changed. A tick is skipped while the
+         * previous fetch is still in flight.
+         */
+        private void tick() {
+            if (!this.inFlight.compareAndSet(false, true)) {
+                return;
+            } //end if
+
+            CompletableFuture<Polled<V>> future;
+
+            try {
+                future = SharedPoller.this.fetcher.apply(this.key);
+            } catch (RuntimeException e) {
+                this.inFlight.set(false);
+
+                this.logFailure(e);
+
+                return;
+            } //end try catch
+
+            future.whenCompleteAsync((polled, throwable) -> {
+                this.inFlight.set(false);
+
+                if (throwable != null) {
+                    this.logFailure(throwable);
+
+                    return;
+                } else if ((this.latest != null) && Objects.equals(polled.identity(), this.latestIdentity)) {
+                    return;
+                } //end if
+
+                V value;
+
+                try {
+                    value = polled.encoder()
+                                  .get();
+                } catch (RuntimeException e) {
+                    this.logFailure(e);
+
+                    return;
+                } //end try catch
+
+                this.latestIdentity = polled.identity();
+
+                this.latest = value;
+
+                this.listeners.forEach(listener -> SharedPoller.this.notify(listener, value));
+            }, SharedPoller.this.scheduler);
+        } //tick
+
+        /**
+         * Logs the specified failure of a fetch of this poll.
+         *
+         * @param throwable the failure to be used in the operation
+         */
+        private void logFailure(Throwable throwable) {
+            String message = "Error in polling the %s stream for the key %s".formatted(SharedPoller.this.name,
+                                                                                      this.key);
+
+            LOGGER.atError()
+                  .withThrowable(throwable)
+                  .log(message);
+        } //logFailure
+    } //Poll
+
+    /**
+     * The name of this {@link SharedPoller}.
+     */
+    private final String name;
+
+    /**
+     * The function of this {@link SharedPoller} that fetches the payload of a key.
+     */
+    private final Function<K, CompletableFuture<Polled<V>>> fetcher;
+
+    /**
+     * The interval between the polls of a key of this {@link SharedPoller}.
+     */
+    private final Duration interval;
+
+    /**
+     * The {@link ScheduledExecutorService} of this {@link SharedPoller}, which runs the polls and the fan-outs.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The polls of this {@link SharedPoller}, by key.
+     */
+    private final ConcurrentHashMap<K, Poll> polls;
+
+    /**
+     * The number of subscribers of this {@link SharedPoller}.
+     */
+    private final AtomicInteger subscribers;
+
+    /**
+     * Constructs an instance of the {@link SharedPoller} class.
+     *
+     * @param name the name of the stream to be used in the operation
+     * @param fetcher the function that fetches the value of a key
+     * @param interval the interval between the polls of a key
+     * @param threads the number of threads that run the polls and the fan-outs
+     * @throws NullPointerException if the specified name, function, or interval is {@code null}
+     * @throws IllegalArgumentException if the specified interval is not positive, or the specified number of threads
+     * is less than one
+     */
+    public SharedPoller(String name, Function<K, CompletableFuture<V>> fetcher, Duration interval, int threads) {
+        this(name, fetcher, Function.identity(), Function.identity(), interval, threads);
+    } //SharedPoller
+
+    /**
+     * Constructs an instance of the {@link SharedPoller} class that compares the payloads of a key on the specified
+     * part of them, and fans each changed payload out as the value it is encoded into by the specified encoder.
+     *
+     * @param name the name of the stream to be used in the operation
+     * @param fetcher the function that fetches the payload of a key
+     * @param identity the function that returns the part of a payload that is compared with the previous payload of
+     * its key
+     * @param encoder the function that encodes a changed payload into the value it is fanned out as, which may throw
+     * an unchecked exception if the payload cannot be encoded
+     * @param interval the interval between the polls of a key
+     * @param threads the number of threads that run the polls and the fan-outs
+     * @param <P> the type of the payloads
+     * @throws NullPointerException if the specified name, any of the specified functions, or the specified interval
+     * is {@code null}
+     * @throws IllegalArgumentException if the specified interval is not positive, or the specified number of threads
+     * is less than one
+     */
+    public <P> SharedPoller(String name, Function<K, CompletableFuture<P>> fetcher, Function<? super P, ?> identity,
+                            Function<? super P, ? extends V> encoder, Duration interval, int threads) {
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(fetcher, "the specified fetcher is null");
+
+        Objects.requireNonNull(identity, "the specified identity function is null");
+
+        Objects.requireNonNull(encoder, "the specified encoder is null");
+
+        Objects.requireNonNull(interval, "the specified interval is null");
+
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("the specified interval is not positive");
+        } //end if
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("the specified number of threads is less than one");
+        } //end if
+
+        this.name = name;
+
+        this.fetcher = key -> fetcher.apply(key)
+                                     .thenApply(payload -> new Polled<>(identity.apply(payload),
+                                                                         () -> encoder.apply(payload)));
+
+        this.interval = interval;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            String threadName = "cta4j-%s-poller-%d".formatted(name, threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, threadName);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        this.scheduler = Executors.newScheduledThreadPool(threads, threadFactory);
+
+        this.polls = new ConcurrentHashMap<>();
+
+        this.subscribers = new AtomicInteger();
+
+        Gauge.builder("cta4j.stream.keys", this.polls, ConcurrentHashMap::size)
+             .tag("stream", name)
+             .register(Metrics.globalRegistry);
+
+        Gauge.builder("cta4j.stream.subscribers", this.subscribers, AtomicInteger::get)
+             .tag("stream", name)
+             .register(Metrics.globalRegistry);
+    } //SharedPoller
+
+    /**
+     * Passes the specified value to the specified listener. A listener that throws is logged, so it cannot stop the
+     * fan-out to the others.
+     *
+     * @param listener the listener to be used in the operation
+     * @param value the value to be used in the operation
+     */
+    private void notify(Consumer<V> listener, V value) {
+        try {
+            listener.accept(value);
+        } catch (RuntimeException e) {
+            String message = "Error in notifying a listener of the %s stream".formatted(this.name);
+
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log(message);
+        } //end try catch
+    } //notify
+
+    /**
+     * Subscribes the specified listener to the values of the specified key. The listener is called with the latest
+     * value of the key, if there is one, and then with every value that differs from the previous one, on a thread of
+     * this poller. Each subscription must use its own listener instance.
+     *
+     * @param key the key to be used in the operation
+     * @param listener the listener to be used in the operation
+     * @return a {@link Runnable} that cancels the subscription, which may be run more than once
+     * @throws NullPointerException if the specified key or listener is {@code null}
+     */
+    public Runnable subscribe(K key, Consumer<V> listener) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(listener, "the specified listener is null");
+
+        Poll poll = this.polls.compute(key, (k, existing) -> {
+            Poll current = (existing == null) ? new Poll(k) : existing;
+
+            if (current.listeners.add(listener)) {
+                this.subscribers.incrementAndGet();
+            } //end if
+
+            if (current.task == null) {
+                long intervalMillis = this.interval.toMillis();
+
+                current.task = this.scheduler.scheduleWithFixedDelay(current::tick, 0, intervalMillis,
+                                                                     TimeUnit.MILLISECONDS);
+            } //end if
+
+            return current;
+        });
+
+        V latest = poll.latest;
+
+        if (latest != null) {
+            this.scheduler.execute(() -> this.notify(listener, latest));
+        } //end if
+
+        return () -> this.unsubscribe(key, listener);
+    } //subscribe
+
+    /**
+     * Unsubscribes the specified listener from the values of the specified key, and stops the poll of the key if it
+     * was the last listener.
+     *
+     * @param key the key to be used in the operation
+     * @param listener the listener to be used in the operation
+     */
+    private void unsubscribe(K key, Consumer<V> listener) {
+        this.polls.computeIfPresent(key, (k, poll) -> {
+            if (poll.listeners.remove(listener)) {
+                this.subscribers.decrementAndGet();
+            } //end if
+
+            if (!poll.listeners.isEmpty()) {
+                return poll;
+            } //end if
+
+            poll.task.cancel(false);
+
+            return null;
+        });
+    } //unsubscribe
+
+    /**
+     * Returns the number of keys being polled by this {@link SharedPoller}.
+     *
+     * @return the number of keys being polled by this {@link SharedPoller}
+     */
+    public int size() {
+        return this.polls.size();
+    } //size
+
+    /**
+     * Stops every poll of this {@link SharedPoller}.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+
+        this.polls.clear();
+    } //close
+}
\ No newline at end of file
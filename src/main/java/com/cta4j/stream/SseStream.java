@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Counter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A server-sent event stream of {@link SseStreams}. Events are sent by at most one thread at a time, off the thread
+ * that produced them, and at most one event waits to be sent: a new value replaces the unsent one, so a slow client
+ * receives the latest value rather than every value, and a stream whose send has been blocked for longer than the
+ * send time limit is dropped.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+final class SseStream implements Consumer<String> {
+    /**
+     * The {@link Logger} of the {@link SseStream} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The cancellation of an {@link SseStream} that has been closed.
+     */
+    private static final Runnable CANCELLED;
+
+    static {
+        LOGGER = LogManager.getLogger(SseStream.class);
+
+        CANCELLED = () -> {
+        };
+    } //static
+
+    /**
+     * The {@link SseEmitter} of this {@link SseStream}.
+     */
+    private final SseEmitter emitter;
+
+    /**
+     * The name of the events of this {@link SseStream}.
+     */
+    private final String eventName;
+
+    /**
+     * The {@link Executor} of this {@link SseStream}, which sends its events.
+     */
+    private final Executor executor;
+
+    /**
+     * The send time limit of this {@link SseStream}, in nanoseconds.
+     */
+    private final long sendTimeLimitNanos;
+
+    /**
+     * The {@link Counter} of the events of this {@link SseStream} that were replaced before they were sent.
+     */
+    private final Counter coalesced;
+
+    /**
+     * The {@link Counter} of the streams that were dropped for being too slow.
+     */
+    private final Counter dropped;
+
+    /**
+     * The lock of this {@link SseStream}, which guards its unsent value.
+     */
+    private final Object lock;
+
+    /**
+     * The unsent value of this {@link SseStream}, or {@code null} if there is none.
+     */
+    private String pending;
+
+    /**
+     * Whether a thread is sending the events of this {@link SseStream}.
+     */
+    private boolean draining;
+
+    /**
+     * The time at which the current send of this {@link SseStream} started, or {@code 0} if none is in progress.
+     */
+    private volatile long sendStartedAt;
+
+    /**
+     * The cancellation of the subscription of this {@link SseStream}, or {@code null} if it has not been bound.
+     */
+    private final AtomicReference<Runnable> cancel;
+
+    /**
+     * Whether this {@link SseStream} has been closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Constructs an instance of the {@link SseStream} class.
+     *
+     * @param emitter the {@link SseEmitter} to be used in the operation
+     * @param eventName the name of the events to be used in the operation
+     * @param executor the {@link Executor} to be used in the operation
+     * @param sendTimeLimit the send time limit to be used in the operation
+     * @param coalesced the {@link Counter} of replaced events to be used in the operation
+     * @param dropped the {@link Counter} of dropped streams to be used in the operation
+     */
+    SseStream(SseEmitter emitter, String eventName, Executor executor, Duration sendTimeLimit, Counter coalesced,
+              Counter dropped) {
+        this.emitter = emitter;
+
+        this.eventName = eventName;
+
+        this.executor = executor;
+
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+
+        this.coalesced = coalesced;
+
+        this.dropped = dropped;
+
+        this.lock = new Object();
+
+        this.cancel = new AtomicReference<>();
+
+        this.closed = new AtomicBoolean();
+    } //SseStream
+
+    /**
+     * Binds the specified cancellation to this {@link SseStream}. The cancellation is run right away if this stream
+     * has already been closed.
+     *
+     * @param unsubscribe the cancellation to be used in the operation
+     */
+    void bind(Runnable unsubscribe) {
+        if (!this.cancel.compareAndSet(null, unsubscribe)) {
+            unsubscribe.run();
+        } //end if
+    } //bind
+
+    /**
+     * Returns whether the current send of this {@link SseStream} has been blocked for longer than the send time limit.
+     *
+     * @return {@code true} if this {@link SseStream} is too slow, otherwise {@code false}
+     */
+    private boolean isSlow() {
+        long startedAt = this.sendStartedAt;
+
+        if (startedAt == 0L) {
+            return false;
+        } //end if
+
+        long elapsed = System.nanoTime() - startedAt;
+
+        return elapsed > this.sendTimeLimitNanos;
+    } //isSlow
+
+    /**
+     * Queues the specified value, replacing the unsent value if there is one. The stream is dropped instead if it is
+     * too slow.
+     *
+     * @param json the value to be used in the operation
+     */
+    @Override
+    public void accept(String json) {
+        if (this.closed.get()) {
+            return;
+        } else if (this.isSlow()) {
+            this.drop();
+
+            return;
+        } //end if
+
+        boolean start;
+
+        synchronized (this.lock) {
+            String previous = this.pending;
+
+            this.pending = json;
+
+            if (previous != null) {
+                this.coalesced.increment();
+            } //end if
+
+            start = !this.draining;
+
+            this.draining = true;
+        } //end synchronized
+
+        if (start) {
+            this.executor.execute(this::drain);
+        } //end if
+    } //accept
+
+    /**
+     * Returns the unsent value of this {@link SseStream}, or {@code null} if there is none, in which case it is no
+     * longer draining.
+     *
+     * @return the unsent value of this {@link SseStream}, or {@code null} if there is none
+     */
+    private String next() {
+        synchronized (this.lock) {
+            String json = this.pending;
+
+            this.pending = null;
+
+            if (json == null) {
+                this.draining = false;
+            } //end if
+
+            return json;
+        } //end synchronized
+    } //next
+
+    /**
+     * Sends the unsent values of this {@link SseStream} until there are none left.
+     */
+    private void drain() {
+        String json;
+
+        while ((json = this.next()) != null) {
+            if (this.closed.get()) {
+                continue;
+            } //end if
+
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                                                         .name(this.eventName)
+                                                         .data(json, MediaType.APPLICATION_JSON);
+
+            this.sendStartedAt = System.nanoTime();
+
+            try {
+                this.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.atDebug()
+                      .withThrowable(e)
+                      .log("Error in sending a %s event".formatted(this.eventName));
+
+                if (this.close()) {
+                    this.emitter.completeWithError(e);
+                } //end if
+            } finally {
+                this.sendStartedAt = 0L;
+            } //end try catch finally
+        } //end while
+    } //drain
+
+    /**
+     * Drops this {@link SseStream} for being too slow, which completes its {@link SseEmitter} with an error.
+     */
+    private void drop() {
+        if (!this.close()) {
+            return;
+        } //end if
+
+        this.dropped.increment();
+
+        IOException exception = new IOException("the %s stream is too slow".formatted(this.eventName));
+
+        this.emitter.completeWithError(exception);
+    } //drop
+
+    /**
+     * Closes this {@link SseStream}, which cancels its subscription and discards its unsent value.
+     *
+     * @return {@code true} if this call closed this {@link SseStream}, or {@code false} if it was already closed
+     */
+    boolean close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return false;
+        } //end if
+
+        synchronized (this.lock) {
+            this.pending = null;
+        } //end synchronized
+
+        Runnable unsubscribe = this.cancel.getAndSet(CANCELLED);
+
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        } //end if
+
+        return true;
+    } //close
+}
\ No newline at end of file
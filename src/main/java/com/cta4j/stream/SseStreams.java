@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A sender of {@link SharedPoller} values as server-sent events. The events of each {@link SseEmitter} are sent from
+ * a pool of its own rather than from the thread of the poller, so a slow client cannot hold up the fan-out to every
+ * other client. A slow client receives the latest value rather than every value, and its stream is dropped once a
+ * send has been blocked for longer than the send time limit.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class SseStreams implements AutoCloseable {
+    /**
+     * The {@link ExecutorService} of this {@link SseStreams}, which sends the events of its streams.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The longest a send of this {@link SseStreams} may be blocked before its stream is dropped.
+     */
+    private final Duration sendTimeLimit;
+
+    /**
+     * The {@link Counter} of the events that were replaced before they were sent.
+     */
+    private final Counter coalesced;
+
+    /**
+     * The {@link Counter} of the streams that were dropped.
+     */
+    private final Counter dropped;
+
+    /**
+     * Constructs an instance of the {@link SseStreams} class.
+     *
+     * @param sendTimeLimit the longest a send may be blocked before its stream is dropped
+     * @param threads the number of threads that send events
+     * @throws NullPointerException if the specified send time limit is {@code null}
+     * @throws IllegalArgumentException if the specified number of threads is less than one
+     */
+    public SseStreams(Duration sendTimeLimit, int threads) {
+        Objects.requireNonNull(sendTimeLimit, "the specified send time limit is null");
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("the specified number of threads is less than one");
+        } //end if
+
+        this.sendTimeLimit = sendTimeLimit;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            String threadName = "cta4j-sse-%d".formatted(threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, threadName);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+
+        this.coalesced = Metrics.counter("cta4j.sse.events.coalesced");
+
+        this.dropped = Metrics.counter("cta4j.sse.streams.dropped");
+    } //SseStreams
+
+    /**
+     * Returns a new {@link SseEmitter} that sends every value of the specified key as an event with the specified
+     * name. The values are JSON documents that have already been serialized, so each change is serialized once no
+     * matter how many emitters it is sent to. The subscription is cancelled when the emitter completes, times out, or
+     * fails to send, or when it is dropped for being too slow.
+     *
+     * @param poller the {@link SharedPoller} to be used in the operation
+     * @param key the key to be used in the operation
+     * @param eventName the name of the events to be used in the operation
+     * @param timeoutMillis the timeout of the emitter, in milliseconds
+     * @param <K> the type of the key
+     * @return a new {@link SseEmitter} that sends every value of the specified key
+     * @throws NullPointerException if the specified {@link SharedPoller}, key, or event name is {@code null}
+     */
+    public <K> SseEmitter open(SharedPoller<K, String> poller, K key, String eventName, long timeoutMillis) {
+        Objects.requireNonNull(poller, "the specified poller is null");
+
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(eventName, "the specified event name is null");
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        SseStream stream = new SseStream(emitter, eventName, this.executor, this.sendTimeLimit, this.coalesced,
+                                         this.dropped);
+
+        emitter.onCompletion(stream::close);
+
+        emitter.onTimeout(stream::close);
+
+        emitter.onError(throwable -> stream.close());
+
+        Runnable unsubscribe = poller.subscribe(key, stream);
+
+        stream.bind(unsubscribe);
+
+        return emitter;
+    } //open
+
+    /**
+     * Stops the threads that send the events of this {@link SseStreams}.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    } //close
+}
\ No newline at end of file
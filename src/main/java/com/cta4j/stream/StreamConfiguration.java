@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import com.cta4j.bus.controller.service.PredictionStreamService;
+import com.cta4j.follow.controller.service.FollowStreamService;
+import com.cta4j.train.controller.service.ArrivalStreamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The stream configuration of the CTA4j application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Configuration
+public class StreamConfiguration {
+    /**
+     * Returns the shared {@link SseStreams} of the CTA4j application, which sends the events of its server-sent event
+     * streams.
+     *
+     * @param sendTimeLimitMillis the longest a send may be blocked before its stream is dropped, in milliseconds
+     * @param threads the number of threads that send events
+     * @return the shared {@link SseStreams} of the CTA4j application
+     */
+    @Bean
+    public SseStreams sseStreams(@Value("${cta4j.stream.send-time-limit-millis:10000}") long sendTimeLimitMillis,
+                                 @Value("${cta4j.stream.send-threads:8}") int threads) {
+        Duration sendTimeLimit = Duration.ofMillis(sendTimeLimitMillis);
+
+        return new SseStreams(sendTimeLimit, threads);
+    } //sseStreams
+
+    /**
+     * Returns the shared {@link SubscriptionHub} of the CTA4j application. Its {@code bus}, {@code train}, and
+     * {@code follow} topics share their polls with the server-sent event streams of the same stops, stations, and
+     * runs.
+     *
+     * @param predictionStreamService the {@link PredictionStreamService} to be used in the operation
+     * @param arrivalStreamService the {@link ArrivalStreamService} to be used in the operation
+     * @param followStreamService the {@link FollowStreamService} to be used in the operation
+     * @param sendTimeLimitMillis the longest a send may be blocked before its connection is dropped, in milliseconds
+     * @param maxTopics the maximum number of topics of a connection
+     * @param threads the number of threads that send frames
+     * @return the shared {@link SubscriptionHub} of the CTA4j application
+     */
+    @Bean
+    public SubscriptionHub subscriptionHub(PredictionStreamService predictionStreamService,
+                                           ArrivalStreamService arrivalStreamService,
+                                           FollowStreamService followStreamService,
+                                           @Value("${cta4j.ws.send-time-limit-millis:10000}") long sendTimeLimitMillis,
+                                           @Value("${cta4j.ws.max-topics:64}") int maxTopics,
+                                           @Value("${cta4j.ws.threads:8}") int threads) {
+        Map<String, TopicSource> sources = Map.of("bus", predictionStreamService::subscribe,
+                                                  "train", arrivalStreamService::subscribe,
+                                                  "follow", followStreamService::subscribe);
+
+        Duration sendTimeLimit = Duration.ofMillis(sendTimeLimitMillis);
+
+        return new SubscriptionHub(sources, sendTimeLimit, maxTopics, threads);
+    } //subscriptionHub
+}
\ No newline at end of file
@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A hub that multiplexes topics, such as the predictions of a bus stop, over WebSocket {@link Connection}s. A topic
+ * is named by its kind and an ID, as in {@code bus:1828}, {@code train:40380}, or {@code follow:415}. The hub
+ * reference-counts its topics: the first connection to subscribe to a topic subscribes the hub to the topic's
+ * {@link TopicSource}, and the last one to leave cancels it. Every value of a topic is framed once and the same frame
+ * is sent to each of its connections.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class SubscriptionHub implements AutoCloseable {
+    /**
+     * The {@link Pattern} of the names of topics.
+     */
+    private static final Pattern TOPIC_PATTERN;
+
+    static {
+        TOPIC_PATTERN = Pattern.compile("([a-z]+):(\\d{1,9})");
+    } //static
+
+    /**
+     * A topic of a {@link SubscriptionHub}.
+     */
+    private static final class Topic {
+        /**
+         * The name of this topic.
+         */
+        private final String name;
+
+        /**
+         * The {@link Connection}s of this topic.
+         */
+        private final Set<Connection> connections;
+
+        /**
+         * The latest frame of this topic, or {@code null} if there is none.
+         */
+        private volatile TextMessage latest;
+
+        /**
+         * The {@link Runnable} that cancels the subscription of this topic to its source, or {@code null} if it has
+         * not been subscribed.
+         */
+        private Runnable cancel;
+
+        /**
+         * Constructs an instance of the {@link Topic} class.
+         *
+         * @param name the name to be used in the operation
+         */
+        private Topic(String name) {
+            this.name = name;
+
+            this.connections = new CopyOnWriteArraySet<>();
+        } //Topic
+
+        /**
+         * Frames the specified value of this topic and sends the frame to each of its {@link Connection}s.
+         *
+         * @param value the serialized value to be used in the operation
+         */
+        private void publish(String value) {
+            String payload = "{\"type\":\"update\",\"topic\":\"%s\",\"data\":%s}".formatted(this.name, value);
+
+            TextMessage frame = new TextMessage(payload);
+
+            this.latest = frame;
+
+            this.connections.forEach(connection -> connection.offer(this.name, frame));
+        } //publish
+    } //Topic
+
+    /**
+     * The {@link TopicSource}s of this {@link SubscriptionHub}, by kind.
+     */
+    private final Map<String, TopicSource> sources;
+
+    /**
+     * The send time limit of the {@link Connection}s of this {@link SubscriptionHub}.
+     */
+    private final Duration sendTimeLimit;
+
+    /**
+     * The maximum number of topics of a {@link Connection} of this {@link SubscriptionHub}.
+     */
+    private final int maxTopics;
+
+    /**
+     * The {@link ExecutorService} of this {@link SubscriptionHub}, which sends the frames of its {@link Connection}s.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The topics of this {@link SubscriptionHub}, by name.
+     */
+    private final ConcurrentHashMap<String, Topic> topics;
+
+    /**
+     * The number of {@link Connection}s of this {@link SubscriptionHub}.
+     */
+    private final AtomicInteger connections;
+
+    /**
+     * The {@link Counter} of the frames that were replaced before they were sent.
+     */
+    private final Counter coalesced;
+
+    /**
+     * The {@link Counter} of the connections that were dropped.
+     */
+    private final Counter dropped;
+
+    /**
+     * Constructs an instance of the {@link SubscriptionHub} class.
+     *
+     * @param sources the {@link TopicSource}s to be used in the operation, by kind
+     * @param sendTimeLimit the longest a send may be blocked before its {@link Connection} is dropped
+     * @param maxTopics the maximum number of topics of a {@link Connection}
+     * @param threads the number of threads that send frames
+     * @throws NullPointerException if the specified {@link Map} of {@link TopicSource}s or send time limit is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified maximum number of topics or number of threads is less than one
+     */
+    public SubscriptionHub(Map<String, TopicSource> sources, Duration sendTimeLimit, int maxTopics, int threads) {
+        Objects.requireNonNull(sources, "the specified map of sources is null");
+
+        Objects.requireNonNull(sendTimeLimit, "the specified send time limit is null");
+
+        if (maxTopics < 1) {
+            throw new IllegalArgumentException("the specified maximum number of topics is less than one");
+        } //end if
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("the specified number of threads is less than one");
+        } //end if
+
+        this.sources = Map.copyOf(sources);
+
+        this.sendTimeLimit = sendTimeLimit;
+
+        this.maxTopics = maxTopics;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            String threadName = "cta4j-hub-%d".formatted(threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, threadName);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+
+        this.topics = new ConcurrentHashMap<>();
+
+        this.connections = new AtomicInteger();
+
+        this.coalesced = Metrics.counter("cta4j.ws.frames.coalesced");
+
+        this.dropped = Metrics.counter("cta4j.ws.connections.dropped");
+
+        Gauge.builder("cta4j.ws.connections", this.connections, AtomicInteger::get)
+             .register(Metrics.globalRegistry);
+
+        Gauge.builder("cta4j.ws.topics", this.topics, ConcurrentHashMap::size)
+             .register(Metrics.globalRegistry);
+    } //SubscriptionHub
+
+    /**
+     * Returns a new {@link Connection} of this {@link SubscriptionHub} for the specified {@link WebSocketSession}.
+     *
+     * @param session the {@link WebSocketSession} to be used in the operation
+     * @return a new {@link Connection} of this {@link SubscriptionHub} for the specified {@link WebSocketSession}
+     * @throws NullPointerException if the specified {@link WebSocketSession} is {@code null}
+     */
+    public Connection connect(WebSocketSession session) {
+        Objects.requireNonNull(session, "the specified session is null");
+
+        this.connections.incrementAndGet();
+
+        return new Connection(session, this.executor, this.sendTimeLimit, this.coalesced, this.dropped);
+    } //connect
+
+    /**
+     * Subscribes the specified {@link Connection} to the topic with the specified name. The connection is sent the
+     * latest frame of the topic, if there is one, and then every new frame.
+     *
+     * @param connection the {@link Connection} to be used in the operation
+     * @param name the name of the topic to be used in the operation
+     * @throws NullPointerException if the specified {@link Connection} or name is {@code null}
+     * @throws IllegalArgumentException if the specified name is not the name of a topic, or the specified
+     * {@link Connection} is subscribed to the maximum number of topics
+     */
+    public void subscribe(Connection connection, String name) {
+        Objects.requireNonNull(connection, "the specified connection is null");
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Matcher matcher = TOPIC_PATTERN.matcher(name);
+
+        TopicSource source = matcher.matches() ? this.sources.get(matcher.group(1)) : null;
+
+        if (source == null) {
+            String message = "the topic \"%s\" does not exist".formatted(name);
+
+            throw new IllegalArgumentException(message);
+        } //end if
+
+        Set<String> connectionTopics = connection.getTopics();
+
+        if (connectionTopics.contains(name)) {
+            return;
+        } else if (connectionTopics.size() >= this.maxTopics) {
+            String message = "a connection cannot subscribe to more than %d topics".formatted(this.maxTopics);
+
+            throw new IllegalArgumentException(message);
+        } //end if
+
+        int id = Integer.parseInt(matcher.group(2));
+
+        connectionTopics.add(name);
+
+        Topic topic = this.topics.compute(name, (key, existing) -> {
+            Topic current = (existing == null) ? new Topic(key) : existing;
+
+            current.connections.add(connection);
+
+            if (current.cancel == null) {
+                current.cancel = source.subscribe(id, current::publish);
+            } //end if
+
+            return current;
+        });
+
+        TextMessage latest = topic.latest;
+
+        if (latest != null) {
+            connection.offer(name, latest);
+        } //end if
+    } //subscribe
+
+    /**
+     * Unsubscribes the specified {@link Connection} from the topic with the specified name, and cancels the topic's
+     * subscription to its source if it was the last {@link Connection} of the topic.
+     *
+     * @param connection the {@link Connection} to be used in the operation
+     * @param name the name of the topic to be used in the operation
+     * @throws NullPointerException if the specified {@link Connection} or name is {@code null}
+     */
+    public void unsubscribe(Connection connection, String name) {
+        Objects.requireNonNull(connection, "the specified connection is null");
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        if (!connection.getTopics()
+                       .remove(name)) {
+            return;
+        } //end if
+
+        this.topics.computeIfPresent(name, (key, topic) -> {
+            topic.connections.remove(connection);
+
+            if (!topic.connections.isEmpty()) {
+                return topic;
+            } //end if
+
+            topic.cancel.run();
+
+            return null;
+        });
+    } //unsubscribe
+
+    /**
+     * Unsubscribes the specified {@link Connection} from each of its topics. It is called once the connection's
+     * session is closed.
+     *
+     * @param connection the {@link Connection} to be used in the operation
+     * @throws NullPointerException if the specified {@link Connection} is {@code null}
+     */
+    public void disconnect(Connection connection) {
+        Objects.requireNonNull(connection, "the specified connection is null");
+
+        for (String name : Set.copyOf(connection.getTopics())) {
+            this.unsubscribe(connection, name);
+        } //end for
+
+        this.connections.decrementAndGet();
+    } //disconnect
+
+    /**
+     * Returns the number of topics of this {@link SubscriptionHub} with at least one {@link Connection}.
+     *
+     * @return the number of topics of this {@link SubscriptionHub} with at least one {@link Connection}
+     */
+    public int size() {
+        return this.topics.size();
+    } //size
+
+    /**
+     * Cancels every topic of this {@link SubscriptionHub} and stops sending frames.
+     */
+    @Override
+    public void close() {
+        this.topics.values()
+                   .forEach(topic -> topic.cancel.run());
+
+        this.topics.clear();
+
+        this.executor.shutdownNow();
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.util.Objects;
+
+/**
+ * The WebSocket configuration of the CTA4j application, which serves the {@link SubscriptionHub} at {@code /api/ws}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfiguration implements WebSocketConfigurer {
+    /**
+     * The {@link HubWebSocketHandler} of this {@link WebSocketConfiguration}.
+     */
+    private final HubWebSocketHandler handler;
+
+    /**
+     * The origins allowed to open a WebSocket from a browser.
+     */
+    private final String[] allowedOrigins;
+
+    /**
+     * Constructs an instance of the {@link WebSocketConfiguration} class.
+     *
+     * @param handler the {@link HubWebSocketHandler} to be used in the operation
+     * @param allowedOrigins the origins allowed to open a WebSocket from a browser, which clients that send no origin,
+     * such as kiosks and mobile apps, are not subject to
+     * @throws NullPointerException if the specified {@link HubWebSocketHandler} is {@code null}
+     */
+    public WebSocketConfiguration(HubWebSocketHandler handler,
+                                  @Value("${cta4j.ws.allowed-origins:https://cta4j.com}") String[] allowedOrigins) {
+        Objects.requireNonNull(handler, "the specified handler is null");
+
+        this.handler = handler;
+
+        this.allowedOrigins = allowedOrigins;
+    } //WebSocketConfiguration
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(this.handler, "/api/ws")
+                .setAllowedOrigins(this.allowedOrigins);
+    } //registerWebSocketHandlers
+}
\ No newline at end of file
@@ -27,14 +27,30 @@ package com.cta4j.train.controller;
 import com.cta4j.bus.utils.BusUtils;
 import com.cta4j.train.utils.TrainUtils;
 import com.cta4j.utils.Body;
+import com.cta4j.utils.ETags;
+import com.cta4j.stream.Delta;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestHeader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import com.cta4j.train.model.Train;
+import com.cta4j.train.model.Route;
+import com.cta4j.train.model.PositionSnapshot;
+import com.cta4j.train.controller.service.PositionService;
+import com.cta4j.train.controller.service.TrainService;
+import com.cta4j.train.controller.service.ArrivalStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * A controller of the CTA4j application.
@@ -46,23 +62,259 @@ import com.cta4j.train.model.Train;
 @RequestMapping("/api/train")
 public final class TrainController {
     /**
-     * Returns a JSON response containing information about trains using the specified map ID and routes.
+     * The {@link TrainService} of this {@link TrainController}.
+     */
+    private final TrainService trainService;
+
+    /**
+     * The {@link PositionService} of this {@link TrainController}.
+     */
+    private final PositionService positionService;
+
+    /**
+     * The {@link ArrivalStreamService} of this {@link TrainController}.
+     */
+    private final ArrivalStreamService arrivalStreamService;
+
+    /**
+     * Constructs an instance of the {@link TrainController} class.
+     *
+     * @param trainService the {@link TrainService} to be used in the operation
+     * @param positionService the {@link PositionService} to be used in the operation
+     * @param arrivalStreamService the {@link ArrivalStreamService} to be used in the operation
+     * @throws NullPointerException if the specified {@link TrainService}, {@link PositionService}, or
+     * {@link ArrivalStreamService} is {@code null}
+     */
+    public TrainController(TrainService trainService, PositionService positionService,
+                           ArrivalStreamService arrivalStreamService) {
+        Objects.requireNonNull(trainService, "the specified train service is null");
+
+        Objects.requireNonNull(positionService, "the specified position service is null");
+
+        Objects.requireNonNull(arrivalStreamService, "the specified arrival stream service is null");
+
+        this.trainService = trainService;
+
+        this.positionService = positionService;
+
+        this.arrivalStreamService = arrivalStreamService;
+    } //TrainController
+
+    /**
+     * Returns a JSON response containing the {@link Delta} from the client's snapshot of the arrivals of the specified
+     * map ID and routes to the current one. Each {@link Train} is identified by its run number and station separated by
+     * a colon. A reset is returned if the client's snapshot is unknown, as it is after a restart.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @param since the sequence number of the client's snapshot, or {@code 0} if it has none
+     * @return a JSON response containing the {@link Delta} from the client's snapshot to the current one
+     */
+    private CompletableFuture<ResponseEntity<Body<?>>> readDelta(int mapId, String[] routes, long since) {
+        return this.trainService.getFetchedTrainsAsync(mapId, routes)
+                                .thenApply(fetched -> {
+                                    List<Train> trains = TrainUtils.getOrderedTrains(fetched.value());
+
+                                    Delta<Train> delta = this.trainService.getDelta(mapId, routes, trains, since);
+
+                                    Body<?> body;
+
+                                    if (fetched.stale()) {
+                                        body = Body.stale(delta, fetched.fetchedAt());
+                                    } else {
+                                        body = Body.success(delta);
+                                    } //end if
+
+                                    return ResponseEntity.ok()
+                                                         .cacheControl(CacheControl.noCache())
+                                                         .<Body<?>>body(body);
+                                })
+                                .exceptionally(throwable -> {
+                                    Body<?> body = Body.error("the train arrivals are temporarily unavailable");
+
+                                    return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+                                });
+    } //readDelta
+
+    /**
+     * Returns a JSON response containing information about trains using the specified map ID and routes. The
+     * response is completed asynchronously, so the servlet thread is released while the upstream call is in flight.
+     * While the arrivals endpoint is unhealthy, the last good arrivals are returned along with their staleness, and
+     * if there are none, a service unavailable response is returned. Fresh responses carry an entity tag and may be
+     * cached for as long as the arrivals are fresh upstream, and a matching {@code If-None-Match} header is answered
+     * with {@code 304 Not Modified}. In delta mode, which is requested by sending the sequence number of the client's
+     * snapshot, the changes since that snapshot are returned instead.
      * 
      * @param mapId the map ID to be used in the operation
      * @param routes the routes to be used in the operation
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, or {@code null} if there is none
+     * @param since the sequence number of the client's snapshot in delta mode, {@code 0} if it has none, or
+     * {@code null} if delta mode is not requested
      * @return a JSON response containing information about trains using the specified map ID and routes
      */
     @GetMapping
-    public ResponseEntity<Body<Set<Train>>> read(@RequestParam("map_id") int mapId,
-                                                 @RequestParam(value = "route[]", required = false) String[] routes) {
+    public CompletableFuture<ResponseEntity<Body<?>>> read(@RequestParam("map_id") int mapId,
+                                                           @RequestParam(value = "route[]", required = false)
+                                                           String[] routes,
+                                                           @RequestHeader(value = "If-None-Match", required = false)
+                                                           String ifNoneMatch,
+                                                           @RequestParam(value = "since", required = false)
+                                                           Long since) {
         if (routes == null) {
             routes = new String[0];
         } //end if
 
-        Set<Train> trains = TrainUtils.getTrains(mapId, routes);
+        if (since != null) {
+            return this.readDelta(mapId, routes, since);
+        } //end if
+
+        return this.trainService.getFetchedTrainsAsync(mapId, routes)
+                                .thenApply(fetched -> {
+                                    if (fetched.stale()) {
+                                        Body<?> body = Body.stale(fetched.value(), fetched.fetchedAt());
+
+                                        return ResponseEntity.ok()
+                                                             .cacheControl(CacheControl.noCache())
+                                                             .<Body<?>>body(body);
+                                    } //end if
+
+                                    List<Train> trains = TrainUtils.getOrderedTrains(fetched.value());
+
+                                    String eTag = ETags.of(trains);
+
+                                    long maxAge = this.trainService.getMaxAge(fetched)
+                                                                   .toSeconds();
 
-        Body<Set<Train>> body = Body.success(trains);
+                                    CacheControl cacheControl = CacheControl.maxAge(maxAge, TimeUnit.SECONDS)
+                                                                            .cachePublic();
 
-        return new ResponseEntity<>(body, HttpStatus.OK);
+                                    if (ETags.matches(ifNoneMatch, eTag)) {
+                                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                                             .eTag(eTag)
+                                                             .cacheControl(cacheControl)
+                                                             .<Body<?>>build();
+                                    } //end if
+
+                                    Body<?> body = Body.success(trains);
+
+                                    return ResponseEntity.ok()
+                                                         .eTag(eTag)
+                                                         .cacheControl(cacheControl)
+                                                         .<Body<?>>body(body);
+                                })
+                                .exceptionally(throwable -> {
+                                    Body<?> body = Body.error("the train arrivals are temporarily unavailable");
+
+                                    return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+                                });
     } //read
+
+    /**
+     * Returns a stream of server-sent events containing the arrivals of the specified map ID and routes. An event named
+     * {@code arrivals} carries the body {@code /api/train} would return, and is sent when the stream opens and whenever
+     * the arrivals change.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return a stream of server-sent events containing the arrivals of the specified map ID and routes
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam("map_id") int mapId,
+                             @RequestParam(value = "route[]", required = false) String[] routes) {
+        if (routes == null) {
+            routes = new String[0];
+        } //end if
+
+        return this.arrivalStreamService.open(mapId, routes);
+    } //stream
+
+    /**
+     * Returns the {@link Route} with the specified name or API code, or {@code null} if there is no such route.
+     *
+     * @param routeString the name or API code to be used in the operation
+     * @return the {@link Route} with the specified name or API code, or {@code null} if there is no such route
+     */
+    private static Route getRoute(String routeString) {
+        for (Route route : Route.values()) {
+            String routeCode = TrainUtils.getRouteCode(route);
+
+            if (route.name()
+                     .equalsIgnoreCase(routeString) || routeCode.equalsIgnoreCase(routeString)) {
+                return route;
+            } //end if
+        } //end for
+
+        return null;
+    } //getRoute
+
+    /**
+     * Returns a {@link Body} of the specified {@link Train}s of the specified {@link PositionSnapshot}, which is marked
+     * as stale if the {@link PositionSnapshot} is.
+     *
+     * @param snapshot the {@link PositionSnapshot} to be used in the operation
+     * @param trains the {@link Train}s to be used in the operation
+     * @return a {@link Body} of the specified {@link Train}s
+     */
+    private Body<?> getPositionsBody(PositionSnapshot snapshot, Set<Train> trains) {
+        if (this.positionService.isStale(snapshot)) {
+            return Body.stale(trains, snapshot.refreshedAt());
+        } //end if
+
+        return Body.success(trains);
+    } //getPositionsBody
+
+    /**
+     * Returns a JSON response containing the position of every train on the specified routes, or on every route if
+     * none are specified. The response is served from a shared snapshot that is refreshed in the background, so no
+     * upstream call is made on the request path. A service unavailable response is returned until the first refresh
+     * succeeds, and a snapshot that has not been refreshed for more than two refresh intervals is returned along with
+     * its staleness.
+     *
+     * @param routeStrings the names or API codes of the routes to be used in the operation
+     * @return a JSON response containing the position of every train on the specified routes
+     */
+    @GetMapping("/positions")
+    public ResponseEntity<Body<?>> readPositions(@RequestParam(value = "route", required = false)
+                                                 String[] routeStrings) {
+        PositionSnapshot snapshot = this.positionService.getSnapshot();
+
+        if (snapshot == null) {
+            Body<?> body = Body.error("the train positions are temporarily unavailable");
+
+            return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+        } //end if
+
+        if ((routeStrings == null) || (routeStrings.length == 0)) {
+            Set<Train> trains = new HashSet<>();
+
+            snapshot.trains()
+                    .values()
+                    .forEach(trains::addAll);
+
+            Body<?> body = this.getPositionsBody(snapshot, trains);
+
+            return ResponseEntity.ok(body);
+        } //end if
+
+        Set<Train> trains = new HashSet<>();
+
+        for (String routeString : routeStrings) {
+            Route route = TrainController.getRoute(routeString.strip());
+
+            if (route == null) {
+                String message = "the route \"%s\" does not exist".formatted(routeString);
+
+                Body<?> body = Body.error(message);
+
+                return ResponseEntity.badRequest()
+                                     .body(body);
+            } //end if
+
+            trains.addAll(snapshot.get(route));
+        } //end for
+
+        Body<?> body = this.getPositionsBody(snapshot, trains);
+
+        return ResponseEntity.ok(body);
+    } //readPositions
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.train.controller.service;
+
+import com.cta4j.train.model.Train;
+import com.cta4j.train.utils.TrainUtils;
+import com.cta4j.stream.SharedPoller;
+import com.cta4j.stream.SseStreams;
+import com.cta4j.upstream.Fetched;
+import com.cta4j.upstream.RequestKey;
+import com.cta4j.utils.Body;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A service of the CTA4j application that streams the arrivals of map IDs to their subscribers. Each map ID and set of
+ * routes with at least one subscriber is polled once per interval no matter how many subscribers it has, and every
+ * change is serialized once and sent to all of them.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class ArrivalStreamService implements AutoCloseable {
+    /**
+     * The {@link ObjectMapper} of this {@link ArrivalStreamService}.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The {@link SseStreams} of this {@link ArrivalStreamService}.
+     */
+    private final SseStreams streams;
+
+    /**
+     * The {@link TrainService} of this {@link ArrivalStreamService}.
+     */
+    private final TrainService trainService;
+
+    /**
+     * The {@link SharedPoller} of this {@link ArrivalStreamService}, keyed by map ID and routes.
+     */
+    private final SharedPoller<RequestKey, String> poller;
+
+    /**
+     * The timeout of the streams of this {@link ArrivalStreamService}, in milliseconds.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Constructs an instance of the {@link ArrivalStreamService} class.
+     *
+     * @param objectMapper the {@link ObjectMapper} to be used in the operation
+     * @param streams the {@link SseStreams} to be used in the operation
+     * @param trainService the {@link TrainService} to be used in the operation
+     * @param pollMillis the interval between the polls of a map ID, in milliseconds
+     * @param threads the number of threads that run the polls
+     * @param timeoutMillis the timeout of a stream, in milliseconds
+     * @throws NullPointerException if the specified {@link ObjectMapper}, {@link SseStreams}, or
+     * {@link TrainService} is {@code null}
+     */
+    public ArrivalStreamService(ObjectMapper objectMapper, SseStreams streams, TrainService trainService,
+                                @Value("${cta4j.stream.poll-millis:10000}") long pollMillis,
+                                @Value("${cta4j.stream.threads:4}") int threads,
+                                @Value("${cta4j.stream.timeout-millis:1800000}") long timeoutMillis) {
+        Objects.requireNonNull(objectMapper, "the specified object mapper is null");
+
+        Objects.requireNonNull(streams, "the specified streams is null");
+
+        Objects.requireNonNull(trainService, "the specified train service is null");
+
+        this.objectMapper = objectMapper;
+
+        this.streams = streams;
+
+        this.trainService = trainService;
+
+        Duration interval = Duration.ofMillis(pollMillis);
+
+        this.poller = new SharedPoller<>("ttarrivals", this::poll, Body::withoutAge, this::serialize, interval,
+                                        threads);
+
+        this.timeoutMillis = timeoutMillis;
+    } //ArrivalStreamService
+
+    /**
+     * Returns the response body of the specified {@link Fetched} {@link Train}s, as {@code /api/train} would return it.
+     *
+     * @param fetched the {@link Fetched} {@link Train}s to be used in the operation
+     * @return the response body of the specified {@link Fetched} {@link Train}s
+     */
+    private Body<?> getBody(Fetched<Set<Train>> fetched) {
+        List<Train> trains = TrainUtils.getOrderedTrains(fetched.value());
+
+        if (fetched.stale()) {
+            return Body.stale(trains, fetched.fetchedAt());
+        } //end if
+
+        return Body.success(trains);
+    } //getBody
+
+    /**
+     * Fetches the body of the arrivals of the specified {@link RequestKey}. A failure is sent to the subscribers as
+     * an error body, as it would be returned by {@code /api/train}.
+     *
+     * @param key the {@link RequestKey} to be used in the operation
+     * @return a {@link CompletableFuture} of the body of the arrivals of the specified {@link RequestKey}
+     */
+    private CompletableFuture<Body<?>> poll(RequestKey key) {
+        String[] routes = key.toRouteArray();
+
+        return this.trainService.getFetchedTrainsAsync(key.id(), routes)
+                                .thenApply(this::getBody)
+                                .exceptionally(throwable -> {
+                                    return Body.error("the train arrivals are temporarily unavailable");
+                                });
+    } //poll
+
+    /**
+     * Returns the specified {@link Body} serialized as JSON.
+     *
+     * @param body the {@link Body} to be used in the operation
+     * @return the specified {@link Body} serialized as JSON
+     * @throws UncheckedIOException if the specified {@link Body} cannot be serialized
+     */
+    private String serialize(Body<?> body) {
+        try {
+            return this.objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //serialize
+
+    /**
+     * Returns a new {@link SseEmitter} that streams the arrivals of the specified map ID and routes. Every route is
+     * included if none are specified.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @return a new {@link SseEmitter} that streams the arrivals of the specified map ID and routes
+     * @throws NullPointerException if the specified array of routes, or a route in it, is {@code null}
+     */
+    public SseEmitter open(int mapId, String... routes) {
+        RequestKey key = RequestKey.of(mapId, routes);
+
+        return this.streams.open(this.poller, key, "arrivals", this.timeoutMillis);
+    } //open
+
+    /**
+     * Subscribes the specified listener to the serialized arrivals of every route of the specified map ID. The listener
+     * shares the poll of the map ID with its streams.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param listener the listener to be used in the operation
+     * @return a {@link Runnable} that cancels the subscription
+     * @throws NullPointerException if the specified listener is {@code null}
+     */
+    public Runnable subscribe(int mapId, Consumer<String> listener) {
+        RequestKey key = RequestKey.of(mapId);
+
+        return this.poller.subscribe(key, listener);
+    } //subscribe
+
+    /**
+     * Stops every poll of this {@link ArrivalStreamService}.
+     */
+    @Override
+    public void close() {
+        this.poller.close();
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.train.controller.service;
+
+import com.cta4j.train.model.PositionSnapshot;
+import com.cta4j.train.model.Route;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A service of the CTA4j application that keeps a shared snapshot of the position of every train. The snapshot is
+ * refreshed in the background with one upstream request for every line, and every reader is served from it. A
+ * snapshot that has not been refreshed for more than two refresh intervals, as during an upstream outage, is stale.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class PositionService {
+    /**
+     * The {@link Logger} of the {@link PositionService} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(PositionService.class);
+    } //static
+
+    /**
+     * The {@link TrainService} of this {@link PositionService}.
+     */
+    private final TrainService trainService;
+
+    /**
+     * The current {@link PositionSnapshot} of this {@link PositionService}, or {@code null} if no refresh has
+     * succeeded yet.
+     */
+    private final AtomicReference<PositionSnapshot> snapshot;
+
+    /**
+     * The age past which a {@link PositionSnapshot} of this {@link PositionService} is stale.
+     */
+    private final Duration staleAfter;
+
+    /**
+     * Constructs an instance of the {@link PositionService} class.
+     *
+     * @param trainService the {@link TrainService} to be used in the operation
+     * @param refreshMillis the interval between refreshes, in milliseconds
+     * @throws NullPointerException if the specified {@link TrainService} is {@code null}
+     */
+    public PositionService(TrainService trainService,
+                           @Value("${cta4j.train.positions.refresh-millis:30000}") long refreshMillis) {
+        Objects.requireNonNull(trainService, "the specified train service is null");
+
+        this.trainService = trainService;
+
+        this.snapshot = new AtomicReference<>();
+
+        this.staleAfter = Duration.ofMillis(refreshMillis * 2L);
+    } //PositionService
+
+    /**
+     * Refreshes the {@link PositionSnapshot} of this {@link PositionService}. If the refresh fails, the previous
+     * snapshot continues to be served.
+     */
+    @Scheduled(fixedDelayString = "${cta4j.train.positions.refresh-millis:30000}")
+    public void refresh() {
+        Route[] routes = Route.values();
+
+        PositionSnapshot refreshed;
+
+        try {
+            refreshed = this.trainService.getPositionsAsync(routes)
+                                         .join();
+        } catch (CompletionException e) {
+            LOGGER.atError()
+                  .withThrowable(e.getCause())
+                  .log("Error in refreshing the train positions, keeping the previous snapshot");
+
+            return;
+        } //end try catch
+
+        this.snapshot.set(refreshed);
+    } //refresh
+
+    /**
+     * Returns the current {@link PositionSnapshot} of this {@link PositionService}, or {@code null} if no refresh has
+     * succeeded yet.
+     *
+     * @return the current {@link PositionSnapshot} of this {@link PositionService}, or {@code null}
+     */
+    public PositionSnapshot getSnapshot() {
+        return this.snapshot.get();
+    } //getSnapshot
+
+    /**
+     * Determines whether the specified {@link PositionSnapshot} is stale, which is when it was taken more than two
+     * refresh intervals ago.
+     *
+     * @param snapshot the {@link PositionSnapshot} to be used in the operation
+     * @return {@code true}, if the specified {@link PositionSnapshot} is stale and {@code false} otherwise
+     * @throws NullPointerException if the specified {@link PositionSnapshot} is {@code null}
+     */
+    public boolean isStale(PositionSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "the specified snapshot is null");
+
+        Instant now = Instant.now();
+
+        Duration age = Duration.between(snapshot.refreshedAt(), now);
+
+        return age.compareTo(this.staleAfter) > 0;
+    } //isStale
+}
\ No newline at end of file
@@ -0,0 +1,638 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.train.controller.service;
+
+import com.cta4j.history.HistoryRecorder;
+import com.cta4j.train.model.PositionSnapshot;
+import com.cta4j.train.model.Route;
+import com.cta4j.train.model.Train;
+import com.cta4j.train.model.adapters.TrainTypeAdapter;
+import com.cta4j.train.utils.TrainUtils;
+import com.cta4j.stream.Delta;
+import com.cta4j.stream.DeltaTracker;
+import com.cta4j.upstream.CacheSettings;
+import com.cta4j.upstream.CircuitBreaker;
+import com.cta4j.upstream.Fetched;
+import com.cta4j.upstream.Priority;
+import com.cta4j.upstream.Quota;
+import com.cta4j.upstream.RequestKey;
+import com.cta4j.upstream.SingleFlight;
+import com.cta4j.upstream.StaleWhileRevalidate;
+import com.cta4j.upstream.TtlCache;
+import com.cta4j.upstream.UpstreamGateway;
+import com.cta4j.upstream.UpstreamSettings;
+import com.cta4j.utils.JsonStreamUtils;
+import com.cta4j.utils.ParseMetrics;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A service of the CTA4j application used to fetch train arrivals and positions from the Chicago Transit Authority
+ * through its {@link UpstreamGateway}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Service
+public final class TrainService {
+    /**
+     * The {@link Logger} of the {@link TrainService} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The train API key of the {@link TrainService} class.
+     */
+    private static final String TRAIN_API_KEY;
+
+    /**
+     * The time zone of the timestamps of the train API.
+     */
+    private static final ZoneId ZONE;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        Properties properties = new Properties();
+
+        String pathString = "src/main/resources/api-key.properties";
+
+        Path path = Path.of(pathString);
+
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            String message = "Error in reading the API key file";
+
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log(message);
+
+            throw new IllegalStateException(message);
+        } //end try catch
+
+        TRAIN_API_KEY = properties.getProperty("train_key");
+
+        if (TRAIN_API_KEY == null) {
+            String message = "Error in reading the train API key";
+
+            LOGGER.atError()
+                  .log(message);
+
+            throw new IllegalStateException(message);
+        } //end if
+
+        ZONE = ZoneId.of("America/Chicago");
+    } //static
+
+    /**
+     * The {@link UpstreamGateway} of this {@link TrainService}.
+     */
+    private final UpstreamGateway gateway;
+
+    /**
+     * The {@link HistoryRecorder} of this {@link TrainService}.
+     */
+    private final HistoryRecorder recorder;
+
+    /**
+     * The base URL of the train API of this {@link TrainService}, which points at a replay server in place of the
+     * Chicago Transit Authority when one is configured.
+     */
+    private final String baseUrl;
+
+    /**
+     * The in-flight arrival requests of this {@link TrainService}.
+     */
+    private final SingleFlight<RequestKey, Set<Train>> arrivalFlights;
+
+    /**
+     * The last good arrivals of this {@link TrainService}, served while the arrivals endpoint is unhealthy.
+     */
+    private final StaleWhileRevalidate<RequestKey, Set<Train>> lastGoodArrivals;
+
+    /**
+     * The cache of arrivals of this {@link TrainService}.
+     */
+    private final TtlCache<RequestKey, Set<Train>> arrivalCache;
+
+    /**
+     * The {@link DeltaTracker} of arrivals of this {@link TrainService}.
+     */
+    private final DeltaTracker<RequestKey, Train> arrivalDeltas;
+
+    /**
+     * Constructs an instance of the {@link TrainService} class.
+     *
+     * @param gateway the {@link UpstreamGateway} to be used in the operation
+     * @param recorder the {@link HistoryRecorder} to be used in the operation
+     * @throws NullPointerException if the specified {@link UpstreamGateway} or {@link HistoryRecorder} is {@code null}
+     */
+    public TrainService(UpstreamGateway gateway, HistoryRecorder recorder) {
+        Objects.requireNonNull(gateway, "the specified gateway is null");
+
+        Objects.requireNonNull(recorder, "the specified recorder is null");
+
+        this.gateway = gateway;
+
+        this.recorder = recorder;
+
+        UpstreamSettings settings = gateway.getSettings();
+
+        this.baseUrl = settings.trainBaseUrl();
+
+        this.arrivalFlights = new SingleFlight<>();
+
+        CircuitBreaker breaker = gateway.getCircuitBreaker("ttarrivals");
+
+        this.lastGoodArrivals = new StaleWhileRevalidate<>(breaker, 4_096);
+
+        CacheSettings cacheSettings = settings.getCacheSettings("ttarrivals");
+
+        this.arrivalCache = new TtlCache<>("ttarrivals", cacheSettings, TrainService::getGeneratedAt);
+
+        this.arrivalDeltas = new DeltaTracker<>(TrainService::getIdentity, 16, 4_096);
+    } //TrainService
+
+    /**
+     * Returns the arrivals {@link HttpRequest} for the specified map ID and route names, or {@code null} if it could
+     * not be constructed.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routeNames the {@link Route} names to be used in the operation
+     * @return the arrivals {@link HttpRequest} for the specified map ID and route names, or {@code null} if it could
+     * not be constructed
+     */
+    private HttpRequest getTrainsRequest(int mapId, String... routeNames) {
+        String uriString;
+
+        if (routeNames.length == 0) {
+            uriString = """
+                        %s/ttarrivals.aspx\
+                        ?key=%s&mapid=%s&outputType=JSON""".formatted(this.baseUrl, TRAIN_API_KEY, mapId);
+        } else {
+            String routeNamesString = Arrays.stream(routeNames)
+                                            .map(String::toLowerCase)
+                                            .map("rt=%s"::formatted)
+                                            .reduce("%s&%s"::formatted)
+                                            .get();
+
+            uriString = """
+                        %s/ttarrivals.aspx\
+                        ?key=%s&mapid=%s&%s&outputType=JSON""".formatted(this.baseUrl, TRAIN_API_KEY, mapId,
+                                                                         routeNamesString);
+        } //end if
+
+        URI uri;
+
+        try {
+            uri = URI.create(uriString);
+        } catch (IllegalArgumentException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API URI");
+
+            return null;
+        }//end try catch
+
+        HttpRequest request;
+
+        try {
+            request = HttpRequest.newBuilder(uri)
+                                 .GET()
+                                 .build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API request");
+
+            return null;
+        } //end try catch
+
+        return request;
+    } //getTrainsRequest
+
+    /**
+     * Parses the {@link Train}s in the specified arrivals response in a single streaming pass. The response is read
+     * straight from the specified {@link InputStream} and each arrival is bound as it is reached, without building an
+     * intermediate {@link String} or tree. The parsed {@link Train}s are handed to the {@link HistoryRecorder}, and the
+     * parse is recorded in {@link ParseMetrics}.
+     *
+     * @param inputStream the {@link InputStream} of the arrivals response to be used in the operation
+     * @return the {@link Train}s in the specified arrivals response
+     * @throws UncheckedIOException if an I/O error occurs or the response is malformed
+     */
+    private Set<Train> parseTrains(InputStream inputStream) {
+        long startNanos = System.nanoTime();
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            if (!JsonStreamUtils.seek(jsonReader, "ctatt", "eta")) {
+                LOGGER.atDebug()
+                      .log("The response from the API does not include any arrivals");
+
+                ParseMetrics.recordSuccess("ttarrivals", startNanos, 0);
+
+                return Set.of();
+            } //end if
+
+            List<Train> trains = JsonStreamUtils.readList(jsonReader, TrainTypeAdapter::readTrain);
+
+            ParseMetrics.recordSuccess("ttarrivals", startNanos, trains.size());
+
+            this.recorder.recordTrains(trains);
+
+            return new HashSet<>(trains);
+        } catch (IOException e) {
+            ParseMetrics.recordFailure("ttarrivals", startNanos);
+
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | NumberFormatException e) {
+            ParseMetrics.recordFailure("ttarrivals", startNanos);
+
+            throw new UncheckedIOException(new IOException("the response from the API is malformed", e));
+        } //end try catch
+    } //parseTrains
+
+    /**
+     * Fetches the {@link Train}s for the specified {@link RequestKey} from the Chicago Transit Authority.
+     *
+     * @param key the {@link RequestKey} to be used in the operation
+     * @return a {@link CompletableFuture} of the unmodifiable {@link Set} of {@link Train}s for the specified
+     * {@link RequestKey}, which completes exceptionally if the request fails
+     */
+    private CompletableFuture<Set<Train>> fetchTrains(RequestKey key) {
+        int mapId = key.id();
+
+        String[] routeNames = key.toRouteArray();
+
+        HttpRequest request = this.getTrainsRequest(mapId, routeNames);
+
+        if (request == null) {
+            IllegalStateException exception = new IllegalStateException("the arrivals request could not be built");
+
+            return CompletableFuture.failedFuture(exception);
+        } //end if
+
+        return this.gateway.fetchAsync(Quota.TRAIN, Priority.INTERACTIVE, request, this::parseTrains)
+                           .<Set<Train>>thenApply(Set::copyOf)
+                           .whenComplete((trains, throwable) -> {
+                               if (throwable != null) {
+                                   LOGGER.atError()
+                                         .withThrowable(throwable)
+                                         .log("Error in sending the API request");
+                               } //end if
+                           });
+    } //fetchTrains
+
+    /**
+     * Returns the {@link Train}s using the specified map ID and route names of the Chicago Transit Authority. If no
+     * route names are provided, all routes are returned.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routeNames the {@link Route} names to be used in the operation
+     * @return the {@link Train}s using the specified map ID and route names of the Chicago Transit Authority
+     * @throws NullPointerException if the specified array of route names or a route name in the specified array is
+     * {@code null}
+     */
+    public Set<Train> getTrains(int mapId, String... routeNames) {
+        return this.getTrainsAsync(mapId, routeNames)
+                   .join();
+    } //getTrains
+
+    /**
+     * Returns the time at which the newest of the specified {@link Train}s' predictions was generated, or
+     * {@code null} if none of them has a prediction time.
+     *
+     * @param trains the {@link Train}s to be used in the operation
+     * @return the time at which the newest of the specified {@link Train}s' predictions was generated
+     */
+    private static Instant getGeneratedAt(Set<Train> trains) {
+        return trains.stream()
+                     .map(Train::predictionTime)
+                     .filter(Objects::nonNull)
+                     .max(Comparator.naturalOrder())
+                     .map(predictionTime -> predictionTime.atZone(ZONE)
+                                                          .toInstant())
+                     .orElse(null);
+    } //getGeneratedAt
+
+    /**
+     * Asynchronously returns the {@link Train}s using the specified map ID and route names of the Chicago Transit
+     * Authority. If no route names are provided, all routes are returned. The calling thread is not blocked while the
+     * upstream request is in flight, and the response is parsed as it streams in on the upstream gateway's body
+     * executor. Concurrent calls for the same map ID and route names share a single upstream request and a single
+     * parsed result, and arrivals are cached until the API is expected to have regenerated them. An empty {@link Set}
+     * is returned if the arrivals could not be fetched and there are no last good arrivals to fall back on.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routeNames the {@link Route} names to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Train}s using the specified map ID and route names of the
+     * Chicago Transit Authority
+     * @throws NullPointerException if the specified array of route names or a route name in the specified array is
+     * {@code null}
+     */
+    public CompletableFuture<Set<Train>> getTrainsAsync(int mapId, String... routeNames) {
+        return this.getFetchedTrainsAsync(mapId, routeNames)
+                   .thenApply(Fetched::value)
+                   .exceptionally(throwable -> Set.of());
+    } //getTrainsAsync
+
+    /**
+     * Asynchronously returns the {@link Fetched} {@link Train}s using the specified map ID and route names of the
+     * Chicago Transit Authority, as {@link #getTrainsAsync(int, String...)} does. While the arrivals endpoint is
+     * unhealthy, the last good arrivals for the same map ID and route names are returned, marked as stale, instead of
+     * waiting on a doomed call.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routeNames the {@link Route} names to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Fetched} {@link Train}s using the specified map ID and route
+     * names of the Chicago Transit Authority, which completes exceptionally if they could not be fetched and there
+     * are no last good arrivals
+     * @throws NullPointerException if the specified array of route names or a route name in the specified array is
+     * {@code null}
+     */
+    public CompletableFuture<Fetched<Set<Train>>> getFetchedTrainsAsync(int mapId, String... routeNames) {
+        Objects.requireNonNull(routeNames, "the specified array of route names is null");
+
+        Arrays.stream(routeNames)
+              .forEach(routeName -> Objects.requireNonNull(routeName,
+                                                           "a route name in the specified array is null"));
+
+        RequestKey key = RequestKey.of(mapId, routeNames);
+
+        Supplier<CompletableFuture<Set<Train>>> request = () -> this.fetchTrains(key);
+
+        Supplier<CompletableFuture<Set<Train>>> fetcher = () -> this.arrivalFlights.execute(key, request);
+
+        return this.arrivalCache.get(key, () -> this.lastGoodArrivals.get(key, fetcher));
+    } //getFetchedTrainsAsync
+
+    /**
+     * Returns the positions {@link HttpRequest} for the specified {@link Route}s, or {@code null} if it could not be
+     * constructed.
+     *
+     * @param routes the {@link Route}s to be used in the operation
+     * @return the positions {@link HttpRequest} for the specified {@link Route}s, or {@code null} if it could not be
+     * constructed
+     */
+    private HttpRequest getPositionsRequest(Route... routes) {
+        String routesString = Arrays.stream(routes)
+                                    .map(TrainUtils::getRouteCode)
+                                    .collect(Collectors.joining(","));
+
+        String uriString = """
+                           %s/ttpositions.aspx\
+                           ?key=%s&rt=%s&outputType=JSON""".formatted(this.baseUrl, TRAIN_API_KEY, routesString);
+
+        URI uri;
+
+        try {
+            uri = URI.create(uriString);
+        } catch (IllegalArgumentException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API URI");
+
+            return null;
+        } //end try catch
+
+        HttpRequest request;
+
+        try {
+            request = HttpRequest.newBuilder(uri)
+                                 .GET()
+                                 .build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOGGER.atError()
+                  .withThrowable(e)
+                  .log("Error in constructing the API request");
+
+            return null;
+        } //end try catch
+
+        return request;
+    } //getPositionsRequest
+
+    /**
+     * Reads a route object of a positions response using the specified {@link JsonReader}.
+     *
+     * @param jsonReader the {@link JsonReader} to be used in the operation
+     * @return the {@link Route} of the route object and its {@link Train}s, or {@code null} if the route is novel
+     * @throws IOException if an I/O error occurs or the response is malformed
+     */
+    private static Map.Entry<Route, Set<Train>> readRoutePositions(JsonReader jsonReader) throws IOException {
+        Route route = null;
+
+        List<Train> trains = List.of();
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+
+                continue;
+            } //end if
+
+            switch (name) {
+                case "@name" -> route = TrainTypeAdapter.parseRoute(jsonReader.nextString());
+                case "train" -> trains = JsonStreamUtils.readList(jsonReader, TrainTypeAdapter::readTrain);
+                default -> jsonReader.skipValue();
+            } //end switch
+        } //end while
+
+        jsonReader.endObject();
+
+        if (route == null) {
+            return null;
+        } //end if
+
+        Set<Train> routeTrains = new HashSet<>();
+
+        for (Train train : trains) {
+            train = new Train(train.run(), route, train.destination(), train.station(), train.description(),
+                              train.predictionTime(), train.arrivalTime(), train.due(), train.scheduled(),
+                              train.fault(), train.delayed(), train.latitude(), train.longitude(), train.heading());
+
+            routeTrains.add(train);
+        } //end for
+
+        return Map.entry(route, routeTrains);
+    } //readRoutePositions
+
+    /**
+     * Parses the {@link Train}s in the specified positions response in a single streaming pass. The parsed
+     * {@link Train}s are handed to the {@link HistoryRecorder}, and the parse is recorded in {@link ParseMetrics}.
+     *
+     * @param inputStream the {@link InputStream} of the positions response to be used in the operation
+     * @return the {@link Train}s in the specified positions response, by {@link Route}
+     * @throws UncheckedIOException if an I/O error occurs or the response is malformed
+     */
+    private Map<Route, Set<Train>> parsePositions(InputStream inputStream) {
+        Map<Route, Set<Train>> routeToTrains = new EnumMap<>(Route.class);
+
+        long startNanos = System.nanoTime();
+
+        int records = 0;
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            if (!JsonStreamUtils.seek(jsonReader, "ctatt", "route")) {
+                LOGGER.atError()
+                      .log("Error in parsing the response from the API. The member \"route\" is missing");
+
+                ParseMetrics.recordFailure("ttpositions", startNanos);
+
+                return Map.of();
+            } //end if
+
+            List<Map.Entry<Route, Set<Train>>> entries = JsonStreamUtils.readList(jsonReader,
+                                                                                  TrainService::readRoutePositions);
+
+            for (Map.Entry<Route, Set<Train>> entry : entries) {
+                if (entry != null) {
+                    routeToTrains.put(entry.getKey(), entry.getValue());
+
+                    records += entry.getValue()
+                                    .size();
+
+                    this.recorder.recordTrains(entry.getValue());
+                } //end if
+            } //end for
+        } catch (IOException e) {
+            ParseMetrics.recordFailure("ttpositions", startNanos);
+
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | NumberFormatException e) {
+            ParseMetrics.recordFailure("ttpositions", startNanos);
+
+            throw new UncheckedIOException(new IOException("the response from the API is malformed", e));
+        } //end try catch
+
+        ParseMetrics.recordSuccess("ttpositions", startNanos, records);
+
+        return routeToTrains;
+    } //parsePositions
+
+    /**
+     * Asynchronously returns a {@link PositionSnapshot} of every {@link Train} on the specified {@link Route}s using
+     * a single upstream request. The request is charged to the train quota as background work. The returned future
+     * completes exceptionally if the request fails or its response cannot be parsed, so callers can keep serving their
+     * previous snapshot.
+     *
+     * @param routes the {@link Route}s to be used in the operation
+     * @return a {@link CompletableFuture} of a {@link PositionSnapshot} of every {@link Train} on the specified
+     * {@link Route}s
+     * @throws NullPointerException if the specified array of {@link Route}s or a {@link Route} in the specified array
+     * is {@code null}
+     */
+    public CompletableFuture<PositionSnapshot> getPositionsAsync(Route... routes) {
+        Objects.requireNonNull(routes, "the specified array of routes is null");
+
+        Arrays.stream(routes)
+              .forEach(route -> Objects.requireNonNull(route, "a route in the specified array is null"));
+
+        HttpRequest request = this.getPositionsRequest(routes);
+
+        if (request == null) {
+            IllegalStateException exception = new IllegalStateException("the positions request could not be built");
+
+            return CompletableFuture.failedFuture(exception);
+        } //end if
+
+        return this.gateway.fetchAsync(Quota.TRAIN, Priority.BACKGROUND, request, this::parsePositions)
+                           .thenApply(routeToTrains -> {
+                               if (routeToTrains.isEmpty()) {
+                                   throw new IllegalStateException("the positions response could not be parsed");
+                               } //end if
+
+                               Instant now = Instant.now();
+
+                               return new PositionSnapshot(now, routeToTrains);
+                           });
+    } //getPositionsAsync
+
+    /**
+     * Returns how much longer the specified {@link Fetched} {@link Train}s are fresh, which is how long a client may
+     * cache them.
+     *
+     * @param fetched the {@link Fetched} {@link Train}s to be used in the operation
+     * @return how much longer the specified {@link Fetched} {@link Train}s are fresh
+     * @throws NullPointerException if the specified {@link Fetched} {@link Train}s are {@code null}
+     */
+    public Duration getMaxAge(Fetched<Set<Train>> fetched) {
+        return this.arrivalCache.getRemainingTtl(fetched);
+    } //getMaxAge
+
+    /**
+     * Returns the identity of the specified {@link Train} in a {@link Delta}, which is its run number and station
+     * separated by a colon.
+     *
+     * @param train the {@link Train} to be used in the operation
+     * @return the identity of the specified {@link Train} in a {@link Delta}
+     */
+    private static String getIdentity(Train train) {
+        return "%s:%s".formatted(train.run(), train.station());
+    } //getIdentity
+
+    /**
+     * Records the specified arrivals of the specified map ID and routes, and returns the {@link Delta} from the
+     * snapshot with the specified sequence number to them. A reset is returned if the snapshot with the specified
+     * sequence number is unknown.
+     *
+     * @param mapId the map ID to be used in the operation
+     * @param routes the routes to be used in the operation
+     * @param trains the {@link Train}s to be used in the operation, in the order of a response
+     * @param since the sequence number of the client's snapshot, or {@code 0} if it has none
+     * @return the {@link Delta} from the snapshot with the specified sequence number to the specified arrivals
+     * @throws NullPointerException if the specified array of routes, a route in it, or the specified {@link List} of
+     * {@link Train}s is {@code null}
+     */
+    public Delta<Train> getDelta(int mapId, String[] routes, List<Train> trains, long since) {
+        RequestKey key = RequestKey.of(mapId, routes);
+
+        return this.arrivalDeltas.update(key, trains, since);
+    } //getDelta
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.train.model;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the position of every train of the Chicago Transit Authority.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param refreshedAt the time at which this snapshot was taken
+ * @param trains the {@link Train}s of this snapshot, by {@link Route}
+ */
+public record PositionSnapshot(Instant refreshedAt, Map<Route, Set<Train>> trains) {
+    /**
+     * Constructs an instance of the {@link PositionSnapshot} class.
+     *
+     * @param refreshedAt the time at which the snapshot was taken to be used in the operation
+     * @param trains the {@link Train}s of the snapshot, by {@link Route}, to be used in the operation
+     * @throws NullPointerException if the specified time or {@link Map} is {@code null}, or the specified
+     * {@link Map} contains a {@code null} key or value
+     */
+    public PositionSnapshot {
+        Objects.requireNonNull(refreshedAt, "the specified refreshed at time is null");
+
+        Objects.requireNonNull(trains, "the specified map of trains is null");
+
+        Map<Route, Set<Train>> copy = new EnumMap<>(Route.class);
+
+        trains.forEach((route, routeTrains) -> copy.put(route, Set.copyOf(routeTrains)));
+
+        trains = Map.copyOf(copy);
+    } //PositionSnapshot
+
+    /**
+     * Returns the {@link Train}s of the specified {@link Route} in this snapshot.
+     *
+     * @param route the {@link Route} to be used in the operation
+     * @return the {@link Train}s of the specified {@link Route} in this snapshot
+     * @throws NullPointerException if the specified {@link Route} is {@code null}
+     */
+    public Set<Train> get(Route route) {
+        Objects.requireNonNull(route, "the specified route is null");
+
+        return this.trains.getOrDefault(route, Set.of());
+    } //get
+}
\ No newline at end of file
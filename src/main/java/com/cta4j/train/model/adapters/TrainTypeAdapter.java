@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.util.Objects;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import com.cta4j.utils.ParseMetrics;
 import com.google.gson.stream.JsonReader;
 import com.cta4j.train.model.Route;
 import com.google.gson.stream.JsonToken;
@@ -167,6 +168,40 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
         jsonWriter.endObject();
     } //writeTrain
 
+    /**
+     * Returns the {@link Route} with the specified API code, or {@code null} if the code is novel.
+     *
+     * @param routeString the API code of the route to be used in the operation
+     * @return the {@link Route} with the specified API code, or {@code null} if the code is novel
+     * @throws NullPointerException if the specified API code is {@code null}
+     */
+    public static Route parseRoute(String routeString) {
+        Objects.requireNonNull(routeString, "the specified route string is null");
+
+        routeString = routeString.toLowerCase();
+
+        return switch (routeString) {
+            case "red" -> Route.RED;
+            case "blue" -> Route.BLUE;
+            case "brn" -> Route.BROWN;
+            case "g" -> Route.GREEN;
+            case "org" -> Route.ORANGE;
+            case "p", "pexp" -> Route.PURPLE;
+            case "pink" -> Route.PINK;
+            case "y" -> Route.YELLOW;
+            default -> {
+                String errorMessage = "the response includes a novel route: %s".formatted(routeString);
+
+                LOGGER.atError()
+                      .log(errorMessage);
+
+                ParseMetrics.countMalformed("train", "rt");
+
+                yield null;
+            } //default
+        };
+    } //parseRoute
+
     /**
      * Deserializes a {@link Train} object using the specified {@link JsonReader}.
      *
@@ -227,34 +262,17 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed run");
+
+                        ParseMetrics.countMalformed("train", "rn");
                     } //end try catch
                 } //case "rn"
                 case "rt" -> {
                     String routeString = jsonReader.nextString();
 
-                    routeString = routeString.toLowerCase();
-
-                    route = switch (routeString) {
-                        case "red" -> Route.RED;
-                        case "blue" -> Route.BLUE;
-                        case "brn" -> Route.BROWN;
-                        case "g" -> Route.GREEN;
-                        case "org" -> Route.ORANGE;
-                        case "p", "pexp" -> Route.PURPLE;
-                        case "pink" -> Route.PINK;
-                        case "y" -> Route.YELLOW;
-                        default -> {
-                            String errorMessage = "the response includes a novel route: %s".formatted(routeString);
-
-                            LOGGER.atError()
-                                  .log(errorMessage);
-
-                            yield null;
-                        } //default
-                    };
+                    route = TrainTypeAdapter.parseRoute(routeString);
                 } //case "rt"
                 case "destNm" -> destination = jsonReader.nextString();
-                case "staNm" -> station = jsonReader.nextString();
+                case "staNm", "nextStaNm" -> station = jsonReader.nextString();
                 case "stpDe" -> description = jsonReader.nextString();
                 case "prdt" -> {
                     String predictionTimeString = jsonReader.nextString();
@@ -265,6 +283,8 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed prediction time");
+
+                        ParseMetrics.countMalformed("train", "prdt");
                     } //end try catch
                 } //case "prdt"
                 case "arrT" -> {
@@ -276,6 +296,8 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed arrival time");
+
+                        ParseMetrics.countMalformed("train", "arrT");
                     } //end try catch
                 } //case "arrT"
                 case "isApp" -> {
@@ -315,6 +337,8 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed latitude");
+
+                        ParseMetrics.countMalformed("train", "lat");
                     } //end try catch
                 } //case "lat"
                 case "lon" -> {
@@ -326,6 +350,8 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed longitude");
+
+                        ParseMetrics.countMalformed("train", "lon");
                     } //end try catch
                 } //case "lon"
                 case "heading" -> {
@@ -337,9 +363,11 @@ public final class TrainTypeAdapter extends TypeAdapter<Train> {
                         LOGGER.atError()
                               .withThrowable(e)
                               .log("the response includes a malformed heading");
+
+                        ParseMetrics.countMalformed("train", "heading");
                     } //end try catch
                 } //case "heading"
-                default -> jsonReader.nextString();
+                default -> jsonReader.skipValue();
             } //end switch
         } //end while
 
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of the response cache of an upstream endpoint.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param maxEntries the maximum number of entries of these settings
+ * @param refreshInterval how often the upstream regenerates its data of these settings, measured from the timestamp in
+ * the data
+ * @param minTtl the shortest time an entry of these settings is served
+ * @param maxTtl the longest time an entry of these settings is served
+ */
+public record CacheSettings(int maxEntries, Duration refreshInterval, Duration minTtl, Duration maxTtl) {
+    /**
+     * Constructs an instance of the {@link CacheSettings} class.
+     *
+     * @param maxEntries the maximum number of entries to be used in the operation
+     * @param refreshInterval how often the upstream regenerates its data to be used in the operation
+     * @param minTtl the shortest time an entry is served to be used in the operation
+     * @param maxTtl the longest time an entry is served to be used in the operation
+     * @throws NullPointerException if the specified refresh interval, minimum TTL, or maximum TTL is {@code null}
+     * @throws IllegalArgumentException if the specified maximum number of entries is not positive, or the specified
+     * durations are negative or the minimum TTL is greater than the maximum TTL
+     */
+    public CacheSettings {
+        Objects.requireNonNull(refreshInterval, "the specified refresh interval is null");
+
+        Objects.requireNonNull(minTtl, "the specified minimum TTL is null");
+
+        Objects.requireNonNull(maxTtl, "the specified maximum TTL is null");
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of entries is not positive");
+        } //end if
+
+        if (refreshInterval.isNegative() || minTtl.isNegative() || (minTtl.compareTo(maxTtl) > 0)) {
+            throw new IllegalArgumentException("the specified durations are negative or out of order");
+        } //end if
+    } //CacheSettings
+}
\ No newline at end of file
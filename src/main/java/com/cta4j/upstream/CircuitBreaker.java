@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+/**
+ * A circuit breaker of a single upstream endpoint. After the configured number of consecutive failures the circuit
+ * opens and calls are rejected without reaching the endpoint. Once the open duration has elapsed, the circuit is
+ * half-open and exactly one trial call is let through; its outcome closes the circuit or opens it again. The state of
+ * each circuit is published as the {@code cta4j.upstream.circuit.state} gauge, and every transition increments the
+ * {@code cta4j.upstream.circuit.transitions} counter.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class CircuitBreaker {
+    /**
+     * The {@link Logger} of the {@link CircuitBreaker} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(CircuitBreaker.class);
+    } //static
+
+    /**
+     * A state of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * The singleton instance representing the closed state, in which every call is let through.
+         */
+        CLOSED,
+
+        /**
+         * The singleton instance representing the open state, in which every call is rejected.
+         */
+        OPEN,
+
+        /**
+         * The singleton instance representing the half-open state, in which a single trial call is let through.
+         */
+        HALF_OPEN
+    } //State
+
+    /**
+     * The name of the endpoint of this {@link CircuitBreaker}.
+     */
+    private final String name;
+
+    /**
+     * The {@link CircuitSettings} of this {@link CircuitBreaker}.
+     */
+    private final CircuitSettings settings;
+
+    /**
+     * The {@link State} of this {@link CircuitBreaker}.
+     */
+    private State state;
+
+    /**
+     * The number of consecutive failures of this {@link CircuitBreaker}.
+     */
+    private int consecutiveFailures;
+
+    /**
+     * The time at which this {@link CircuitBreaker} was last opened, in nanoseconds.
+     */
+    private long openedAt;
+
+    /**
+     * Whether the trial call of this {@link CircuitBreaker} is in flight.
+     */
+    private boolean trialInFlight;
+
+    /**
+     * Constructs an instance of the {@link CircuitBreaker} class.
+     *
+     * @param name the name of the endpoint to be used in the operation
+     * @param settings the {@link CircuitSettings} to be used in the operation
+     * @throws NullPointerException if the specified name or {@link CircuitSettings} is {@code null}
+     */
+    public CircuitBreaker(String name, CircuitSettings settings) {
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(settings, "the specified settings is null");
+
+        this.name = name;
+
+        this.settings = settings;
+
+        this.state = State.CLOSED;
+
+        this.consecutiveFailures = 0;
+
+        this.openedAt = 0L;
+
+        this.trialInFlight = false;
+
+        Gauge.builder("cta4j.upstream.circuit.state", this, breaker -> breaker.getState()
+                                                                              .ordinal())
+             .tag("endpoint", name)
+             .description("The state of the circuit: 0 is closed, 1 is open, and 2 is half-open")
+             .register(Metrics.globalRegistry);
+    } //CircuitBreaker
+
+    /**
+     * Returns the name of the endpoint of this {@link CircuitBreaker}.
+     *
+     * @return the name of the endpoint of this {@link CircuitBreaker}
+     */
+    public String getName() {
+        return this.name;
+    } //getName
+
+    /**
+     * Returns the {@link State} of this {@link CircuitBreaker}.
+     *
+     * @return the {@link State} of this {@link CircuitBreaker}
+     */
+    public synchronized State getState() {
+        return this.state;
+    } //getState
+
+    /**
+     * Moves this {@link CircuitBreaker} to the specified {@link State}.
+     *
+     * @param newState the {@link State} to be used in the operation
+     */
+    private void transition(State newState) {
+        State oldState = this.state;
+
+        this.state = newState;
+
+        String from = oldState.name()
+                              .toLowerCase();
+
+        String to = newState.name()
+                            .toLowerCase();
+
+        Metrics.counter("cta4j.upstream.circuit.transitions", "endpoint", this.name, "from", from, "to", to)
+               .increment();
+
+        String message = "The circuit of the %s endpoint moved from %s to %s".formatted(this.name, from, to);
+
+        LOGGER.atWarn()
+              .log(message);
+    } //transition
+
+    /**
+     * Attempts to let a call through this {@link CircuitBreaker}. A caller that is let through must report the
+     * outcome of its call using {@link #onSuccess()}, {@link #onFailure()}, or {@link #onIgnored()}.
+     *
+     * @return {@code true} if the call may be made, otherwise {@code false}
+     */
+    public synchronized boolean tryAcquire() {
+        switch (this.state) {
+            case CLOSED -> {
+                return true;
+            } //case CLOSED
+            case OPEN -> {
+                long openNanos = System.nanoTime() - this.openedAt;
+
+                if (openNanos < this.settings.openDuration()
+                                             .toNanos()) {
+                    return false;
+                } //end if
+
+                this.transition(State.HALF_OPEN);
+
+                this.trialInFlight = true;
+
+                return true;
+            } //case OPEN
+            default -> {
+                if (this.trialInFlight) {
+                    return false;
+                } //end if
+
+                this.trialInFlight = true;
+
+                return true;
+            } //default
+        } //end switch
+    } //tryAcquire
+
+    /**
+     * Records that a call through this {@link CircuitBreaker} succeeded.
+     */
+    public synchronized void onSuccess() {
+        this.consecutiveFailures = 0;
+
+        this.trialInFlight = false;
+
+        if (this.state != State.CLOSED) {
+            this.transition(State.CLOSED);
+        } //end if
+    } //onSuccess
+
+    /**
+     * Records that a call through this {@link CircuitBreaker} failed.
+     */
+    public synchronized void onFailure() {
+        switch (this.state) {
+            case CLOSED -> {
+                this.consecutiveFailures++;
+
+                if (this.consecutiveFailures >= this.settings.failureThreshold()) {
+                    this.openedAt = System.nanoTime();
+
+                    this.transition(State.OPEN);
+                } //end if
+            } //case CLOSED
+            case HALF_OPEN -> {
+                this.trialInFlight = false;
+
+                this.openedAt = System.nanoTime();
+
+                this.transition(State.OPEN);
+            } //case HALF_OPEN
+            default -> {
+            } //default
+        } //end switch
+    } //onFailure
+
+    /**
+     * Records that a call let through this {@link CircuitBreaker} never reached the endpoint, so its outcome says
+     * nothing about the endpoint's health.
+     */
+    public synchronized void onIgnored() {
+        if (this.state == State.HALF_OPEN) {
+            this.trialInFlight = false;
+        } //end if
+    } //onIgnored
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of the circuit breakers of the upstream gateway.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param failureThreshold the number of consecutive failures that opens a circuit of these settings
+ * @param openDuration how long an open circuit of these settings rejects calls before letting a trial call through
+ */
+public record CircuitSettings(int failureThreshold, Duration openDuration) {
+    /**
+     * Constructs an instance of the {@link CircuitSettings} class.
+     *
+     * @param failureThreshold the number of consecutive failures that opens a circuit to be used in the operation
+     * @param openDuration how long an open circuit rejects calls to be used in the operation
+     * @throws NullPointerException if the specified open duration is {@code null}
+     * @throws IllegalArgumentException if the specified failure threshold is not positive or the specified open
+     * duration is negative
+     */
+    public CircuitSettings {
+        Objects.requireNonNull(openDuration, "the specified open duration is null");
+
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("the specified failure threshold is not positive");
+        } //end if
+
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("the specified open duration is negative");
+        } //end if
+    } //CircuitSettings
+}
\ No newline at end of file
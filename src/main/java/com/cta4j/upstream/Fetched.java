@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A value fetched from an upstream endpoint, along with when it was fetched and whether it is being served in place of
+ * a fresh value that could not be fetched.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param value the value of this fetched value
+ * @param fetchedAt the time at which the value of this fetched value was fetched
+ * @param stale whether this fetched value is being served in place of a fresh one
+ * @param <V> the type of the value of this fetched value
+ */
+public record Fetched<V>(V value, Instant fetchedAt, boolean stale) {
+    /**
+     * Constructs an instance of the {@link Fetched} class.
+     *
+     * @param value the value to be used in the operation
+     * @param fetchedAt the time at which the value was fetched to be used in the operation
+     * @param stale whether the value is being served in place of a fresh one
+     * @throws NullPointerException if the specified value or time is {@code null}
+     */
+    public Fetched {
+        Objects.requireNonNull(value, "the specified value is null");
+
+        Objects.requireNonNull(fetchedAt, "the specified fetched at time is null");
+    } //Fetched
+
+    /**
+     * Returns a copy of this {@link Fetched} value marked as stale.
+     *
+     * @return a copy of this {@link Fetched} value marked as stale
+     */
+    public Fetched<V> asStale() {
+        return new Fetched<>(this.value, this.fetchedAt, true);
+    } //asStale
+}
\ No newline at end of file
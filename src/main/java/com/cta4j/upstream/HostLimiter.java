@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking limit on the number of concurrent requests sent to a single host. Callers that cannot obtain a
+ * permit immediately are queued in arrival order and are handed a permit as soon as one is released, so waiting never
+ * pins a thread.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+final class HostLimiter {
+    /**
+     * The lock of this {@link HostLimiter}.
+     */
+    private final Object lock;
+
+    /**
+     * The number of available permits of this {@link HostLimiter}.
+     */
+    private int available;
+
+    /**
+     * The waiters of this {@link HostLimiter}.
+     */
+    private final Deque<CompletableFuture<Void>> waiters;
+
+    /**
+     * Constructs an instance of the {@link HostLimiter} class.
+     *
+     * @param permits the number of permits to be used in the operation
+     * @throws IllegalArgumentException if the specified number of permits is not positive
+     */
+    HostLimiter(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("the specified number of permits is not positive");
+        } //end if
+
+        this.lock = new Object();
+
+        this.available = permits;
+
+        this.waiters = new ArrayDeque<>();
+    } //HostLimiter
+
+    /**
+     * Returns a {@link CompletableFuture} that completes once a permit has been granted to the caller. If the returned
+     * future is completed by anyone else (for example, by a timeout or a cancellation), the permit it would have
+     * received is passed on to the next waiter instead.
+     *
+     * @return a {@link CompletableFuture} that completes once a permit has been granted to the caller
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (this.lock) {
+            if (this.available > 0) {
+                this.available--;
+
+                return CompletableFuture.completedFuture(null);
+            } //end if
+
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+
+            this.waiters.addLast(waiter);
+
+            return waiter;
+        } //end synchronized
+    } //acquire
+
+    /**
+     * Releases a permit, handing it to the oldest waiter that is still waiting.
+     */
+    void release() {
+        while (true) {
+            CompletableFuture<Void> waiter;
+
+            synchronized (this.lock) {
+                waiter = this.waiters.pollFirst();
+
+                if (waiter == null) {
+                    this.available++;
+
+                    return;
+                } //end if
+            } //end synchronized
+
+            if (waiter.complete(null)) {
+                return;
+            } //end if
+        } //end while
+    } //release
+}
\ No newline at end of file
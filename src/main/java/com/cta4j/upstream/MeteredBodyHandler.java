@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link HttpResponse.BodyHandler} that counts the bytes of each response body as it streams in, and records the
+ * size of the body in {@code cta4j.upstream.response.size} once it has been received in full. The body is otherwise
+ * handled by the wrapped {@link HttpResponse.BodyHandler}, so streaming responses stay streaming.
+ *
+ * @param <T> the type of the response body
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+final class MeteredBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+    /**
+     * The wrapped {@link HttpResponse.BodyHandler} of this {@link MeteredBodyHandler}.
+     */
+    private final HttpResponse.BodyHandler<T> delegate;
+
+    /**
+     * The endpoint of this {@link MeteredBodyHandler}, such as {@code getpredictions}.
+     */
+    private final String endpoint;
+
+    /**
+     * A {@link HttpResponse.BodySubscriber} that counts the bytes it receives before passing them on.
+     *
+     * @param <T> the type of the response body
+     */
+    private static final class CountingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        /**
+         * The wrapped {@link HttpResponse.BodySubscriber} of this {@link CountingSubscriber}.
+         */
+        private final HttpResponse.BodySubscriber<T> delegate;
+
+        /**
+         * The {@link DistributionSummary} of the body sizes of this {@link CountingSubscriber}.
+         */
+        private final DistributionSummary sizes;
+
+        /**
+         * The number of bytes received by this {@link CountingSubscriber}, which is only updated by the serial
+         * signals of its publisher.
+         */
+        private long bytes;
+
+        /**
+         * Constructs an instance of the {@link CountingSubscriber} class.
+         *
+         * @param delegate the wrapped {@link HttpResponse.BodySubscriber} to be used in the operation
+         * @param sizes the {@link DistributionSummary} of the body sizes to be used in the operation
+         */
+        private CountingSubscriber(HttpResponse.BodySubscriber<T> delegate, DistributionSummary sizes) {
+            this.delegate = delegate;
+
+            this.sizes = sizes;
+        } //CountingSubscriber
+
+        /**
+         * Returns the body of the wrapped {@link HttpResponse.BodySubscriber}.
+         *
+         * @return the body of the wrapped {@link HttpResponse.BodySubscriber}
+         */
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.delegate.getBody();
+        } //getBody
+
+        /**
+         * Passes the specified {@link Flow.Subscription} on to the wrapped {@link HttpResponse.BodySubscriber}.
+         *
+         * @param subscription the {@link Flow.Subscription} to be used in the operation
+         */
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.delegate.onSubscribe(subscription);
+        } //onSubscribe
+
+        /**
+         * Counts the bytes of the specified buffers and passes them on to the wrapped
+         * {@link HttpResponse.BodySubscriber}.
+         *
+         * @param items the buffers to be used in the operation
+         */
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            for (ByteBuffer item : items) {
+                this.bytes += item.remaining();
+            } //end for
+
+            this.delegate.onNext(items);
+        } //onNext
+
+        /**
+         * Passes the specified error on to the wrapped {@link HttpResponse.BodySubscriber}.
+         *
+         * @param throwable the error to be used in the operation
+         */
+        @Override
+        public void onError(Throwable throwable) {
+            this.delegate.onError(throwable);
+        } //onError
+
+        /**
+         * Records the size of the body and completes the wrapped {@link HttpResponse.BodySubscriber}.
+         */
+        @Override
+        public void onComplete() {
+            this.sizes.record(this.bytes);
+
+            this.delegate.onComplete();
+        } //onComplete
+    } //CountingSubscriber
+
+    /**
+     * Constructs an instance of the {@link MeteredBodyHandler} class.
+     *
+     * @param delegate the wrapped {@link HttpResponse.BodyHandler} to be used in the operation
+     * @param endpoint the endpoint to be used in the operation
+     * @throws NullPointerException if the specified {@link HttpResponse.BodyHandler} or endpoint is {@code null}
+     */
+    MeteredBodyHandler(HttpResponse.BodyHandler<T> delegate, String endpoint) {
+        Objects.requireNonNull(delegate, "the specified body handler is null");
+
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        this.delegate = delegate;
+
+        this.endpoint = endpoint;
+    } //MeteredBodyHandler
+
+    /**
+     * Returns a {@link HttpResponse.BodySubscriber} that counts the bytes of the response body of the specified
+     * {@link HttpResponse.ResponseInfo} before handing them to the wrapped {@link HttpResponse.BodyHandler}.
+     *
+     * @param responseInfo the {@link HttpResponse.ResponseInfo} to be used in the operation
+     * @return a {@link HttpResponse.BodySubscriber} of the response body
+     */
+    @Override
+    public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+        HttpResponse.BodySubscriber<T> subscriber = this.delegate.apply(responseInfo);
+
+        DistributionSummary sizes = DistributionSummary.builder("cta4j.upstream.response.size")
+                                                       .baseUnit("bytes")
+                                                       .tag("endpoint", this.endpoint)
+                                                       .register(Metrics.globalRegistry);
+
+        return new CountingSubscriber<>(subscriber, sizes);
+    } //apply
+}
\ No newline at end of file
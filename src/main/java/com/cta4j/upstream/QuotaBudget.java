@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * The budget of a single {@link Quota}. Calls are paced using the generic cell rate algorithm, which behaves like a
+ * token bucket that refills at the configured rate and holds up to the configured burst, and are counted against a
+ * daily limit that resets at midnight in Chicago.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+final class QuotaBudget {
+    /**
+     * The time zone in which the daily limit of a {@link QuotaBudget} resets.
+     */
+    private static final ZoneId ZONE;
+
+    static {
+        ZONE = ZoneId.of("America/Chicago");
+    } //static
+
+    /**
+     * The {@link QuotaSettings} of this {@link QuotaBudget}.
+     */
+    private final QuotaSettings settings;
+
+    /**
+     * The number of nanoseconds between two calls at the sustained rate of this {@link QuotaBudget}.
+     */
+    private final long intervalNanos;
+
+    /**
+     * The number of nanoseconds by which a call may run ahead of the sustained rate of this {@link QuotaBudget}.
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * The theoretical arrival time of the next call of this {@link QuotaBudget}, in nanoseconds.
+     */
+    private long theoreticalArrival;
+
+    /**
+     * The current day of this {@link QuotaBudget}.
+     */
+    private LocalDate day;
+
+    /**
+     * The number of calls made on the current day of this {@link QuotaBudget}.
+     */
+    private long used;
+
+    /**
+     * Constructs an instance of the {@link QuotaBudget} class.
+     *
+     * @param settings the {@link QuotaSettings} to be used in the operation
+     * @throws NullPointerException if the specified {@link QuotaSettings} is {@code null}
+     */
+    QuotaBudget(QuotaSettings settings) {
+        Objects.requireNonNull(settings, "the specified settings is null");
+
+        this.settings = settings;
+
+        this.intervalNanos = 1_000_000_000L / settings.perSecond();
+
+        this.burstToleranceNanos = (settings.burst() - 1L) * this.intervalNanos;
+
+        this.theoreticalArrival = System.nanoTime();
+
+        this.day = LocalDate.now(ZONE);
+
+        this.used = 0L;
+    } //QuotaBudget
+
+    /**
+     * Resets the daily count of this {@link QuotaBudget} if the day has changed.
+     */
+    private void rollDay() {
+        LocalDate today = LocalDate.now(ZONE);
+
+        if (today.equals(this.day)) {
+            return;
+        } //end if
+
+        this.day = today;
+
+        this.used = 0L;
+    } //rollDay
+
+    /**
+     * Reserves a call of the specified {@link Priority}, returning how long the caller must wait before making it.
+     *
+     * @param priority the {@link Priority} to be used in the operation
+     * @param maxWaitNanos the longest the caller is willing to wait, in nanoseconds
+     * @return the number of nanoseconds the caller must wait before making the call
+     * @throws QuotaExceededException if the daily budget is exhausted, the remaining daily budget is reserved for
+     * interactive calls, or the call could not be made within the specified wait
+     */
+    synchronized long reserve(Priority priority, long maxWaitNanos) throws QuotaExceededException {
+        this.rollDay();
+
+        long dailyLimit = this.settings.dailyLimit();
+
+        long remaining = dailyLimit - this.used;
+
+        if (remaining <= 0L) {
+            throw new QuotaExceededException("the daily budget is exhausted");
+        } //end if
+
+        long reserved = (dailyLimit * this.settings.backgroundReservePercent()) / 100L;
+
+        if ((priority == Priority.BACKGROUND) && (remaining <= reserved)) {
+            throw new QuotaExceededException("the remaining daily budget is reserved for interactive calls");
+        } //end if
+
+        long now = System.nanoTime();
+
+        long arrival = Math.max(this.theoreticalArrival, now);
+
+        long waitNanos = Math.max(0L, arrival - this.burstToleranceNanos - now);
+
+        if (waitNanos > maxWaitNanos) {
+            throw new QuotaExceededException("the per-second budget does not allow the call in time");
+        } //end if
+
+        this.theoreticalArrival = arrival + this.intervalNanos;
+
+        this.used++;
+
+        return waitNanos;
+    } //reserve
+
+    /**
+     * Returns the number of calls left in the daily budget of this {@link QuotaBudget}.
+     *
+     * @return the number of calls left in the daily budget of this {@link QuotaBudget}
+     */
+    synchronized long getRemaining() {
+        this.rollDay();
+
+        return Math.max(0L, this.settings.dailyLimit() - this.used);
+    } //getRemaining
+
+    /**
+     * Returns the number of calls that could be made right now without waiting.
+     *
+     * @return the number of calls that could be made right now without waiting
+     */
+    synchronized long getAvailableTokens() {
+        long now = System.nanoTime();
+
+        long arrival = Math.max(this.theoreticalArrival, now);
+
+        long tokens = ((now + this.burstToleranceNanos - arrival) / this.intervalNanos) + 1L;
+
+        return Math.max(0L, Math.min(tokens, this.settings.burst()));
+    } //getAvailableTokens
+}
\ No newline at end of file
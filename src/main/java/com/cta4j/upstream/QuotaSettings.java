@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+/**
+ * The settings of a {@link Quota}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param dailyLimit the number of calls allowed per day by these settings
+ * @param perSecond the sustained number of calls allowed per second by these settings
+ * @param burst the number of calls that may be made back to back by these settings
+ * @param backgroundReservePercent the percentage of the daily limit that background calls may not use
+ */
+public record QuotaSettings(long dailyLimit, int perSecond, int burst, int backgroundReservePercent) {
+    /**
+     * Constructs an instance of the {@link QuotaSettings} class.
+     *
+     * @param dailyLimit the number of calls allowed per day to be used in the operation
+     * @param perSecond the sustained number of calls allowed per second to be used in the operation
+     * @param burst the number of calls that may be made back to back to be used in the operation
+     * @param backgroundReservePercent the percentage of the daily limit that background calls may not use to be used
+     * in the operation
+     * @throws IllegalArgumentException if the specified daily limit, calls per second, or burst is not positive, or
+     * the specified reserve percentage is not between {@code 0} and {@code 100}
+     */
+    public QuotaSettings {
+        if (dailyLimit <= 0) {
+            throw new IllegalArgumentException("the specified daily limit is not positive");
+        } //end if
+
+        if (perSecond <= 0) {
+            throw new IllegalArgumentException("the specified number of calls per second is not positive");
+        } //end if
+
+        if (burst <= 0) {
+            throw new IllegalArgumentException("the specified burst is not positive");
+        } //end if
+
+        if ((backgroundReservePercent < 0) || (backgroundReservePercent > 100)) {
+            throw new IllegalArgumentException("the specified reserve percentage is not between 0 and 100");
+        } //end if
+    } //QuotaSettings
+}
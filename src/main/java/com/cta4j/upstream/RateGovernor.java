@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The governor of the CTA4j application's spending of its API quotas. Each {@link Quota} has its own budget: calls
+ * that arrive faster than the per-second budget allows are queued for up to the configured wait, background calls are
+ * rejected once the daily budget is down to its interactive reserve, and every call is rejected once the daily budget
+ * is spent. The remaining budgets are published as the {@code cta4j.upstream.quota.remaining} and
+ * {@code cta4j.upstream.quota.tokens} gauges.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class RateGovernor {
+    /**
+     * The {@link Logger} of the {@link RateGovernor} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(RateGovernor.class);
+    } //static
+
+    /**
+     * The budgets of this {@link RateGovernor}.
+     */
+    private final Map<Quota, QuotaBudget> budgets;
+
+    /**
+     * The longest a call may be queued by this {@link RateGovernor}, in nanoseconds.
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * Constructs an instance of the {@link RateGovernor} class.
+     *
+     * @param quotas the {@link QuotaSettings} of each {@link Quota} to be used in the operation
+     * @param maxWait the longest a call may be queued to be used in the operation
+     * @throws NullPointerException if the specified {@link Map} or maximum wait is {@code null}
+     * @throws IllegalArgumentException if the specified {@link Map} does not contain settings for every {@link Quota}
+     */
+    public RateGovernor(Map<Quota, QuotaSettings> quotas, Duration maxWait) {
+        Objects.requireNonNull(quotas, "the specified map of quotas is null");
+
+        Objects.requireNonNull(maxWait, "the specified maximum wait is null");
+
+        this.budgets = new EnumMap<>(Quota.class);
+
+        for (Quota quota : Quota.values()) {
+            QuotaSettings settings = quotas.get(quota);
+
+            if (settings == null) {
+                String message = "the specified map of quotas does not contain %s".formatted(quota);
+
+                throw new IllegalArgumentException(message);
+            } //end if
+
+            QuotaBudget budget = new QuotaBudget(settings);
+
+            this.budgets.put(quota, budget);
+
+            String tag = quota.name()
+                              .toLowerCase();
+
+            Gauge.builder("cta4j.upstream.quota.remaining", budget, QuotaBudget::getRemaining)
+                 .tag("quota", tag)
+                 .description("The number of calls left in the daily budget")
+                 .register(Metrics.globalRegistry);
+
+            Gauge.builder("cta4j.upstream.quota.tokens", budget, QuotaBudget::getAvailableTokens)
+                 .tag("quota", tag)
+                 .description("The number of calls that could be made right now without waiting")
+                 .register(Metrics.globalRegistry);
+        } //end for
+
+        this.maxWaitNanos = maxWait.toNanos();
+    } //RateGovernor
+
+    /**
+     * Reserves a call against the specified {@link Quota}, returning how long the caller must wait before making it.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @return the number of nanoseconds the caller must wait before making the call
+     * @throws QuotaExceededException if the call is rejected
+     * @throws NullPointerException if the specified {@link Quota} or {@link Priority} is {@code null}
+     */
+    private long reserveNanos(Quota quota, Priority priority) throws QuotaExceededException {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        QuotaBudget budget = this.budgets.get(quota);
+
+        String quotaTag = quota.name()
+                               .toLowerCase();
+
+        String priorityTag = priority.name()
+                                     .toLowerCase();
+
+        long waitNanos;
+
+        try {
+            waitNanos = budget.reserve(priority, this.maxWaitNanos);
+        } catch (QuotaExceededException e) {
+            Metrics.counter("cta4j.upstream.quota.rejected", "quota", quotaTag, "priority", priorityTag)
+                   .increment();
+
+            String message = "A %s call to the %s API was rejected: %s".formatted(priorityTag, quotaTag,
+                                                                                e.getMessage());
+
+            LOGGER.atWarn()
+                  .log(message);
+
+            throw e;
+        } //end try catch
+
+        if (waitNanos > 0L) {
+            Metrics.counter("cta4j.upstream.quota.queued", "quota", quotaTag, "priority", priorityTag)
+                   .increment();
+        } //end if
+
+        return waitNanos;
+    } //reserveNanos
+
+    /**
+     * Reserves a call against the specified {@link Quota}, blocking until the call may be made.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @throws QuotaExceededException if the call is rejected
+     * @throws InterruptedException if the operation is interrupted while queued
+     * @throws NullPointerException if the specified {@link Quota} or {@link Priority} is {@code null}
+     */
+    public void acquire(Quota quota, Priority priority) throws QuotaExceededException, InterruptedException {
+        long waitNanos = this.reserveNanos(quota, priority);
+
+        if (waitNanos > 0L) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } //end if
+    } //acquire
+
+    /**
+     * Reserves a call against the specified {@link Quota} without blocking the calling thread.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @return a {@link CompletableFuture} that completes once the call may be made, or completes exceptionally with a
+     * {@link QuotaExceededException} if the call is rejected
+     * @throws NullPointerException if the specified {@link Quota} or {@link Priority} is {@code null}
+     */
+    public CompletableFuture<Void> acquireAsync(Quota quota, Priority priority) {
+        long waitNanos;
+
+        try {
+            waitNanos = this.reserveNanos(quota, priority);
+        } catch (QuotaExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        if (waitNanos == 0L) {
+            return CompletableFuture.completedFuture(null);
+        } //end if
+
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS);
+
+        return CompletableFuture.runAsync(() -> {}, delayedExecutor);
+    } //acquireAsync
+
+    /**
+     * Returns the number of calls left in the daily budget of the specified {@link Quota}.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @return the number of calls left in the daily budget of the specified {@link Quota}
+     * @throws NullPointerException if the specified {@link Quota} is {@code null}
+     */
+    public long getRemaining(Quota quota) {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        return this.budgets.get(quota)
+                           .getRemaining();
+    } //getRemaining
+}
\ No newline at end of file
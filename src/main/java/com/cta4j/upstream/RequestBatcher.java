@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A batcher of operations that can be answered together. Keys submitted within a short window that belong to the same
+ * group are collected into a batch, which is loaded with one call once the window closes or the batch is full. The
+ * loaded results are then handed back to each caller by key.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this batcher
+ * @param <V> the type of the results of this batcher
+ */
+public final class RequestBatcher<K, V> {
+    /**
+     * The maximum number of keys in a batch of this {@link RequestBatcher}.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The {@link Executor} that closes the windows of this {@link RequestBatcher}.
+     */
+    private final Executor windowExecutor;
+
+    /**
+     * The function that returns the group of a key of this {@link RequestBatcher}.
+     */
+    private final Function<K, ?> grouper;
+
+    /**
+     * The function that loads a batch of keys of this {@link RequestBatcher}.
+     */
+    private final Function<List<K>, CompletableFuture<Map<K, V>>> loader;
+
+    /**
+     * The result of a key that is missing from a loaded batch of this {@link RequestBatcher}.
+     */
+    private final V missingValue;
+
+    /**
+     * The open batches of this {@link RequestBatcher}, by group.
+     */
+    private final Map<Object, Batch> openBatches;
+
+    /**
+     * Constructs an instance of the {@link RequestBatcher} class.
+     *
+     * @param maxBatchSize the maximum number of keys in a batch to be used in the operation
+     * @param window the time a batch stays open for more keys to be used in the operation
+     * @param grouper the function that returns the group of a key to be used in the operation
+     * @param loader the function that loads a batch of keys to be used in the operation
+     * @param missingValue the result of a key that is missing from a loaded batch to be used in the operation
+     * @throws NullPointerException if the specified window, grouper, loader, or missing value is {@code null}
+     * @throws IllegalArgumentException if the specified maximum batch size is not positive
+     */
+    public RequestBatcher(int maxBatchSize, Duration window, Function<K, ?> grouper,
+                          Function<List<K>, CompletableFuture<Map<K, V>>> loader, V missingValue) {
+        Objects.requireNonNull(window, "the specified window is null");
+
+        Objects.requireNonNull(grouper, "the specified grouper is null");
+
+        Objects.requireNonNull(loader, "the specified loader is null");
+
+        Objects.requireNonNull(missingValue, "the specified missing value is null");
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("the specified maximum batch size is not positive");
+        } //end if
+
+        this.maxBatchSize = maxBatchSize;
+
+        this.windowExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS);
+
+        this.grouper = grouper;
+
+        this.loader = loader;
+
+        this.missingValue = missingValue;
+
+        this.openBatches = new HashMap<>();
+    } //RequestBatcher
+
+    /**
+     * Submits the specified key, returning a {@link CompletableFuture} of its result once its batch has been loaded.
+     *
+     * @param key the key to be used in the operation
+     * @return a {@link CompletableFuture} of the result of the specified key
+     * @throws NullPointerException if the specified key or its group is {@code null}
+     */
+    public CompletableFuture<V> submit(K key) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Object group = this.grouper.apply(key);
+
+        Objects.requireNonNull(group, "the group of the specified key is null");
+
+        CompletableFuture<V> future;
+
+        Batch fullBatch = null;
+
+        synchronized (this.openBatches) {
+            Batch batch = this.openBatches.get(group);
+
+            if (batch == null) {
+                batch = new Batch(group);
+
+                this.openBatches.put(group, batch);
+
+                Batch openedBatch = batch;
+
+                this.windowExecutor.execute(() -> this.close(openedBatch));
+            } //end if
+
+            future = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+
+            if (batch.futures.size() >= this.maxBatchSize) {
+                this.openBatches.remove(group);
+
+                fullBatch = batch;
+            } //end if
+        } //end synchronized
+
+        if (fullBatch != null) {
+            this.load(fullBatch);
+        } //end if
+
+        return future.copy();
+    } //submit
+
+    /**
+     * Closes the specified {@link Batch} once its window has elapsed, unless it was already closed for being full.
+     *
+     * @param batch the {@link Batch} to be used in the operation
+     */
+    private void close(Batch batch) {
+        synchronized (this.openBatches) {
+            if (!this.openBatches.remove(batch.group, batch)) {
+                return;
+            } //end if
+        } //end synchronized
+
+        this.load(batch);
+    } //close
+
+    /**
+     * Loads the specified closed {@link Batch} and completes the future of each of its keys.
+     *
+     * @param batch the {@link Batch} to be used in the operation
+     */
+    private void load(Batch batch) {
+        List<K> keys = List.copyOf(batch.futures.keySet());
+
+        CompletableFuture<Map<K, V>> loaded;
+
+        try {
+            loaded = this.loader.apply(keys);
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        loaded.whenComplete((results, throwable) -> batch.futures.forEach((key, future) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+
+                return;
+            } //end if
+
+            V value = results.getOrDefault(key, this.missingValue);
+
+            future.complete(value);
+        }));
+    } //load
+
+    /**
+     * A batch of keys of a {@link RequestBatcher} that share a group.
+     */
+    private final class Batch {
+        /**
+         * The group of this {@link Batch}.
+         */
+        private final Object group;
+
+        /**
+         * The futures of the keys of this {@link Batch}, in submission order.
+         */
+        private final Map<K, CompletableFuture<V>> futures;
+
+        /**
+         * Constructs an instance of the {@link Batch} class.
+         *
+         * @param group the group to be used in the operation
+         */
+        private Batch(Object group) {
+            this.group = group;
+
+            this.futures = new LinkedHashMap<>();
+        } //Batch
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A normalized key of an upstream prediction request. Route names are lower-cased, de-duplicated, and sorted, so two
+ * requests for the same stop or station and the same routes have equal keys no matter how the routes were ordered.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param id the stop ID or map ID of this key
+ * @param routes the normalized route names of this key
+ */
+public record RequestKey(int id, List<String> routes) {
+    /**
+     * Constructs an instance of the {@link RequestKey} class.
+     *
+     * @param id the stop ID or map ID to be used in the operation
+     * @param routes the normalized route names to be used in the operation
+     * @throws NullPointerException if the specified {@link List} of route names or a route name in it is {@code null}
+     */
+    public RequestKey {
+        Objects.requireNonNull(routes, "the specified list of routes is null");
+
+        routes = List.copyOf(routes);
+    } //RequestKey
+
+    /**
+     * Returns a {@link RequestKey} for the specified ID and route names, normalizing the route names.
+     *
+     * @param id the stop ID or map ID to be used in the operation
+     * @param routes the route names to be used in the operation
+     * @return a {@link RequestKey} for the specified ID and route names
+     * @throws NullPointerException if the specified array of route names or a route name in it is {@code null}
+     */
+    public static RequestKey of(int id, String... routes) {
+        Objects.requireNonNull(routes, "the specified array of routes is null");
+
+        List<String> normalizedRoutes = Arrays.stream(routes)
+                                              .map(String::toLowerCase)
+                                              .distinct()
+                                              .sorted()
+                                              .toList();
+
+        return new RequestKey(id, normalizedRoutes);
+    } //of
+
+    /**
+     * Returns the normalized route names of this {@link RequestKey} as an array.
+     *
+     * @return the normalized route names of this {@link RequestKey} as an array
+     */
+    public String[] toRouteArray() {
+        return this.routes.toArray(String[]::new);
+    } //toRouteArray
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A coalescer of concurrent identical operations. While an operation for a key is in flight, every other caller
+ * asking for the same key shares its result instead of starting an operation of its own. Once the operation
+ * completes, the next caller starts a fresh one.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this single flight
+ * @param <V> the type of the results of this single flight
+ */
+public final class SingleFlight<K, V> {
+    /**
+     * The in-flight operations of this {@link SingleFlight}.
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight;
+
+    /**
+     * Constructs an instance of the {@link SingleFlight} class.
+     */
+    public SingleFlight() {
+        this.inFlight = new ConcurrentHashMap<>();
+    } //SingleFlight
+
+    /**
+     * Returns the result of the operation for the specified key, starting it with the specified supplier only if no
+     * operation for that key is already in flight. Each caller receives its own dependent future, so cancelling it
+     * does not affect the other callers.
+     *
+     * @param key the key to be used in the operation
+     * @param supplier the supplier of the operation to be used in the operation
+     * @return a {@link CompletableFuture} of the result of the operation for the specified key
+     * @throws NullPointerException if the specified key or supplier is {@code null}
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> supplier) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(supplier, "the specified supplier is null");
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+
+        CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return existing.copy();
+        } //end if
+
+        CompletableFuture<V> operation;
+
+        try {
+            operation = supplier.get();
+        } catch (RuntimeException e) {
+            this.inFlight.remove(key, created);
+
+            created.completeExceptionally(e);
+
+            return created.copy();
+        } //end try catch
+
+        operation.whenComplete((value, throwable) -> {
+            this.inFlight.remove(key, created);
+
+            if (throwable == null) {
+                created.complete(value);
+            } else {
+                created.completeExceptionally(throwable);
+            } //end if
+        });
+
+        return created.copy();
+    } //execute
+
+    /**
+     * Returns the number of operations of this {@link SingleFlight} that are currently in flight.
+     *
+     * @return the number of operations of this {@link SingleFlight} that are currently in flight
+     */
+    public int size() {
+        return this.inFlight.size();
+    } //size
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * A store of the last good value of each key of an upstream endpoint, used to serve stale values while the endpoint
+ * is unhealthy. While the endpoint's circuit is not closed, a caller with a last good value receives it right away,
+ * marked as stale, and the refresh it started continues in the background; since an open circuit lets only one trial
+ * call through, at most one refresh reaches the endpoint. A caller whose refresh fails also receives the last good
+ * value, if there is one.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this store
+ * @param <V> the type of the values of this store
+ */
+public final class StaleWhileRevalidate<K, V> {
+    /**
+     * The {@link CircuitBreaker} of the endpoint of this {@link StaleWhileRevalidate}.
+     */
+    private final CircuitBreaker breaker;
+
+    /**
+     * The last good values of this {@link StaleWhileRevalidate}, in least recently used order.
+     */
+    private final Map<K, Fetched<V>> lastGood;
+
+    /**
+     * Constructs an instance of the {@link StaleWhileRevalidate} class.
+     *
+     * @param breaker the {@link CircuitBreaker} of the endpoint to be used in the operation
+     * @param maxEntries the maximum number of last good values to be used in the operation
+     * @throws NullPointerException if the specified {@link CircuitBreaker} is {@code null}
+     * @throws IllegalArgumentException if the specified maximum number of last good values is not positive
+     */
+    public StaleWhileRevalidate(CircuitBreaker breaker, int maxEntries) {
+        Objects.requireNonNull(breaker, "the specified breaker is null");
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of entries is not positive");
+        } //end if
+
+        this.breaker = breaker;
+
+        this.lastGood = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Fetched<V>> eldest) {
+                return this.size() > maxEntries;
+            } //removeEldestEntry
+        };
+    } //StaleWhileRevalidate
+
+    /**
+     * Returns the last good value of the specified key, or {@code null} if there is none.
+     *
+     * @param key the key to be used in the operation
+     * @return the last good value of the specified key, or {@code null} if there is none
+     */
+    private Fetched<V> getLastGood(K key) {
+        synchronized (this.lastGood) {
+            return this.lastGood.get(key);
+        } //end synchronized
+    } //getLastGood
+
+    /**
+     * Records the specified value as the last good value of the specified key.
+     *
+     * @param key the key to be used in the operation
+     * @param value the value to be used in the operation
+     * @return the {@link Fetched} value that was recorded
+     */
+    private Fetched<V> putLastGood(K key, V value) {
+        Instant now = Instant.now();
+
+        Fetched<V> fetched = new Fetched<>(value, now, false);
+
+        synchronized (this.lastGood) {
+            this.lastGood.put(key, fetched);
+        } //end synchronized
+
+        return fetched;
+    } //putLastGood
+
+    /**
+     * Returns the value of the specified key, refreshing it using the specified loader. A stale last good value is
+     * returned if the endpoint's circuit is not closed or the refresh fails.
+     *
+     * @param key the key to be used in the operation
+     * @param loader the loader of a fresh value to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Fetched} value of the specified key, which completes
+     * exceptionally if the refresh fails and there is no last good value
+     * @throws NullPointerException if the specified key or loader is {@code null}
+     */
+    public CompletableFuture<Fetched<V>> get(K key, Supplier<CompletableFuture<V>> loader) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(loader, "the specified loader is null");
+
+        Fetched<V> previous = this.getLastGood(key);
+
+        boolean degraded = this.breaker.getState() != CircuitBreaker.State.CLOSED;
+
+        CompletableFuture<V> refresh;
+
+        try {
+            refresh = loader.get();
+        } catch (RuntimeException e) {
+            refresh = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        CompletableFuture<Fetched<V>> fresh = refresh.thenApply(value -> this.putLastGood(key, value));
+
+        if (degraded && (previous != null)) {
+            return CompletableFuture.completedFuture(previous.asStale());
+        } //end if
+
+        return fresh.exceptionally(throwable -> {
+            Fetched<V> lastGood = this.getLastGood(key);
+
+            if (lastGood != null) {
+                return lastGood.asStale();
+            } //end if
+
+            if (throwable instanceof CompletionException completionException) {
+                throw completionException;
+            } //end if
+
+            throw new CompletionException(throwable);
+        });
+    } //get
+}
\ No newline at end of file
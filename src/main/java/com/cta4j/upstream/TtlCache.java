@@ -0,0 +1,304 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the responses of an upstream endpoint, each of which expires when the upstream is expected to
+ * have regenerated it. The expiry of a value is the timestamp the upstream stamped on it plus the endpoint's refresh
+ * interval, bounded by a minimum and a maximum TTL from the time it was stored; a value without a timestamp is served
+ * for the minimum TTL. Once the cache is full, the least recently used entry is evicted. Stale values, served while
+ * the endpoint is unhealthy, are never stored.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param <K> the type of the keys of this cache
+ * @param <V> the type of the values of this cache
+ */
+public final class TtlCache<K, V> {
+    /**
+     * An entry of a {@link TtlCache}.
+     *
+     * @param fetched the {@link Fetched} value of this entry
+     * @param expiresAt the time at which this entry expires
+     * @param <V> the type of the value of this entry
+     */
+    private record Entry<V>(Fetched<V> fetched, Instant expiresAt) {
+    } //Entry
+
+    /**
+     * The {@link CacheSettings} of this {@link TtlCache}.
+     */
+    private final CacheSettings settings;
+
+    /**
+     * The function of this {@link TtlCache} that returns the upstream timestamp of a value, or {@code null} if it has
+     * none.
+     */
+    private final Function<V, Instant> timestamp;
+
+    /**
+     * The {@link Clock} of this {@link TtlCache}.
+     */
+    private final Clock clock;
+
+    /**
+     * The entries of this {@link TtlCache}, in least recently used order.
+     */
+    private final Map<K, Entry<V>> entries;
+
+    /**
+     * The hit {@link Counter} of this {@link TtlCache}.
+     */
+    private final Counter hits;
+
+    /**
+     * The miss {@link Counter} of this {@link TtlCache}.
+     */
+    private final Counter misses;
+
+    /**
+     * The eviction {@link Counter} of this {@link TtlCache}.
+     */
+    private final Counter evictions;
+
+    /**
+     * Constructs an instance of the {@link TtlCache} class.
+     *
+     * @param endpoint the name of the cached endpoint to be used in the operation
+     * @param settings the {@link CacheSettings} to be used in the operation
+     * @param timestamp the function that returns the upstream timestamp of a value, or {@code null} if it has none
+     * @param clock the {@link Clock} to be used in the operation
+     * @throws NullPointerException if the specified endpoint, {@link CacheSettings}, function, or {@link Clock} is
+     * {@code null}
+     */
+    public TtlCache(String endpoint, CacheSettings settings, Function<V, Instant> timestamp, Clock clock) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        Objects.requireNonNull(settings, "the specified cache settings is null");
+
+        Objects.requireNonNull(timestamp, "the specified timestamp function is null");
+
+        Objects.requireNonNull(clock, "the specified clock is null");
+
+        this.settings = settings;
+
+        this.timestamp = timestamp;
+
+        this.clock = clock;
+
+        this.hits = Metrics.counter("cta4j.upstream.cache.hits", "endpoint", endpoint);
+
+        this.misses = Metrics.counter("cta4j.upstream.cache.misses", "endpoint", endpoint);
+
+        this.evictions = Metrics.counter("cta4j.upstream.cache.evictions", "endpoint", endpoint);
+
+        int maxEntries = settings.maxEntries();
+
+        Counter evictionCounter = this.evictions;
+
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (this.size() <= maxEntries) {
+                    return false;
+                } //end if
+
+                evictionCounter.increment();
+
+                return true;
+            } //removeEldestEntry
+        };
+
+        Gauge.builder("cta4j.upstream.cache.size", this, TtlCache::size)
+             .tag("endpoint", endpoint)
+             .register(Metrics.globalRegistry);
+    } //TtlCache
+
+    /**
+     * Constructs an instance of the {@link TtlCache} class that uses the system clock.
+     *
+     * @param endpoint the name of the cached endpoint to be used in the operation
+     * @param settings the {@link CacheSettings} to be used in the operation
+     * @param timestamp the function that returns the upstream timestamp of a value, or {@code null} if it has none
+     * @throws NullPointerException if the specified endpoint, {@link CacheSettings}, or function is {@code null}
+     */
+    public TtlCache(String endpoint, CacheSettings settings, Function<V, Instant> timestamp) {
+        this(endpoint, settings, timestamp, Clock.systemUTC());
+    } //TtlCache
+
+    /**
+     * Returns the number of entries of this {@link TtlCache}, including any that have expired but not been removed.
+     *
+     * @return the number of entries of this {@link TtlCache}
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        } //end synchronized
+    } //size
+
+    /**
+     * Returns the time at which the specified value, stored at the specified time, expires.
+     *
+     * @param value the value to be used in the operation
+     * @param now the time at which the value is stored
+     * @return the time at which the specified value expires
+     */
+    private Instant getExpiry(V value, Instant now) {
+        Instant earliest = now.plus(this.settings.minTtl());
+
+        Instant stampedAt = this.timestamp.apply(value);
+
+        if (stampedAt == null) {
+            return earliest;
+        } //end if
+
+        Instant regeneratedAt = stampedAt.plus(this.settings.refreshInterval());
+
+        Instant latest = now.plus(this.settings.maxTtl());
+
+        if (regeneratedAt.isBefore(earliest)) {
+            return earliest;
+        } else if (regeneratedAt.isAfter(latest)) {
+            return latest;
+        } //end if
+
+        return regeneratedAt;
+    } //getExpiry
+
+    /**
+     * Returns how much longer the specified {@link Fetched} value is fresh, which is how long a client may cache it.
+     * A stale value is not fresh at all.
+     *
+     * @param fetched the {@link Fetched} value to be used in the operation
+     * @return how much longer the specified {@link Fetched} value is fresh
+     * @throws NullPointerException if the specified {@link Fetched} value is {@code null}
+     */
+    public Duration getRemainingTtl(Fetched<V> fetched) {
+        Objects.requireNonNull(fetched, "the specified fetched value is null");
+
+        if (fetched.stale()) {
+            return Duration.ZERO;
+        } //end if
+
+        Instant expiresAt = this.getExpiry(fetched.value(), fetched.fetchedAt());
+
+        Duration remaining = Duration.between(this.clock.instant(), expiresAt);
+
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    } //getRemainingTtl
+
+    /**
+     * Returns the unexpired {@link Fetched} value of the specified key, or {@code null} if there is none.
+     *
+     * @param key the key to be used in the operation
+     * @return the unexpired {@link Fetched} value of the specified key, or {@code null} if there is none
+     */
+    private Fetched<V> getUnexpired(K key) {
+        Instant now = this.clock.instant();
+
+        synchronized (this.entries) {
+            Entry<V> entry = this.entries.get(key);
+
+            if (entry == null) {
+                return null;
+            } else if (!now.isBefore(entry.expiresAt())) {
+                this.entries.remove(key);
+
+                return null;
+            } //end if
+
+            return entry.fetched();
+        } //end synchronized
+    } //getUnexpired
+
+    /**
+     * Stores the specified {@link Fetched} value of the specified key, unless it is stale.
+     *
+     * @param key the key to be used in the operation
+     * @param fetched the {@link Fetched} value to be used in the operation
+     */
+    private void put(K key, Fetched<V> fetched) {
+        if (fetched.stale()) {
+            return;
+        } //end if
+
+        Instant now = this.clock.instant();
+
+        Instant expiresAt = this.getExpiry(fetched.value(), now);
+
+        Entry<V> entry = new Entry<>(fetched, expiresAt);
+
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+        } //end synchronized
+    } //put
+
+    /**
+     * Returns the {@link Fetched} value of the specified key, loading it using the specified loader if there is no
+     * unexpired entry for the key.
+     *
+     * @param key the key to be used in the operation
+     * @param loader the loader to be used in the operation
+     * @return a {@link CompletableFuture} of the {@link Fetched} value of the specified key
+     * @throws NullPointerException if the specified key or loader is {@code null}
+     */
+    public CompletableFuture<Fetched<V>> get(K key, Supplier<CompletableFuture<Fetched<V>>> loader) {
+        Objects.requireNonNull(key, "the specified key is null");
+
+        Objects.requireNonNull(loader, "the specified loader is null");
+
+        Fetched<V> cached = this.getUnexpired(key);
+
+        if (cached != null) {
+            this.hits.increment();
+
+            return CompletableFuture.completedFuture(cached);
+        } //end if
+
+        this.misses.increment();
+
+        return loader.get()
+                     .thenApply(fetched -> {
+                         this.put(key, fetched);
+
+                         return fetched;
+                     });
+    } //get
+}
\ No newline at end of file
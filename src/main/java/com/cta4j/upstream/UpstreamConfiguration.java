@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The upstream configuration of the CTA4j application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Configuration
+@EnableConfigurationProperties(UpstreamProperties.class)
+public class UpstreamConfiguration {
+    /**
+     * Returns the {@link UpstreamGateway} of the CTA4j application, which is owned by its application context, so it
+     * is closed when that context shuts down.
+     *
+     * @param properties the {@link UpstreamProperties} to be used in the operation
+     * @param virtualThreads whether upstream work runs on virtual threads
+     * @return the {@link UpstreamGateway} of the CTA4j application
+     */
+    @Bean(destroyMethod = "close")
+    public UpstreamGateway upstreamGateway(UpstreamProperties properties,
+                                           @Value("${cta4j.virtual-threads.enabled:false}") boolean virtualThreads) {
+        UpstreamSettings settings = properties.toSettings(virtualThreads);
+
+        return new UpstreamGateway(settings);
+    } //upstreamGateway
+}
\ No newline at end of file
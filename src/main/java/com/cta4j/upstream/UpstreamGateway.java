@@ -0,0 +1,803 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import com.cta4j.utils.VirtualThreadUtils;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The gateway used by the CTA4j application to reach the Chicago Transit Authority's APIs. A single
+ * {@link HttpClient} is shared by every caller, so pooled keep-alive connections and TLS sessions are reused across
+ * requests instead of being thrown away after each one.
+ *
+ * <p>The time each call waits for its quota and a connection slot is recorded in {@code cta4j.upstream.wait}, its
+ * latency up to the response headers in {@code cta4j.upstream.requests}, by endpoint, status, and error, and the size
+ * of its response body in {@code cta4j.upstream.response.size}.
+ *
+ * <p>Response bodies that are parsed as they stream in are read on a separate body executor, never on the common pool
+ * or on the executor of the {@link HttpClient}, so a parser that is blocked on a slow response cannot hold a thread
+ * that the client needs to deliver the bytes of other responses.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class UpstreamGateway implements AutoCloseable {
+    /**
+     * The {@link Logger} of the {@link UpstreamGateway} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(UpstreamGateway.class);
+    } //static
+
+    /**
+     * The {@link UpstreamSettings} of this {@link UpstreamGateway}.
+     */
+    private final UpstreamSettings settings;
+
+    /**
+     * The {@link ExecutorService} of this {@link UpstreamGateway}, or {@code null} if the default executor of the
+     * {@link HttpClient} is used.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The {@link ExecutorService} on which the streamed response bodies of this {@link UpstreamGateway} are parsed.
+     */
+    private final ExecutorService bodyExecutor;
+
+    /**
+     * The {@link HttpClient} of this {@link UpstreamGateway}.
+     */
+    private final HttpClient client;
+
+    /**
+     * The per-host limiters of this {@link UpstreamGateway}.
+     */
+    private final ConcurrentMap<String, HostLimiter> hostLimiters;
+
+    /**
+     * The {@link RateGovernor} of this {@link UpstreamGateway}.
+     */
+    private final RateGovernor governor;
+
+    /**
+     * The per-endpoint circuit breakers of this {@link UpstreamGateway}.
+     */
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers;
+
+    /**
+     * Constructs an instance of the {@link UpstreamGateway} class.
+     *
+     * @param settings the {@link UpstreamSettings} to be used in the operation
+     * @throws NullPointerException if the specified {@link UpstreamSettings} is {@code null}
+     */
+    public UpstreamGateway(UpstreamSettings settings) {
+        Objects.requireNonNull(settings, "the specified settings is null");
+
+        this.settings = settings;
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(HttpClient.Version.HTTP_2)
+                                               .followRedirects(HttpClient.Redirect.NORMAL)
+                                               .connectTimeout(settings.connectTimeout());
+
+        this.executor = UpstreamGateway.newExecutor(settings);
+
+        if (this.executor != null) {
+            builder.executor(this.executor);
+        } //end if
+
+        this.bodyExecutor = UpstreamGateway.newBodyExecutor(settings);
+
+        this.client = builder.build();
+
+        this.hostLimiters = new ConcurrentHashMap<>();
+
+        this.governor = new RateGovernor(settings.quotas(), settings.maxQuotaWait());
+
+        this.circuitBreakers = new ConcurrentHashMap<>();
+    } //UpstreamGateway
+
+    /**
+     * Returns a new {@link ThreadFactory} of daemon threads for an {@link UpstreamGateway}, named using the specified
+     * format.
+     *
+     * @param nameFormat the format of the thread names, which is given the number of each thread
+     * @return a new {@link ThreadFactory} of daemon threads for an {@link UpstreamGateway}
+     */
+    private static ThreadFactory newThreadFactory(String nameFormat) {
+        AtomicInteger count = new AtomicInteger();
+
+        return runnable -> {
+            String name = nameFormat.formatted(count.incrementAndGet());
+
+            Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    } //newThreadFactory
+
+    /**
+     * Returns a new {@link ExecutorService} for an {@link UpstreamGateway} using the specified
+     * {@link UpstreamSettings}, or {@code null} if the default executor of the {@link HttpClient} should be used.
+     * When virtual threads are enabled but unavailable, the configured executor threads are used instead.
+     *
+     * @param settings the {@link UpstreamSettings} to be used in the operation
+     * @return a new {@link ExecutorService} for an {@link UpstreamGateway}, or {@code null}
+     */
+    private static ExecutorService newExecutor(UpstreamSettings settings) {
+        if (settings.virtualThreads()) {
+            Optional<ExecutorService> virtualExecutor = VirtualThreadUtils.newVirtualThreadExecutor();
+
+            if (virtualExecutor.isPresent()) {
+                LOGGER.atInfo()
+                      .log("Upstream calls will run on virtual threads");
+
+                return virtualExecutor.get();
+            } //end if
+        } //end if
+
+        int executorThreads = settings.executorThreads();
+
+        if (executorThreads == 0) {
+            return null;
+        } //end if
+
+        ThreadFactory threadFactory = UpstreamGateway.newThreadFactory("cta4j-upstream-%d");
+
+        return Executors.newFixedThreadPool(executorThreads, threadFactory);
+    } //newExecutor
+
+    /**
+     * Returns a new {@link ExecutorService} on which an {@link UpstreamGateway} using the specified
+     * {@link UpstreamSettings} parses streamed response bodies. A parser blocks for as long as its response takes to
+     * arrive, so the executor starts a virtual thread for each body when virtual threads are enabled and available,
+     * and otherwise a platform thread that is kept for reuse.
+     *
+     * @param settings the {@link UpstreamSettings} to be used in the operation
+     * @return a new {@link ExecutorService} on which an {@link UpstreamGateway} parses streamed response bodies
+     */
+    private static ExecutorService newBodyExecutor(UpstreamSettings settings) {
+        if (settings.virtualThreads()) {
+            Optional<ExecutorService> virtualExecutor = VirtualThreadUtils.newVirtualThreadExecutor();
+
+            if (virtualExecutor.isPresent()) {
+                return virtualExecutor.get();
+            } //end if
+        } //end if
+
+        ThreadFactory threadFactory = UpstreamGateway.newThreadFactory("cta4j-upstream-body-%d");
+
+        return Executors.newCachedThreadPool(threadFactory);
+    } //newBodyExecutor
+
+    /**
+     * Returns the {@link UpstreamSettings} of this {@link UpstreamGateway}.
+     *
+     * @return the {@link UpstreamSettings} of this {@link UpstreamGateway}
+     */
+    public UpstreamSettings getSettings() {
+        return this.settings;
+    } //getSettings
+
+    /**
+     * Returns the {@link RateGovernor} of this {@link UpstreamGateway}.
+     *
+     * @return the {@link RateGovernor} of this {@link UpstreamGateway}
+     */
+    public RateGovernor getGovernor() {
+        return this.governor;
+    } //getGovernor
+
+    /**
+     * Returns the specified {@link HttpRequest} with this gateway's request timeout applied, unless the request
+     * already specifies one.
+     *
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @return the specified {@link HttpRequest} with this gateway's request timeout applied
+     */
+    private HttpRequest withTimeout(HttpRequest request) {
+        if (request.timeout()
+                   .isPresent()) {
+            return request;
+        } //end if
+
+        Duration requestTimeout = this.settings.requestTimeout();
+
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                          .timeout(requestTimeout)
+                          .build();
+    } //withTimeout
+
+    /**
+     * Returns the {@link HostLimiter} of the host of the specified {@link URI}.
+     *
+     * @param uri the {@link URI} to be used in the operation
+     * @return the {@link HostLimiter} of the host of the specified {@link URI}
+     */
+    private HostLimiter getLimiter(URI uri) {
+        String host = String.valueOf(uri.getHost());
+
+        int maxConnectionsPerHost = this.settings.maxConnectionsPerHost();
+
+        return this.hostLimiters.computeIfAbsent(host, key -> new HostLimiter(maxConnectionsPerHost));
+    } //getLimiter
+
+    /**
+     * Returns a {@link CompletableFuture} that completes once a permit for the host of the specified {@link URI} has
+     * been granted, or completes exceptionally if none is granted within the request timeout.
+     *
+     * @param limiter the {@link HostLimiter} to be used in the operation
+     * @return a {@link CompletableFuture} that completes once a permit has been granted
+     */
+    private CompletableFuture<Void> acquire(HostLimiter limiter) {
+        long timeoutMillis = this.settings.requestTimeout()
+                                          .toMillis();
+
+        return limiter.acquire()
+                      .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    } //acquire
+
+    /**
+     * Returns the name of the endpoint of the specified {@link URI}, which is the last segment of its path without
+     * any extension.
+     *
+     * @param uri the {@link URI} to be used in the operation
+     * @return the name of the endpoint of the specified {@link URI}
+     */
+    private static String getEndpoint(URI uri) {
+        String path = String.valueOf(uri.getPath());
+
+        String endpoint = path.substring(path.lastIndexOf('/') + 1);
+
+        int extensionIndex = endpoint.lastIndexOf('.');
+
+        if (extensionIndex != -1) {
+            endpoint = endpoint.substring(0, extensionIndex);
+        } //end if
+
+        return endpoint.toLowerCase();
+    } //getEndpoint
+
+    /**
+     * Returns the {@link CircuitBreaker} of the specified endpoint, such as {@code getpredictions} or
+     * {@code ttarrivals}.
+     *
+     * @param endpoint the name of the endpoint to be used in the operation
+     * @return the {@link CircuitBreaker} of the specified endpoint
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public CircuitBreaker getCircuitBreaker(String endpoint) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        CircuitSettings circuit = this.settings.circuit();
+
+        return this.circuitBreakers.computeIfAbsent(endpoint, key -> new CircuitBreaker(key, circuit));
+    } //getCircuitBreaker
+
+    /**
+     * Lets a call to the endpoint of the specified {@link URI} through its {@link CircuitBreaker}.
+     *
+     * @param uri the {@link URI} to be used in the operation
+     * @return the {@link CircuitBreaker} of the endpoint of the specified {@link URI}
+     * @throws CircuitOpenException if the circuit of the endpoint is open
+     */
+    private CircuitBreaker acquireCircuit(URI uri) throws CircuitOpenException {
+        String endpoint = UpstreamGateway.getEndpoint(uri);
+
+        CircuitBreaker breaker = this.getCircuitBreaker(endpoint);
+
+        if (!breaker.tryAcquire()) {
+            String message = "the circuit of the %s endpoint is open".formatted(endpoint);
+
+            throw new CircuitOpenException(message);
+        } //end if
+
+        return breaker;
+    } //acquireCircuit
+
+    /**
+     * Records the outcome of the specified {@link HttpResponse} with the specified {@link CircuitBreaker}. Server
+     * errors count as failures.
+     *
+     * @param breaker the {@link CircuitBreaker} to be used in the operation
+     * @param response the {@link HttpResponse} to be used in the operation
+     */
+    private static void recordResponse(CircuitBreaker breaker, HttpResponse<?> response) {
+        if (response.statusCode() >= 500) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        } //end if
+    } //recordResponse
+
+    /**
+     * Records the time that a call to the specified endpoint spent waiting for its quota and a connection slot in
+     * {@code cta4j.upstream.wait}.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param enqueuedNanos the time at which the call arrived, as given by {@link System#nanoTime()}
+     * @param startNanos the time at which the call was sent, as given by {@link System#nanoTime()}
+     */
+    private static void recordWait(String endpoint, long enqueuedNanos, long startNanos) {
+        Metrics.timer("cta4j.upstream.wait", "endpoint", endpoint)
+               .record(startNanos - enqueuedNanos, TimeUnit.NANOSECONDS);
+    } //recordWait
+
+    /**
+     * Records the latency of a call to the specified endpoint, up to its response headers or its failure, in
+     * {@code cta4j.upstream.requests}, tagged with the status of the specified {@link HttpResponse} and the type of
+     * the specified error.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param startNanos the time at which the call was sent, as given by {@link System#nanoTime()}
+     * @param response the {@link HttpResponse} to be used in the operation, or {@code null} if the call failed
+     * @param throwable the error to be used in the operation, or {@code null} if the call succeeded
+     */
+    private static void recordLatency(String endpoint, long startNanos, HttpResponse<?> response,
+                                      Throwable throwable) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        String status = (response == null) ? "none" : String.valueOf(response.statusCode());
+
+        if ((throwable instanceof CompletionException) && (throwable.getCause() != null)) {
+            throwable = throwable.getCause();
+        } //end if
+
+        String exception = (throwable == null) ? "none" : throwable.getClass()
+                                                                   .getSimpleName();
+
+        Metrics.timer("cta4j.upstream.requests", "endpoint", endpoint, "status", status, "exception", exception)
+               .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    } //recordLatency
+
+    /**
+     * Sends the specified {@link HttpRequest} through the specified {@link CircuitBreaker}, blocking until the
+     * response is available. A call that never reaches the endpoint is recorded as ignored, and a call that fails to
+     * reach it as a failure; the outcome of a call that receives a response is left to the caller.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param bodyHandler the {@link HttpResponse.BodyHandler} to be used in the operation
+     * @param breaker the {@link CircuitBreaker} of the endpoint of the specified {@link HttpRequest}
+     * @param <T> the type of the response body
+     * @return the {@link HttpResponse} of the specified {@link HttpRequest}
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private <T> HttpResponse<T> exchange(Quota quota, Priority priority, HttpRequest request,
+                                         HttpResponse.BodyHandler<T> bodyHandler, CircuitBreaker breaker)
+        throws IOException, InterruptedException {
+        long enqueuedNanos = System.nanoTime();
+
+        HttpRequest timedRequest = this.withTimeout(request);
+
+        URI uri = timedRequest.uri();
+
+        String endpoint = UpstreamGateway.getEndpoint(uri);
+
+        HttpResponse.BodyHandler<T> meteredHandler = new MeteredBodyHandler<>(bodyHandler, endpoint);
+
+        HostLimiter limiter = this.getLimiter(uri);
+
+        try {
+            this.governor.acquire(quota, priority);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            breaker.onIgnored();
+
+            throw e;
+        } //end try catch
+
+        CompletableFuture<Void> permit = this.acquire(limiter);
+
+        try {
+            permit.get();
+        } catch (ExecutionException e) {
+            breaker.onIgnored();
+
+            String message = "no connection to %s became available in time".formatted(uri.getHost());
+
+            throw new HttpTimeoutException(message);
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                limiter.release();
+            } //end if
+
+            breaker.onIgnored();
+
+            throw e;
+        } //end try catch
+
+        long startNanos = System.nanoTime();
+
+        UpstreamGateway.recordWait(endpoint, enqueuedNanos, startNanos);
+
+        HttpResponse<T> response;
+
+        try {
+            response = this.client.send(timedRequest, meteredHandler);
+        } catch (IOException e) {
+            UpstreamGateway.recordLatency(endpoint, startNanos, null, e);
+
+            breaker.onFailure();
+
+            throw e;
+        } catch (InterruptedException | RuntimeException e) {
+            UpstreamGateway.recordLatency(endpoint, startNanos, null, e);
+
+            breaker.onIgnored();
+
+            throw e;
+        } finally {
+            limiter.release();
+        } //end try catch finally
+
+        UpstreamGateway.recordLatency(endpoint, startNanos, response, null);
+
+        return response;
+    } //exchange
+
+    /**
+     * Sends the specified {@link HttpRequest} using the specified {@link HttpResponse.BodyHandler}, blocking until
+     * the response is available. The call is rejected with a {@link CircuitOpenException} if the circuit of its
+     * endpoint is open. It is then charged to the specified {@link Quota}, which may queue it or reject it with a
+     * {@link QuotaExceededException}. At most the configured number of requests are in flight per host; a caller that
+     * cannot obtain a slot within the request timeout fails with an {@link HttpTimeoutException}.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param bodyHandler the {@link HttpResponse.BodyHandler} to be used in the operation
+     * @param <T> the type of the response body
+     * @return the {@link HttpResponse} of the specified {@link HttpRequest}
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the operation is interrupted
+     * @throws NullPointerException if the specified {@link Quota}, {@link Priority}, {@link HttpRequest}, or
+     * {@link HttpResponse.BodyHandler} is {@code null}
+     */
+    public <T> HttpResponse<T> send(Quota quota, Priority priority, HttpRequest request,
+                                    HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        Objects.requireNonNull(request, "the specified request is null");
+
+        Objects.requireNonNull(bodyHandler, "the specified body handler is null");
+
+        CircuitBreaker breaker = this.acquireCircuit(request.uri());
+
+        HttpResponse<T> response = this.exchange(quota, priority, request, bodyHandler, breaker);
+
+        UpstreamGateway.recordResponse(breaker, response);
+
+        return response;
+    } //send
+
+    /**
+     * Sends the specified {@link HttpRequest} through the specified {@link CircuitBreaker} without blocking the
+     * calling thread. A call that never reaches the endpoint is recorded as ignored, and a call that fails to reach it
+     * as a failure; the outcome of a call that receives a response is left to the caller.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param bodyHandler the {@link HttpResponse.BodyHandler} to be used in the operation
+     * @param breaker the {@link CircuitBreaker} of the endpoint of the specified {@link HttpRequest}
+     * @param <T> the type of the response body
+     * @return a {@link CompletableFuture} of the {@link HttpResponse} of the specified {@link HttpRequest}
+     */
+    private <T> CompletableFuture<HttpResponse<T>> exchangeAsync(Quota quota, Priority priority, HttpRequest request,
+                                                                 HttpResponse.BodyHandler<T> bodyHandler,
+                                                                 CircuitBreaker breaker) {
+        long enqueuedNanos = System.nanoTime();
+
+        HttpRequest timedRequest = this.withTimeout(request);
+
+        URI uri = timedRequest.uri();
+
+        String endpoint = UpstreamGateway.getEndpoint(uri);
+
+        HttpResponse.BodyHandler<T> meteredHandler = new MeteredBodyHandler<>(bodyHandler, endpoint);
+
+        HostLimiter limiter = this.getLimiter(uri);
+
+        AtomicBoolean sent = new AtomicBoolean();
+
+        return this.governor.acquireAsync(quota, priority)
+                            .thenCompose(reservation -> this.acquire(limiter))
+                            .thenCompose(permit -> {
+                                long startNanos = System.nanoTime();
+
+                                UpstreamGateway.recordWait(endpoint, enqueuedNanos, startNanos);
+
+                                CompletableFuture<HttpResponse<T>> future;
+
+                                try {
+                                    future = this.client.sendAsync(timedRequest, meteredHandler);
+                                } catch (RuntimeException e) {
+                                    limiter.release();
+
+                                    throw e;
+                                } //end try catch
+
+                                sent.set(true);
+
+                                return future.whenComplete((response, throwable) -> {
+                                    limiter.release();
+
+                                    UpstreamGateway.recordLatency(endpoint, startNanos, response, throwable);
+                                });
+                            })
+                            .whenComplete((response, throwable) -> {
+                                if (throwable == null) {
+                                    return;
+                                } //end if
+
+                                if (sent.get()) {
+                                    breaker.onFailure();
+                                } else {
+                                    breaker.onIgnored();
+                                } //end if
+                            });
+    } //exchangeAsync
+
+    /**
+     * Sends the specified {@link HttpRequest} using the specified {@link HttpResponse.BodyHandler} without blocking
+     * the calling thread. The same circuit breaker, quota, and per-host limit as
+     * {@link #send(Quota, Priority, HttpRequest, HttpResponse.BodyHandler)} apply, but callers waiting for a quota or
+     * a slot are queued instead of parked.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param bodyHandler the {@link HttpResponse.BodyHandler} to be used in the operation
+     * @param <T> the type of the response body
+     * @return a {@link CompletableFuture} of the {@link HttpResponse} of the specified {@link HttpRequest}
+     * @throws NullPointerException if the specified {@link Quota}, {@link Priority}, {@link HttpRequest}, or
+     * {@link HttpResponse.BodyHandler} is {@code null}
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(Quota quota, Priority priority, HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> bodyHandler) {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        Objects.requireNonNull(request, "the specified request is null");
+
+        Objects.requireNonNull(bodyHandler, "the specified body handler is null");
+
+        CircuitBreaker breaker;
+
+        try {
+            breaker = this.acquireCircuit(request.uri());
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        return this.exchangeAsync(quota, priority, request, bodyHandler, breaker)
+                   .whenComplete((response, throwable) -> {
+                       if (throwable == null) {
+                           UpstreamGateway.recordResponse(breaker, response);
+                       } //end if
+                   });
+    } //sendAsync
+
+    /**
+     * Returns a {@link HttpResponse.BodyHandler} that defers the parse of a successful response body with the
+     * specified parser until the returned {@link Supplier} is called. The body of a response whose status is not
+     * {@code 2xx} is discarded without being parsed, and its {@link Supplier} throws an
+     * {@link UpstreamStatusException} instead.
+     *
+     * @param parser the parser of the response body to be used in the operation
+     * @param <T> the type of the parsed response body
+     * @return a {@link HttpResponse.BodyHandler} that defers the parse of a successful response body
+     */
+    private static <T> HttpResponse.BodyHandler<Supplier<T>> newParsingHandler(Function<InputStream, T> parser) {
+        return responseInfo -> {
+            int status = responseInfo.statusCode();
+
+            if ((status < 200) || (status > 299)) {
+                HttpResponse.BodySubscriber<Void> subscriber = HttpResponse.BodySubscribers.discarding();
+
+                return HttpResponse.BodySubscribers.mapping(subscriber, ignored -> () -> {
+                    String message = "the upstream answered with status %d".formatted(status);
+
+                    throw new UncheckedIOException(new UpstreamStatusException(status, message));
+                });
+            } //end if
+
+            HttpResponse.BodySubscriber<InputStream> subscriber = HttpResponse.BodySubscribers.ofInputStream();
+
+            return HttpResponse.BodySubscribers.mapping(subscriber, inputStream -> () -> parser.apply(inputStream));
+        };
+    } //newParsingHandler
+
+    /**
+     * Parses the body of the specified {@link HttpResponse}, and records the outcome of the call with the specified
+     * {@link CircuitBreaker} once the parse is over. A body that cannot be read or parsed counts as a failure, as does
+     * a server error; a client error does not, as the endpoint itself is healthy.
+     *
+     * @param response the {@link HttpResponse} to be used in the operation
+     * @param breaker the {@link CircuitBreaker} to be used in the operation
+     * @param <T> the type of the parsed response body
+     * @return the parsed body of the specified {@link HttpResponse}
+     */
+    private static <T> T parse(HttpResponse<Supplier<T>> response, CircuitBreaker breaker) {
+        T body;
+
+        try {
+            body = response.body()
+                           .get();
+        } catch (RuntimeException e) {
+            int status = response.statusCode();
+
+            if ((status >= 400) && (status < 500)) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure();
+            } //end if
+
+            throw e;
+        } //end try catch
+
+        breaker.onSuccess();
+
+        return body;
+    } //parse
+
+    /**
+     * Sends the specified {@link HttpRequest} as {@link #send(Quota, Priority, HttpRequest, HttpResponse.BodyHandler)}
+     * does, and parses its response body with the specified parser on the calling thread as it streams in. A response
+     * whose status is not {@code 2xx} is rejected with an {@link UpstreamStatusException} without being parsed. The
+     * outcome of the call is recorded with the circuit breaker of its endpoint once the parse is over, so a truncated
+     * or malformed body counts as a failure.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param parser the parser of the response body to be used in the operation, which may throw an unchecked
+     * exception if the body cannot be read or parsed
+     * @param <T> the type of the parsed response body
+     * @return the parsed response body of the specified {@link HttpRequest}
+     * @throws IOException if an I/O error occurs, or the status of the response is not {@code 2xx}
+     * @throws InterruptedException if the operation is interrupted
+     * @throws NullPointerException if the specified {@link Quota}, {@link Priority}, {@link HttpRequest}, or parser
+     * is {@code null}
+     */
+    public <T> T fetch(Quota quota, Priority priority, HttpRequest request, Function<InputStream, T> parser)
+        throws IOException, InterruptedException {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        Objects.requireNonNull(request, "the specified request is null");
+
+        Objects.requireNonNull(parser, "the specified parser is null");
+
+        HttpResponse.BodyHandler<Supplier<T>> bodyHandler = UpstreamGateway.newParsingHandler(parser);
+
+        CircuitBreaker breaker = this.acquireCircuit(request.uri());
+
+        HttpResponse<Supplier<T>> response = this.exchange(quota, priority, request, bodyHandler, breaker);
+
+        try {
+            return UpstreamGateway.parse(response, breaker);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } //end try catch
+    } //fetch
+
+    /**
+     * Sends the specified {@link HttpRequest} as {@link #sendAsync(Quota, Priority, HttpRequest,
+     * HttpResponse.BodyHandler)} does, and parses its response body with the specified parser as it streams in. The
+     * parser is run on the body executor of this {@link UpstreamGateway}, so its blocking reads never occupy the
+     * common pool or the executor of the {@link HttpClient}. A response whose status is not {@code 2xx} is rejected
+     * with an {@link UpstreamStatusException} without being parsed. The outcome of the call is recorded with the
+     * circuit breaker of its endpoint once the parse is over, so a truncated or malformed body counts as a failure.
+     *
+     * @param quota the {@link Quota} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the {@link HttpRequest} to be used in the operation
+     * @param parser the parser of the response body to be used in the operation, which may throw an unchecked
+     * exception if the body cannot be read or parsed
+     * @param <T> the type of the parsed response body
+     * @return a {@link CompletableFuture} of the parsed response body of the specified {@link HttpRequest}
+     * @throws NullPointerException if the specified {@link Quota}, {@link Priority}, {@link HttpRequest}, or parser
+     * is {@code null}
+     */
+    public <T> CompletableFuture<T> fetchAsync(Quota quota, Priority priority, HttpRequest request,
+                                               Function<InputStream, T> parser) {
+        Objects.requireNonNull(quota, "the specified quota is null");
+
+        Objects.requireNonNull(priority, "the specified priority is null");
+
+        Objects.requireNonNull(request, "the specified request is null");
+
+        Objects.requireNonNull(parser, "the specified parser is null");
+
+        HttpResponse.BodyHandler<Supplier<T>> bodyHandler = UpstreamGateway.newParsingHandler(parser);
+
+        CircuitBreaker breaker;
+
+        try {
+            breaker = this.acquireCircuit(request.uri());
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        return this.exchangeAsync(quota, priority, request, bodyHandler, breaker)
+                   .thenApplyAsync(response -> UpstreamGateway.parse(response, breaker), this.bodyExecutor);
+    } //fetchAsync
+
+    /**
+     * Shuts down the executors of this {@link UpstreamGateway}.
+     */
+    @Override
+    public void close() {
+        this.bodyExecutor.shutdown();
+
+        if (this.executor == null) {
+            return;
+        } //end if
+
+        this.executor.shutdown();
+
+        LOGGER.atInfo()
+              .log("The upstream gateway has been shut down");
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@code cta4j.upstream} properties of the CTA4j application, as they are bound from its Spring
+ * {@link org.springframework.core.env.Environment}, so they can be set in any property source, including profile
+ * files and command line arguments.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param connectTimeoutMillis the connect timeout of these properties, in milliseconds
+ * @param requestTimeoutMillis the request timeout of these properties, in milliseconds
+ * @param executorThreads the number of executor threads of these properties, or {@code 0} to use the default executor
+ * @param maxConnectionsPerHost the maximum number of concurrent requests per host of these properties
+ * @param quota the {@link QuotaProperties} of these properties
+ * @param circuit the {@link CircuitProperties} of these properties
+ * @param cache the {@link CachesProperties} of these properties
+ * @param bus the {@link ApiProperties} of the Bus Tracker API of these properties
+ * @param train the {@link ApiProperties} of the Train Tracker API of these properties
+ */
+@ConstructorBinding
+@ConfigurationProperties("cta4j.upstream")
+public record UpstreamProperties(@DefaultValue("3000") long connectTimeoutMillis,
+                                 @DefaultValue("10000") long requestTimeoutMillis,
+                                 @DefaultValue("8") int executorThreads,
+                                 @DefaultValue("64") int maxConnectionsPerHost,
+                                 @DefaultValue QuotaProperties quota,
+                                 @DefaultValue CircuitProperties circuit,
+                                 @DefaultValue CachesProperties cache,
+                                 @DefaultValue ApiProperties bus,
+                                 @DefaultValue ApiProperties train) {
+    /**
+     * The {@code cta4j.upstream.quota} properties of the CTA4j application.
+     *
+     * @param bus the {@link BudgetProperties} of the bus quota of these properties
+     * @param train the {@link BudgetProperties} of the train quota of these properties
+     * @param maxWaitMillis the longest a call may be queued behind its per-second budget of these properties, in
+     * milliseconds
+     */
+    public record QuotaProperties(@DefaultValue BudgetProperties bus, @DefaultValue BudgetProperties train,
+                                  @DefaultValue("2000") long maxWaitMillis) {
+    }
+
+    /**
+     * The properties of the budget of a {@link Quota} of the CTA4j application.
+     *
+     * @param dailyLimit the number of calls allowed per day by these properties, or {@code null} to use the default
+     * limit of the {@link Quota}
+     * @param perSecond the sustained number of calls allowed per second by these properties
+     * @param burst the number of calls that may be made back to back by these properties
+     * @param backgroundReservePercent the percentage of the daily limit that background calls may not use
+     */
+    public record BudgetProperties(Long dailyLimit, @DefaultValue("10") int perSecond, @DefaultValue("20") int burst,
+                                   @DefaultValue("20") int backgroundReservePercent) {
+        /**
+         * Returns the {@link QuotaSettings} of these properties.
+         *
+         * @param defaultDailyLimit the daily limit to be used if these properties do not specify one
+         * @return the {@link QuotaSettings} of these properties
+         */
+        private QuotaSettings toSettings(long defaultDailyLimit) {
+            long limit = (this.dailyLimit == null) ? defaultDailyLimit : this.dailyLimit;
+
+            return new QuotaSettings(limit, this.perSecond, this.burst, this.backgroundReservePercent);
+        } //toSettings
+    }
+
+    /**
+     * The {@code cta4j.upstream.circuit} properties of the CTA4j application.
+     *
+     * @param failureThreshold the number of consecutive failures that opens a circuit of these properties
+     * @param openSeconds how long an open circuit of these properties rejects calls, in seconds
+     */
+    public record CircuitProperties(@DefaultValue("5") int failureThreshold, @DefaultValue("30") long openSeconds) {
+    }
+
+    /**
+     * The {@code cta4j.upstream.cache} properties of the CTA4j application.
+     *
+     * @param getpredictions the {@link CacheProperties} of the prediction endpoint of these properties
+     * @param ttarrivals the {@link CacheProperties} of the arrivals endpoint of these properties
+     */
+    public record CachesProperties(@DefaultValue CacheProperties getpredictions,
+                                   @DefaultValue CacheProperties ttarrivals) {
+    }
+
+    /**
+     * The properties of the cache of an endpoint of the CTA4j application.
+     *
+     * @param maxEntries the maximum number of entries of these properties
+     * @param refreshSeconds how often the upstream regenerates its data of these properties, in seconds
+     * @param minTtlMillis the shortest time an entry of these properties is served, in milliseconds
+     * @param maxTtlMillis the longest time an entry of these properties is served, in milliseconds
+     */
+    public record CacheProperties(@DefaultValue("4096") int maxEntries, @DefaultValue("30") long refreshSeconds,
+                                  @DefaultValue("1000") long minTtlMillis,
+                                  @DefaultValue("30000") long maxTtlMillis) {
+        /**
+         * Returns the {@link CacheSettings} of these properties.
+         *
+         * @return the {@link CacheSettings} of these properties
+         */
+        private CacheSettings toSettings() {
+            return new CacheSettings(this.maxEntries, Duration.ofSeconds(this.refreshSeconds),
+                                     Duration.ofMillis(this.minTtlMillis), Duration.ofMillis(this.maxTtlMillis));
+        } //toSettings
+    }
+
+    /**
+     * The properties of a Chicago Transit Authority API of the CTA4j application.
+     *
+     * @param baseUrl the base URL of the API of these properties, or {@code null} to use the default base URL
+     */
+    public record ApiProperties(String baseUrl) {
+        /**
+         * Returns the base URL of these properties.
+         *
+         * @param defaultBaseUrl the base URL to be used if these properties do not specify one
+         * @return the base URL of these properties
+         */
+        private String getBaseUrl(String defaultBaseUrl) {
+            return (this.baseUrl == null) ? defaultBaseUrl : this.baseUrl;
+        } //getBaseUrl
+    }
+
+    /**
+     * Returns the {@link UpstreamSettings} of these properties.
+     *
+     * @param virtualThreads whether upstream work runs on virtual threads
+     * @return the {@link UpstreamSettings} of these properties
+     */
+    public UpstreamSettings toSettings(boolean virtualThreads) {
+        Duration connectTimeout = Duration.ofMillis(this.connectTimeoutMillis);
+
+        Duration requestTimeout = Duration.ofMillis(this.requestTimeoutMillis);
+
+        Map<Quota, QuotaSettings> quotas = new EnumMap<>(Quota.class);
+
+        quotas.put(Quota.BUS, this.quota.bus()
+                                        .toSettings(10_000L));
+
+        quotas.put(Quota.TRAIN, this.quota.train()
+                                          .toSettings(50_000L));
+
+        Duration maxQuotaWait = Duration.ofMillis(this.quota.maxWaitMillis());
+
+        Duration openDuration = Duration.ofSeconds(this.circuit.openSeconds());
+
+        CircuitSettings circuitSettings = new CircuitSettings(this.circuit.failureThreshold(), openDuration);
+
+        Map<String, CacheSettings> caches = Map.of("getpredictions", this.cache.getpredictions()
+                                                                               .toSettings(),
+                                                   "ttarrivals", this.cache.ttarrivals()
+                                                                           .toSettings());
+
+        String busBaseUrl = this.bus.getBaseUrl("http://www.ctabustracker.com/bustime/api/v2");
+
+        String trainBaseUrl = this.train.getBaseUrl("https://lapi.transitchicago.com/api/1.0");
+
+        return new UpstreamSettings(connectTimeout, requestTimeout, this.executorThreads, this.maxConnectionsPerHost,
+                                    virtualThreads, quotas, maxQuotaWait, circuitSettings, caches, busBaseUrl,
+                                    trainBaseUrl);
+    } //toSettings
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The settings of the CTA4j upstream gateway, which are bound from the {@link UpstreamProperties} of the CTA4j
+ * application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ * @param connectTimeout the connect timeout of these settings
+ * @param requestTimeout the request timeout of these settings
+ * @param executorThreads the number of executor threads of these settings, or {@code 0} to use the default executor
+ * @param maxConnectionsPerHost the maximum number of concurrent requests per host of these settings
+ * @param virtualThreads whether upstream work runs on virtual threads, in place of the executor threads
+ * @param quotas the {@link QuotaSettings} of each {@link Quota} of these settings
+ * @param maxQuotaWait the longest a call may be queued behind its per-second budget of these settings
+ * @param circuit the {@link CircuitSettings} of the per-endpoint circuit breakers of these settings
+ * @param caches the {@link CacheSettings} of each cached endpoint of these settings
+ * @param busBaseUrl the base URL of the Bus Tracker API of these settings, without a trailing slash
+ * @param trainBaseUrl the base URL of the Train Tracker API of these settings, without a trailing slash
+ */
+public record UpstreamSettings(Duration connectTimeout, Duration requestTimeout, int executorThreads,
+                               int maxConnectionsPerHost, boolean virtualThreads, Map<Quota, QuotaSettings> quotas,
+                               Duration maxQuotaWait, CircuitSettings circuit, Map<String, CacheSettings> caches,
+                               String busBaseUrl, String trainBaseUrl) {
+    /**
+     * Constructs an instance of the {@link UpstreamSettings} class.
+     *
+     * @param connectTimeout the connect timeout to be used in the operation
+     * @param requestTimeout the request timeout to be used in the operation
+     * @param executorThreads the number of executor threads to be used in the operation
+     * @param maxConnectionsPerHost the maximum number of concurrent requests per host to be used in the operation
+     * @param virtualThreads whether upstream work runs on virtual threads
+     * @param quotas the {@link QuotaSettings} of each {@link Quota} to be used in the operation
+     * @param maxQuotaWait the longest a call may be queued behind its per-second budget to be used in the operation
+     * @param circuit the {@link CircuitSettings} of the per-endpoint circuit breakers to be used in the operation
+     * @param caches the {@link CacheSettings} of each cached endpoint to be used in the operation
+     * @param busBaseUrl the base URL of the Bus Tracker API to be used in the operation
+     * @param trainBaseUrl the base URL of the Train Tracker API to be used in the operation
+     * @throws NullPointerException if the specified connect timeout, request timeout, {@link Map} of quotas, maximum
+     * quota wait, {@link CircuitSettings}, {@link Map} of caches, bus base URL, or train base URL is {@code null}
+     * @throws IllegalArgumentException if the specified number of executor threads is negative or the specified
+     * maximum number of concurrent requests per host is not positive
+     */
+    public UpstreamSettings {
+        Objects.requireNonNull(connectTimeout, "the specified connect timeout is null");
+
+        Objects.requireNonNull(requestTimeout, "the specified request timeout is null");
+
+        Objects.requireNonNull(quotas, "the specified map of quotas is null");
+
+        Objects.requireNonNull(maxQuotaWait, "the specified maximum quota wait is null");
+
+        Objects.requireNonNull(circuit, "the specified circuit settings is null");
+
+        Objects.requireNonNull(caches, "the specified map of caches is null");
+
+        Objects.requireNonNull(busBaseUrl, "the specified bus base URL is null");
+
+        Objects.requireNonNull(trainBaseUrl, "the specified train base URL is null");
+
+        if (executorThreads < 0) {
+            throw new IllegalArgumentException("the specified number of executor threads is negative");
+        } //end if
+
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of connections per host is not positive");
+        } //end if
+
+        quotas = Map.copyOf(quotas);
+
+        caches = Map.copyOf(caches);
+
+        busBaseUrl = UpstreamSettings.stripTrailingSlashes(busBaseUrl);
+
+        trainBaseUrl = UpstreamSettings.stripTrailingSlashes(trainBaseUrl);
+    } //UpstreamSettings
+
+    /**
+     * Returns the specified URL without its trailing slashes.
+     *
+     * @param url the URL to be used in the operation
+     * @return the specified URL without its trailing slashes
+     */
+    private static String stripTrailingSlashes(String url) {
+        String stripped = url.strip();
+
+        while (stripped.endsWith("/")) {
+            stripped = stripped.substring(0, stripped.length() - 1);
+        } //end while
+
+        return stripped;
+    } //stripTrailingSlashes
+
+    /**
+     * Returns the {@link CacheSettings} of the specified endpoint.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @return the {@link CacheSettings} of the specified endpoint
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     * @throws IllegalArgumentException if the specified endpoint is not cached
+     */
+    public CacheSettings getCacheSettings(String endpoint) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        CacheSettings settings = this.caches.get(endpoint);
+
+        if (settings == null) {
+            throw new IllegalArgumentException("the specified endpoint %s is not cached".formatted(endpoint));
+        } //end if
+
+        return settings;
+    } //getCacheSettings
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import java.io.IOException;
+
+/**
+ * An exception thrown when an upstream endpoint answers a call with a status other than {@code 2xx}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class UpstreamStatusException extends IOException {
+    /**
+     * The status code of the response of this {@link UpstreamStatusException}.
+     */
+    private final int statusCode;
+
+    /**
+     * Constructs an instance of the {@link UpstreamStatusException} class.
+     *
+     * @param statusCode the status code of the response to be used in the operation
+     * @param message the detail message to be used in the operation
+     */
+    public UpstreamStatusException(int statusCode, String message) {
+        super(message);
+
+        this.statusCode = statusCode;
+    } //UpstreamStatusException
+
+    /**
+     * Returns the status code of the response of this {@link UpstreamStatusException}.
+     *
+     * @return the status code of the response of this {@link UpstreamStatusException}
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    } //getStatusCode
+}
\ No newline at end of file
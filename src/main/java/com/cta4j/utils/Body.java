@@ -1,6 +1,12 @@
 package com.cta4j.utils;
 
-public record Body<T>(Status status, T content) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+public record Body<T>(Status status, T content, @JsonInclude(JsonInclude.Include.NON_NULL) Staleness staleness) {
     public enum Status {
         /**
          * The singleton instance representing the success status.
@@ -13,11 +19,69 @@ public record Body<T>(Status status, T content) {
         ERROR
     } //Status
 
+    /**
+     * The staleness of the content of a {@link Body} that is served in place of fresh content that could not be
+     * fetched.
+     *
+     * @param asOf the time at which the content was fetched
+     * @param ageSeconds the age of the content, in seconds
+     */
+    public record Staleness(Instant asOf, long ageSeconds) {
+        /**
+         * Constructs an instance of the {@link Staleness} class.
+         *
+         * @param asOf the time at which the content was fetched to be used in the operation
+         * @param ageSeconds the age of the content, in seconds, to be used in the operation
+         * @throws NullPointerException if the specified time is {@code null}
+         */
+        public Staleness {
+            Objects.requireNonNull(asOf, "the specified as of time is null");
+        } //Staleness
+    } //Staleness
+
     public static <T> Body<T> success(T content) {
-        return new Body<>(Status.SUCCESS, content);
+        return new Body<>(Status.SUCCESS, content, null);
     } //success
 
     public static <T> Body<T> error(T content) {
-        return new Body<>(Status.ERROR, content);
+        return new Body<>(Status.ERROR, content, null);
     } //error
+
+    /**
+     * Returns a successful {@link Body} with the specified content, marked as stale since the specified time.
+     *
+     * @param content the content to be used in the operation
+     * @param asOf the time at which the specified content was fetched
+     * @param <T> the type of the content
+     * @return a successful {@link Body} with the specified content, marked as stale
+     * @throws NullPointerException if the specified time is {@code null}
+     */
+    public static <T> Body<T> stale(T content, Instant asOf) {
+        Objects.requireNonNull(asOf, "the specified as of time is null");
+
+        Instant now = Instant.now();
+
+        long ageSeconds = Duration.between(asOf, now)
+                                  .toSeconds();
+
+        Staleness staleness = new Staleness(asOf, ageSeconds);
+
+        return new Body<>(Status.SUCCESS, content, staleness);
+    } //stale
+
+    /**
+     * Returns this {@link Body} without the age of its content. The age of stale content grows on every poll of the
+     * same content, so this is what is compared to tell whether the content of a stream changed.
+     *
+     * @return this {@link Body} without the age of its content
+     */
+    public Body<T> withoutAge() {
+        if (this.staleness == null) {
+            return this;
+        } //end if
+
+        Staleness staleness = new Staleness(this.staleness.asOf(), 0L);
+
+        return new Body<>(this.status, this.content, staleness);
+    } //withoutAge
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The codec configuration of the CTA4j application.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Configuration
+public class CodecConfiguration {
+    /**
+     * Returns the {@link CodecRegistry} of the CTA4j application, which is shared by the services it is injected into.
+     * The registry is warmed up here, which is before the web server starts accepting requests.
+     *
+     * @param warmUpIterations the number of warm-up iterations to be used in the operation, or {@code 0} to skip the
+     * warm-up
+     * @return the {@link CodecRegistry} of the CTA4j application
+     */
+    @Bean
+    public CodecRegistry codecRegistry(@Value("${cta4j.codec.warm-up-iterations:2000}") int warmUpIterations) {
+        CodecRegistry registry = new CodecRegistry();
+
+        if (warmUpIterations > 0) {
+            registry.warmUp(warmUpIterations);
+        } //end if
+
+        return registry;
+    } //codecRegistry
+}
\ No newline at end of file
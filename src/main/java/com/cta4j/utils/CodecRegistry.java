@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import com.cta4j.bus.model.adapters.BusTypeAdapter;
+import com.cta4j.bus.model.adapters.RouteTypeAdapter;
+import com.cta4j.bus.model.adapters.StopTypeAdapter;
+import com.cta4j.follow.model.Schedule;
+import com.cta4j.train.model.adapters.TrainTypeAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.gson.stream.JsonReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The codecs of the CTA4j application. The bus and train responses of the Chicago Transit Authority are read with the
+ * streaming readers of their model types, and follow responses with an {@link ObjectReader} of a single
+ * {@link ObjectMapper}. The {@link ObjectReader}s are cached and shared, as they are thread-safe once configured.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class CodecRegistry {
+    /**
+     * The {@link Logger} of the {@link CodecRegistry} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The sample prediction response used to warm up the codecs.
+     */
+    private static final String PREDICTION_SAMPLE;
+
+    /**
+     * The sample arrival response used to warm up the codecs.
+     */
+    private static final String ARRIVAL_SAMPLE;
+
+    /**
+     * The sample route response used to warm up the codecs.
+     */
+    private static final String ROUTE_SAMPLE;
+
+    /**
+     * The sample stop response used to warm up the codecs.
+     */
+    private static final String STOP_SAMPLE;
+
+    /**
+     * The sample follow response used to warm up the codecs.
+     */
+    private static final String SCHEDULE_SAMPLE;
+
+    static {
+        LOGGER = LogManager.getLogger(CodecRegistry.class);
+
+        PREDICTION_SAMPLE = """
+                            {"bustime-response":{"prd":[{"tmstmp":"20261017 08:00","typ":"A","stpnm":"Cermak & Kedzie",\
+                            "stpid":"1828","vid":"1234","dstp":1200,"rt":"22","rtdd":"22","rtdir":"Northbound",\
+                            "des":"Harrison","prdtm":"20261017 08:07","tablockid":"22 -701","tatripid":"1001",\
+                            "dly":false,"prdctdn":"7","zone":""}]}}""";
+
+        ARRIVAL_SAMPLE = """
+                         {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"0","errNm":null,"eta":[{"staId":"40380",\
+                         "stpId":"30074","staNm":"Clark/Lake","stpDe":"Service toward Forest Park","rn":"123",\
+                         "rt":"Blue","destSt":"30077","destNm":"Forest Park","trDr":"5","prdt":"2026-10-17T08:00:00",\
+                         "arrT":"2026-10-17T08:04:00","isApp":"0","isSch":"0","isDly":"0","isFlt":"0","flags":null,\
+                         "lat":"41.88322","lon":"-87.62979","heading":"269"}]}}""";
+
+        ROUTE_SAMPLE = """
+                       {"bustime-response":{"routes":[{"rt":"22","rtnm":"Clark","rtclr":"#ff0000","rtdd":"22"}]}}""";
+
+        STOP_SAMPLE = """
+                      {"bustime-response":{"stops":[{"stpid":"1828","stpnm":"Cermak & Kedzie","lat":41.852,\
+                      "lon":-87.705}]}}""";
+
+        SCHEDULE_SAMPLE = """
+                          {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"0","errNm":null,"eta":[{"staId":"40380",\
+                          "staNm":"Clark/Lake","rn":"123","rt":"Blue Line","destNm":"Forest Park",\
+                          "prdt":"2026-10-17T08:00:00","arrT":"2026-10-17T08:04:00","isApp":"0","isSch":"0",\
+                          "isDly":"0","isFlt":"0","flags":null}]}}""";
+    } //static
+
+    /**
+     * The {@link ObjectMapper} of this {@link CodecRegistry}.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The {@link ObjectReader}s of this {@link CodecRegistry}, keyed by the type they read.
+     */
+    private final Map<Class<?>, ObjectReader> readers;
+
+    /**
+     * Constructs an instance of the {@link CodecRegistry} class.
+     */
+    public CodecRegistry() {
+        this.objectMapper = new ObjectMapper();
+
+        this.readers = new ConcurrentHashMap<>();
+    } //CodecRegistry
+
+    /**
+     * Returns the shared {@link ObjectReader} of the specified type.
+     *
+     * @param type the type to be used in the operation
+     * @return the shared {@link ObjectReader} of the specified type
+     * @throws NullPointerException if the specified type is {@code null}
+     */
+    public ObjectReader getReader(Class<?> type) {
+        Objects.requireNonNull(type, "the specified type is null");
+
+        return this.readers.computeIfAbsent(type, this.objectMapper::readerFor);
+    } //getReader
+
+    /**
+     * Reads the elements of the array at the specified path of the specified sample with the specified
+     * {@link JsonStreamUtils.ValueReader}, as the application reads a response.
+     *
+     * @param sample the sample to be used in the operation
+     * @param elementReader the {@link JsonStreamUtils.ValueReader} of each element to be used in the operation
+     * @param path the path of the array to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void readSample(String sample, JsonStreamUtils.ValueReader<?> elementReader, String... path)
+        throws IOException {
+        byte[] bytes = sample.getBytes(StandardCharsets.UTF_8);
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(new ByteArrayInputStream(bytes))) {
+            JsonStreamUtils.seek(jsonReader, path);
+
+            JsonStreamUtils.readList(jsonReader, elementReader);
+        } //end try
+    } //readSample
+
+    /**
+     * Reads each sample once with the reader the application uses for it.
+     *
+     * @param scheduleReader the {@link ObjectReader} of {@link Schedule}s to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void exercise(ObjectReader scheduleReader) throws IOException {
+        CodecRegistry.readSample(PREDICTION_SAMPLE, BusTypeAdapter::readBus, "bustime-response", "prd");
+
+        CodecRegistry.readSample(ARRIVAL_SAMPLE, TrainTypeAdapter::readTrain, "ctatt", "eta");
+
+        CodecRegistry.readSample(ROUTE_SAMPLE, RouteTypeAdapter::readRoute, "bustime-response", "routes");
+
+        CodecRegistry.readSample(STOP_SAMPLE, StopTypeAdapter::readStop, "bustime-response", "stops");
+
+        scheduleReader.readValue(SCHEDULE_SAMPLE);
+    } //exercise
+
+    /**
+     * Runs the readers of every response over sample responses the specified number of times, so that the first real
+     * requests do not pay for class loading, deserializer lookup, and interpretation. Failures are logged and end the
+     * warm-up early, as they must never keep the application from starting.
+     *
+     * @param iterations the number of times each sample is exercised
+     */
+    public void warmUp(int iterations) {
+        long start = System.nanoTime();
+
+        ObjectReader scheduleReader = this.getReader(Schedule.class);
+
+        try {
+            for (int i = 0; i < iterations; i++) {
+                CodecRegistry.exercise(scheduleReader);
+            } //end for
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            LOGGER.atWarn()
+                  .withThrowable(e)
+                  .log("Error in warming up the codecs");
+
+            return;
+        } //end try catch
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+        String message = "Warmed up the codecs with %d iterations in %d ms".formatted(iterations, elapsedMillis);
+
+        LOGGER.atInfo()
+              .log(message);
+    } //warmUp
+}
\ No newline at end of file
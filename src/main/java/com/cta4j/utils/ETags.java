@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A set of utilities used by the CTA4j application to tag responses with entity tags, so that clients polling for
+ * unchanged data can be answered with {@code 304 Not Modified} instead of a new body.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class ETags {
+    /**
+     * The number of bytes of the digest kept in an entity tag.
+     */
+    private static final int TAG_BYTES;
+
+    static {
+        TAG_BYTES = 16;
+    } //static
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link ETags} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private ETags() throws InstantiationException {
+        throw new InstantiationException("instances of type ETags cannot be created");
+    } //ETags
+
+    /**
+     * Returns the strong entity tag of the specified values. The values must be in a deterministic order and have a
+     * deterministic string form, as records of strings, numbers, dates, and enums do, so that equal content has the
+     * same tag on every node and across restarts.
+     *
+     * @param values the values to be used in the operation
+     * @return the quoted entity tag of the specified values
+     * @throws NullPointerException if the specified {@link List} is {@code null}
+     */
+    public static String of(List<?> values) {
+        Objects.requireNonNull(values, "the specified list of values is null");
+
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } //end try catch
+
+        for (Object value : values) {
+            String string = String.valueOf(value);
+
+            digest.update(string.getBytes(StandardCharsets.UTF_8));
+
+            digest.update((byte) '\n');
+        } //end for
+
+        byte[] hash = digest.digest();
+
+        String tag = HexFormat.of()
+                              .formatHex(hash, 0, TAG_BYTES);
+
+        return "\"%s\"".formatted(tag);
+    } //of
+
+    /**
+     * Returns whether the specified {@code If-None-Match} header matches the specified entity tag. Weak comparison is
+     * used, as it is for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, or {@code null} if there is none
+     * @param eTag the quoted entity tag to be used in the operation
+     * @return {@code true} if the specified header matches the specified entity tag, otherwise {@code false}
+     * @throws NullPointerException if the specified entity tag is {@code null}
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        Objects.requireNonNull(eTag, "the specified entity tag is null");
+
+        if (ifNoneMatch == null) {
+            return false;
+        } //end if
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.strip();
+
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            } //end if
+
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            } //end if
+        } //end for
+
+        return false;
+    } //matches
+}
\ No newline at end of file
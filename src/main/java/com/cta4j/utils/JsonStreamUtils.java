@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A set of utilities used by the CTA4j application to parse API responses in a single streaming pass, without first
+ * reading them into a {@link String} or building a tree.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class JsonStreamUtils {
+    /**
+     * A reader of a single JSON value.
+     *
+     * @param <T> the type of the values read
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        /**
+         * Reads a value using the specified {@link JsonReader}.
+         *
+         * @param jsonReader the {@link JsonReader} to be used in the operation
+         * @return the value that was read
+         * @throws IOException if an I/O error occurs
+         */
+        T read(JsonReader jsonReader) throws IOException;
+    } //ValueReader
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link JsonStreamUtils} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private JsonStreamUtils() throws InstantiationException {
+        throw new InstantiationException("instances of type JsonStreamUtils cannot be created");
+    } //JsonStreamUtils
+
+    /**
+     * Returns a new {@link JsonReader} over the specified UTF-8 encoded {@link InputStream}. Closing the returned
+     * reader closes the stream.
+     *
+     * @param inputStream the {@link InputStream} to be used in the operation
+     * @return a new {@link JsonReader} over the specified {@link InputStream}
+     * @throws NullPointerException if the specified {@link InputStream} is {@code null}
+     */
+    public static JsonReader newReader(InputStream inputStream) {
+        Objects.requireNonNull(inputStream, "the specified input stream is null");
+
+        Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+
+        return new JsonReader(reader);
+    } //newReader
+
+    /**
+     * Advances the specified {@link JsonReader} to the value at the specified path of member names, skipping every
+     * other member along the way.
+     *
+     * @param jsonReader the {@link JsonReader} to be used in the operation
+     * @param path the member names to be used in the operation
+     * @return {@code true} if the value was found, in which case the reader is positioned before it, otherwise
+     * {@code false}
+     * @throws IOException if an I/O error occurs or the response is malformed
+     * @throws NullPointerException if the specified {@link JsonReader} or path is {@code null}
+     */
+    public static boolean seek(JsonReader jsonReader, String... path) throws IOException {
+        Objects.requireNonNull(jsonReader, "the specified JsonReader is null");
+
+        Objects.requireNonNull(path, "the specified path is null");
+
+        for (String name : path) {
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                return false;
+            } //end if
+
+            jsonReader.beginObject();
+
+            boolean found = false;
+
+            while (!found && jsonReader.hasNext()) {
+                if (name.equals(jsonReader.nextName())) {
+                    found = true;
+                } else {
+                    jsonReader.skipValue();
+                } //end if
+            } //end while
+
+            if (!found) {
+                return false;
+            } //end if
+        } //end for
+
+        return true;
+    } //seek
+
+    /**
+     * Reads the value at the current position of the specified {@link JsonReader} as a list of elements. The CTA
+     * APIs render a list of one element as a bare object and an empty list as {@code null} or nothing, so a single
+     * object is read as a list of one and {@code null} as an empty list.
+     *
+     * @param jsonReader the {@link JsonReader} to be used in the operation
+     * @param elementReader the {@link ValueReader} of each element to be used in the operation
+     * @param <T> the type of the elements
+     * @return the elements that were read
+     * @throws IOException if an I/O error occurs or the response is malformed
+     * @throws NullPointerException if the specified {@link JsonReader} or {@link ValueReader} is {@code null}
+     */
+    public static <T> List<T> readList(JsonReader jsonReader, ValueReader<T> elementReader) throws IOException {
+        Objects.requireNonNull(jsonReader, "the specified JsonReader is null");
+
+        Objects.requireNonNull(elementReader, "the specified element reader is null");
+
+        List<T> elements = new ArrayList<>();
+
+        switch (jsonReader.peek()) {
+            case BEGIN_ARRAY -> {
+                jsonReader.beginArray();
+
+                while (jsonReader.hasNext()) {
+                    T element = elementReader.read(jsonReader);
+
+                    elements.add(element);
+                } //end while
+
+                jsonReader.endArray();
+            } //case BEGIN_ARRAY
+            case BEGIN_OBJECT -> {
+                T element = elementReader.read(jsonReader);
+
+                elements.add(element);
+            } //case BEGIN_OBJECT
+            default -> jsonReader.skipValue();
+        } //end switch
+
+        return elements;
+    } //readList
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of utilities used by the CTA4j application to record metrics of parsing API responses. Every parse is timed
+ * in {@code cta4j.parse}, tagged with its endpoint and outcome, and the records it produced are recorded in
+ * {@code cta4j.parse.records}. Parses that produce no records are also counted in {@code cta4j.parse.empty}, and
+ * values that the type adapters cannot read are counted in {@code cta4j.parse.malformed}, by type and field. As
+ * responses are parsed while they stream in, the parse time includes receiving the rest of the body after its
+ * headers, which is timed separately in {@code cta4j.upstream.requests}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class ParseMetrics {
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link ParseMetrics} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private ParseMetrics() throws InstantiationException {
+        throw new InstantiationException("instances of type ParseMetrics cannot be created");
+    } //ParseMetrics
+
+    /**
+     * Records a successful parse of a response of the specified endpoint, such as {@code getpredictions}, that
+     * started at the specified time and produced the specified number of records.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param startNanos the time at which the parse started, as given by {@link System#nanoTime()}
+     * @param records the number of records to be used in the operation
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public static void recordSuccess(String endpoint, long startNanos, int records) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Metrics.timer("cta4j.parse", "endpoint", endpoint, "outcome", "success")
+               .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        Metrics.summary("cta4j.parse.records", "endpoint", endpoint)
+               .record(records);
+
+        if (records == 0) {
+            Metrics.counter("cta4j.parse.empty", "endpoint", endpoint)
+                   .increment();
+        } //end if
+    } //recordSuccess
+
+    /**
+     * Records a failed parse of a response of the specified endpoint that started at the specified time.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param startNanos the time at which the parse started, as given by {@link System#nanoTime()}
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public static void recordFailure(String endpoint, long startNanos) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Metrics.timer("cta4j.parse", "endpoint", endpoint, "outcome", "failure")
+               .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    } //recordFailure
+
+    /**
+     * Counts a malformed value of the specified field in a response that is read as the specified type, such as
+     * {@code bus} or {@code train}.
+     *
+     * @param type the type to be used in the operation
+     * @param field the name of the field, as it appears in the response, to be used in the operation
+     * @throws NullPointerException if the specified type or field is {@code null}
+     */
+    public static void countMalformed(String type, String field) {
+        Objects.requireNonNull(type, "the specified type is null");
+
+        Objects.requireNonNull(field, "the specified field is null");
+
+        Metrics.counter("cta4j.parse.malformed", "type", type, "field", field)
+               .increment();
+    } //countMalformed
+}
\ No newline at end of file
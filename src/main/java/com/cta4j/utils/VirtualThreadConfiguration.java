@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The virtual thread configuration of the CTA4j application. It is only active when the
+ * {@code cta4j.virtual-threads.enabled} property is {@code true}, in which case Tomcat handles each request on its own
+ * virtual thread instead of on its bounded pool of platform worker threads.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "cta4j.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+    /**
+     * The {@link Logger} of the {@link VirtualThreadConfiguration} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(VirtualThreadConfiguration.class);
+    } //static
+
+    /**
+     * Returns a {@link TomcatProtocolHandlerCustomizer} that replaces Tomcat's worker pool with a
+     * virtual-thread-per-task executor. If the running JDK does not support virtual threads, Tomcat keeps its default
+     * pool.
+     *
+     * @return a {@link TomcatProtocolHandlerCustomizer} that runs request handling on virtual threads
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            Optional<ExecutorService> executor = VirtualThreadUtils.newVirtualThreadExecutor();
+
+            if (executor.isEmpty()) {
+                LOGGER.atWarn()
+                      .log("Tomcat will keep its platform thread pool");
+
+                return;
+            } //end if
+
+            protocolHandler.setExecutor(executor.get());
+
+            LOGGER.atInfo()
+                  .log("Requests will be handled on virtual threads");
+        };
+    } //virtualThreadProtocolHandlerCustomizer
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A set of utilities used by the CTA4j application to run work on virtual threads. The application is compiled for
+ * Java 18, which predates virtual threads, so the executor is looked up reflectively and is only available when the
+ * application runs on a JDK that provides it (Java 21, or Java 19 and 20 with {@code --enable-preview}).
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @version October 17, 2026
+ */
+public final class VirtualThreadUtils {
+    /**
+     * The {@link Logger} of the {@link VirtualThreadUtils} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(VirtualThreadUtils.class);
+    } //static
+
+    /**
+     * Throws an {@link InstantiationException}, as instances of type {@link VirtualThreadUtils} cannot be created.
+     *
+     * @throws InstantiationException if this constructor is invoked
+     */
+    private VirtualThreadUtils() throws InstantiationException {
+        throw new InstantiationException("instances of type VirtualThreadUtils cannot be created");
+    } //VirtualThreadUtils
+
+    /**
+     * Returns a new {@link ExecutorService} that starts a new virtual thread for each task, if the running JDK
+     * supports virtual threads.
+     *
+     * @return an {@link Optional} containing a new virtual-thread-per-task {@link ExecutorService}, or an empty
+     * {@link Optional} if the running JDK does not support virtual threads
+     */
+    public static Optional<ExecutorService> newVirtualThreadExecutor() {
+        Method method;
+
+        try {
+            method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            LOGGER.atWarn()
+                  .log("Virtual threads are not available in this JDK");
+
+            return Optional.empty();
+        } //end try catch
+
+        ExecutorService executor;
+
+        try {
+            executor = (ExecutorService) method.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException | UnsupportedOperationException e) {
+            LOGGER.atWarn()
+                  .withThrowable(e)
+                  .log("Virtual threads could not be enabled (is --enable-preview required?)");
+
+            return Optional.empty();
+        } //end try catch
+
+        return Optional.of(executor);
+    } //newVirtualThreadExecutor
+}
\ No newline at end of file
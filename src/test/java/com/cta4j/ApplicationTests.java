@@ -25,8 +25,10 @@
 package com.cta4j;
 
 import com.cta4j.bus.model.Stop;
-import com.cta4j.bus.utils.BusUtils;
+import com.cta4j.bus.controller.service.BusService;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
@@ -42,8 +44,12 @@ public class ApplicationTests {
 
         String direction = "Eastbound";
 
-        Set<Stop> stops = BusUtils.getStops(route, direction);
+        try (ConfigurableApplicationContext context = SpringApplication.run(Application.class, args)) {
+            BusService busService = context.getBean(BusService.class);
 
-        stops.forEach(System.out::println);
+            Set<Stop> stops = busService.getStops(route, direction);
+
+            stops.forEach(System.out::println);
+        } //end try
     } //main
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.model.adapters;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.Type;
+import com.cta4j.utils.JsonStreamUtils;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BusTypeAdapterTests {
+    private static List<Bus> readBuses(String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        InputStream inputStream = new ByteArrayInputStream(bytes);
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            assertTrue(JsonStreamUtils.seek(jsonReader, "bustime-response", "prd"));
+
+            return JsonStreamUtils.readList(jsonReader, BusTypeAdapter::readBus);
+        } //end try
+    } //readBuses
+
+    @Test
+    public void everyFieldIsRead() throws IOException {
+        String json = """
+                      {"bustime-response":{"prd":[{"tmstmp":"20261017 08:00","typ":"D","stpnm":"Cermak & Kedzie",\
+                      "stpid":"1828","vid":"1234","dstp":1640,"rt":"22","rtdd":"22","rtdir":"Northbound",\
+                      "des":"Harrison","prdtm":"20261017 08:07","tablockid":"22 -706","tatripid":"1006316",\
+                      "dly":true,"prdctdn":"7","zone":""}]}}""";
+
+        List<Bus> buses = BusTypeAdapterTests.readBuses(json);
+
+        assertEquals(1, buses.size());
+
+        Bus bus = buses.get(0);
+
+        assertEquals(Integer.valueOf(1234), bus.id());
+
+        assertEquals(Integer.valueOf(1828), bus.stop()
+                                               .id());
+
+        assertEquals("Cermak & Kedzie", bus.stop()
+                                           .name());
+
+        assertEquals("22", bus.route()
+                              .id());
+
+        assertEquals("Northbound", bus.direction());
+
+        assertEquals("Harrison", bus.destination());
+
+        assertEquals(Type.DEPARTURE, bus.type());
+
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 0), bus.predictionTime());
+
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 7), bus.typeTime());
+
+        assertEquals(Boolean.TRUE, bus.delayed());
+    } //everyFieldIsRead
+
+    @Test
+    public void missingFieldsAreNull() throws IOException {
+        String json = """
+                      {"bustime-response":{"prd":[{"vid":"1234","stpnm":null}]}}""";
+
+        Bus bus = BusTypeAdapterTests.readBuses(json)
+                                     .get(0);
+
+        assertEquals(Integer.valueOf(1234), bus.id());
+
+        assertNull(bus.stop()
+                      .id());
+
+        assertNull(bus.stop()
+                      .name());
+
+        assertNull(bus.type());
+
+        assertNull(bus.typeTime());
+
+        assertNull(bus.delayed());
+    } //missingFieldsAreNull
+
+    @Test
+    public void malformedValuesAreNull() throws IOException {
+        String json = """
+                      {"bustime-response":{"prd":[{"vid":"12x4","typ":"X","prdtm":"soon","rt":"22"}]}}""";
+
+        Bus bus = BusTypeAdapterTests.readBuses(json)
+                                     .get(0);
+
+        assertNull(bus.id());
+
+        assertNull(bus.type());
+
+        assertNull(bus.typeTime());
+
+        assertEquals("22", bus.route()
+                              .id());
+    } //malformedValuesAreNull
+
+    @Test
+    public void trailingUnknownFieldsAreSkipped() throws IOException {
+        String json = """
+                      {"bustime-response":{"prd":[{"vid":"1234","extra":{"nested":[1,{"vid":"9999"}]},"more":[[]]},\
+                      {"vid":"5678","rt":"9"}],"tmstmp":"20261017 08:00"}}""";
+
+        List<Bus> buses = BusTypeAdapterTests.readBuses(json);
+
+        assertEquals(2, buses.size());
+
+        assertEquals(Integer.valueOf(1234), buses.get(0)
+                                                 .id());
+
+        assertEquals(Integer.valueOf(5678), buses.get(1)
+                                                 .id());
+    } //trailingUnknownFieldsAreSkipped
+
+    @Test
+    public void wrongTokensAreRejected() {
+        String json = """
+                      {"bustime-response":{"prd":[{"vid":"1234","dly":"yes"}]}}""";
+
+        assertThrows(IllegalStateException.class, () -> BusTypeAdapterTests.readBuses(json));
+    } //wrongTokensAreRejected
+}
\ No newline at end of file
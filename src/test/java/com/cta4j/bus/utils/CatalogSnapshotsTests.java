@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.bus.utils;
+
+import com.cta4j.bus.model.Catalog;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CatalogSnapshotsTests {
+    private static Catalog newCatalog() {
+        Stop shared = new Stop(1828, "Cermak & Kedzie");
+
+        Stop other = new Stop(null, "Harrison & Kedzie");
+
+        Set<Route> routes = Set.of(new Route("22", "Clark"), new Route("52", null));
+
+        Map<String, Set<String>> directions = Map.of("22", Set.of("Northbound", "Southbound"), "52", Set.of());
+
+        Map<String, Map<String, Set<Stop>>> stops = Map.of("22", Map.of("Northbound", Set.of(shared, other),
+                                                                          "Southbound", Set.of(shared)),
+                                                           "52", Map.of());
+
+        Instant refreshedAt = Instant.ofEpochMilli(1_791_000_000_000L);
+
+        return new Catalog(refreshedAt, routes, directions, stops);
+    } //newCatalog
+
+    @Test
+    public void snapshotsRoundTripThroughAFile() throws IOException {
+        Catalog catalog = CatalogSnapshotsTests.newCatalog();
+
+        Path directory = Files.createTempDirectory("catalog");
+
+        Path path = directory.resolve("bus-catalog.bin");
+
+        CatalogSnapshots.write(catalog, path);
+
+        Optional<Catalog> read = CatalogSnapshots.read(path);
+
+        assertTrue(read.isPresent());
+
+        assertEquals(catalog, read.get());
+
+        Files.delete(path);
+
+        Files.delete(directory);
+    } //snapshotsRoundTripThroughAFile
+
+    @Test
+    public void corruptSnapshotsAreRejected() {
+        byte[] bytes = CatalogSnapshots.encode(CatalogSnapshotsTests.newCatalog());
+
+        bytes[bytes.length / 2] ^= 0x01;
+
+        assertThrows(IOException.class, () -> CatalogSnapshots.decode(ByteBuffer.wrap(bytes)));
+
+        byte[] truncated = new byte[6];
+
+        assertThrows(IOException.class, () -> CatalogSnapshots.decode(ByteBuffer.wrap(truncated)));
+    } //corruptSnapshotsAreRejected
+
+    @Test
+    public void missingPartsStayMissing() throws IOException {
+        Stop stop = new Stop(1828, "Cermak & Kedzie");
+
+        Set<Route> routes = Set.of(new Route("22", "Clark"), new Route("52", null));
+
+        Map<String, Set<String>> directions = Map.of("22", Set.of("Northbound", "Southbound"));
+
+        Map<String, Map<String, Set<Stop>>> stops = Map.of("22", Map.of("Northbound", Set.of(stop)));
+
+        Catalog catalog = new Catalog(Instant.ofEpochMilli(1_791_000_000_000L), routes, directions, stops);
+
+        Catalog read = CatalogSnapshots.decode(ByteBuffer.wrap(CatalogSnapshots.encode(catalog)));
+
+        assertEquals(catalog, read);
+
+        assertFalse(read.isComplete());
+
+        assertTrue(read.isMissingDirections("52"));
+
+        assertTrue(read.isMissingStops("22", "Southbound"));
+
+        assertFalse(read.isMissingStops("22", "Northbound"));
+    } //missingPartsStayMissing
+}
\ No newline at end of file
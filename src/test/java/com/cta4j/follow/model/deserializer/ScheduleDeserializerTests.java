@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.follow.model.deserializer;
+
+import com.cta4j.follow.model.Schedule;
+import com.cta4j.follow.model.Train;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScheduleDeserializerTests {
+    private static final ObjectMapper MAPPER;
+
+    static {
+        MAPPER = new ObjectMapper();
+    } //static
+
+    private static Schedule readSchedule(String json) throws IOException {
+        return MAPPER.readValue(json, Schedule.class);
+    } //readSchedule
+
+    private static String getTrainJson(String run, String arrivalTime) {
+        String format = """
+                        {"staId":"40380","staNm":"Clark/Lake","rn":"%s","rt":"Blue Line","destNm":"Forest Park",\
+                        "prdt":"2026-10-17T08:00:00","arrT":"%s","isApp":"0","isSch":"0","isDly":"1","isFlt":"0",\
+                        "flags":null}""";
+
+        return format.formatted(run, arrivalTime);
+    } //getTrainJson
+
+    @Test
+    public void trainsAreReadInArrivalOrder() throws IOException {
+        String later = ScheduleDeserializerTests.getTrainJson("124", "2026-10-17T08:09:00");
+
+        String earlier = ScheduleDeserializerTests.getTrainJson("123", "2026-10-17T08:04:00");
+
+        String format = """
+                        {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"0","errNm":null,"eta":[%s,%s]}}""";
+
+        String json = format.formatted(later, earlier);
+
+        Schedule schedule = ScheduleDeserializerTests.readSchedule(json);
+
+        assertEquals(2, schedule.trains()
+                                .size());
+
+        Iterator<Train> iterator = schedule.trains()
+                                           .iterator();
+
+        Train first = iterator.next();
+
+        assertEquals(123, first.run());
+
+        assertEquals("BLUE", first.route());
+
+        assertEquals("Clark/Lake", first.station());
+
+        assertEquals("Forest Park", first.destination());
+
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 4), first.arrivalTime());
+
+        assertTrue(first.delayed());
+
+        assertEquals(124, iterator.next()
+                                  .run());
+    } //trainsAreReadInArrivalOrder
+
+    @Test
+    public void trailingUnknownFieldsAreSkipped() throws IOException {
+        String train = ScheduleDeserializerTests.getTrainJson("123", "2026-10-17T08:04:00");
+
+        String json = """
+                      {"ctatt":{"tmst":"2026-10-17T08:00:00","eta":[%s],"extra":{"eta":[1,{"rn":"9"}]},"more":[[]]},\
+                      "trailer":{"ctatt":{}},"last":"value"}""".formatted(train);
+
+        try (JsonParser jsonParser = MAPPER.createParser(json)) {
+            jsonParser.nextToken();
+
+            Schedule schedule = MAPPER.readValue(jsonParser, Schedule.class);
+
+            assertEquals(1, schedule.trains()
+                                    .size());
+
+            assertNull(jsonParser.nextToken());
+        } //end try
+    } //trailingUnknownFieldsAreSkipped
+
+    @Test
+    public void emptyEtaIsRejected() {
+        String json = """
+                      {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"0","errNm":null,"eta":[]}}""";
+
+        JsonMappingException exception = assertThrows(JsonMappingException.class,
+                                                      () -> ScheduleDeserializerTests.readSchedule(json));
+
+        assertTrue(exception.getOriginalMessage()
+                            .contains("does not contain any elements"));
+    } //emptyEtaIsRejected
+
+    @Test
+    public void missingEtaIsRejected() {
+        String json = """
+                      {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"101","errNm":"Invalid run"}}""";
+
+        assertThrows(JsonMappingException.class, () -> ScheduleDeserializerTests.readSchedule(json));
+    } //missingEtaIsRejected
+
+    @Test
+    public void missingTrainFieldsAreRejected() {
+        String json = """
+                      {"ctatt":{"eta":[{"rn":"123","rt":"Blue Line","staNm":"Clark/Lake","destNm":"Forest Park"}]}}""";
+
+        JsonMappingException exception = assertThrows(JsonMappingException.class,
+                                                      () -> ScheduleDeserializerTests.readSchedule(json));
+
+        assertTrue(exception.getOriginalMessage()
+                            .contains("prdt"));
+    } //missingTrainFieldsAreRejected
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.history;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.Route;
+import com.cta4j.bus.model.Stop;
+import com.cta4j.bus.model.Type;
+import com.cta4j.train.model.Train;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HistoryLogTests {
+    private static void append(HistoryLog log, Observation observation) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HistoryRecords.MAX_RECORD_BYTES);
+
+        HistoryRecords.encode(buffer, observation);
+
+        buffer.flip();
+
+        log.append(buffer, observation.observedAt());
+    } //append
+
+    private static void delete(Path directory) throws IOException {
+        for (Path path : HistoryLog.getSegments(directory)) {
+            Files.delete(path);
+        } //end for
+
+        Files.delete(directory);
+    } //delete
+
+    @Test
+    public void observationsRoundTripThroughASegment() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+
+        LocalDateTime predictionTime = LocalDateTime.of(2026, 10, 17, 8, 0);
+
+        Bus bus = new Bus(1234, new Stop(1828, "Cermak & Kedzie"), new Route("22", null), "Northbound", null,
+                          Type.ARRIVAL, predictionTime, predictionTime.plusMinutes(7), false);
+
+        Train train = new Train(412, com.cta4j.train.model.Route.RED, "Howard", null, "Service toward Howard",
+                                predictionTime, null, true, null, false, null, 41.878, -87.629, 358);
+
+        com.cta4j.follow.model.Train followTrain = new com.cta4j.follow.model.Train("Red", 412, "Lake", "Howard",
+                                                                                    predictionTime, null, null,
+                                                                                    false, false, true);
+
+        Instant observedAt = Instant.ofEpochMilli(1_791_000_000_000L);
+
+        List<Observation> observations = List.of(new Observation(Observation.Kind.BUS, observedAt, bus),
+                                                 new Observation(Observation.Kind.TRAIN, observedAt, train),
+                                                 new Observation(Observation.Kind.FOLLOW, observedAt, followTrain));
+
+        try (HistoryLog log = new HistoryLog(directory, 65_536, Duration.ofHours(1L), Duration.ofDays(1L))) {
+            for (Observation observation : observations) {
+                HistoryLogTests.append(log, observation);
+            } //end for
+        } //end try
+
+        List<Path> segments = HistoryLog.getSegments(directory);
+
+        assertEquals(1, segments.size());
+
+        assertEquals(observations, HistoryLog.read(segments.get(0)));
+
+        HistoryLogTests.delete(directory);
+    } //observationsRoundTripThroughASegment
+
+    @Test
+    public void segmentsRollOverAndExpire() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+
+        Bus bus = new Bus(1234, null, null, null, null, null, null, null, null);
+
+        Instant start = Instant.ofEpochMilli(1_791_000_000_000L);
+
+        try (HistoryLog log = new HistoryLog(directory, 65_536, Duration.ofMinutes(1L), Duration.ofMinutes(3L))) {
+            for (int minute = 0; minute < 3; minute++) {
+                Instant observedAt = start.plus(Duration.ofMinutes(minute));
+
+                HistoryLogTests.append(log, new Observation(Observation.Kind.BUS, observedAt, bus));
+            } //end for
+
+            assertEquals(3, HistoryLog.getSegments(directory)
+                                      .size());
+
+            log.maintain(start.plus(Duration.ofMinutes(4L)));
+        } //end try
+
+        List<Path> segments = HistoryLog.getSegments(directory);
+
+        assertEquals(2, segments.size());
+
+        assertEquals(1, HistoryLog.read(segments.get(0))
+                                  .size());
+
+        HistoryLogTests.delete(directory);
+    } //segmentsRollOverAndExpire
+}
\ No newline at end of file
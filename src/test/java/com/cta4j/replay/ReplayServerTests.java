@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReplayServerTests {
+    private static String get(String uriString) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uriString))
+                                         .GET()
+                                         .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        return "%d %s".formatted(response.statusCode(), response.body());
+    } //get
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> sorted = paths.sorted(Comparator.reverseOrder())
+                                     .toList();
+
+            for (Path path : sorted) {
+                Files.delete(path);
+            } //end for
+        } //end try
+    } //delete
+
+    @Test
+    public void recordingsArePlayedBackInOrder() throws IOException {
+        Path directory = Files.createTempDirectory("replay");
+
+        Path recording = Files.createDirectories(directory.resolve("ttarrivals"));
+
+        Files.writeString(recording.resolve("1791000000000.json"), "first");
+
+        Files.writeString(recording.resolve("1791000030000.json"), "second");
+
+        Recording loaded = Recording.load(recording);
+
+        assertEquals("first", new String(loaded.getBody(29_999L, false)));
+
+        assertEquals("second", new String(loaded.getBody(30_000L, false)));
+
+        assertEquals("second", new String(loaded.getBody(90_000L, false)));
+
+        assertEquals("first", new String(loaded.getBody(60_000L, true)));
+
+        ReplayServerTests.delete(directory);
+    } //recordingsArePlayedBackInOrder
+
+    @Test
+    public void requestsAreAnsweredFromTheMostSpecificRecording() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("replay");
+
+        Path endpoint = Files.createDirectories(directory.resolve("getpredictions"));
+
+        Files.writeString(endpoint.resolve("payload.json"), "any stop");
+
+        Path stop = Files.createDirectories(endpoint.resolve("stpid=1828"));
+
+        Files.writeString(stop.resolve("payload.json"), "stop 1828");
+
+        ReplaySettings settings = new ReplaySettings(directory, 0, 1.0, true, Duration.ZERO, Duration.ZERO,
+                                                     ReplaySettings.Distribution.UNIFORM, 0.0);
+
+        try (ReplayServer server = ReplayServer.start(settings)) {
+            String baseUrl = server.getBusBaseUrl();
+
+            assertEquals("200 stop 1828", ReplayServerTests.get(baseUrl + "/getpredictions?key=k&stpid=1828"));
+
+            assertEquals("200 any stop", ReplayServerTests.get(baseUrl + "/getpredictions?key=k&stpid=1"));
+
+            String trainUrl = server.getTrainBaseUrl() + "/ttfollow.aspx?runnumber=412";
+
+            assertEquals("404", ReplayServerTests.get(trainUrl)
+                                                 .substring(0, 3));
+        } //end try
+
+        ReplayServerTests.delete(directory);
+    } //requestsAreAnsweredFromTheMostSpecificRecording
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DeltaTrackerTests {
+    private static String getIdentity(String element) {
+        return element.substring(0, element.indexOf('='));
+    } //getIdentity
+
+    @Test
+    public void changesAreSentSinceTheClientsSnapshot() {
+        DeltaTracker<Integer, String> tracker = new DeltaTracker<>(DeltaTrackerTests::getIdentity, 4, 16);
+
+        Delta<String> first = tracker.update(40380, List.of("415=08:00", "416=08:10"), 0L);
+
+        assertEquals("true", String.valueOf(first.reset()));
+
+        assertEquals("[415=08:00, 416=08:10]", first.added()
+                                                    .toString());
+
+        Delta<String> unchanged = tracker.update(40380, List.of("415=08:00", "416=08:10"), first.sequence());
+
+        assertEquals(String.valueOf(first.sequence()), String.valueOf(unchanged.sequence()));
+
+        assertEquals("[]", unchanged.added()
+                                    .toString());
+
+        Delta<String> second = tracker.update(40380, List.of("416=08:11", "417=08:20"), first.sequence());
+
+        assertEquals("false", String.valueOf(second.reset()));
+
+        assertEquals(String.valueOf(first.sequence()), String.valueOf(second.since()));
+
+        assertEquals("[417=08:20]", second.added()
+                                          .toString());
+
+        assertEquals("[416=08:11]", second.updated()
+                                          .toString());
+
+        assertEquals("[415]", second.removed()
+                                    .toString());
+    } //changesAreSentSinceTheClientsSnapshot
+
+    @Test
+    public void unknownSnapshotsAreReset() {
+        DeltaTracker<Integer, String> tracker = new DeltaTracker<>(DeltaTrackerTests::getIdentity, 1, 16);
+
+        Delta<String> first = tracker.update(1828, List.of("1234=08:07"), 0L);
+
+        tracker.update(1828, List.of("1234=08:08"), first.sequence());
+
+        Delta<String> third = tracker.update(1828, List.of("1234=08:09"), first.sequence());
+
+        assertEquals("true", String.valueOf(third.reset()));
+
+        assertEquals("[1234=08:09]", third.added()
+                                          .toString());
+    } //unknownSnapshotsAreReset
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import com.cta4j.utils.Body;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SharedPollerTests {
+    @Test
+    public void subscribersOfOneKeyShareOnePoll() throws InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+
+        Duration interval = Duration.ofMillis(20L);
+
+        try (SharedPoller<Integer, String> poller = new SharedPoller<>("test", key -> {
+            int fetch = fetches.incrementAndGet();
+
+            String value = "%d:%d".formatted(key, fetch / 3);
+
+            return CompletableFuture.completedFuture(value);
+        }, interval, 1)) {
+            BlockingQueue<String> values0 = new LinkedBlockingQueue<>();
+
+            BlockingQueue<String> values1 = new LinkedBlockingQueue<>();
+
+            Runnable cancel0 = poller.subscribe(1828, values0::add);
+
+            Runnable cancel1 = poller.subscribe(1828, values1::add);
+
+            assertEquals(1, poller.size());
+
+            assertEquals("1828:0", values0.poll(5L, TimeUnit.SECONDS));
+
+            assertEquals("1828:1", values0.poll(5L, TimeUnit.SECONDS));
+
+            String value1 = values1.poll(5L, TimeUnit.SECONDS);
+
+            assertEquals("true", String.valueOf(List.of("1828:0", "1828:1")
+                                                    .contains(value1)));
+
+            cancel0.run();
+
+            assertEquals(1, poller.size());
+
+            cancel1.run();
+
+            cancel1.run();
+
+            assertEquals(0, poller.size());
+
+            Thread.sleep(100L);
+
+            int stopped = fetches.get();
+
+            Thread.sleep(100L);
+
+            assertEquals(stopped, fetches.get());
+        } //end try
+    } //subscribersOfOneKeyShareOnePoll
+
+    @Test
+    public void staleBodiesAreComparedWithoutTheirAge() throws InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+
+        AtomicInteger encodings = new AtomicInteger();
+
+        Instant asOf = Instant.ofEpochSecond(1_791_000_000L);
+
+        Duration interval = Duration.ofMillis(10L);
+
+        try (SharedPoller<Integer, String> poller = new SharedPoller<>("stale", key -> {
+            Body.Staleness staleness = new Body.Staleness(asOf, fetches.incrementAndGet());
+
+            Body<String> body = new Body<>(Body.Status.SUCCESS, "1828", staleness);
+
+            return CompletableFuture.completedFuture(body);
+        }, Body::withoutAge, body -> {
+            encodings.incrementAndGet();
+
+            return body.content();
+        }, interval, 1)) {
+            BlockingQueue<String> values = new LinkedBlockingQueue<>();
+
+            poller.subscribe(1828, values::add);
+
+            assertEquals("1828", values.poll(5L, TimeUnit.SECONDS));
+
+            while (fetches.get() < 5) {
+                Thread.sleep(10L);
+            } //end while
+
+            assertEquals(0, values.size());
+
+            assertEquals(1, encodings.get());
+        } //end try
+    } //staleBodiesAreComparedWithoutTheirAge
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SseStreamTests {
+    private static final class BlockingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent;
+
+        private final CountDownLatch release;
+
+        private final BlockingQueue<Throwable> errors;
+
+        private BlockingEmitter(BlockingQueue<String> sent, CountDownLatch release) {
+            this.sent = sent;
+
+            this.release = release;
+
+            this.errors = new LinkedBlockingQueue<>();
+        } //BlockingEmitter
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder data = new StringBuilder();
+
+            for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+                data.append(item.getData());
+            } //end for
+
+            this.sent.add(data.toString());
+
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            } //end try catch
+        } //send
+
+        @Override
+        public void completeWithError(Throwable throwable) {
+            this.errors.add(throwable);
+        } //completeWithError
+    }
+
+    @Test
+    public void slowClientsReceiveTheLatestValue() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        BlockingEmitter emitter = new BlockingEmitter(sent, release);
+
+        Counter counter = Metrics.counter("test");
+
+        SseStream stream = new SseStream(emitter, "test", executor, Duration.ofSeconds(10L), counter, counter);
+
+        try {
+            stream.accept("{\"value\":0}");
+
+            String first = sent.poll(5L, TimeUnit.SECONDS);
+
+            assertEquals("true", String.valueOf(first.contains("{\"value\":0}")));
+
+            stream.accept("{\"value\":1}");
+
+            stream.accept("{\"value\":2}");
+
+            release.countDown();
+
+            String second = sent.poll(5L, TimeUnit.SECONDS);
+
+            assertEquals("true", String.valueOf(second.contains("{\"value\":2}")));
+
+            assertNull(sent.poll(100L, TimeUnit.MILLISECONDS));
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+    } //slowClientsReceiveTheLatestValue
+
+    @Test
+    public void blockedClientsAreDropped() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        BlockingEmitter emitter = new BlockingEmitter(sent, release);
+
+        Counter counter = Metrics.counter("test");
+
+        SseStream stream = new SseStream(emitter, "test", executor, Duration.ofMillis(10L), counter, counter);
+
+        AtomicInteger cancellations = new AtomicInteger();
+
+        stream.bind(cancellations::incrementAndGet);
+
+        try {
+            stream.accept("{\"value\":0}");
+
+            sent.poll(5L, TimeUnit.SECONDS);
+
+            Thread.sleep(50L);
+
+            stream.accept("{\"value\":1}");
+
+            assertEquals(IOException.class, emitter.errors.poll(5L, TimeUnit.SECONDS)
+                                                          .getClass());
+
+            assertEquals(1, cancellations.get());
+
+            stream.accept("{\"value\":2}");
+
+            release.countDown();
+
+            assertNull(sent.poll(100L, TimeUnit.MILLISECONDS));
+
+            assertEquals(1, cancellations.get());
+        } finally {
+            executor.shutdownNow();
+        } //end try finally
+    } //blockedClientsAreDropped
+}
\ No newline at end of file
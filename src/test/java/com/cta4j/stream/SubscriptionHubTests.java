@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SubscriptionHubTests {
+    private static WebSocketSession newSession(String id, BlockingQueue<String> sent) {
+        Map<String, Object> attributes = new HashMap<>();
+
+        Object proxy = Proxy.newProxyInstance(WebSocketSession.class.getClassLoader(),
+                                              new Class<?>[] {WebSocketSession.class}, (object, method, args) -> {
+            switch (method.getName()) {
+                case "getId" -> {
+                    return id;
+                } //case "getId"
+                case "getAttributes" -> {
+                    return attributes;
+                } //case "getAttributes"
+                case "isOpen" -> {
+                    return true;
+                } //case "isOpen"
+                case "sendMessage" -> {
+                    TextMessage message = (TextMessage) args[0];
+
+                    sent.add(message.getPayload());
+
+                    return null;
+                } //case "sendMessage"
+                default -> {
+                    return null;
+                } //default
+            } //end switch
+        });
+
+        return (WebSocketSession) proxy;
+    } //newSession
+
+    @Test
+    public void topicsAreReferenceCounted() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        AtomicInteger cancellations = new AtomicInteger();
+
+        List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+        TopicSource source = (id, listener) -> {
+            subscriptions.incrementAndGet();
+
+            listeners.add(listener);
+
+            return cancellations::incrementAndGet;
+        };
+
+        Duration sendTimeLimit = Duration.ofSeconds(10L);
+
+        try (SubscriptionHub hub = new SubscriptionHub(Map.of("bus", source), sendTimeLimit, 2, 1)) {
+            BlockingQueue<String> sent0 = new LinkedBlockingQueue<>();
+
+            BlockingQueue<String> sent1 = new LinkedBlockingQueue<>();
+
+            Connection connection0 = hub.connect(SubscriptionHubTests.newSession("0", sent0));
+
+            Connection connection1 = hub.connect(SubscriptionHubTests.newSession("1", sent1));
+
+            hub.subscribe(connection0, "bus:1828");
+
+            hub.subscribe(connection1, "bus:1828");
+
+            assertEquals(1, subscriptions.get());
+
+            listeners.get(0)
+                     .accept("{\"status\":\"SUCCESS\"}");
+
+            String frame = "{\"type\":\"update\",\"topic\":\"bus:1828\",\"data\":{\"status\":\"SUCCESS\"}}";
+
+            assertEquals(frame, sent0.poll(5L, TimeUnit.SECONDS));
+
+            assertEquals(frame, sent1.poll(5L, TimeUnit.SECONDS));
+
+            hub.unsubscribe(connection0, "bus:1828");
+
+            assertEquals(0, cancellations.get());
+
+            hub.disconnect(connection1);
+
+            assertEquals(1, cancellations.get());
+
+            assertEquals(0, hub.size());
+        } //end try
+    } //topicsAreReferenceCounted
+
+    @Test
+    public void unknownTopicsAreRejected() {
+        TopicSource source = (id, listener) -> () -> {
+        };
+
+        Duration sendTimeLimit = Duration.ofSeconds(10L);
+
+        try (SubscriptionHub hub = new SubscriptionHub(Map.of("bus", source), sendTimeLimit, 1, 1)) {
+            BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+            Connection connection = hub.connect(SubscriptionHubTests.newSession("0", sent));
+
+            String message = "";
+
+            try {
+                hub.subscribe(connection, "boat:1");
+            } catch (IllegalArgumentException e) {
+                message = e.getMessage();
+            } //end try catch
+
+            assertEquals("the topic \"boat:1\" does not exist", message);
+
+            hub.subscribe(connection, "bus:1");
+
+            try {
+                hub.subscribe(connection, "bus:2");
+            } catch (IllegalArgumentException e) {
+                message = e.getMessage();
+            } //end try catch
+
+            assertEquals("a connection cannot subscribe to more than 1 topics", message);
+        } //end try
+    } //unknownTopicsAreRejected
+}
\ No newline at end of file
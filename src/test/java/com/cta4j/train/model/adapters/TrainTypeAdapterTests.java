@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.train.model.adapters;
+
+import com.cta4j.train.model.Route;
+import com.cta4j.train.model.Train;
+import com.cta4j.utils.JsonStreamUtils;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrainTypeAdapterTests {
+    private static List<Train> readTrains(String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        InputStream inputStream = new ByteArrayInputStream(bytes);
+
+        try (JsonReader jsonReader = JsonStreamUtils.newReader(inputStream)) {
+            assertTrue(JsonStreamUtils.seek(jsonReader, "ctatt", "eta"));
+
+            return JsonStreamUtils.readList(jsonReader, TrainTypeAdapter::readTrain);
+        } //end try
+    } //readTrains
+
+    @Test
+    public void everyFieldIsRead() throws IOException {
+        String json = """
+                      {"ctatt":{"tmst":"2026-10-17T08:00:00","errCd":"0","errNm":null,"eta":[{"staId":"40380",\
+                      "stpId":"30074","staNm":"Clark/Lake","stpDe":"Service toward Forest Park","rn":"123",\
+                      "rt":"Blue","destSt":"30077","destNm":"Forest Park","trDr":"5","prdt":"2026-10-17T08:00:00",\
+                      "arrT":"2026-10-17T08:04:00","isApp":"1","isSch":"0","isDly":"0","isFlt":"1","flags":null,\
+                      "lat":"41.88322","lon":"-87.62979","heading":"269"}]}}""";
+
+        List<Train> trains = TrainTypeAdapterTests.readTrains(json);
+
+        assertEquals(1, trains.size());
+
+        Train train = trains.get(0);
+
+        assertEquals(Integer.valueOf(123), train.run());
+
+        assertEquals(Route.BLUE, train.route());
+
+        assertEquals("Forest Park", train.destination());
+
+        assertEquals("Clark/Lake", train.station());
+
+        assertEquals("Service toward Forest Park", train.description());
+
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 0), train.predictionTime());
+
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 4), train.arrivalTime());
+
+        assertEquals(Boolean.TRUE, train.due());
+
+        assertEquals(Boolean.FALSE, train.scheduled());
+
+        assertEquals(Boolean.TRUE, train.fault());
+
+        assertEquals(Boolean.FALSE, train.delayed());
+
+        assertEquals(Double.valueOf(41.88322), train.latitude());
+
+        assertEquals(Double.valueOf(-87.62979), train.longitude());
+
+        assertEquals(Integer.valueOf(269), train.heading());
+    } //everyFieldIsRead
+
+    @Test
+    public void missingFieldsAreNull() throws IOException {
+        String json = """
+                      {"ctatt":{"eta":[{"rn":"123","lat":null}]}}""";
+
+        Train train = TrainTypeAdapterTests.readTrains(json)
+                                           .get(0);
+
+        assertEquals(Integer.valueOf(123), train.run());
+
+        assertNull(train.route());
+
+        assertNull(train.arrivalTime());
+
+        assertNull(train.due());
+
+        assertNull(train.latitude());
+
+        assertNull(train.heading());
+    } //missingFieldsAreNull
+
+    @Test
+    public void malformedValuesAreNull() throws IOException {
+        String json = """
+                      {"ctatt":{"eta":[{"rn":"1x3","rt":"Teal","arrT":"soon","lat":"north","destNm":"Howard"}]}}""";
+
+        Train train = TrainTypeAdapterTests.readTrains(json)
+                                           .get(0);
+
+        assertNull(train.run());
+
+        assertNull(train.route());
+
+        assertNull(train.arrivalTime());
+
+        assertNull(train.latitude());
+
+        assertEquals("Howard", train.destination());
+    } //malformedValuesAreNull
+
+    @Test
+    public void trailingUnknownFieldsAreSkipped() throws IOException {
+        String json = """
+                      {"ctatt":{"eta":[{"rn":"123","flags":{"nested":[1,{"rn":"999"}]},"more":[[]]},\
+                      {"rn":"456","nextStaNm":"Howard"}],"tmst":"2026-10-17T08:00:00"}}""";
+
+        List<Train> trains = TrainTypeAdapterTests.readTrains(json);
+
+        assertEquals(2, trains.size());
+
+        assertEquals(Integer.valueOf(123), trains.get(0)
+                                                 .run());
+
+        assertEquals("Howard", trains.get(1)
+                                     .station());
+    } //trailingUnknownFieldsAreSkipped
+
+    @Test
+    public void wrongTokensAreRejected() {
+        String json = """
+                      {"ctatt":{"eta":[{"rn":"123","lat":{"degrees":41}}]}}""";
+
+        assertThrows(IllegalStateException.class, () -> TrainTypeAdapterTests.readTrains(json));
+    } //wrongTokensAreRejected
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MeteredBodyHandlerTests {
+    @Test
+    public void bodySizeIsRecordedAndBodyIsPassedThrough() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        Metrics.addRegistry(registry);
+
+        try {
+            MeteredBodyHandler<String> handler = new MeteredBodyHandler<>(HttpResponse.BodyHandlers.ofString(),
+                                                                          "test-size");
+
+            HttpResponse.ResponseInfo responseInfo = new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return 200;
+                } //statusCode
+
+                @Override
+                public HttpHeaders headers() {
+                    return HttpHeaders.of(Map.of(), (name, value) -> true);
+                } //headers
+
+                @Override
+                public HttpClient.Version version() {
+                    return HttpClient.Version.HTTP_1_1;
+                } //version
+            };
+
+            HttpResponse.BodySubscriber<String> subscriber = handler.apply(responseInfo);
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                } //request
+
+                @Override
+                public void cancel() {
+                } //cancel
+            });
+
+            ByteBuffer first = ByteBuffer.wrap("{\"ctatt\":".getBytes(StandardCharsets.UTF_8));
+
+            ByteBuffer second = ByteBuffer.wrap("{}}".getBytes(StandardCharsets.UTF_8));
+
+            subscriber.onNext(List.of(first, second));
+
+            subscriber.onComplete();
+
+            String body = subscriber.getBody()
+                                    .toCompletableFuture()
+                                    .join();
+
+            assertEquals("{\"ctatt\":{}}", body);
+
+            DistributionSummary sizes = registry.get("cta4j.upstream.response.size")
+                                                .tag("endpoint", "test-size")
+                                                .summary();
+
+            assertEquals(1L, sizes.count());
+
+            assertEquals(12.0, sizes.totalAmount());
+        } finally {
+            Metrics.removeRegistry(registry);
+        } //end try finally
+    } //bodySizeIsRecordedAndBodyIsPassedThrough
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cta4j.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuotaBudgetTests {
+    @Test
+    public void burstIsAllowedWithoutWaiting() throws QuotaExceededException {
+        QuotaSettings settings = new QuotaSettings(100L, 1, 5, 0);
+
+        QuotaBudget budget = new QuotaBudget(settings);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, budget.reserve(Priority.INTERACTIVE, 0L));
+        } //end for
+
+        assertThrows(QuotaExceededException.class, () -> budget.reserve(Priority.INTERACTIVE, 0L));
+
+        long waitNanos = budget.reserve(Priority.INTERACTIVE, 2_000_000_000L);
+
+        assertTrue(waitNanos > 0L);
+
+        assertEquals(94L, budget.getRemaining());
+    } //burstIsAllowedWithoutWaiting
+
+    @Test
+    public void backgroundCallsLeaveTheReserve() throws QuotaExceededException {
+        QuotaSettings settings = new QuotaSettings(10L, 1_000, 10, 50);
+
+        QuotaBudget budget = new QuotaBudget(settings);
+
+        for (int i = 0; i < 5; i++) {
+            budget.reserve(Priority.BACKGROUND, 0L);
+        } //end for
+
+        assertThrows(QuotaExceededException.class, () -> budget.reserve(Priority.BACKGROUND, 0L));
+
+        for (int i = 0; i < 5; i++) {
+            budget.reserve(Priority.INTERACTIVE, 0L);
+        } //end for
+
+        assertThrows(QuotaExceededException.class, () -> budget.reserve(Priority.INTERACTIVE, 0L));
+
+        assertEquals(0L, budget.getRemaining());
+    } //backgroundCallsLeaveTheReserve
+}
\ No newline at end of file
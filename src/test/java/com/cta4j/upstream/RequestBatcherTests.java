@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cta4j.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RequestBatcherTests {
+    @Test
+    public void keysWithinTheWindowShareOneLoad() {
+        List<List<Integer>> loads = new ArrayList<>();
+
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(10, Duration.ofMillis(50L), key -> "group",
+                                                                       keys -> {
+            synchronized (loads) {
+                loads.add(keys);
+            } //end synchronized
+
+            Map<Integer, String> results = keys.stream()
+                                               .filter(key -> key != 3)
+                                               .collect(Collectors.toMap(Function.identity(), "stop %d"::formatted));
+
+            return CompletableFuture.completedFuture(results);
+        }, "none");
+
+        CompletableFuture<String> result1 = batcher.submit(1);
+
+        CompletableFuture<String> result2 = batcher.submit(2);
+
+        CompletableFuture<String> result3 = batcher.submit(3);
+
+        assertEquals("stop 1", result1.join());
+
+        assertEquals("stop 2", result2.join());
+
+        assertEquals("none", result3.join());
+
+        assertEquals(List.of(List.of(1, 2, 3)), loads);
+    } //keysWithinTheWindowShareOneLoad
+
+    @Test
+    public void fullBatchIsLoadedImmediately() {
+        List<List<Integer>> loads = new ArrayList<>();
+
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(2, Duration.ofHours(1L), key -> "group",
+                                                                       keys -> {
+            synchronized (loads) {
+                loads.add(keys);
+            } //end synchronized
+
+            Map<Integer, String> results = keys.stream()
+                                               .collect(Collectors.toMap(Function.identity(), "stop %d"::formatted));
+
+            return CompletableFuture.completedFuture(results);
+        }, "none");
+
+        CompletableFuture<String> result1 = batcher.submit(1);
+
+        CompletableFuture<String> result2 = batcher.submit(2);
+
+        assertEquals("stop 1", result1.join());
+
+        assertEquals("stop 2", result2.join());
+
+        assertEquals(List.of(List.of(1, 2)), loads);
+    } //fullBatchIsLoadedImmediately
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTests {
+    @Test
+    public void concurrentCallersShareOneOperation() {
+        SingleFlight<RequestKey, String> singleFlight = new SingleFlight<>();
+
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> operation = new CompletableFuture<>();
+
+        RequestKey key0 = RequestKey.of(1828, "22", "8");
+
+        RequestKey key1 = RequestKey.of(1828, "8", "22", "8");
+
+        CompletableFuture<String> result0 = singleFlight.execute(key0, () -> {
+            calls.incrementAndGet();
+
+            return operation;
+        });
+
+        CompletableFuture<String> result1 = singleFlight.execute(key1, () -> {
+            calls.incrementAndGet();
+
+            return CompletableFuture.completedFuture("unexpected");
+        });
+
+        assertEquals(1, calls.get());
+
+        assertFalse(result1.isDone());
+
+        operation.complete("prediction");
+
+        assertEquals("prediction", result0.join());
+
+        assertEquals("prediction", result1.join());
+
+        assertEquals(0, singleFlight.size());
+    } //concurrentCallersShareOneOperation
+
+    @Test
+    public void completedOperationIsNotReused() {
+        SingleFlight<RequestKey, String> singleFlight = new SingleFlight<>();
+
+        AtomicInteger calls = new AtomicInteger();
+
+        RequestKey key = RequestKey.of(40260);
+
+        for (int i = 0; i < 2; i++) {
+            singleFlight.execute(key, () -> CompletableFuture.completedFuture("arrival" + calls.incrementAndGet()))
+                        .join();
+        } //end for
+
+        assertEquals(2, calls.get());
+    } //completedOperationIsNotReused
+
+    @Test
+    public void cancellingOneCallerDoesNotAffectOthers() {
+        SingleFlight<RequestKey, String> singleFlight = new SingleFlight<>();
+
+        CompletableFuture<String> operation = new CompletableFuture<>();
+
+        RequestKey key = RequestKey.of(40260, "red");
+
+        CompletableFuture<String> result0 = singleFlight.execute(key, () -> operation);
+
+        CompletableFuture<String> result1 = singleFlight.execute(key, () -> operation);
+
+        result0.cancel(false);
+
+        operation.complete("arrival");
+
+        assertTrue(result0.isCancelled());
+
+        assertEquals("arrival", result1.join());
+    } //cancellingOneCallerDoesNotAffectOthers
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TtlCacheTests {
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-10-17T13:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        } //getZone
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        } //withZone
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        } //instant
+
+        private void advance(Duration duration) {
+            this.now = this.now.plus(duration);
+        } //advance
+    } //MutableClock
+
+    private static CompletableFuture<Fetched<Instant>> load(AtomicInteger loads, Instant value) {
+        loads.incrementAndGet();
+
+        return CompletableFuture.completedFuture(new Fetched<>(value, value, false));
+    } //load
+
+    @Test
+    public void entriesExpireWhenTheUpstreamRegenerates() {
+        MutableClock clock = new MutableClock();
+
+        CacheSettings settings = new CacheSettings(16, Duration.ofSeconds(30L), Duration.ofSeconds(1L),
+                                                   Duration.ofSeconds(60L));
+
+        TtlCache<String, Instant> cache = new TtlCache<>("test", settings, value -> value, clock);
+
+        AtomicInteger loads = new AtomicInteger();
+
+        Instant stampedAt = clock.instant()
+                                 .minusSeconds(10L);
+
+        cache.get("stop", () -> TtlCacheTests.load(loads, stampedAt))
+             .join();
+
+        clock.advance(Duration.ofSeconds(19L));
+
+        cache.get("stop", () -> TtlCacheTests.load(loads, stampedAt))
+             .join();
+
+        assertEquals("1", String.valueOf(loads.get()));
+
+        clock.advance(Duration.ofSeconds(1L));
+
+        cache.get("stop", () -> TtlCacheTests.load(loads, stampedAt))
+             .join();
+
+        assertEquals("2", String.valueOf(loads.get()));
+    } //entriesExpireWhenTheUpstreamRegenerates
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() {
+        MutableClock clock = new MutableClock();
+
+        CacheSettings settings = new CacheSettings(2, Duration.ofSeconds(30L), Duration.ofSeconds(1L),
+                                                   Duration.ofSeconds(60L));
+
+        TtlCache<String, Instant> cache = new TtlCache<>("test", settings, value -> value, clock);
+
+        AtomicInteger loads = new AtomicInteger();
+
+        Instant stampedAt = clock.instant();
+
+        for (String key : new String[] {"a", "b", "a", "c", "a", "b"}) {
+            cache.get(key, () -> TtlCacheTests.load(loads, stampedAt))
+                 .join();
+        } //end for
+
+        assertEquals("4", String.valueOf(loads.get()));
+
+        assertEquals("2", String.valueOf(cache.size()));
+    } //leastRecentlyUsedEntriesAreEvicted
+}
\ No newline at end of file
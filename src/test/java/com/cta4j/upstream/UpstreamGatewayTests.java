@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.upstream;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UpstreamGatewayTests {
+    private static HttpServer startServer(int status, String body) throws IOException {
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", 0);
+
+        HttpServer server = HttpServer.create(address, 0);
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.sendResponseHeaders(status, bytes.length);
+
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(bytes);
+                } //end try
+            } //end try
+        });
+
+        server.start();
+
+        return server;
+    } //startServer
+
+    private static UpstreamGateway newGateway(HttpServer server) {
+        String baseUrl = "http://127.0.0.1:%d".formatted(server.getAddress()
+                                                               .getPort());
+
+        QuotaSettings quota = new QuotaSettings(1_000_000L, 1_000, 1_000, 0);
+
+        Map<Quota, QuotaSettings> quotas = Map.of(Quota.BUS, quota, Quota.TRAIN, quota);
+
+        CircuitSettings circuit = new CircuitSettings(2, Duration.ofHours(1L));
+
+        UpstreamSettings settings = new UpstreamSettings(Duration.ofSeconds(5L), Duration.ofSeconds(5L), 2, 4, false,
+                                                         quotas, Duration.ofSeconds(1L), circuit, Map.of(), baseUrl,
+                                                         baseUrl);
+
+        return new UpstreamGateway(settings);
+    } //newGateway
+
+    private static HttpRequest newRequest(HttpServer server, String endpoint) {
+        URI uri = URI.create("http://127.0.0.1:%d/%s".formatted(server.getAddress()
+                                                                      .getPort(), endpoint));
+
+        return HttpRequest.newBuilder(uri)
+                          .GET()
+                          .build();
+    } //newRequest
+
+    private static String read(InputStream inputStream) {
+        try (inputStream) {
+            String body = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+
+            String thread = Thread.currentThread()
+                                  .getName();
+
+            return "%s %s".formatted(thread.startsWith("cta4j-upstream-body-"), body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //read
+
+    @Test
+    public void streamedBodiesAreParsedOnTheBodyExecutor() throws IOException {
+        HttpServer server = UpstreamGatewayTests.startServer(200, "{}");
+
+        try (UpstreamGateway gateway = UpstreamGatewayTests.newGateway(server)) {
+            HttpRequest request = UpstreamGatewayTests.newRequest(server, "getpredictions");
+
+            String parsed = gateway.fetchAsync(Quota.BUS, Priority.INTERACTIVE, request, UpstreamGatewayTests::read)
+                                   .join();
+
+            assertEquals("true {}", parsed);
+        } finally {
+            server.stop(0);
+        } //end try finally
+    } //streamedBodiesAreParsedOnTheBodyExecutor
+
+    private static String reject(InputStream inputStream) {
+        throw new UncheckedIOException(new IOException("the response is malformed"));
+    } //reject
+
+    @Test
+    public void unsuccessfulResponsesAreNotParsed() throws IOException {
+        HttpServer server = UpstreamGatewayTests.startServer(503, "{}");
+
+        try (UpstreamGateway gateway = UpstreamGatewayTests.newGateway(server)) {
+            HttpRequest request = UpstreamGatewayTests.newRequest(server, "getpredictions");
+
+            UpstreamStatusException exception = assertThrows(UpstreamStatusException.class,
+                                                             () -> gateway.fetch(Quota.BUS, Priority.INTERACTIVE,
+                                                                                 request, UpstreamGatewayTests::read));
+
+            assertEquals(503, exception.getStatusCode());
+        } finally {
+            server.stop(0);
+        } //end try finally
+    } //unsuccessfulResponsesAreNotParsed
+
+    @Test
+    public void malformedBodiesCountAsFailures() throws IOException {
+        HttpServer server = UpstreamGatewayTests.startServer(200, "{");
+
+        try (UpstreamGateway gateway = UpstreamGatewayTests.newGateway(server)) {
+            HttpRequest request = UpstreamGatewayTests.newRequest(server, "getpredictions");
+
+            for (int i = 0; i < 2; i++) {
+                assertThrows(IOException.class, () -> gateway.fetch(Quota.BUS, Priority.INTERACTIVE, request,
+                                                                     UpstreamGatewayTests::reject));
+            } //end for
+
+            CircuitBreaker breaker = gateway.getCircuitBreaker("getpredictions");
+
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        } finally {
+            server.stop(0);
+        } //end try finally
+    } //malformedBodiesCountAsFailures
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.cta4j.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ETagsTests {
+    @Test
+    public void equalContentHasTheSameTag() {
+        String eTag = ETags.of(List.of("22", "Harrison"));
+
+        assertEquals(eTag, ETags.of(List.of("22", "Harrison")));
+
+        assertNotEquals(eTag, ETags.of(List.of("22", "Harrison", "Cermak")));
+
+        assertNotEquals(eTag, ETags.of(List.of("22Harrison")));
+
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+    } //equalContentHasTheSameTag
+
+    @Test
+    public void ifNoneMatchUsesWeakComparison() {
+        String eTag = ETags.of(List.of("22"));
+
+        assertTrue(ETags.matches(eTag, eTag));
+
+        assertTrue(ETags.matches("\"other\", W/" + eTag, eTag));
+
+        assertTrue(ETags.matches("*", eTag));
+
+        assertFalse(ETags.matches("\"other\"", eTag));
+
+        assertFalse(ETags.matches(null, eTag));
+    } //ifNoneMatchUsesWeakComparison
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.cta4j.utils;
+
+import com.cta4j.bus.model.Bus;
+import com.cta4j.bus.model.adapters.BusTypeAdapter;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonStreamUtilsTests {
+    private static JsonReader newReader(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        InputStream inputStream = new ByteArrayInputStream(bytes);
+
+        return JsonStreamUtils.newReader(inputStream);
+    } //newReader
+
+    @Test
+    public void predictionsAreReadInOnePass() throws IOException {
+        String json = """
+                      {"bustime-response":{"tmstmp":"20261017 08:00","prd":[{"vid":"1234","stpid":"1828",\
+                      "stpnm":"Cermak & Kedzie","rt":"22","rtdir":"Northbound","des":"Harrison","typ":"A",\
+                      "tmstmp":"20261017 08:00","prdtm":"20261017 08:07","dly":false,"extra":{"ignored":[1,2]}}]}}""";
+
+        try (JsonReader jsonReader = JsonStreamUtilsTests.newReader(json)) {
+            assertTrue(JsonStreamUtils.seek(jsonReader, "bustime-response", "prd"));
+
+            List<Bus> buses = JsonStreamUtils.readList(jsonReader, BusTypeAdapter::readBus);
+
+            assertEquals(1, buses.size());
+
+            Bus bus = buses.get(0);
+
+            assertEquals(Integer.valueOf(1234), bus.id());
+
+            assertEquals(Integer.valueOf(1828), bus.stop()
+                                                   .id());
+        } //end try
+    } //predictionsAreReadInOnePass
+
+    @Test
+    public void missingMemberIsReported() throws IOException {
+        String json = """
+                      {"bustime-response":{"error":[{"stpid":"1828","msg":"No service scheduled"}]}}""";
+
+        try (JsonReader jsonReader = JsonStreamUtilsTests.newReader(json)) {
+            assertFalse(JsonStreamUtils.seek(jsonReader, "bustime-response", "prd"));
+        } //end try
+    } //missingMemberIsReported
+}
\ No newline at end of file